@@ -0,0 +1,2191 @@
+// _precache_groups.dart
+/// Generated by AssetsRefGenerator on <date>
+import 'package:flutter/widgets.dart';
+
+/// Images of each asset directory, for precaching before a screen is shown
+class ResPrecacheGroups {
+  /// asset/
+  static const List<String> asset = [
+    "asset/bg-tile-940.png",
+    "asset/common_0.png",
+    "asset/ic_128.jpg",
+    "asset/ic_204.webp",
+    "asset/ic_292.png",
+    "asset/ic_315.png",
+    "asset/ic_400.jpg",
+    "asset/ic_536.webp",
+    "asset/ic_545.png",
+    "asset/ic_55.png",
+    "asset/ic_58.png",
+    "asset/ic_630.png",
+    "asset/ic_714.png",
+    "asset/ic_738.png",
+    "asset/ic_811.png",
+    "asset/ic_904.png",
+    "asset/ic_906.jpg",
+    "asset/ic_909.jpg",
+    "asset/ic_963.png",
+    "asset/ic_977.jpg",
+  ];
+  /// assets/feature_0/
+  static const List<String> assetsFeature0 = [
+    "assets/feature_0/bg-tile-30.webp",
+    "assets/feature_0/bg-tile-565.png",
+    "assets/feature_0/bg-tile-700.png",
+    "assets/feature_0/common_0.png",
+    "assets/feature_0/common_10.jpg",
+    "assets/feature_0/ic_0.webp",
+    "assets/feature_0/ic_115.png",
+    "assets/feature_0/ic_120.webp",
+    "assets/feature_0/ic_190.png",
+    "assets/feature_0/ic_20.png",
+    "assets/feature_0/ic_205.png",
+    "assets/feature_0/ic_230.png",
+    "assets/feature_0/ic_240.png",
+    "assets/feature_0/ic_265.png",
+    "assets/feature_0/ic_290.jpg",
+    "assets/feature_0/ic_335.webp",
+    "assets/feature_0/ic_345.jpg",
+    "assets/feature_0/ic_360.png",
+    "assets/feature_0/ic_390.png",
+    "assets/feature_0/ic_40.png",
+    "assets/feature_0/ic_45.png",
+    "assets/feature_0/ic_470.jpg",
+    "assets/feature_0/ic_480.png",
+    "assets/feature_0/ic_505.png",
+    "assets/feature_0/ic_60.png",
+    "assets/feature_0/ic_605.webp",
+    "assets/feature_0/ic_620.png",
+    "assets/feature_0/ic_635.png",
+    "assets/feature_0/ic_645.png",
+    "assets/feature_0/ic_685.png",
+    "assets/feature_0/ic_705.png",
+    "assets/feature_0/ic_780.png",
+    "assets/feature_0/ic_815.png",
+    "assets/feature_0/ic_825.webp",
+    "assets/feature_0/ic_830.png",
+    "assets/feature_0/ic_840.jpg",
+    "assets/feature_0/ic_895.jpg",
+    "assets/feature_0/ic_90.webp",
+    "assets/feature_0/ic_930.jpg",
+    "assets/feature_0/ic_965.png",
+    "assets/feature_0/ic_975.png",
+    "assets/feature_0/naïve_465.png",
+  ];
+  /// assets/feature_0/deep_0/
+  static const List<String> assetsFeature0Deep0 = [
+    "assets/feature_0/deep_0/common_20.webp",
+    "assets/feature_0/deep_0/common_5.jpg",
+    "assets/feature_0/deep_0/ic_100.webp",
+    "assets/feature_0/deep_0/ic_125.webp",
+    "assets/feature_0/deep_0/ic_130.png",
+    "assets/feature_0/deep_0/ic_150.webp",
+    "assets/feature_0/deep_0/ic_280.png",
+    "assets/feature_0/deep_0/ic_370.webp",
+    "assets/feature_0/deep_0/ic_425.webp",
+    "assets/feature_0/deep_0/ic_440.png",
+    "assets/feature_0/deep_0/ic_455.png",
+    "assets/feature_0/deep_0/ic_710.png",
+    "assets/feature_0/deep_0/ic_775.png",
+    "assets/feature_0/deep_0/ic_805.png",
+    "assets/feature_0/deep_0/ic_820.webp",
+    "assets/feature_0/deep_0/ic_935.webp",
+    "assets/feature_0/deep_0/ic_945.png",
+    "assets/feature_0/deep_0/ic_950.png",
+  ];
+  /// assets/feature_0/deep_1/
+  static const List<String> assetsFeature0Deep1 = [
+    "assets/feature_0/deep_1/ic_105.webp",
+    "assets/feature_0/deep_1/ic_215.png",
+    "assets/feature_0/deep_1/ic_225.png",
+    "assets/feature_0/deep_1/ic_405.webp",
+    "assets/feature_0/deep_1/ic_520.png",
+    "assets/feature_0/deep_1/ic_560.png",
+    "assets/feature_0/deep_1/ic_585.png",
+    "assets/feature_0/deep_1/ic_665.png",
+    "assets/feature_0/deep_1/ic_860.png",
+    "assets/feature_0/deep_1/ic_980.webp",
+  ];
+  /// assets/feature_0/deep_2/
+  static const List<String> assetsFeature0Deep2 = [
+    "assets/feature_0/deep_2/common_10.png",
+    "assets/feature_0/deep_2/ic_380.png",
+    "assets/feature_0/deep_2/ic_485.jpg",
+    "assets/feature_0/deep_2/ic_550.webp",
+    "assets/feature_0/deep_2/ic_800.png",
+  ];
+  /// assets/feature_0/sub_0/deep_0/
+  static const List<String> assetsFeature0Sub0Deep0 = [
+    "assets/feature_0/sub_0/deep_0/common_0.png",
+    "assets/feature_0/sub_0/deep_0/ic_140.png",
+    "assets/feature_0/sub_0/deep_0/ic_320.png",
+    "assets/feature_0/sub_0/deep_0/ic_365.jpg",
+    "assets/feature_0/sub_0/deep_0/ic_435.jpg",
+    "assets/feature_0/sub_0/deep_0/ic_660.webp",
+  ];
+  /// assets/feature_0/sub_0/deep_1/
+  static const List<String> assetsFeature0Sub0Deep1 = [
+    "assets/feature_0/sub_0/deep_1/ic_200.webp",
+    "assets/feature_0/sub_0/deep_1/ic_655.png",
+    "assets/feature_0/sub_0/deep_1/ic_70.webp",
+    "assets/feature_0/sub_0/deep_1/ic_745.png",
+    "assets/feature_0/sub_0/deep_1/ic_760.jpg",
+    "assets/feature_0/sub_0/deep_1/ic_790.png",
+    "assets/feature_0/sub_0/deep_1/ic_865.webp",
+    "assets/feature_0/sub_0/deep_1/ic_955.png",
+    "assets/feature_0/sub_0/deep_1/ic_990.png",
+  ];
+  /// assets/feature_0/sub_0/deep_2/
+  static const List<String> assetsFeature0Sub0Deep2 = [
+    "assets/feature_0/sub_0/deep_2/bg-tile-960.jpg",
+    "assets/feature_0/sub_0/deep_2/common_0.webp",
+    "assets/feature_0/sub_0/deep_2/common_10.png",
+    "assets/feature_0/sub_0/deep_2/ic_180.webp",
+    "assets/feature_0/sub_0/deep_2/ic_385.png",
+    "assets/feature_0/sub_0/deep_2/ic_420.jpg",
+    "assets/feature_0/sub_0/deep_2/ic_835.png",
+    "assets/feature_0/sub_0/deep_2/ic_845.png",
+    "assets/feature_0/sub_0/deep_2/ic_890.webp",
+    "assets/feature_0/sub_0/deep_2/ic_970.jpg",
+  ];
+  /// assets/feature_0/sub_1/deep_0/
+  static const List<String> assetsFeature0Sub1Deep0 = [
+    "assets/feature_0/sub_1/deep_0/bg-tile-270.jpg",
+    "assets/feature_0/sub_1/deep_0/common_15.jpg",
+    "assets/feature_0/sub_1/deep_0/ic_15.png",
+    "assets/feature_0/sub_1/deep_0/ic_220.png",
+    "assets/feature_0/sub_1/deep_0/ic_300.png",
+    "assets/feature_0/sub_1/deep_0/ic_595.webp",
+    "assets/feature_0/sub_1/deep_0/ic_625.png",
+    "assets/feature_0/sub_1/deep_0/ic_715.png",
+    "assets/feature_0/sub_1/deep_0/ic_905.png",
+  ];
+  /// assets/feature_0/sub_1/deep_1/
+  static const List<String> assetsFeature0Sub1Deep1 = [
+    "assets/feature_0/sub_1/deep_1/ic_25.jpg",
+    "assets/feature_0/sub_1/deep_1/ic_375.jpg",
+    "assets/feature_0/sub_1/deep_1/ic_500.webp",
+    "assets/feature_0/sub_1/deep_1/ic_530.png",
+    "assets/feature_0/sub_1/deep_1/ic_80.png",
+    "assets/feature_0/sub_1/deep_1/ic_915.png",
+    "assets/feature_0/sub_1/deep_1/ic_985.webp",
+  ];
+  /// assets/feature_0/sub_1/deep_2/
+  static const List<String> assetsFeature0Sub1Deep2 = [
+    "assets/feature_0/sub_1/deep_2/common_10.png",
+    "assets/feature_0/sub_1/deep_2/common_20.webp",
+    "assets/feature_0/sub_1/deep_2/ic_155.jpg",
+    "assets/feature_0/sub_1/deep_2/ic_5.webp",
+    "assets/feature_0/sub_1/deep_2/ic_50.png",
+    "assets/feature_0/sub_1/deep_2/ic_510.jpg",
+    "assets/feature_0/sub_1/deep_2/ic_750.jpg",
+    "assets/feature_0/sub_1/deep_2/ic_785.png",
+  ];
+  /// assets/feature_0/sub_2/deep_0/
+  static const List<String> assetsFeature0Sub2Deep0 = [
+    "assets/feature_0/sub_2/deep_0/ic_145.png",
+    "assets/feature_0/sub_2/deep_0/ic_170.png",
+    "assets/feature_0/sub_2/deep_0/ic_235.jpg",
+    "assets/feature_0/sub_2/deep_0/ic_430.png",
+    "assets/feature_0/sub_2/deep_0/ic_735.png",
+    "assets/feature_0/sub_2/deep_0/ic_75.png",
+    "assets/feature_0/sub_2/deep_0/ic_95.png",
+    "assets/feature_0/sub_2/deep_0/ic_995.jpg",
+  ];
+  /// assets/feature_0/sub_2/deep_1/
+  static const List<String> assetsFeature0Sub2Deep1 = [
+    "assets/feature_0/sub_2/deep_1/ic_160.png",
+    "assets/feature_0/sub_2/deep_1/ic_195.webp",
+    "assets/feature_0/sub_2/deep_1/ic_295.png",
+    "assets/feature_0/sub_2/deep_1/ic_35.png",
+    "assets/feature_0/sub_2/deep_1/ic_350.webp",
+    "assets/feature_0/sub_2/deep_1/ic_415.png",
+    "assets/feature_0/sub_2/deep_1/ic_920.jpg",
+  ];
+  /// assets/feature_0/sub_2/deep_2/
+  static const List<String> assetsFeature0Sub2Deep2 = [
+    "assets/feature_0/sub_2/deep_2/bg-tile-755.webp",
+    "assets/feature_0/sub_2/deep_2/ic_305.png",
+    "assets/feature_0/sub_2/deep_2/ic_460.webp",
+    "assets/feature_0/sub_2/deep_2/ic_535.png",
+    "assets/feature_0/sub_2/deep_2/ic_555.webp",
+    "assets/feature_0/sub_2/deep_2/ic_610.png",
+    "assets/feature_0/sub_2/deep_2/ic_690.webp",
+    "assets/feature_0/sub_2/deep_2/ic_795.png",
+  ];
+  /// assets/feature_0/sub_3/deep_0/
+  static const List<String> assetsFeature0Sub3Deep0 = [
+    "assets/feature_0/sub_3/deep_0/bg-tile-495.png",
+    "assets/feature_0/sub_3/deep_0/bg-tile-670.png",
+    "assets/feature_0/sub_3/deep_0/common_0.png",
+    "assets/feature_0/sub_3/deep_0/common_10.png",
+    "assets/feature_0/sub_3/deep_0/ic_395.png",
+    "assets/feature_0/sub_3/deep_0/ic_490.png",
+    "assets/feature_0/sub_3/deep_0/ic_65.png",
+    "assets/feature_0/sub_3/deep_0/ic_695.jpg",
+    "assets/feature_0/sub_3/deep_0/ic_740.png",
+    "assets/feature_0/sub_3/deep_0/ic_900.png",
+  ];
+  /// assets/feature_0/sub_3/deep_1/
+  static const List<String> assetsFeature0Sub3Deep1 = [
+    "assets/feature_0/sub_3/deep_1/bg-tile-880.png",
+    "assets/feature_0/sub_3/deep_1/common_0.png",
+    "assets/feature_0/sub_3/deep_1/common_15.png",
+    "assets/feature_0/sub_3/deep_1/common_5.png",
+    "assets/feature_0/sub_3/deep_1/ic_165.png",
+    "assets/feature_0/sub_3/deep_1/ic_255.jpg",
+  ];
+  /// assets/feature_0/sub_3/deep_2/
+  static const List<String> assetsFeature0Sub3Deep2 = [
+    "assets/feature_0/sub_3/deep_2/ic_275.png",
+    "assets/feature_0/sub_3/deep_2/ic_325.png",
+    "assets/feature_0/sub_3/deep_2/ic_355.png",
+    "assets/feature_0/sub_3/deep_2/ic_600.webp",
+    "assets/feature_0/sub_3/deep_2/ic_85.png",
+    "assets/feature_0/sub_3/deep_2/ic_875.png",
+  ];
+  /// assets/feature_1/
+  static const List<String> assetsFeature1 = [
+    "assets/feature_1/bg-tile-661.webp",
+    "assets/feature_1/café_926.webp",
+    "assets/feature_1/common_1.png",
+    "assets/feature_1/common_11.png",
+    "assets/feature_1/common_6.jpg",
+    "assets/feature_1/common_6.png",
+    "assets/feature_1/ic_111.webp",
+    "assets/feature_1/ic_121.jpg",
+    "assets/feature_1/ic_131.png",
+    "assets/feature_1/ic_146.png",
+    "assets/feature_1/ic_166.png",
+    "assets/feature_1/ic_176.jpg",
+    "assets/feature_1/ic_186.webp",
+    "assets/feature_1/ic_206.png",
+    "assets/feature_1/ic_21.png",
+    "assets/feature_1/ic_216.png",
+    "assets/feature_1/ic_226.png",
+    "assets/feature_1/ic_256.jpg",
+    "assets/feature_1/ic_266.png",
+    "assets/feature_1/ic_276.webp",
+    "assets/feature_1/ic_311.jpg",
+    "assets/feature_1/ic_316.webp",
+    "assets/feature_1/ic_346.png",
+    "assets/feature_1/ic_396.png",
+    "assets/feature_1/ic_41.webp",
+    "assets/feature_1/ic_426.png",
+    "assets/feature_1/ic_436.png",
+    "assets/feature_1/ic_471.png",
+    "assets/feature_1/ic_526.png",
+    "assets/feature_1/ic_566.png",
+    "assets/feature_1/ic_596.webp",
+    "assets/feature_1/ic_601.png",
+    "assets/feature_1/ic_631.webp",
+    "assets/feature_1/ic_636.png",
+    "assets/feature_1/ic_651.jpg",
+    "assets/feature_1/ic_691.jpg",
+    "assets/feature_1/ic_746.jpg",
+    "assets/feature_1/ic_76.png",
+    "assets/feature_1/ic_766.png",
+    "assets/feature_1/ic_771.png",
+    "assets/feature_1/ic_826.png",
+    "assets/feature_1/ic_841.png",
+    "assets/feature_1/ic_846.png",
+    "assets/feature_1/ic_871.webp",
+    "assets/feature_1/ic_876.png",
+    "assets/feature_1/ic_891.jpg",
+    "assets/feature_1/ic_916.png",
+    "assets/feature_1/ic_931.png",
+    "assets/feature_1/ic_936.png",
+    "assets/feature_1/ic_946.png",
+    "assets/feature_1/ic_971.jpg",
+    "assets/feature_1/ic_981.png",
+  ];
+  /// assets/feature_1/deep_0/
+  static const List<String> assetsFeature1Deep0 = [
+    "assets/feature_1/deep_0/common_6.png",
+    "assets/feature_1/deep_0/ic_136.png",
+    "assets/feature_1/deep_0/ic_221.png",
+    "assets/feature_1/deep_0/ic_391.png",
+    "assets/feature_1/deep_0/ic_666.jpg",
+    "assets/feature_1/deep_0/ic_681.webp",
+    "assets/feature_1/deep_0/ic_816.jpg",
+    "assets/feature_1/deep_0/ic_976.jpg",
+  ];
+  /// assets/feature_1/deep_1/
+  static const List<String> assetsFeature1Deep1 = [
+    "assets/feature_1/deep_1/common_11.jpg",
+    "assets/feature_1/deep_1/ic_1.png",
+    "assets/feature_1/deep_1/ic_126.jpg",
+    "assets/feature_1/deep_1/ic_341.png",
+    "assets/feature_1/deep_1/ic_456.jpg",
+    "assets/feature_1/deep_1/ic_51.png",
+    "assets/feature_1/deep_1/ic_676.png",
+    "assets/feature_1/deep_1/ic_836.png",
+    "assets/feature_1/deep_1/ic_851.png",
+  ];
+  /// assets/feature_1/deep_2/
+  static const List<String> assetsFeature1Deep2 = [
+    "assets/feature_1/deep_2/common_1.jpg",
+    "assets/feature_1/deep_2/common_1.png",
+    "assets/feature_1/deep_2/common_21.png",
+    "assets/feature_1/deep_2/ic_236.webp",
+    "assets/feature_1/deep_2/ic_446.jpg",
+    "assets/feature_1/deep_2/ic_56.png",
+    "assets/feature_1/deep_2/ic_591.jpg",
+    "assets/feature_1/deep_2/ic_706.png",
+    "assets/feature_1/deep_2/ic_736.png",
+    "assets/feature_1/deep_2/ic_96.png",
+    "assets/feature_1/deep_2/ic_961.png",
+  ];
+  /// assets/feature_1/sub_0/deep_0/
+  static const List<String> assetsFeature1Sub0Deep0 = [
+    "assets/feature_1/sub_0/deep_0/ic_161.jpg",
+    "assets/feature_1/sub_0/deep_0/ic_246.png",
+    "assets/feature_1/sub_0/deep_0/ic_326.png",
+    "assets/feature_1/sub_0/deep_0/ic_531.png",
+    "assets/feature_1/sub_0/deep_0/ic_626.webp",
+    "assets/feature_1/sub_0/deep_0/ic_881.png",
+    "assets/feature_1/sub_0/deep_0/ic_986.png",
+  ];
+  /// assets/feature_1/sub_0/deep_1/
+  static const List<String> assetsFeature1Sub0Deep1 = [
+    "assets/feature_1/sub_0/deep_1/common_6.jpg",
+    "assets/feature_1/sub_0/deep_1/ic_156.jpg",
+    "assets/feature_1/sub_0/deep_1/ic_251.png",
+    "assets/feature_1/sub_0/deep_1/ic_291.png",
+    "assets/feature_1/sub_0/deep_1/ic_336.png",
+    "assets/feature_1/sub_0/deep_1/ic_351.png",
+    "assets/feature_1/sub_0/deep_1/ic_481.webp",
+    "assets/feature_1/sub_0/deep_1/ic_561.png",
+    "assets/feature_1/sub_0/deep_1/ic_701.webp",
+    "assets/feature_1/sub_0/deep_1/ic_756.png",
+    "assets/feature_1/sub_0/deep_1/ic_776.webp",
+    "assets/feature_1/sub_0/deep_1/ic_781.png",
+    "assets/feature_1/sub_0/deep_1/señor_571.png",
+  ];
+  /// assets/feature_1/sub_0/deep_2/
+  static const List<String> assetsFeature1Sub0Deep2 = [
+    "assets/feature_1/sub_0/deep_2/common_6.png",
+    "assets/feature_1/sub_0/deep_2/ic_521.png",
+    "assets/feature_1/sub_0/deep_2/ic_956.webp",
+  ];
+  /// assets/feature_1/sub_1/deep_0/
+  static const List<String> assetsFeature1Sub1Deep0 = [
+    "assets/feature_1/sub_1/deep_0/ic_151.jpg",
+    "assets/feature_1/sub_1/deep_0/ic_331.png",
+    "assets/feature_1/sub_1/deep_0/ic_356.png",
+    "assets/feature_1/sub_1/deep_0/ic_376.png",
+    "assets/feature_1/sub_1/deep_0/ic_401.webp",
+    "assets/feature_1/sub_1/deep_0/ic_406.webp",
+    "assets/feature_1/sub_1/deep_0/ic_496.jpg",
+    "assets/feature_1/sub_1/deep_0/ic_606.png",
+    "assets/feature_1/sub_1/deep_0/ic_621.png",
+    "assets/feature_1/sub_1/deep_0/ic_81.png",
+  ];
+  /// assets/feature_1/sub_1/deep_1/
+  static const List<String> assetsFeature1Sub1Deep1 = [
+    "assets/feature_1/sub_1/deep_1/café_6.png",
+    "assets/feature_1/sub_1/deep_1/café_786.png",
+    "assets/feature_1/sub_1/deep_1/ic_411.png",
+    "assets/feature_1/sub_1/deep_1/ic_421.png",
+    "assets/feature_1/sub_1/deep_1/ic_46.jpg",
+    "assets/feature_1/sub_1/deep_1/ic_711.webp",
+    "assets/feature_1/sub_1/deep_1/ic_831.webp",
+  ];
+  /// assets/feature_1/sub_1/deep_2/
+  static const List<String> assetsFeature1Sub1Deep2 = [
+    "assets/feature_1/sub_1/deep_2/common_1.webp",
+    "assets/feature_1/sub_1/deep_2/ic_211.png",
+    "assets/feature_1/sub_1/deep_2/ic_26.png",
+    "assets/feature_1/sub_1/deep_2/ic_416.webp",
+    "assets/feature_1/sub_1/deep_2/ic_576.png",
+    "assets/feature_1/sub_1/deep_2/ic_796.webp",
+    "assets/feature_1/sub_1/deep_2/ic_896.jpg",
+  ];
+  /// assets/feature_1/sub_2/deep_0/
+  static const List<String> assetsFeature1Sub2Deep0 = [
+    "assets/feature_1/sub_2/deep_0/ic_201.jpg",
+    "assets/feature_1/sub_2/deep_0/ic_271.png",
+    "assets/feature_1/sub_2/deep_0/ic_386.webp",
+    "assets/feature_1/sub_2/deep_0/ic_616.png",
+    "assets/feature_1/sub_2/deep_0/ic_71.png",
+    "assets/feature_1/sub_2/deep_0/ic_901.webp",
+  ];
+  /// assets/feature_1/sub_2/deep_1/
+  static const List<String> assetsFeature1Sub2Deep1 = [
+    "assets/feature_1/sub_2/deep_1/bg-tile-686.png",
+    "assets/feature_1/sub_2/deep_1/ic_371.png",
+    "assets/feature_1/sub_2/deep_1/ic_476.png",
+    "assets/feature_1/sub_2/deep_1/ic_511.png",
+    "assets/feature_1/sub_2/deep_1/ic_541.jpg",
+    "assets/feature_1/sub_2/deep_1/ic_726.webp",
+    "assets/feature_1/sub_2/deep_1/ic_791.png",
+    "assets/feature_1/sub_2/deep_1/ic_856.png",
+    "assets/feature_1/sub_2/deep_1/ic_866.png",
+    "assets/feature_1/sub_2/deep_1/ic_886.png",
+  ];
+  /// assets/feature_1/sub_2/deep_2/
+  static const List<String> assetsFeature1Sub2Deep2 = [
+    "assets/feature_1/sub_2/deep_2/common_11.jpg",
+    "assets/feature_1/sub_2/deep_2/ic_11.jpg",
+    "assets/feature_1/sub_2/deep_2/ic_16.png",
+    "assets/feature_1/sub_2/deep_2/ic_196.png",
+    "assets/feature_1/sub_2/deep_2/ic_36.jpg",
+    "assets/feature_1/sub_2/deep_2/ic_516.png",
+    "assets/feature_1/sub_2/deep_2/ic_581.png",
+    "assets/feature_1/sub_2/deep_2/ic_61.png",
+    "assets/feature_1/sub_2/deep_2/ic_66.webp",
+    "assets/feature_1/sub_2/deep_2/ic_671.jpg",
+    "assets/feature_1/sub_2/deep_2/ic_911.jpg",
+  ];
+  /// assets/feature_1/sub_3/deep_0/
+  static const List<String> assetsFeature1Sub3Deep0 = [
+    "assets/feature_1/sub_3/deep_0/common_21.png",
+    "assets/feature_1/sub_3/deep_0/common_6.png",
+    "assets/feature_1/sub_3/deep_0/crème_361.png",
+    "assets/feature_1/sub_3/deep_0/ic_116.webp",
+    "assets/feature_1/sub_3/deep_0/ic_141.jpg",
+    "assets/feature_1/sub_3/deep_0/ic_171.webp",
+    "assets/feature_1/sub_3/deep_0/ic_431.png",
+    "assets/feature_1/sub_3/deep_0/ic_501.jpg",
+    "assets/feature_1/sub_3/deep_0/ic_741.jpg",
+    "assets/feature_1/sub_3/deep_0/ic_751.png",
+    "assets/feature_1/sub_3/deep_0/ic_996.png",
+  ];
+  /// assets/feature_1/sub_3/deep_1/
+  static const List<String> assetsFeature1Sub3Deep1 = [
+    "assets/feature_1/sub_3/deep_1/common_1.png",
+    "assets/feature_1/sub_3/deep_1/common_11.png",
+    "assets/feature_1/sub_3/deep_1/ic_231.webp",
+    "assets/feature_1/sub_3/deep_1/ic_241.png",
+    "assets/feature_1/sub_3/deep_1/ic_281.png",
+    "assets/feature_1/sub_3/deep_1/ic_286.jpg",
+    "assets/feature_1/sub_3/deep_1/ic_306.png",
+    "assets/feature_1/sub_3/deep_1/ic_321.webp",
+    "assets/feature_1/sub_3/deep_1/ic_381.png",
+    "assets/feature_1/sub_3/deep_1/ic_546.png",
+    "assets/feature_1/sub_3/deep_1/ic_586.png",
+    "assets/feature_1/sub_3/deep_1/ic_696.png",
+    "assets/feature_1/sub_3/deep_1/señor_191.jpg",
+  ];
+  /// assets/feature_1/sub_3/deep_2/
+  static const List<String> assetsFeature1Sub3Deep2 = [
+    "assets/feature_1/sub_3/deep_2/common_16.png",
+    "assets/feature_1/sub_3/deep_2/ic_296.jpg",
+    "assets/feature_1/sub_3/deep_2/ic_366.png",
+    "assets/feature_1/sub_3/deep_2/ic_506.png",
+    "assets/feature_1/sub_3/deep_2/ic_641.png",
+  ];
+  /// assets/feature_2/
+  static const List<String> assetsFeature2 = [
+    "assets/feature_2/bg-tile-87.jpg",
+    "assets/feature_2/café_662.jpg",
+    "assets/feature_2/common_17.png",
+    "assets/feature_2/common_2.png",
+    "assets/feature_2/ic_132.png",
+    "assets/feature_2/ic_142.png",
+    "assets/feature_2/ic_147.png",
+    "assets/feature_2/ic_162.png",
+    "assets/feature_2/ic_172.png",
+    "assets/feature_2/ic_192.png",
+    "assets/feature_2/ic_202.png",
+    "assets/feature_2/ic_212.png",
+    "assets/feature_2/ic_247.png",
+    "assets/feature_2/ic_277.webp",
+    "assets/feature_2/ic_287.png",
+    "assets/feature_2/ic_327.png",
+    "assets/feature_2/ic_357.png",
+    "assets/feature_2/ic_362.png",
+    "assets/feature_2/ic_37.jpg",
+    "assets/feature_2/ic_387.jpg",
+    "assets/feature_2/ic_397.jpg",
+    "assets/feature_2/ic_442.jpg",
+    "assets/feature_2/ic_457.jpg",
+    "assets/feature_2/ic_487.png",
+    "assets/feature_2/ic_492.png",
+    "assets/feature_2/ic_557.png",
+    "assets/feature_2/ic_607.webp",
+    "assets/feature_2/ic_652.png",
+    "assets/feature_2/ic_67.png",
+    "assets/feature_2/ic_672.webp",
+    "assets/feature_2/ic_717.png",
+    "assets/feature_2/ic_72.png",
+    "assets/feature_2/ic_722.webp",
+    "assets/feature_2/ic_742.jpg",
+    "assets/feature_2/ic_82.png",
+    "assets/feature_2/ic_827.webp",
+    "assets/feature_2/ic_832.png",
+    "assets/feature_2/ic_877.png",
+    "assets/feature_2/ic_912.png",
+    "assets/feature_2/ic_952.png",
+    "assets/feature_2/ic_962.webp",
+    "assets/feature_2/ic_967.jpg",
+    "assets/feature_2/ic_972.jpg",
+    "assets/feature_2/ic_987.png",
+  ];
+  /// assets/feature_2/deep_0/
+  static const List<String> assetsFeature2Deep0 = [
+    "assets/feature_2/deep_0/ic_107.png",
+    "assets/feature_2/deep_0/ic_127.png",
+    "assets/feature_2/deep_0/ic_157.jpg",
+    "assets/feature_2/deep_0/ic_22.png",
+    "assets/feature_2/deep_0/ic_237.png",
+    "assets/feature_2/deep_0/ic_262.png",
+    "assets/feature_2/deep_0/ic_417.png",
+    "assets/feature_2/deep_0/ic_507.png",
+    "assets/feature_2/deep_0/ic_52.webp",
+    "assets/feature_2/deep_0/ic_547.jpg",
+    "assets/feature_2/deep_0/ic_587.png",
+    "assets/feature_2/deep_0/ic_602.png",
+    "assets/feature_2/deep_0/ic_747.png",
+    "assets/feature_2/deep_0/ic_752.png",
+    "assets/feature_2/deep_0/ic_767.png",
+    "assets/feature_2/deep_0/ic_782.png",
+    "assets/feature_2/deep_0/ic_932.png",
+    "assets/feature_2/deep_0/señor_352.png",
+  ];
+  /// assets/feature_2/deep_1/
+  static const List<String> assetsFeature2Deep1 = [
+    "assets/feature_2/deep_1/bg-tile-777.png",
+    "assets/feature_2/deep_1/ic_187.webp",
+    "assets/feature_2/deep_1/ic_217.jpg",
+    "assets/feature_2/deep_1/ic_302.webp",
+    "assets/feature_2/deep_1/ic_627.png",
+    "assets/feature_2/deep_1/ic_762.png",
+    "assets/feature_2/deep_1/ic_847.jpg",
+  ];
+  /// assets/feature_2/deep_2/
+  static const List<String> assetsFeature2Deep2 = [
+    "assets/feature_2/deep_2/ic_182.png",
+    "assets/feature_2/deep_2/ic_242.webp",
+    "assets/feature_2/deep_2/ic_32.webp",
+    "assets/feature_2/deep_2/ic_322.jpg",
+    "assets/feature_2/deep_2/ic_592.png",
+    "assets/feature_2/deep_2/ic_732.png",
+    "assets/feature_2/deep_2/ic_792.png",
+  ];
+  /// assets/feature_2/sub_0/deep_0/
+  static const List<String> assetsFeature2Sub0Deep0 = [
+    "assets/feature_2/sub_0/deep_0/ic_77.png",
+    "assets/feature_2/sub_0/deep_0/ic_817.png",
+    "assets/feature_2/sub_0/deep_0/ic_927.jpg",
+    "assets/feature_2/sub_0/deep_0/ic_937.png",
+  ];
+  /// assets/feature_2/sub_0/deep_1/
+  static const List<String> assetsFeature2Sub0Deep1 = [
+    "assets/feature_2/sub_0/deep_1/bg-tile-252.jpg",
+    "assets/feature_2/sub_0/deep_1/common_2.png",
+    "assets/feature_2/sub_0/deep_1/common_22.png",
+    "assets/feature_2/sub_0/deep_1/ic_17.png",
+    "assets/feature_2/sub_0/deep_1/ic_272.png",
+    "assets/feature_2/sub_0/deep_1/ic_297.jpg",
+    "assets/feature_2/sub_0/deep_1/ic_347.png",
+    "assets/feature_2/sub_0/deep_1/ic_412.png",
+    "assets/feature_2/sub_0/deep_1/ic_432.png",
+    "assets/feature_2/sub_0/deep_1/ic_567.jpg",
+    "assets/feature_2/sub_0/deep_1/ic_642.png",
+    "assets/feature_2/sub_0/deep_1/ic_822.webp",
+    "assets/feature_2/sub_0/deep_1/ic_942.png",
+  ];
+  /// assets/feature_2/sub_0/deep_2/
+  static const List<String> assetsFeature2Sub0Deep2 = [
+    "assets/feature_2/sub_0/deep_2/ic_257.webp",
+    "assets/feature_2/sub_0/deep_2/ic_517.png",
+    "assets/feature_2/sub_0/deep_2/ic_637.png",
+    "assets/feature_2/sub_0/deep_2/ic_712.png",
+    "assets/feature_2/sub_0/deep_2/ic_857.jpg",
+    "assets/feature_2/sub_0/deep_2/ic_867.jpg",
+    "assets/feature_2/sub_0/deep_2/ic_947.png",
+    "assets/feature_2/sub_0/deep_2/ic_982.webp",
+  ];
+  /// assets/feature_2/sub_1/deep_0/
+  static const List<String> assetsFeature2Sub1Deep0 = [
+    "assets/feature_2/sub_1/deep_0/common_7.webp",
+    "assets/feature_2/sub_1/deep_0/ic_152.webp",
+    "assets/feature_2/sub_1/deep_0/ic_267.png",
+    "assets/feature_2/sub_1/deep_0/ic_372.webp",
+    "assets/feature_2/sub_1/deep_0/ic_392.webp",
+    "assets/feature_2/sub_1/deep_0/ic_47.webp",
+    "assets/feature_2/sub_1/deep_0/ic_502.png",
+    "assets/feature_2/sub_1/deep_0/ic_622.jpg",
+    "assets/feature_2/sub_1/deep_0/ic_737.png",
+    "assets/feature_2/sub_1/deep_0/ic_772.png",
+    "assets/feature_2/sub_1/deep_0/ic_922.webp",
+  ];
+  /// assets/feature_2/sub_1/deep_1/
+  static const List<String> assetsFeature2Sub1Deep1 = [
+    "assets/feature_2/sub_1/deep_1/ic_117.png",
+    "assets/feature_2/sub_1/deep_1/ic_2.png",
+    "assets/feature_2/sub_1/deep_1/ic_462.png",
+    "assets/feature_2/sub_1/deep_1/ic_482.jpg",
+    "assets/feature_2/sub_1/deep_1/ic_537.png",
+    "assets/feature_2/sub_1/deep_1/ic_787.png",
+    "assets/feature_2/sub_1/deep_1/ic_837.png",
+    "assets/feature_2/sub_1/deep_1/ic_907.png",
+  ];
+  /// assets/feature_2/sub_1/deep_2/
+  static const List<String> assetsFeature2Sub1Deep2 = [
+    "assets/feature_2/sub_1/deep_2/crème_997.jpg",
+    "assets/feature_2/sub_1/deep_2/ic_402.png",
+    "assets/feature_2/sub_1/deep_2/ic_532.jpg",
+    "assets/feature_2/sub_1/deep_2/ic_577.webp",
+    "assets/feature_2/sub_1/deep_2/ic_647.jpg",
+    "assets/feature_2/sub_1/deep_2/ic_757.png",
+    "assets/feature_2/sub_1/deep_2/ic_892.jpg",
+    "assets/feature_2/sub_1/deep_2/ic_917.png",
+    "assets/feature_2/sub_1/deep_2/ic_92.webp",
+  ];
+  /// assets/feature_2/sub_2/deep_0/
+  static const List<String> assetsFeature2Sub2Deep0 = [
+    "assets/feature_2/sub_2/deep_0/bg-tile-597.png",
+    "assets/feature_2/sub_2/deep_0/bg-tile-667.png",
+    "assets/feature_2/sub_2/deep_0/common_7.png",
+    "assets/feature_2/sub_2/deep_0/ic_27.png",
+    "assets/feature_2/sub_2/deep_0/ic_337.jpg",
+    "assets/feature_2/sub_2/deep_0/ic_342.jpg",
+    "assets/feature_2/sub_2/deep_0/ic_497.webp",
+    "assets/feature_2/sub_2/deep_0/ic_582.webp",
+    "assets/feature_2/sub_2/deep_0/ic_62.png",
+    "assets/feature_2/sub_2/deep_0/ic_797.png",
+    "assets/feature_2/sub_2/deep_0/ic_887.webp",
+  ];
+  /// assets/feature_2/sub_2/deep_1/
+  static const List<String> assetsFeature2Sub2Deep1 = [
+    "assets/feature_2/sub_2/deep_1/common_22.jpg",
+    "assets/feature_2/sub_2/deep_1/ic_222.png",
+    "assets/feature_2/sub_2/deep_1/ic_382.png",
+    "assets/feature_2/sub_2/deep_1/ic_657.png",
+    "assets/feature_2/sub_2/deep_1/ic_707.png",
+    "assets/feature_2/sub_2/deep_1/ic_842.png",
+  ];
+  /// assets/feature_2/sub_2/deep_2/
+  static const List<String> assetsFeature2Sub2Deep2 = [
+    "assets/feature_2/sub_2/deep_2/common_22.png",
+    "assets/feature_2/sub_2/deep_2/ic_112.png",
+    "assets/feature_2/sub_2/deep_2/ic_12.webp",
+    "assets/feature_2/sub_2/deep_2/ic_367.webp",
+    "assets/feature_2/sub_2/deep_2/ic_437.png",
+    "assets/feature_2/sub_2/deep_2/ic_447.png",
+    "assets/feature_2/sub_2/deep_2/ic_477.png",
+    "assets/feature_2/sub_2/deep_2/ic_807.png",
+  ];
+  /// assets/feature_2/sub_3/deep_0/
+  static const List<String> assetsFeature2Sub3Deep0 = [
+    "assets/feature_2/sub_3/deep_0/common_2.png",
+    "assets/feature_2/sub_3/deep_0/common_7.jpg",
+    "assets/feature_2/sub_3/deep_0/ic_167.png",
+    "assets/feature_2/sub_3/deep_0/ic_317.jpg",
+    "assets/feature_2/sub_3/deep_0/ic_527.webp",
+  ];
+  /// assets/feature_2/sub_3/deep_1/
+  static const List<String> assetsFeature2Sub3Deep1 = [
+    "assets/feature_2/sub_3/deep_1/bg-tile-332.jpg",
+    "assets/feature_2/sub_3/deep_1/bg-tile-852.png",
+    "assets/feature_2/sub_3/deep_1/ic_137.webp",
+    "assets/feature_2/sub_3/deep_1/ic_407.png",
+    "assets/feature_2/sub_3/deep_1/ic_467.jpg",
+    "assets/feature_2/sub_3/deep_1/ic_872.png",
+  ];
+  /// assets/feature_2/sub_3/deep_2/
+  static const List<String> assetsFeature2Sub3Deep2 = [
+    "assets/feature_2/sub_3/deep_2/bg-tile-542.png",
+    "assets/feature_2/sub_3/deep_2/bg-tile-862.jpg",
+    "assets/feature_2/sub_3/deep_2/café_572.png",
+    "assets/feature_2/sub_3/deep_2/common_2.png",
+    "assets/feature_2/sub_3/deep_2/common_7.png",
+    "assets/feature_2/sub_3/deep_2/ic_282.png",
+    "assets/feature_2/sub_3/deep_2/ic_377.png",
+    "assets/feature_2/sub_3/deep_2/ic_472.jpg",
+    "assets/feature_2/sub_3/deep_2/ic_632.webp",
+    "assets/feature_2/sub_3/deep_2/ic_902.jpg",
+  ];
+  /// assets/feature_3/
+  static const List<String> assetsFeature3 = [
+    "assets/feature_3/bg-tile-223.webp",
+    "assets/feature_3/bg-tile-543.png",
+    "assets/feature_3/bg-tile-858.jpg",
+    "assets/feature_3/café_733.png",
+    "assets/feature_3/café_853.jpg",
+    "assets/feature_3/common_13.png",
+    "assets/feature_3/common_23.jpg",
+    "assets/feature_3/common_23.png",
+    "assets/feature_3/common_3.jpg",
+    "assets/feature_3/common_3.png",
+    "assets/feature_3/crème_938.png",
+    "assets/feature_3/ic_163.webp",
+    "assets/feature_3/ic_208.jpg",
+    "assets/feature_3/ic_213.webp",
+    "assets/feature_3/ic_218.jpg",
+    "assets/feature_3/ic_228.png",
+    "assets/feature_3/ic_23.webp",
+    "assets/feature_3/ic_238.webp",
+    "assets/feature_3/ic_263.png",
+    "assets/feature_3/ic_273.jpg",
+    "assets/feature_3/ic_298.png",
+    "assets/feature_3/ic_33.jpg",
+    "assets/feature_3/ic_343.png",
+    "assets/feature_3/ic_353.png",
+    "assets/feature_3/ic_388.png",
+    "assets/feature_3/ic_393.png",
+    "assets/feature_3/ic_398.png",
+    "assets/feature_3/ic_413.png",
+    "assets/feature_3/ic_433.webp",
+    "assets/feature_3/ic_438.webp",
+    "assets/feature_3/ic_443.png",
+    "assets/feature_3/ic_508.png",
+    "assets/feature_3/ic_53.jpg",
+    "assets/feature_3/ic_603.png",
+    "assets/feature_3/ic_623.png",
+    "assets/feature_3/ic_633.png",
+    "assets/feature_3/ic_648.webp",
+    "assets/feature_3/ic_653.png",
+    "assets/feature_3/ic_658.webp",
+    "assets/feature_3/ic_663.webp",
+    "assets/feature_3/ic_678.webp",
+    "assets/feature_3/ic_718.png",
+    "assets/feature_3/ic_743.png",
+    "assets/feature_3/ic_748.png",
+    "assets/feature_3/ic_8.webp",
+    "assets/feature_3/ic_863.png",
+    "assets/feature_3/ic_903.png",
+    "assets/feature_3/ic_913.png",
+    "assets/feature_3/ic_93.webp",
+    "assets/feature_3/ic_953.jpg",
+    "assets/feature_3/ic_958.png",
+    "assets/feature_3/ic_988.jpg",
+    "assets/feature_3/ic_993.jpg",
+    "assets/feature_3/señor_338.jpg",
+    "assets/feature_3/señor_43.jpg",
+    "assets/feature_3/âĉéè_113.webp",
+  ];
+  /// assets/feature_3/deep_0/
+  static const List<String> assetsFeature3Deep0 = [
+    "assets/feature_3/deep_0/bg-tile-88.png",
+    "assets/feature_3/deep_0/ic_203.webp",
+    "assets/feature_3/deep_0/ic_478.png",
+    "assets/feature_3/deep_0/ic_513.png",
+    "assets/feature_3/deep_0/ic_578.png",
+    "assets/feature_3/deep_0/ic_703.png",
+    "assets/feature_3/deep_0/ic_763.png",
+    "assets/feature_3/deep_0/ic_888.png",
+    "assets/feature_3/deep_0/ic_948.png",
+    "assets/feature_3/deep_0/âĉéè_123.png",
+  ];
+  /// assets/feature_3/deep_1/
+  static const List<String> assetsFeature3Deep1 = [
+    "assets/feature_3/deep_1/ic_13.webp",
+    "assets/feature_3/deep_1/ic_188.png",
+    "assets/feature_3/deep_1/ic_308.webp",
+    "assets/feature_3/deep_1/ic_528.png",
+    "assets/feature_3/deep_1/ic_588.webp",
+    "assets/feature_3/deep_1/ic_628.png",
+    "assets/feature_3/deep_1/ic_63.png",
+    "assets/feature_3/deep_1/ic_668.png",
+    "assets/feature_3/deep_1/ic_728.png",
+    "assets/feature_3/deep_1/ic_803.png",
+    "assets/feature_3/deep_1/ic_83.webp",
+  ];
+  /// assets/feature_3/deep_2/
+  static const List<String> assetsFeature3Deep2 = [
+    "assets/feature_3/deep_2/ic_28.webp",
+    "assets/feature_3/deep_2/ic_518.png",
+    "assets/feature_3/deep_2/ic_523.jpg",
+    "assets/feature_3/deep_2/ic_593.jpg",
+    "assets/feature_3/deep_2/ic_773.webp",
+    "assets/feature_3/deep_2/ic_943.png",
+    "assets/feature_3/deep_2/ic_998.webp",
+    "assets/feature_3/deep_2/señor_153.png",
+  ];
+  /// assets/feature_3/sub_0/deep_0/
+  static const List<String> assetsFeature3Sub0Deep0 = [
+    "assets/feature_3/sub_0/deep_0/café_368.jpg",
+    "assets/feature_3/sub_0/deep_0/ic_133.webp",
+    "assets/feature_3/sub_0/deep_0/ic_313.png",
+    "assets/feature_3/sub_0/deep_0/ic_383.png",
+    "assets/feature_3/sub_0/deep_0/ic_408.png",
+    "assets/feature_3/sub_0/deep_0/ic_453.png",
+    "assets/feature_3/sub_0/deep_0/ic_823.webp",
+  ];
+  /// assets/feature_3/sub_0/deep_1/
+  static const List<String> assetsFeature3Sub0Deep1 = [
+    "assets/feature_3/sub_0/deep_1/common_23.png",
+    "assets/feature_3/sub_0/deep_1/common_8.jpg",
+    "assets/feature_3/sub_0/deep_1/ic_193.webp",
+    "assets/feature_3/sub_0/deep_1/ic_328.png",
+    "assets/feature_3/sub_0/deep_1/ic_423.png",
+    "assets/feature_3/sub_0/deep_1/ic_458.webp",
+    "assets/feature_3/sub_0/deep_1/ic_548.png",
+    "assets/feature_3/sub_0/deep_1/ic_598.webp",
+    "assets/feature_3/sub_0/deep_1/ic_618.webp",
+    "assets/feature_3/sub_0/deep_1/ic_693.webp",
+    "assets/feature_3/sub_0/deep_1/ic_698.webp",
+    "assets/feature_3/sub_0/deep_1/ic_908.png",
+  ];
+  /// assets/feature_3/sub_0/deep_2/
+  static const List<String> assetsFeature3Sub0Deep2 = [
+    "assets/feature_3/sub_0/deep_2/ic_168.webp",
+    "assets/feature_3/sub_0/deep_2/ic_233.jpg",
+    "assets/feature_3/sub_0/deep_2/ic_318.jpg",
+    "assets/feature_3/sub_0/deep_2/ic_348.png",
+    "assets/feature_3/sub_0/deep_2/ic_813.png",
+  ];
+  /// assets/feature_3/sub_1/deep_0/
+  static const List<String> assetsFeature3Sub1Deep0 = [
+    "assets/feature_3/sub_1/deep_0/common_23.jpg",
+    "assets/feature_3/sub_1/deep_0/ic_118.jpg",
+    "assets/feature_3/sub_1/deep_0/ic_158.png",
+    "assets/feature_3/sub_1/deep_0/ic_293.jpg",
+    "assets/feature_3/sub_1/deep_0/ic_303.jpg",
+    "assets/feature_3/sub_1/deep_0/ic_493.jpg",
+    "assets/feature_3/sub_1/deep_0/ic_753.png",
+    "assets/feature_3/sub_1/deep_0/ic_868.png",
+    "assets/feature_3/sub_1/deep_0/ic_918.jpg",
+  ];
+  /// assets/feature_3/sub_1/deep_1/
+  static const List<String> assetsFeature3Sub1Deep1 = [
+    "assets/feature_3/sub_1/deep_1/common_13.jpg",
+    "assets/feature_3/sub_1/deep_1/ic_18.jpg",
+    "assets/feature_3/sub_1/deep_1/ic_363.webp",
+    "assets/feature_3/sub_1/deep_1/ic_448.webp",
+    "assets/feature_3/sub_1/deep_1/ic_473.png",
+    "assets/feature_3/sub_1/deep_1/ic_713.png",
+    "assets/feature_3/sub_1/deep_1/ic_788.webp",
+    "assets/feature_3/sub_1/deep_1/ic_818.png",
+    "assets/feature_3/sub_1/deep_1/ic_828.jpg",
+  ];
+  /// assets/feature_3/sub_1/deep_2/
+  static const List<String> assetsFeature3Sub1Deep2 = [
+    "assets/feature_3/sub_1/deep_2/ic_258.jpg",
+    "assets/feature_3/sub_1/deep_2/ic_268.webp",
+    "assets/feature_3/sub_1/deep_2/ic_278.webp",
+    "assets/feature_3/sub_1/deep_2/ic_683.jpg",
+    "assets/feature_3/sub_1/deep_2/ic_688.webp",
+    "assets/feature_3/sub_1/deep_2/ic_783.png",
+    "assets/feature_3/sub_1/deep_2/ic_843.png",
+    "assets/feature_3/sub_1/deep_2/ic_978.png",
+  ];
+  /// assets/feature_3/sub_2/deep_0/
+  static const List<String> assetsFeature3Sub2Deep0 = [
+    "assets/feature_3/sub_2/deep_0/bg-tile-808.png",
+    "assets/feature_3/sub_2/deep_0/common_3.jpg",
+    "assets/feature_3/sub_2/deep_0/common_8.png",
+    "assets/feature_3/sub_2/deep_0/ic_108.webp",
+    "assets/feature_3/sub_2/deep_0/ic_878.png",
+    "assets/feature_3/sub_2/deep_0/ic_98.png",
+  ];
+  /// assets/feature_3/sub_2/deep_1/
+  static const List<String> assetsFeature3Sub2Deep1 = [
+    "assets/feature_3/sub_2/deep_1/bg-tile-248.jpg",
+    "assets/feature_3/sub_2/deep_1/bg-tile-333.png",
+    "assets/feature_3/sub_2/deep_1/common_13.png",
+    "assets/feature_3/sub_2/deep_1/ic_183.png",
+    "assets/feature_3/sub_2/deep_1/ic_198.webp",
+    "assets/feature_3/sub_2/deep_1/ic_568.png",
+    "assets/feature_3/sub_2/deep_1/ic_768.png",
+    "assets/feature_3/sub_2/deep_1/ic_873.jpg",
+    "assets/feature_3/sub_2/deep_1/ic_983.png",
+  ];
+  /// assets/feature_3/sub_2/deep_2/
+  static const List<String> assetsFeature3Sub2Deep2 = [
+    "assets/feature_3/sub_2/deep_2/common_8.png",
+    "assets/feature_3/sub_2/deep_2/ic_418.webp",
+    "assets/feature_3/sub_2/deep_2/ic_463.png",
+    "assets/feature_3/sub_2/deep_2/ic_883.png",
+    "assets/feature_3/sub_2/deep_2/âĉéè_403.png",
+  ];
+  /// assets/feature_3/sub_3/deep_0/
+  static const List<String> assetsFeature3Sub3Deep0 = [
+    "assets/feature_3/sub_3/deep_0/bg-tile-288.webp",
+    "assets/feature_3/sub_3/deep_0/ic_483.png",
+    "assets/feature_3/sub_3/deep_0/ic_723.jpg",
+    "assets/feature_3/sub_3/deep_0/âĉéè_673.webp",
+  ];
+  /// assets/feature_3/sub_3/deep_1/
+  static const List<String> assetsFeature3Sub3Deep1 = [
+    "assets/feature_3/sub_3/deep_1/common_3.png",
+    "assets/feature_3/sub_3/deep_1/ic_148.png",
+    "assets/feature_3/sub_3/deep_1/ic_38.png",
+    "assets/feature_3/sub_3/deep_1/ic_573.png",
+  ];
+  /// assets/feature_3/sub_3/deep_2/
+  static const List<String> assetsFeature3Sub3Deep2 = [
+    "assets/feature_3/sub_3/deep_2/ic_173.png",
+    "assets/feature_3/sub_3/deep_2/ic_3.png",
+    "assets/feature_3/sub_3/deep_2/ic_358.png",
+    "assets/feature_3/sub_3/deep_2/ic_73.png",
+    "assets/feature_3/sub_3/deep_2/ic_898.webp",
+    "assets/feature_3/sub_3/deep_2/ic_928.png",
+  ];
+  /// assets/feature_4/
+  static const List<String> assetsFeature4 = [
+    "assets/feature_4/bg-tile-724.png",
+    "assets/feature_4/bg-tile-774.png",
+    "assets/feature_4/common_19.png",
+    "assets/feature_4/common_9.png",
+    "assets/feature_4/ic_139.png",
+    "assets/feature_4/ic_159.jpg",
+    "assets/feature_4/ic_174.png",
+    "assets/feature_4/ic_209.png",
+    "assets/feature_4/ic_219.png",
+    "assets/feature_4/ic_249.png",
+    "assets/feature_4/ic_279.webp",
+    "assets/feature_4/ic_294.png",
+    "assets/feature_4/ic_34.png",
+    "assets/feature_4/ic_349.png",
+    "assets/feature_4/ic_354.png",
+    "assets/feature_4/ic_369.png",
+    "assets/feature_4/ic_389.jpg",
+    "assets/feature_4/ic_434.jpg",
+    "assets/feature_4/ic_444.png",
+    "assets/feature_4/ic_499.png",
+    "assets/feature_4/ic_539.jpg",
+    "assets/feature_4/ic_549.jpg",
+    "assets/feature_4/ic_554.jpg",
+    "assets/feature_4/ic_559.webp",
+    "assets/feature_4/ic_589.png",
+    "assets/feature_4/ic_619.png",
+    "assets/feature_4/ic_629.png",
+    "assets/feature_4/ic_64.png",
+    "assets/feature_4/ic_649.png",
+    "assets/feature_4/ic_659.png",
+    "assets/feature_4/ic_669.png",
+    "assets/feature_4/ic_699.webp",
+    "assets/feature_4/ic_779.png",
+    "assets/feature_4/ic_789.png",
+    "assets/feature_4/ic_79.jpg",
+    "assets/feature_4/ic_799.png",
+    "assets/feature_4/ic_834.webp",
+    "assets/feature_4/ic_849.png",
+    "assets/feature_4/ic_854.png",
+    "assets/feature_4/ic_869.png",
+    "assets/feature_4/ic_889.png",
+    "assets/feature_4/ic_894.png",
+    "assets/feature_4/ic_924.png",
+    "assets/feature_4/ic_954.png",
+    "assets/feature_4/ic_959.jpg",
+    "assets/feature_4/ic_989.webp",
+    "assets/feature_4/ic_99.png",
+    "assets/feature_4/naïve_859.png",
+    "assets/feature_4/âĉéè_229.png",
+  ];
+  /// assets/feature_4/deep_0/
+  static const List<String> assetsFeature4Deep0 = [
+    "assets/feature_4/deep_0/common_4.jpg",
+    "assets/feature_4/deep_0/ic_149.png",
+    "assets/feature_4/deep_0/ic_184.jpg",
+    "assets/feature_4/deep_0/ic_509.jpg",
+    "assets/feature_4/deep_0/ic_519.jpg",
+    "assets/feature_4/deep_0/ic_564.png",
+    "assets/feature_4/deep_0/ic_694.png",
+    "assets/feature_4/deep_0/ic_814.png",
+    "assets/feature_4/deep_0/ic_879.webp",
+    "assets/feature_4/deep_0/ic_979.png",
+  ];
+  /// assets/feature_4/deep_1/
+  static const List<String> assetsFeature4Deep1 = [
+    "assets/feature_4/deep_1/common_4.jpg",
+    "assets/feature_4/deep_1/common_4.webp",
+    "assets/feature_4/deep_1/ic_214.webp",
+    "assets/feature_4/deep_1/ic_289.png",
+    "assets/feature_4/deep_1/ic_364.png",
+    "assets/feature_4/deep_1/ic_484.webp",
+    "assets/feature_4/deep_1/ic_584.png",
+    "assets/feature_4/deep_1/ic_89.jpg",
+    "assets/feature_4/deep_1/ic_914.png",
+    "assets/feature_4/deep_1/señor_464.webp",
+  ];
+  /// assets/feature_4/deep_2/
+  static const List<String> assetsFeature4Deep2 = [
+    "assets/feature_4/deep_2/bg-tile-179.png",
+    "assets/feature_4/deep_2/bg-tile-939.png",
+    "assets/feature_4/deep_2/ic_129.jpg",
+    "assets/feature_4/deep_2/ic_504.png",
+    "assets/feature_4/deep_2/ic_514.png",
+    "assets/feature_4/deep_2/ic_544.jpg",
+    "assets/feature_4/deep_2/ic_599.png",
+    "assets/feature_4/deep_2/ic_624.png",
+    "assets/feature_4/deep_2/ic_749.png",
+    "assets/feature_4/deep_2/ic_839.png",
+  ];
+  /// assets/feature_4/sub_0/deep_0/
+  static const List<String> assetsFeature4Sub0Deep0 = [
+    "assets/feature_4/sub_0/deep_0/common_14.webp",
+    "assets/feature_4/sub_0/deep_0/common_4.jpg",
+    "assets/feature_4/sub_0/deep_0/ic_109.png",
+    "assets/feature_4/sub_0/deep_0/ic_269.webp",
+    "assets/feature_4/sub_0/deep_0/ic_419.webp",
+    "assets/feature_4/sub_0/deep_0/ic_469.png",
+    "assets/feature_4/sub_0/deep_0/ic_654.jpg",
+    "assets/feature_4/sub_0/deep_0/ic_674.jpg",
+    "assets/feature_4/sub_0/deep_0/ic_784.png",
+    "assets/feature_4/sub_0/deep_0/ic_844.png",
+    "assets/feature_4/sub_0/deep_0/ic_984.png",
+    "assets/feature_4/sub_0/deep_0/naïve_574.jpg",
+  ];
+  /// assets/feature_4/sub_0/deep_1/
+  static const List<String> assetsFeature4Sub0Deep1 = [
+    "assets/feature_4/sub_0/deep_1/common_24.webp",
+    "assets/feature_4/sub_0/deep_1/common_4.webp",
+    "assets/feature_4/sub_0/deep_1/ic_124.png",
+    "assets/feature_4/sub_0/deep_1/ic_344.png",
+    "assets/feature_4/sub_0/deep_1/ic_359.webp",
+    "assets/feature_4/sub_0/deep_1/ic_534.webp",
+    "assets/feature_4/sub_0/deep_1/ic_604.png",
+    "assets/feature_4/sub_0/deep_1/ic_709.png",
+    "assets/feature_4/sub_0/deep_1/ic_739.png",
+    "assets/feature_4/sub_0/deep_1/ic_804.jpg",
+  ];
+  /// assets/feature_4/sub_0/deep_2/
+  static const List<String> assetsFeature4Sub0Deep2 = [
+    "assets/feature_4/sub_0/deep_2/ic_169.png",
+    "assets/feature_4/sub_0/deep_2/ic_19.png",
+    "assets/feature_4/sub_0/deep_2/ic_244.webp",
+    "assets/feature_4/sub_0/deep_2/ic_329.png",
+    "assets/feature_4/sub_0/deep_2/ic_4.jpg",
+    "assets/feature_4/sub_0/deep_2/ic_424.png",
+    "assets/feature_4/sub_0/deep_2/ic_729.jpg",
+    "assets/feature_4/sub_0/deep_2/ic_919.png",
+  ];
+  /// assets/feature_4/sub_1/deep_0/
+  static const List<String> assetsFeature4Sub1Deep0 = [
+    "assets/feature_4/sub_1/deep_0/bg-tile-704.webp",
+    "assets/feature_4/sub_1/deep_0/ic_119.png",
+    "assets/feature_4/sub_1/deep_0/ic_194.webp",
+    "assets/feature_4/sub_1/deep_0/ic_199.png",
+    "assets/feature_4/sub_1/deep_0/ic_234.jpg",
+    "assets/feature_4/sub_1/deep_0/ic_264.webp",
+    "assets/feature_4/sub_1/deep_0/ic_384.png",
+    "assets/feature_4/sub_1/deep_0/ic_634.png",
+    "assets/feature_4/sub_1/deep_0/ic_689.webp",
+    "assets/feature_4/sub_1/deep_0/ic_719.png",
+    "assets/feature_4/sub_1/deep_0/ic_944.png",
+    "assets/feature_4/sub_1/deep_0/ic_949.jpg",
+    "assets/feature_4/sub_1/deep_0/ic_999.png",
+    "assets/feature_4/sub_1/deep_0/naïve_404.webp",
+    "assets/feature_4/sub_1/deep_0/señor_314.png",
+  ];
+  /// assets/feature_4/sub_1/deep_1/
+  static const List<String> assetsFeature4Sub1Deep1 = [
+    "assets/feature_4/sub_1/deep_1/bg-tile-794.webp",
+    "assets/feature_4/sub_1/deep_1/ic_154.png",
+    "assets/feature_4/sub_1/deep_1/ic_259.png",
+    "assets/feature_4/sub_1/deep_1/ic_324.webp",
+    "assets/feature_4/sub_1/deep_1/ic_394.png",
+    "assets/feature_4/sub_1/deep_1/ic_934.webp",
+  ];
+  /// assets/feature_4/sub_1/deep_2/
+  static const List<String> assetsFeature4Sub1Deep2 = [
+    "assets/feature_4/sub_1/deep_2/bg-tile-679.png",
+    "assets/feature_4/sub_1/deep_2/common_19.png",
+    "assets/feature_4/sub_1/deep_2/ic_479.webp",
+    "assets/feature_4/sub_1/deep_2/ic_54.png",
+    "assets/feature_4/sub_1/deep_2/ic_569.png",
+    "assets/feature_4/sub_1/deep_2/ic_594.png",
+    "assets/feature_4/sub_1/deep_2/ic_884.png",
+    "assets/feature_4/sub_1/deep_2/ic_964.png",
+    "assets/feature_4/sub_1/deep_2/ic_969.png",
+    "assets/feature_4/sub_1/deep_2/ic_994.jpg",
+  ];
+  /// assets/feature_4/sub_2/deep_0/
+  static const List<String> assetsFeature4Sub2Deep0 = [
+    "assets/feature_4/sub_2/deep_0/café_609.png",
+    "assets/feature_4/sub_2/deep_0/common_19.png",
+    "assets/feature_4/sub_2/deep_0/ic_134.png",
+    "assets/feature_4/sub_2/deep_0/ic_414.png",
+    "assets/feature_4/sub_2/deep_0/ic_474.jpg",
+    "assets/feature_4/sub_2/deep_0/ic_754.jpg",
+  ];
+  /// assets/feature_4/sub_2/deep_1/
+  static const List<String> assetsFeature4Sub2Deep1 = [
+    "assets/feature_4/sub_2/deep_1/common_19.png",
+    "assets/feature_4/sub_2/deep_1/common_4.png",
+    "assets/feature_4/sub_2/deep_1/ic_189.png",
+    "assets/feature_4/sub_2/deep_1/ic_299.jpg",
+    "assets/feature_4/sub_2/deep_1/ic_664.png",
+    "assets/feature_4/sub_2/deep_1/ic_759.png",
+    "assets/feature_4/sub_2/deep_1/ic_809.png",
+    "assets/feature_4/sub_2/deep_1/ic_94.jpg",
+  ];
+  /// assets/feature_4/sub_2/deep_2/
+  static const List<String> assetsFeature4Sub2Deep2 = [
+    "assets/feature_4/sub_2/deep_2/ic_274.png",
+    "assets/feature_4/sub_2/deep_2/ic_579.png",
+    "assets/feature_4/sub_2/deep_2/ic_639.webp",
+    "assets/feature_4/sub_2/deep_2/ic_74.png",
+    "assets/feature_4/sub_2/deep_2/ic_9.png",
+  ];
+  /// assets/feature_4/sub_3/deep_0/
+  static const List<String> assetsFeature4Sub3Deep0 = [
+    "assets/feature_4/sub_3/deep_0/common_14.png",
+    "assets/feature_4/sub_3/deep_0/ic_399.png",
+    "assets/feature_4/sub_3/deep_0/ic_684.webp",
+    "assets/feature_4/sub_3/deep_0/ic_829.jpg",
+  ];
+  /// assets/feature_4/sub_3/deep_1/
+  static const List<String> assetsFeature4Sub3Deep1 = [
+    "assets/feature_4/sub_3/deep_1/common_19.png",
+    "assets/feature_4/sub_3/deep_1/common_4.jpg",
+    "assets/feature_4/sub_3/deep_1/ic_14.png",
+    "assets/feature_4/sub_3/deep_1/ic_164.jpg",
+    "assets/feature_4/sub_3/deep_1/ic_334.png",
+    "assets/feature_4/sub_3/deep_1/ic_374.png",
+    "assets/feature_4/sub_3/deep_1/ic_69.png",
+    "assets/feature_4/sub_3/deep_1/ic_824.png",
+    "assets/feature_4/sub_3/deep_1/ic_84.jpg",
+    "assets/feature_4/sub_3/deep_1/ic_974.webp",
+  ];
+  /// assets/feature_4/sub_3/deep_2/
+  static const List<String> assetsFeature4Sub3Deep2 = [
+    "assets/feature_4/sub_3/deep_2/ic_114.png",
+    "assets/feature_4/sub_3/deep_2/ic_449.png",
+    "assets/feature_4/sub_3/deep_2/ic_489.png",
+    "assets/feature_4/sub_3/deep_2/ic_644.webp",
+    "assets/feature_4/sub_3/deep_2/ic_874.jpg",
+    "assets/feature_4/sub_3/deep_2/naïve_309.png",
+    "assets/feature_4/sub_3/deep_2/señor_744.png",
+  ];
+  /// images/screens/f0/
+  static const List<String> imagesScreensF0 = [
+    "images/screens/f0/bg-tile-810.webp",
+    "images/screens/f0/café_525.jpg",
+    "images/screens/f0/common_20.png",
+    "images/screens/f0/ic_340.webp",
+    "images/screens/f0/ic_570.png",
+    "images/screens/f0/ic_615.png",
+    "images/screens/f0/ic_770.png",
+    "images/screens/f0/ic_885.png",
+    "images/screens/f0/ic_910.jpg",
+  ];
+  /// images/screens/f1/
+  static const List<String> imagesScreensF1 = [
+    "images/screens/f1/common_16.png",
+    "images/screens/f1/ic_106.webp",
+    "images/screens/f1/ic_491.png",
+    "images/screens/f1/ic_91.png",
+    "images/screens/f1/ic_921.png",
+    "images/screens/f1/ic_941.png",
+  ];
+  /// images/screens/f2/
+  static const List<String> imagesScreensF2 = [
+    "images/screens/f2/common_2.png",
+    "images/screens/f2/ic_197.png",
+    "images/screens/f2/ic_422.png",
+    "images/screens/f2/ic_512.jpg",
+    "images/screens/f2/ic_562.png",
+    "images/screens/f2/ic_687.png",
+    "images/screens/f2/ic_697.png",
+    "images/screens/f2/ic_702.png",
+    "images/screens/f2/ic_727.webp",
+    "images/screens/f2/ic_812.jpg",
+    "images/screens/f2/ic_882.jpg",
+    "images/screens/f2/naïve_312.png",
+    "images/screens/f2/señor_42.png",
+  ];
+  /// images/screens/f3/
+  static const List<String> imagesScreensF3 = [
+    "images/screens/f3/common_13.webp",
+    "images/screens/f3/ic_103.webp",
+    "images/screens/f3/ic_178.png",
+    "images/screens/f3/ic_428.webp",
+    "images/screens/f3/ic_488.webp",
+    "images/screens/f3/ic_533.png",
+    "images/screens/f3/ic_608.webp",
+    "images/screens/f3/ic_638.jpg",
+    "images/screens/f3/ic_643.png",
+    "images/screens/f3/ic_708.webp",
+    "images/screens/f3/ic_778.png",
+    "images/screens/f3/ic_793.png",
+    "images/screens/f3/ic_798.png",
+    "images/screens/f3/ic_838.png",
+    "images/screens/f3/ic_893.png",
+  ];
+  /// images/screens/f4/
+  static const List<String> imagesScreensF4 = [
+    "images/screens/f4/ic_284.jpg",
+    "images/screens/f4/ic_339.png",
+    "images/screens/f4/ic_439.jpg",
+    "images/screens/f4/ic_49.png",
+    "images/screens/f4/ic_764.jpg",
+  ];
+}
+
+/// Precaches every image of [group] into the image cache, e.g. `precacheResGroup(context, ResPrecacheGroups.assets)` before navigating
+Future<void> precacheResGroup(BuildContext context, List<String> group) {
+  return Future.wait(group.map((path) => precacheImage(AssetImage(path), context)));
+}
+// asset.dart
+/// Generated by AssetsRefGenerator on <date>
+class ResAsset {
+  static const String bg_tile_940 = "asset/bg-tile-940.png";
+  static const String common_0 = "asset/common_0.png";
+  static const String ic_128 = "asset/ic_128.jpg";
+  static const String ic_204 = "asset/ic_204.webp";
+  static const String ic_292 = "asset/ic_292.png";
+  static const String ic_315 = "asset/ic_315.png";
+  static const String ic_400 = "asset/ic_400.jpg";
+  static const String ic_536 = "asset/ic_536.webp";
+  static const String ic_545 = "asset/ic_545.png";
+  static const String ic_55 = "asset/ic_55.png";
+  static const String ic_58 = "asset/ic_58.png";
+  static const String ic_630 = "asset/ic_630.png";
+  static const String ic_714 = "asset/ic_714.png";
+  static const String ic_738 = "asset/ic_738.png";
+  static const String ic_811 = "asset/ic_811.png";
+  static const String ic_904 = "asset/ic_904.png";
+  static const String ic_906 = "asset/ic_906.jpg";
+  static const String ic_909 = "asset/ic_909.jpg";
+  static const String ic_963 = "asset/ic_963.png";
+  static const String ic_977 = "asset/ic_977.jpg";
+}
+// assets_feature_0.dart
+/// Generated by AssetsRefGenerator on <date>
+class ResAssetsFeature0 {
+  static const String assets_feature_0_common_0 = "assets/feature_0/common_0.png";
+  static const String assets_feature_0_sub_0_deep_0_common_0 = "assets/feature_0/sub_0/deep_0/common_0.png";
+  static const String assets_feature_0_sub_0_deep_2_common_10 = "assets/feature_0/sub_0/deep_2/common_10.png";
+  static const String assets_feature_0_sub_1_deep_2_common_10 = "assets/feature_0/sub_1/deep_2/common_10.png";
+  static const String assets_feature_0_sub_1_deep_2_common_20 = "assets/feature_0/sub_1/deep_2/common_20.webp";
+  static const String assets_feature_0_sub_3_deep_0_common_0 = "assets/feature_0/sub_3/deep_0/common_0.png";
+  static const String assets_feature_0_sub_3_deep_0_common_10 = "assets/feature_0/sub_3/deep_0/common_10.png";
+  static const String assets_feature_0_sub_3_deep_1_common_0 = "assets/feature_0/sub_3/deep_1/common_0.png";
+  static const String bg_tile_270 = "assets/feature_0/sub_1/deep_0/bg-tile-270.jpg";
+  static const String bg_tile_30 = "assets/feature_0/bg-tile-30.webp";
+  static const String bg_tile_495 = "assets/feature_0/sub_3/deep_0/bg-tile-495.png";
+  static const String bg_tile_565 = "assets/feature_0/bg-tile-565.png";
+  static const String bg_tile_670 = "assets/feature_0/sub_3/deep_0/bg-tile-670.png";
+  static const String bg_tile_700 = "assets/feature_0/bg-tile-700.png";
+  static const String bg_tile_755 = "assets/feature_0/sub_2/deep_2/bg-tile-755.webp";
+  static const String bg_tile_880 = "assets/feature_0/sub_3/deep_1/bg-tile-880.png";
+  static const String bg_tile_960 = "assets/feature_0/sub_0/deep_2/bg-tile-960.jpg";
+  static const String common_0 = "assets/feature_0/sub_0/deep_2/common_0.webp";
+  static const String common_10 = "assets/feature_0/common_10.jpg";
+  static const String common_10 = "assets/feature_0/deep_2/common_10.png";
+  static const String common_15 = "assets/feature_0/sub_1/deep_0/common_15.jpg";
+  static const String common_15 = "assets/feature_0/sub_3/deep_1/common_15.png";
+  static const String common_20 = "assets/feature_0/deep_0/common_20.webp";
+  static const String common_5 = "assets/feature_0/deep_0/common_5.jpg";
+  static const String common_5 = "assets/feature_0/sub_3/deep_1/common_5.png";
+  static const String ic_0 = "assets/feature_0/ic_0.webp";
+  static const String ic_100 = "assets/feature_0/deep_0/ic_100.webp";
+  static const String ic_105 = "assets/feature_0/deep_1/ic_105.webp";
+  static const String ic_115 = "assets/feature_0/ic_115.png";
+  static const String ic_120 = "assets/feature_0/ic_120.webp";
+  static const String ic_125 = "assets/feature_0/deep_0/ic_125.webp";
+  static const String ic_130 = "assets/feature_0/deep_0/ic_130.png";
+  static const String ic_140 = "assets/feature_0/sub_0/deep_0/ic_140.png";
+  static const String ic_145 = "assets/feature_0/sub_2/deep_0/ic_145.png";
+  static const String ic_15 = "assets/feature_0/sub_1/deep_0/ic_15.png";
+  static const String ic_150 = "assets/feature_0/deep_0/ic_150.webp";
+  static const String ic_155 = "assets/feature_0/sub_1/deep_2/ic_155.jpg";
+  static const String ic_160 = "assets/feature_0/sub_2/deep_1/ic_160.png";
+  static const String ic_165 = "assets/feature_0/sub_3/deep_1/ic_165.png";
+  static const String ic_170 = "assets/feature_0/sub_2/deep_0/ic_170.png";
+  static const String ic_180 = "assets/feature_0/sub_0/deep_2/ic_180.webp";
+  static const String ic_190 = "assets/feature_0/ic_190.png";
+  static const String ic_195 = "assets/feature_0/sub_2/deep_1/ic_195.webp";
+  static const String ic_20 = "assets/feature_0/ic_20.png";
+  static const String ic_200 = "assets/feature_0/sub_0/deep_1/ic_200.webp";
+  static const String ic_205 = "assets/feature_0/ic_205.png";
+  static const String ic_215 = "assets/feature_0/deep_1/ic_215.png";
+  static const String ic_220 = "assets/feature_0/sub_1/deep_0/ic_220.png";
+  static const String ic_225 = "assets/feature_0/deep_1/ic_225.png";
+  static const String ic_230 = "assets/feature_0/ic_230.png";
+  static const String ic_235 = "assets/feature_0/sub_2/deep_0/ic_235.jpg";
+  static const String ic_240 = "assets/feature_0/ic_240.png";
+  static const String ic_25 = "assets/feature_0/sub_1/deep_1/ic_25.jpg";
+  static const String ic_255 = "assets/feature_0/sub_3/deep_1/ic_255.jpg";
+  static const String ic_265 = "assets/feature_0/ic_265.png";
+  static const String ic_275 = "assets/feature_0/sub_3/deep_2/ic_275.png";
+  static const String ic_280 = "assets/feature_0/deep_0/ic_280.png";
+  static const String ic_290 = "assets/feature_0/ic_290.jpg";
+  static const String ic_295 = "assets/feature_0/sub_2/deep_1/ic_295.png";
+  static const String ic_300 = "assets/feature_0/sub_1/deep_0/ic_300.png";
+  static const String ic_305 = "assets/feature_0/sub_2/deep_2/ic_305.png";
+  static const String ic_320 = "assets/feature_0/sub_0/deep_0/ic_320.png";
+  static const String ic_325 = "assets/feature_0/sub_3/deep_2/ic_325.png";
+  static const String ic_335 = "assets/feature_0/ic_335.webp";
+  static const String ic_345 = "assets/feature_0/ic_345.jpg";
+  static const String ic_35 = "assets/feature_0/sub_2/deep_1/ic_35.png";
+  static const String ic_350 = "assets/feature_0/sub_2/deep_1/ic_350.webp";
+  static const String ic_355 = "assets/feature_0/sub_3/deep_2/ic_355.png";
+  static const String ic_360 = "assets/feature_0/ic_360.png";
+  static const String ic_365 = "assets/feature_0/sub_0/deep_0/ic_365.jpg";
+  static const String ic_370 = "assets/feature_0/deep_0/ic_370.webp";
+  static const String ic_375 = "assets/feature_0/sub_1/deep_1/ic_375.jpg";
+  static const String ic_380 = "assets/feature_0/deep_2/ic_380.png";
+  static const String ic_385 = "assets/feature_0/sub_0/deep_2/ic_385.png";
+  static const String ic_390 = "assets/feature_0/ic_390.png";
+  static const String ic_395 = "assets/feature_0/sub_3/deep_0/ic_395.png";
+  static const String ic_40 = "assets/feature_0/ic_40.png";
+  static const String ic_405 = "assets/feature_0/deep_1/ic_405.webp";
+  static const String ic_415 = "assets/feature_0/sub_2/deep_1/ic_415.png";
+  static const String ic_420 = "assets/feature_0/sub_0/deep_2/ic_420.jpg";
+  static const String ic_425 = "assets/feature_0/deep_0/ic_425.webp";
+  static const String ic_430 = "assets/feature_0/sub_2/deep_0/ic_430.png";
+  static const String ic_435 = "assets/feature_0/sub_0/deep_0/ic_435.jpg";
+  static const String ic_440 = "assets/feature_0/deep_0/ic_440.png";
+  static const String ic_45 = "assets/feature_0/ic_45.png";
+  static const String ic_455 = "assets/feature_0/deep_0/ic_455.png";
+  static const String ic_460 = "assets/feature_0/sub_2/deep_2/ic_460.webp";
+  static const String ic_470 = "assets/feature_0/ic_470.jpg";
+  static const String ic_480 = "assets/feature_0/ic_480.png";
+  static const String ic_485 = "assets/feature_0/deep_2/ic_485.jpg";
+  static const String ic_490 = "assets/feature_0/sub_3/deep_0/ic_490.png";
+  static const String ic_5 = "assets/feature_0/sub_1/deep_2/ic_5.webp";
+  static const String ic_50 = "assets/feature_0/sub_1/deep_2/ic_50.png";
+  static const String ic_500 = "assets/feature_0/sub_1/deep_1/ic_500.webp";
+  static const String ic_505 = "assets/feature_0/ic_505.png";
+  static const String ic_510 = "assets/feature_0/sub_1/deep_2/ic_510.jpg";
+  static const String ic_520 = "assets/feature_0/deep_1/ic_520.png";
+  static const String ic_530 = "assets/feature_0/sub_1/deep_1/ic_530.png";
+  static const String ic_535 = "assets/feature_0/sub_2/deep_2/ic_535.png";
+  static const String ic_550 = "assets/feature_0/deep_2/ic_550.webp";
+  static const String ic_555 = "assets/feature_0/sub_2/deep_2/ic_555.webp";
+  static const String ic_560 = "assets/feature_0/deep_1/ic_560.png";
+  static const String ic_585 = "assets/feature_0/deep_1/ic_585.png";
+  static const String ic_595 = "assets/feature_0/sub_1/deep_0/ic_595.webp";
+  static const String ic_60 = "assets/feature_0/ic_60.png";
+  static const String ic_600 = "assets/feature_0/sub_3/deep_2/ic_600.webp";
+  static const String ic_605 = "assets/feature_0/ic_605.webp";
+  static const String ic_610 = "assets/feature_0/sub_2/deep_2/ic_610.png";
+  static const String ic_620 = "assets/feature_0/ic_620.png";
+  static const String ic_625 = "assets/feature_0/sub_1/deep_0/ic_625.png";
+  static const String ic_635 = "assets/feature_0/ic_635.png";
+  static const String ic_645 = "assets/feature_0/ic_645.png";
+  static const String ic_65 = "assets/feature_0/sub_3/deep_0/ic_65.png";
+  static const String ic_655 = "assets/feature_0/sub_0/deep_1/ic_655.png";
+  static const String ic_660 = "assets/feature_0/sub_0/deep_0/ic_660.webp";
+  static const String ic_665 = "assets/feature_0/deep_1/ic_665.png";
+  static const String ic_685 = "assets/feature_0/ic_685.png";
+  static const String ic_690 = "assets/feature_0/sub_2/deep_2/ic_690.webp";
+  static const String ic_695 = "assets/feature_0/sub_3/deep_0/ic_695.jpg";
+  static const String ic_70 = "assets/feature_0/sub_0/deep_1/ic_70.webp";
+  static const String ic_705 = "assets/feature_0/ic_705.png";
+  static const String ic_710 = "assets/feature_0/deep_0/ic_710.png";
+  static const String ic_715 = "assets/feature_0/sub_1/deep_0/ic_715.png";
+  static const String ic_735 = "assets/feature_0/sub_2/deep_0/ic_735.png";
+  static const String ic_740 = "assets/feature_0/sub_3/deep_0/ic_740.png";
+  static const String ic_745 = "assets/feature_0/sub_0/deep_1/ic_745.png";
+  static const String ic_75 = "assets/feature_0/sub_2/deep_0/ic_75.png";
+  static const String ic_750 = "assets/feature_0/sub_1/deep_2/ic_750.jpg";
+  static const String ic_760 = "assets/feature_0/sub_0/deep_1/ic_760.jpg";
+  static const String ic_775 = "assets/feature_0/deep_0/ic_775.png";
+  static const String ic_780 = "assets/feature_0/ic_780.png";
+  static const String ic_785 = "assets/feature_0/sub_1/deep_2/ic_785.png";
+  static const String ic_790 = "assets/feature_0/sub_0/deep_1/ic_790.png";
+  static const String ic_795 = "assets/feature_0/sub_2/deep_2/ic_795.png";
+  static const String ic_80 = "assets/feature_0/sub_1/deep_1/ic_80.png";
+  static const String ic_800 = "assets/feature_0/deep_2/ic_800.png";
+  static const String ic_805 = "assets/feature_0/deep_0/ic_805.png";
+  static const String ic_815 = "assets/feature_0/ic_815.png";
+  static const String ic_820 = "assets/feature_0/deep_0/ic_820.webp";
+  static const String ic_825 = "assets/feature_0/ic_825.webp";
+  static const String ic_830 = "assets/feature_0/ic_830.png";
+  static const String ic_835 = "assets/feature_0/sub_0/deep_2/ic_835.png";
+  static const String ic_840 = "assets/feature_0/ic_840.jpg";
+  static const String ic_845 = "assets/feature_0/sub_0/deep_2/ic_845.png";
+  static const String ic_85 = "assets/feature_0/sub_3/deep_2/ic_85.png";
+  static const String ic_860 = "assets/feature_0/deep_1/ic_860.png";
+  static const String ic_865 = "assets/feature_0/sub_0/deep_1/ic_865.webp";
+  static const String ic_875 = "assets/feature_0/sub_3/deep_2/ic_875.png";
+  static const String ic_890 = "assets/feature_0/sub_0/deep_2/ic_890.webp";
+  static const String ic_895 = "assets/feature_0/ic_895.jpg";
+  static const String ic_90 = "assets/feature_0/ic_90.webp";
+  static const String ic_900 = "assets/feature_0/sub_3/deep_0/ic_900.png";
+  static const String ic_905 = "assets/feature_0/sub_1/deep_0/ic_905.png";
+  static const String ic_915 = "assets/feature_0/sub_1/deep_1/ic_915.png";
+  static const String ic_920 = "assets/feature_0/sub_2/deep_1/ic_920.jpg";
+  static const String ic_930 = "assets/feature_0/ic_930.jpg";
+  static const String ic_935 = "assets/feature_0/deep_0/ic_935.webp";
+  static const String ic_945 = "assets/feature_0/deep_0/ic_945.png";
+  static const String ic_95 = "assets/feature_0/sub_2/deep_0/ic_95.png";
+  static const String ic_950 = "assets/feature_0/deep_0/ic_950.png";
+  static const String ic_955 = "assets/feature_0/sub_0/deep_1/ic_955.png";
+  static const String ic_965 = "assets/feature_0/ic_965.png";
+  static const String ic_970 = "assets/feature_0/sub_0/deep_2/ic_970.jpg";
+  static const String ic_975 = "assets/feature_0/ic_975.png";
+  static const String ic_980 = "assets/feature_0/deep_1/ic_980.webp";
+  static const String ic_985 = "assets/feature_0/sub_1/deep_1/ic_985.webp";
+  static const String ic_990 = "assets/feature_0/sub_0/deep_1/ic_990.png";
+  static const String ic_995 = "assets/feature_0/sub_2/deep_0/ic_995.jpg";
+  static const String naive_465 = "assets/feature_0/naïve_465.png";
+}
+// assets_feature_1.dart
+/// Generated by AssetsRefGenerator on <date>
+class ResAssetsFeature1 {
+  static const String assets_feature_1_deep_0_common_6 = "assets/feature_1/deep_0/common_6.png";
+  static const String assets_feature_1_deep_1_common_11 = "assets/feature_1/deep_1/common_11.jpg";
+  static const String assets_feature_1_deep_2_common_1 = "assets/feature_1/deep_2/common_1.png";
+  static const String assets_feature_1_sub_0_deep_1_common_6 = "assets/feature_1/sub_0/deep_1/common_6.jpg";
+  static const String assets_feature_1_sub_0_deep_2_common_6 = "assets/feature_1/sub_0/deep_2/common_6.png";
+  static const String assets_feature_1_sub_2_deep_2_common_11 = "assets/feature_1/sub_2/deep_2/common_11.jpg";
+  static const String assets_feature_1_sub_3_deep_0_common_21 = "assets/feature_1/sub_3/deep_0/common_21.png";
+  static const String assets_feature_1_sub_3_deep_0_common_6 = "assets/feature_1/sub_3/deep_0/common_6.png";
+  static const String assets_feature_1_sub_3_deep_1_common_1 = "assets/feature_1/sub_3/deep_1/common_1.png";
+  static const String assets_feature_1_sub_3_deep_1_common_11 = "assets/feature_1/sub_3/deep_1/common_11.png";
+  static const String bg_tile_661 = "assets/feature_1/bg-tile-661.webp";
+  static const String bg_tile_686 = "assets/feature_1/sub_2/deep_1/bg-tile-686.png";
+  static const String cafe_6 = "assets/feature_1/sub_1/deep_1/café_6.png";
+  static const String cafe_786 = "assets/feature_1/sub_1/deep_1/café_786.png";
+  static const String cafe_926 = "assets/feature_1/café_926.webp";
+  static const String common_1 = "assets/feature_1/common_1.png";
+  static const String common_1 = "assets/feature_1/deep_2/common_1.jpg";
+  static const String common_1 = "assets/feature_1/sub_1/deep_2/common_1.webp";
+  static const String common_11 = "assets/feature_1/common_11.png";
+  static const String common_16 = "assets/feature_1/sub_3/deep_2/common_16.png";
+  static const String common_21 = "assets/feature_1/deep_2/common_21.png";
+  static const String common_6 = "assets/feature_1/common_6.jpg";
+  static const String common_6 = "assets/feature_1/common_6.png";
+  static const String creme_361 = "assets/feature_1/sub_3/deep_0/crème_361.png";
+  static const String ic_1 = "assets/feature_1/deep_1/ic_1.png";
+  static const String ic_11 = "assets/feature_1/sub_2/deep_2/ic_11.jpg";
+  static const String ic_111 = "assets/feature_1/ic_111.webp";
+  static const String ic_116 = "assets/feature_1/sub_3/deep_0/ic_116.webp";
+  static const String ic_121 = "assets/feature_1/ic_121.jpg";
+  static const String ic_126 = "assets/feature_1/deep_1/ic_126.jpg";
+  static const String ic_131 = "assets/feature_1/ic_131.png";
+  static const String ic_136 = "assets/feature_1/deep_0/ic_136.png";
+  static const String ic_141 = "assets/feature_1/sub_3/deep_0/ic_141.jpg";
+  static const String ic_146 = "assets/feature_1/ic_146.png";
+  static const String ic_151 = "assets/feature_1/sub_1/deep_0/ic_151.jpg";
+  static const String ic_156 = "assets/feature_1/sub_0/deep_1/ic_156.jpg";
+  static const String ic_16 = "assets/feature_1/sub_2/deep_2/ic_16.png";
+  static const String ic_161 = "assets/feature_1/sub_0/deep_0/ic_161.jpg";
+  static const String ic_166 = "assets/feature_1/ic_166.png";
+  static const String ic_171 = "assets/feature_1/sub_3/deep_0/ic_171.webp";
+  static const String ic_176 = "assets/feature_1/ic_176.jpg";
+  static const String ic_186 = "assets/feature_1/ic_186.webp";
+  static const String ic_196 = "assets/feature_1/sub_2/deep_2/ic_196.png";
+  static const String ic_201 = "assets/feature_1/sub_2/deep_0/ic_201.jpg";
+  static const String ic_206 = "assets/feature_1/ic_206.png";
+  static const String ic_21 = "assets/feature_1/ic_21.png";
+  static const String ic_211 = "assets/feature_1/sub_1/deep_2/ic_211.png";
+  static const String ic_216 = "assets/feature_1/ic_216.png";
+  static const String ic_221 = "assets/feature_1/deep_0/ic_221.png";
+  static const String ic_226 = "assets/feature_1/ic_226.png";
+  static const String ic_231 = "assets/feature_1/sub_3/deep_1/ic_231.webp";
+  static const String ic_236 = "assets/feature_1/deep_2/ic_236.webp";
+  static const String ic_241 = "assets/feature_1/sub_3/deep_1/ic_241.png";
+  static const String ic_246 = "assets/feature_1/sub_0/deep_0/ic_246.png";
+  static const String ic_251 = "assets/feature_1/sub_0/deep_1/ic_251.png";
+  static const String ic_256 = "assets/feature_1/ic_256.jpg";
+  static const String ic_26 = "assets/feature_1/sub_1/deep_2/ic_26.png";
+  static const String ic_266 = "assets/feature_1/ic_266.png";
+  static const String ic_271 = "assets/feature_1/sub_2/deep_0/ic_271.png";
+  static const String ic_276 = "assets/feature_1/ic_276.webp";
+  static const String ic_281 = "assets/feature_1/sub_3/deep_1/ic_281.png";
+  static const String ic_286 = "assets/feature_1/sub_3/deep_1/ic_286.jpg";
+  static const String ic_291 = "assets/feature_1/sub_0/deep_1/ic_291.png";
+  static const String ic_296 = "assets/feature_1/sub_3/deep_2/ic_296.jpg";
+  static const String ic_306 = "assets/feature_1/sub_3/deep_1/ic_306.png";
+  static const String ic_311 = "assets/feature_1/ic_311.jpg";
+  static const String ic_316 = "assets/feature_1/ic_316.webp";
+  static const String ic_321 = "assets/feature_1/sub_3/deep_1/ic_321.webp";
+  static const String ic_326 = "assets/feature_1/sub_0/deep_0/ic_326.png";
+  static const String ic_331 = "assets/feature_1/sub_1/deep_0/ic_331.png";
+  static const String ic_336 = "assets/feature_1/sub_0/deep_1/ic_336.png";
+  static const String ic_341 = "assets/feature_1/deep_1/ic_341.png";
+  static const String ic_346 = "assets/feature_1/ic_346.png";
+  static const String ic_351 = "assets/feature_1/sub_0/deep_1/ic_351.png";
+  static const String ic_356 = "assets/feature_1/sub_1/deep_0/ic_356.png";
+  static const String ic_36 = "assets/feature_1/sub_2/deep_2/ic_36.jpg";
+  static const String ic_366 = "assets/feature_1/sub_3/deep_2/ic_366.png";
+  static const String ic_371 = "assets/feature_1/sub_2/deep_1/ic_371.png";
+  static const String ic_376 = "assets/feature_1/sub_1/deep_0/ic_376.png";
+  static const String ic_381 = "assets/feature_1/sub_3/deep_1/ic_381.png";
+  static const String ic_386 = "assets/feature_1/sub_2/deep_0/ic_386.webp";
+  static const String ic_391 = "assets/feature_1/deep_0/ic_391.png";
+  static const String ic_396 = "assets/feature_1/ic_396.png";
+  static const String ic_401 = "assets/feature_1/sub_1/deep_0/ic_401.webp";
+  static const String ic_406 = "assets/feature_1/sub_1/deep_0/ic_406.webp";
+  static const String ic_41 = "assets/feature_1/ic_41.webp";
+  static const String ic_411 = "assets/feature_1/sub_1/deep_1/ic_411.png";
+  static const String ic_416 = "assets/feature_1/sub_1/deep_2/ic_416.webp";
+  static const String ic_421 = "assets/feature_1/sub_1/deep_1/ic_421.png";
+  static const String ic_426 = "assets/feature_1/ic_426.png";
+  static const String ic_431 = "assets/feature_1/sub_3/deep_0/ic_431.png";
+  static const String ic_436 = "assets/feature_1/ic_436.png";
+  static const String ic_446 = "assets/feature_1/deep_2/ic_446.jpg";
+  static const String ic_456 = "assets/feature_1/deep_1/ic_456.jpg";
+  static const String ic_46 = "assets/feature_1/sub_1/deep_1/ic_46.jpg";
+  static const String ic_471 = "assets/feature_1/ic_471.png";
+  static const String ic_476 = "assets/feature_1/sub_2/deep_1/ic_476.png";
+  static const String ic_481 = "assets/feature_1/sub_0/deep_1/ic_481.webp";
+  static const String ic_496 = "assets/feature_1/sub_1/deep_0/ic_496.jpg";
+  static const String ic_501 = "assets/feature_1/sub_3/deep_0/ic_501.jpg";
+  static const String ic_506 = "assets/feature_1/sub_3/deep_2/ic_506.png";
+  static const String ic_51 = "assets/feature_1/deep_1/ic_51.png";
+  static const String ic_511 = "assets/feature_1/sub_2/deep_1/ic_511.png";
+  static const String ic_516 = "assets/feature_1/sub_2/deep_2/ic_516.png";
+  static const String ic_521 = "assets/feature_1/sub_0/deep_2/ic_521.png";
+  static const String ic_526 = "assets/feature_1/ic_526.png";
+  static const String ic_531 = "assets/feature_1/sub_0/deep_0/ic_531.png";
+  static const String ic_541 = "assets/feature_1/sub_2/deep_1/ic_541.jpg";
+  static const String ic_546 = "assets/feature_1/sub_3/deep_1/ic_546.png";
+  static const String ic_56 = "assets/feature_1/deep_2/ic_56.png";
+  static const String ic_561 = "assets/feature_1/sub_0/deep_1/ic_561.png";
+  static const String ic_566 = "assets/feature_1/ic_566.png";
+  static const String ic_576 = "assets/feature_1/sub_1/deep_2/ic_576.png";
+  static const String ic_581 = "assets/feature_1/sub_2/deep_2/ic_581.png";
+  static const String ic_586 = "assets/feature_1/sub_3/deep_1/ic_586.png";
+  static const String ic_591 = "assets/feature_1/deep_2/ic_591.jpg";
+  static const String ic_596 = "assets/feature_1/ic_596.webp";
+  static const String ic_601 = "assets/feature_1/ic_601.png";
+  static const String ic_606 = "assets/feature_1/sub_1/deep_0/ic_606.png";
+  static const String ic_61 = "assets/feature_1/sub_2/deep_2/ic_61.png";
+  static const String ic_616 = "assets/feature_1/sub_2/deep_0/ic_616.png";
+  static const String ic_621 = "assets/feature_1/sub_1/deep_0/ic_621.png";
+  static const String ic_626 = "assets/feature_1/sub_0/deep_0/ic_626.webp";
+  static const String ic_631 = "assets/feature_1/ic_631.webp";
+  static const String ic_636 = "assets/feature_1/ic_636.png";
+  static const String ic_641 = "assets/feature_1/sub_3/deep_2/ic_641.png";
+  static const String ic_651 = "assets/feature_1/ic_651.jpg";
+  static const String ic_66 = "assets/feature_1/sub_2/deep_2/ic_66.webp";
+  static const String ic_666 = "assets/feature_1/deep_0/ic_666.jpg";
+  static const String ic_671 = "assets/feature_1/sub_2/deep_2/ic_671.jpg";
+  static const String ic_676 = "assets/feature_1/deep_1/ic_676.png";
+  static const String ic_681 = "assets/feature_1/deep_0/ic_681.webp";
+  static const String ic_691 = "assets/feature_1/ic_691.jpg";
+  static const String ic_696 = "assets/feature_1/sub_3/deep_1/ic_696.png";
+  static const String ic_701 = "assets/feature_1/sub_0/deep_1/ic_701.webp";
+  static const String ic_706 = "assets/feature_1/deep_2/ic_706.png";
+  static const String ic_71 = "assets/feature_1/sub_2/deep_0/ic_71.png";
+  static const String ic_711 = "assets/feature_1/sub_1/deep_1/ic_711.webp";
+  static const String ic_726 = "assets/feature_1/sub_2/deep_1/ic_726.webp";
+  static const String ic_736 = "assets/feature_1/deep_2/ic_736.png";
+  static const String ic_741 = "assets/feature_1/sub_3/deep_0/ic_741.jpg";
+  static const String ic_746 = "assets/feature_1/ic_746.jpg";
+  static const String ic_751 = "assets/feature_1/sub_3/deep_0/ic_751.png";
+  static const String ic_756 = "assets/feature_1/sub_0/deep_1/ic_756.png";
+  static const String ic_76 = "assets/feature_1/ic_76.png";
+  static const String ic_766 = "assets/feature_1/ic_766.png";
+  static const String ic_771 = "assets/feature_1/ic_771.png";
+  static const String ic_776 = "assets/feature_1/sub_0/deep_1/ic_776.webp";
+  static const String ic_781 = "assets/feature_1/sub_0/deep_1/ic_781.png";
+  static const String ic_791 = "assets/feature_1/sub_2/deep_1/ic_791.png";
+  static const String ic_796 = "assets/feature_1/sub_1/deep_2/ic_796.webp";
+  static const String ic_81 = "assets/feature_1/sub_1/deep_0/ic_81.png";
+  static const String ic_816 = "assets/feature_1/deep_0/ic_816.jpg";
+  static const String ic_826 = "assets/feature_1/ic_826.png";
+  static const String ic_831 = "assets/feature_1/sub_1/deep_1/ic_831.webp";
+  static const String ic_836 = "assets/feature_1/deep_1/ic_836.png";
+  static const String ic_841 = "assets/feature_1/ic_841.png";
+  static const String ic_846 = "assets/feature_1/ic_846.png";
+  static const String ic_851 = "assets/feature_1/deep_1/ic_851.png";
+  static const String ic_856 = "assets/feature_1/sub_2/deep_1/ic_856.png";
+  static const String ic_866 = "assets/feature_1/sub_2/deep_1/ic_866.png";
+  static const String ic_871 = "assets/feature_1/ic_871.webp";
+  static const String ic_876 = "assets/feature_1/ic_876.png";
+  static const String ic_881 = "assets/feature_1/sub_0/deep_0/ic_881.png";
+  static const String ic_886 = "assets/feature_1/sub_2/deep_1/ic_886.png";
+  static const String ic_891 = "assets/feature_1/ic_891.jpg";
+  static const String ic_896 = "assets/feature_1/sub_1/deep_2/ic_896.jpg";
+  static const String ic_901 = "assets/feature_1/sub_2/deep_0/ic_901.webp";
+  static const String ic_911 = "assets/feature_1/sub_2/deep_2/ic_911.jpg";
+  static const String ic_916 = "assets/feature_1/ic_916.png";
+  static const String ic_931 = "assets/feature_1/ic_931.png";
+  static const String ic_936 = "assets/feature_1/ic_936.png";
+  static const String ic_946 = "assets/feature_1/ic_946.png";
+  static const String ic_956 = "assets/feature_1/sub_0/deep_2/ic_956.webp";
+  static const String ic_96 = "assets/feature_1/deep_2/ic_96.png";
+  static const String ic_961 = "assets/feature_1/deep_2/ic_961.png";
+  static const String ic_971 = "assets/feature_1/ic_971.jpg";
+  static const String ic_976 = "assets/feature_1/deep_0/ic_976.jpg";
+  static const String ic_981 = "assets/feature_1/ic_981.png";
+  static const String ic_986 = "assets/feature_1/sub_0/deep_0/ic_986.png";
+  static const String ic_996 = "assets/feature_1/sub_3/deep_0/ic_996.png";
+  static const String senor_191 = "assets/feature_1/sub_3/deep_1/señor_191.jpg";
+  static const String senor_571 = "assets/feature_1/sub_0/deep_1/señor_571.png";
+}
+// assets_feature_2.dart
+/// Generated by AssetsRefGenerator on <date>
+class ResAssetsFeature2 {
+  static const String assets_feature_2_sub_0_deep_1_common_2 = "assets/feature_2/sub_0/deep_1/common_2.png";
+  static const String assets_feature_2_sub_2_deep_0_common_7 = "assets/feature_2/sub_2/deep_0/common_7.png";
+  static const String assets_feature_2_sub_2_deep_2_common_22 = "assets/feature_2/sub_2/deep_2/common_22.png";
+  static const String assets_feature_2_sub_3_deep_0_common_2 = "assets/feature_2/sub_3/deep_0/common_2.png";
+  static const String assets_feature_2_sub_3_deep_2_common_2 = "assets/feature_2/sub_3/deep_2/common_2.png";
+  static const String assets_feature_2_sub_3_deep_2_common_7 = "assets/feature_2/sub_3/deep_2/common_7.png";
+  static const String bg_tile_252 = "assets/feature_2/sub_0/deep_1/bg-tile-252.jpg";
+  static const String bg_tile_332 = "assets/feature_2/sub_3/deep_1/bg-tile-332.jpg";
+  static const String bg_tile_542 = "assets/feature_2/sub_3/deep_2/bg-tile-542.png";
+  static const String bg_tile_597 = "assets/feature_2/sub_2/deep_0/bg-tile-597.png";
+  static const String bg_tile_667 = "assets/feature_2/sub_2/deep_0/bg-tile-667.png";
+  static const String bg_tile_777 = "assets/feature_2/deep_1/bg-tile-777.png";
+  static const String bg_tile_852 = "assets/feature_2/sub_3/deep_1/bg-tile-852.png";
+  static const String bg_tile_862 = "assets/feature_2/sub_3/deep_2/bg-tile-862.jpg";
+  static const String bg_tile_87 = "assets/feature_2/bg-tile-87.jpg";
+  static const String cafe_572 = "assets/feature_2/sub_3/deep_2/café_572.png";
+  static const String cafe_662 = "assets/feature_2/café_662.jpg";
+  static const String common_17 = "assets/feature_2/common_17.png";
+  static const String common_2 = "assets/feature_2/common_2.png";
+  static const String common_22 = "assets/feature_2/sub_0/deep_1/common_22.png";
+  static const String common_22 = "assets/feature_2/sub_2/deep_1/common_22.jpg";
+  static const String common_7 = "assets/feature_2/sub_1/deep_0/common_7.webp";
+  static const String common_7 = "assets/feature_2/sub_3/deep_0/common_7.jpg";
+  static const String creme_997 = "assets/feature_2/sub_1/deep_2/crème_997.jpg";
+  static const String ic_107 = "assets/feature_2/deep_0/ic_107.png";
+  static const String ic_112 = "assets/feature_2/sub_2/deep_2/ic_112.png";
+  static const String ic_117 = "assets/feature_2/sub_1/deep_1/ic_117.png";
+  static const String ic_12 = "assets/feature_2/sub_2/deep_2/ic_12.webp";
+  static const String ic_127 = "assets/feature_2/deep_0/ic_127.png";
+  static const String ic_132 = "assets/feature_2/ic_132.png";
+  static const String ic_137 = "assets/feature_2/sub_3/deep_1/ic_137.webp";
+  static const String ic_142 = "assets/feature_2/ic_142.png";
+  static const String ic_147 = "assets/feature_2/ic_147.png";
+  static const String ic_152 = "assets/feature_2/sub_1/deep_0/ic_152.webp";
+  static const String ic_157 = "assets/feature_2/deep_0/ic_157.jpg";
+  static const String ic_162 = "assets/feature_2/ic_162.png";
+  static const String ic_167 = "assets/feature_2/sub_3/deep_0/ic_167.png";
+  static const String ic_17 = "assets/feature_2/sub_0/deep_1/ic_17.png";
+  static const String ic_172 = "assets/feature_2/ic_172.png";
+  static const String ic_182 = "assets/feature_2/deep_2/ic_182.png";
+  static const String ic_187 = "assets/feature_2/deep_1/ic_187.webp";
+  static const String ic_192 = "assets/feature_2/ic_192.png";
+  static const String ic_2 = "assets/feature_2/sub_1/deep_1/ic_2.png";
+  static const String ic_202 = "assets/feature_2/ic_202.png";
+  static const String ic_212 = "assets/feature_2/ic_212.png";
+  static const String ic_217 = "assets/feature_2/deep_1/ic_217.jpg";
+  static const String ic_22 = "assets/feature_2/deep_0/ic_22.png";
+  static const String ic_222 = "assets/feature_2/sub_2/deep_1/ic_222.png";
+  static const String ic_237 = "assets/feature_2/deep_0/ic_237.png";
+  static const String ic_242 = "assets/feature_2/deep_2/ic_242.webp";
+  static const String ic_247 = "assets/feature_2/ic_247.png";
+  static const String ic_257 = "assets/feature_2/sub_0/deep_2/ic_257.webp";
+  static const String ic_262 = "assets/feature_2/deep_0/ic_262.png";
+  static const String ic_267 = "assets/feature_2/sub_1/deep_0/ic_267.png";
+  static const String ic_27 = "assets/feature_2/sub_2/deep_0/ic_27.png";
+  static const String ic_272 = "assets/feature_2/sub_0/deep_1/ic_272.png";
+  static const String ic_277 = "assets/feature_2/ic_277.webp";
+  static const String ic_282 = "assets/feature_2/sub_3/deep_2/ic_282.png";
+  static const String ic_287 = "assets/feature_2/ic_287.png";
+  static const String ic_297 = "assets/feature_2/sub_0/deep_1/ic_297.jpg";
+  static const String ic_302 = "assets/feature_2/deep_1/ic_302.webp";
+  static const String ic_317 = "assets/feature_2/sub_3/deep_0/ic_317.jpg";
+  static const String ic_32 = "assets/feature_2/deep_2/ic_32.webp";
+  static const String ic_322 = "assets/feature_2/deep_2/ic_322.jpg";
+  static const String ic_327 = "assets/feature_2/ic_327.png";
+  static const String ic_337 = "assets/feature_2/sub_2/deep_0/ic_337.jpg";
+  static const String ic_342 = "assets/feature_2/sub_2/deep_0/ic_342.jpg";
+  static const String ic_347 = "assets/feature_2/sub_0/deep_1/ic_347.png";
+  static const String ic_357 = "assets/feature_2/ic_357.png";
+  static const String ic_362 = "assets/feature_2/ic_362.png";
+  static const String ic_367 = "assets/feature_2/sub_2/deep_2/ic_367.webp";
+  static const String ic_37 = "assets/feature_2/ic_37.jpg";
+  static const String ic_372 = "assets/feature_2/sub_1/deep_0/ic_372.webp";
+  static const String ic_377 = "assets/feature_2/sub_3/deep_2/ic_377.png";
+  static const String ic_382 = "assets/feature_2/sub_2/deep_1/ic_382.png";
+  static const String ic_387 = "assets/feature_2/ic_387.jpg";
+  static const String ic_392 = "assets/feature_2/sub_1/deep_0/ic_392.webp";
+  static const String ic_397 = "assets/feature_2/ic_397.jpg";
+  static const String ic_402 = "assets/feature_2/sub_1/deep_2/ic_402.png";
+  static const String ic_407 = "assets/feature_2/sub_3/deep_1/ic_407.png";
+  static const String ic_412 = "assets/feature_2/sub_0/deep_1/ic_412.png";
+  static const String ic_417 = "assets/feature_2/deep_0/ic_417.png";
+  static const String ic_432 = "assets/feature_2/sub_0/deep_1/ic_432.png";
+  static const String ic_437 = "assets/feature_2/sub_2/deep_2/ic_437.png";
+  static const String ic_442 = "assets/feature_2/ic_442.jpg";
+  static const String ic_447 = "assets/feature_2/sub_2/deep_2/ic_447.png";
+  static const String ic_457 = "assets/feature_2/ic_457.jpg";
+  static const String ic_462 = "assets/feature_2/sub_1/deep_1/ic_462.png";
+  static const String ic_467 = "assets/feature_2/sub_3/deep_1/ic_467.jpg";
+  static const String ic_47 = "assets/feature_2/sub_1/deep_0/ic_47.webp";
+  static const String ic_472 = "assets/feature_2/sub_3/deep_2/ic_472.jpg";
+  static const String ic_477 = "assets/feature_2/sub_2/deep_2/ic_477.png";
+  static const String ic_482 = "assets/feature_2/sub_1/deep_1/ic_482.jpg";
+  static const String ic_487 = "assets/feature_2/ic_487.png";
+  static const String ic_492 = "assets/feature_2/ic_492.png";
+  static const String ic_497 = "assets/feature_2/sub_2/deep_0/ic_497.webp";
+  static const String ic_502 = "assets/feature_2/sub_1/deep_0/ic_502.png";
+  static const String ic_507 = "assets/feature_2/deep_0/ic_507.png";
+  static const String ic_517 = "assets/feature_2/sub_0/deep_2/ic_517.png";
+  static const String ic_52 = "assets/feature_2/deep_0/ic_52.webp";
+  static const String ic_527 = "assets/feature_2/sub_3/deep_0/ic_527.webp";
+  static const String ic_532 = "assets/feature_2/sub_1/deep_2/ic_532.jpg";
+  static const String ic_537 = "assets/feature_2/sub_1/deep_1/ic_537.png";
+  static const String ic_547 = "assets/feature_2/deep_0/ic_547.jpg";
+  static const String ic_557 = "assets/feature_2/ic_557.png";
+  static const String ic_567 = "assets/feature_2/sub_0/deep_1/ic_567.jpg";
+  static const String ic_577 = "assets/feature_2/sub_1/deep_2/ic_577.webp";
+  static const String ic_582 = "assets/feature_2/sub_2/deep_0/ic_582.webp";
+  static const String ic_587 = "assets/feature_2/deep_0/ic_587.png";
+  static const String ic_592 = "assets/feature_2/deep_2/ic_592.png";
+  static const String ic_602 = "assets/feature_2/deep_0/ic_602.png";
+  static const String ic_607 = "assets/feature_2/ic_607.webp";
+  static const String ic_62 = "assets/feature_2/sub_2/deep_0/ic_62.png";
+  static const String ic_622 = "assets/feature_2/sub_1/deep_0/ic_622.jpg";
+  static const String ic_627 = "assets/feature_2/deep_1/ic_627.png";
+  static const String ic_632 = "assets/feature_2/sub_3/deep_2/ic_632.webp";
+  static const String ic_637 = "assets/feature_2/sub_0/deep_2/ic_637.png";
+  static const String ic_642 = "assets/feature_2/sub_0/deep_1/ic_642.png";
+  static const String ic_647 = "assets/feature_2/sub_1/deep_2/ic_647.jpg";
+  static const String ic_652 = "assets/feature_2/ic_652.png";
+  static const String ic_657 = "assets/feature_2/sub_2/deep_1/ic_657.png";
+  static const String ic_67 = "assets/feature_2/ic_67.png";
+  static const String ic_672 = "assets/feature_2/ic_672.webp";
+  static const String ic_707 = "assets/feature_2/sub_2/deep_1/ic_707.png";
+  static const String ic_712 = "assets/feature_2/sub_0/deep_2/ic_712.png";
+  static const String ic_717 = "assets/feature_2/ic_717.png";
+  static const String ic_72 = "assets/feature_2/ic_72.png";
+  static const String ic_722 = "assets/feature_2/ic_722.webp";
+  static const String ic_732 = "assets/feature_2/deep_2/ic_732.png";
+  static const String ic_737 = "assets/feature_2/sub_1/deep_0/ic_737.png";
+  static const String ic_742 = "assets/feature_2/ic_742.jpg";
+  static const String ic_747 = "assets/feature_2/deep_0/ic_747.png";
+  static const String ic_752 = "assets/feature_2/deep_0/ic_752.png";
+  static const String ic_757 = "assets/feature_2/sub_1/deep_2/ic_757.png";
+  static const String ic_762 = "assets/feature_2/deep_1/ic_762.png";
+  static const String ic_767 = "assets/feature_2/deep_0/ic_767.png";
+  static const String ic_77 = "assets/feature_2/sub_0/deep_0/ic_77.png";
+  static const String ic_772 = "assets/feature_2/sub_1/deep_0/ic_772.png";
+  static const String ic_782 = "assets/feature_2/deep_0/ic_782.png";
+  static const String ic_787 = "assets/feature_2/sub_1/deep_1/ic_787.png";
+  static const String ic_792 = "assets/feature_2/deep_2/ic_792.png";
+  static const String ic_797 = "assets/feature_2/sub_2/deep_0/ic_797.png";
+  static const String ic_807 = "assets/feature_2/sub_2/deep_2/ic_807.png";
+  static const String ic_817 = "assets/feature_2/sub_0/deep_0/ic_817.png";
+  static const String ic_82 = "assets/feature_2/ic_82.png";
+  static const String ic_822 = "assets/feature_2/sub_0/deep_1/ic_822.webp";
+  static const String ic_827 = "assets/feature_2/ic_827.webp";
+  static const String ic_832 = "assets/feature_2/ic_832.png";
+  static const String ic_837 = "assets/feature_2/sub_1/deep_1/ic_837.png";
+  static const String ic_842 = "assets/feature_2/sub_2/deep_1/ic_842.png";
+  static const String ic_847 = "assets/feature_2/deep_1/ic_847.jpg";
+  static const String ic_857 = "assets/feature_2/sub_0/deep_2/ic_857.jpg";
+  static const String ic_867 = "assets/feature_2/sub_0/deep_2/ic_867.jpg";
+  static const String ic_872 = "assets/feature_2/sub_3/deep_1/ic_872.png";
+  static const String ic_877 = "assets/feature_2/ic_877.png";
+  static const String ic_887 = "assets/feature_2/sub_2/deep_0/ic_887.webp";
+  static const String ic_892 = "assets/feature_2/sub_1/deep_2/ic_892.jpg";
+  static const String ic_902 = "assets/feature_2/sub_3/deep_2/ic_902.jpg";
+  static const String ic_907 = "assets/feature_2/sub_1/deep_1/ic_907.png";
+  static const String ic_912 = "assets/feature_2/ic_912.png";
+  static const String ic_917 = "assets/feature_2/sub_1/deep_2/ic_917.png";
+  static const String ic_92 = "assets/feature_2/sub_1/deep_2/ic_92.webp";
+  static const String ic_922 = "assets/feature_2/sub_1/deep_0/ic_922.webp";
+  static const String ic_927 = "assets/feature_2/sub_0/deep_0/ic_927.jpg";
+  static const String ic_932 = "assets/feature_2/deep_0/ic_932.png";
+  static const String ic_937 = "assets/feature_2/sub_0/deep_0/ic_937.png";
+  static const String ic_942 = "assets/feature_2/sub_0/deep_1/ic_942.png";
+  static const String ic_947 = "assets/feature_2/sub_0/deep_2/ic_947.png";
+  static const String ic_952 = "assets/feature_2/ic_952.png";
+  static const String ic_962 = "assets/feature_2/ic_962.webp";
+  static const String ic_967 = "assets/feature_2/ic_967.jpg";
+  static const String ic_972 = "assets/feature_2/ic_972.jpg";
+  static const String ic_982 = "assets/feature_2/sub_0/deep_2/ic_982.webp";
+  static const String ic_987 = "assets/feature_2/ic_987.png";
+  static const String senor_352 = "assets/feature_2/deep_0/señor_352.png";
+}
+// assets_feature_3.dart
+/// Generated by AssetsRefGenerator on <date>
+class ResAssetsFeature3 {
+  static const String acee_113 = "assets/feature_3/âĉéè_113.webp";
+  static const String acee_123 = "assets/feature_3/deep_0/âĉéè_123.png";
+  static const String acee_403 = "assets/feature_3/sub_2/deep_2/âĉéè_403.png";
+  static const String acee_673 = "assets/feature_3/sub_3/deep_0/âĉéè_673.webp";
+  static const String assets_feature_3_sub_0_deep_1_common_23 = "assets/feature_3/sub_0/deep_1/common_23.png";
+  static const String assets_feature_3_sub_1_deep_0_common_23 = "assets/feature_3/sub_1/deep_0/common_23.jpg";
+  static const String assets_feature_3_sub_2_deep_0_common_3 = "assets/feature_3/sub_2/deep_0/common_3.jpg";
+  static const String assets_feature_3_sub_2_deep_1_common_13 = "assets/feature_3/sub_2/deep_1/common_13.png";
+  static const String assets_feature_3_sub_2_deep_2_common_8 = "assets/feature_3/sub_2/deep_2/common_8.png";
+  static const String assets_feature_3_sub_3_deep_1_common_3 = "assets/feature_3/sub_3/deep_1/common_3.png";
+  static const String bg_tile_223 = "assets/feature_3/bg-tile-223.webp";
+  static const String bg_tile_248 = "assets/feature_3/sub_2/deep_1/bg-tile-248.jpg";
+  static const String bg_tile_288 = "assets/feature_3/sub_3/deep_0/bg-tile-288.webp";
+  static const String bg_tile_333 = "assets/feature_3/sub_2/deep_1/bg-tile-333.png";
+  static const String bg_tile_543 = "assets/feature_3/bg-tile-543.png";
+  static const String bg_tile_808 = "assets/feature_3/sub_2/deep_0/bg-tile-808.png";
+  static const String bg_tile_858 = "assets/feature_3/bg-tile-858.jpg";
+  static const String bg_tile_88 = "assets/feature_3/deep_0/bg-tile-88.png";
+  static const String cafe_368 = "assets/feature_3/sub_0/deep_0/café_368.jpg";
+  static const String cafe_733 = "assets/feature_3/café_733.png";
+  static const String cafe_853 = "assets/feature_3/café_853.jpg";
+  static const String common_13 = "assets/feature_3/common_13.png";
+  static const String common_13 = "assets/feature_3/sub_1/deep_1/common_13.jpg";
+  static const String common_23 = "assets/feature_3/common_23.jpg";
+  static const String common_23 = "assets/feature_3/common_23.png";
+  static const String common_3 = "assets/feature_3/common_3.jpg";
+  static const String common_3 = "assets/feature_3/common_3.png";
+  static const String common_8 = "assets/feature_3/sub_0/deep_1/common_8.jpg";
+  static const String common_8 = "assets/feature_3/sub_2/deep_0/common_8.png";
+  static const String creme_938 = "assets/feature_3/crème_938.png";
+  static const String ic_108 = "assets/feature_3/sub_2/deep_0/ic_108.webp";
+  static const String ic_118 = "assets/feature_3/sub_1/deep_0/ic_118.jpg";
+  static const String ic_13 = "assets/feature_3/deep_1/ic_13.webp";
+  static const String ic_133 = "assets/feature_3/sub_0/deep_0/ic_133.webp";
+  static const String ic_148 = "assets/feature_3/sub_3/deep_1/ic_148.png";
+  static const String ic_158 = "assets/feature_3/sub_1/deep_0/ic_158.png";
+  static const String ic_163 = "assets/feature_3/ic_163.webp";
+  static const String ic_168 = "assets/feature_3/sub_0/deep_2/ic_168.webp";
+  static const String ic_173 = "assets/feature_3/sub_3/deep_2/ic_173.png";
+  static const String ic_18 = "assets/feature_3/sub_1/deep_1/ic_18.jpg";
+  static const String ic_183 = "assets/feature_3/sub_2/deep_1/ic_183.png";
+  static const String ic_188 = "assets/feature_3/deep_1/ic_188.png";
+  static const String ic_193 = "assets/feature_3/sub_0/deep_1/ic_193.webp";
+  static const String ic_198 = "assets/feature_3/sub_2/deep_1/ic_198.webp";
+  static const String ic_203 = "assets/feature_3/deep_0/ic_203.webp";
+  static const String ic_208 = "assets/feature_3/ic_208.jpg";
+  static const String ic_213 = "assets/feature_3/ic_213.webp";
+  static const String ic_218 = "assets/feature_3/ic_218.jpg";
+  static const String ic_228 = "assets/feature_3/ic_228.png";
+  static const String ic_23 = "assets/feature_3/ic_23.webp";
+  static const String ic_233 = "assets/feature_3/sub_0/deep_2/ic_233.jpg";
+  static const String ic_238 = "assets/feature_3/ic_238.webp";
+  static const String ic_258 = "assets/feature_3/sub_1/deep_2/ic_258.jpg";
+  static const String ic_263 = "assets/feature_3/ic_263.png";
+  static const String ic_268 = "assets/feature_3/sub_1/deep_2/ic_268.webp";
+  static const String ic_273 = "assets/feature_3/ic_273.jpg";
+  static const String ic_278 = "assets/feature_3/sub_1/deep_2/ic_278.webp";
+  static const String ic_28 = "assets/feature_3/deep_2/ic_28.webp";
+  static const String ic_293 = "assets/feature_3/sub_1/deep_0/ic_293.jpg";
+  static const String ic_298 = "assets/feature_3/ic_298.png";
+  static const String ic_3 = "assets/feature_3/sub_3/deep_2/ic_3.png";
+  static const String ic_303 = "assets/feature_3/sub_1/deep_0/ic_303.jpg";
+  static const String ic_308 = "assets/feature_3/deep_1/ic_308.webp";
+  static const String ic_313 = "assets/feature_3/sub_0/deep_0/ic_313.png";
+  static const String ic_318 = "assets/feature_3/sub_0/deep_2/ic_318.jpg";
+  static const String ic_328 = "assets/feature_3/sub_0/deep_1/ic_328.png";
+  static const String ic_33 = "assets/feature_3/ic_33.jpg";
+  static const String ic_343 = "assets/feature_3/ic_343.png";
+  static const String ic_348 = "assets/feature_3/sub_0/deep_2/ic_348.png";
+  static const String ic_353 = "assets/feature_3/ic_353.png";
+  static const String ic_358 = "assets/feature_3/sub_3/deep_2/ic_358.png";
+  static const String ic_363 = "assets/feature_3/sub_1/deep_1/ic_363.webp";
+  static const String ic_38 = "assets/feature_3/sub_3/deep_1/ic_38.png";
+  static const String ic_383 = "assets/feature_3/sub_0/deep_0/ic_383.png";
+  static const String ic_388 = "assets/feature_3/ic_388.png";
+  static const String ic_393 = "assets/feature_3/ic_393.png";
+  static const String ic_398 = "assets/feature_3/ic_398.png";
+  static const String ic_408 = "assets/feature_3/sub_0/deep_0/ic_408.png";
+  static const String ic_413 = "assets/feature_3/ic_413.png";
+  static const String ic_418 = "assets/feature_3/sub_2/deep_2/ic_418.webp";
+  static const String ic_423 = "assets/feature_3/sub_0/deep_1/ic_423.png";
+  static const String ic_433 = "assets/feature_3/ic_433.webp";
+  static const String ic_438 = "assets/feature_3/ic_438.webp";
+  static const String ic_443 = "assets/feature_3/ic_443.png";
+  static const String ic_448 = "assets/feature_3/sub_1/deep_1/ic_448.webp";
+  static const String ic_453 = "assets/feature_3/sub_0/deep_0/ic_453.png";
+  static const String ic_458 = "assets/feature_3/sub_0/deep_1/ic_458.webp";
+  static const String ic_463 = "assets/feature_3/sub_2/deep_2/ic_463.png";
+  static const String ic_473 = "assets/feature_3/sub_1/deep_1/ic_473.png";
+  static const String ic_478 = "assets/feature_3/deep_0/ic_478.png";
+  static const String ic_483 = "assets/feature_3/sub_3/deep_0/ic_483.png";
+  static const String ic_493 = "assets/feature_3/sub_1/deep_0/ic_493.jpg";
+  static const String ic_508 = "assets/feature_3/ic_508.png";
+  static const String ic_513 = "assets/feature_3/deep_0/ic_513.png";
+  static const String ic_518 = "assets/feature_3/deep_2/ic_518.png";
+  static const String ic_523 = "assets/feature_3/deep_2/ic_523.jpg";
+  static const String ic_528 = "assets/feature_3/deep_1/ic_528.png";
+  static const String ic_53 = "assets/feature_3/ic_53.jpg";
+  static const String ic_548 = "assets/feature_3/sub_0/deep_1/ic_548.png";
+  static const String ic_568 = "assets/feature_3/sub_2/deep_1/ic_568.png";
+  static const String ic_573 = "assets/feature_3/sub_3/deep_1/ic_573.png";
+  static const String ic_578 = "assets/feature_3/deep_0/ic_578.png";
+  static const String ic_588 = "assets/feature_3/deep_1/ic_588.webp";
+  static const String ic_593 = "assets/feature_3/deep_2/ic_593.jpg";
+  static const String ic_598 = "assets/feature_3/sub_0/deep_1/ic_598.webp";
+  static const String ic_603 = "assets/feature_3/ic_603.png";
+  static const String ic_618 = "assets/feature_3/sub_0/deep_1/ic_618.webp";
+  static const String ic_623 = "assets/feature_3/ic_623.png";
+  static const String ic_628 = "assets/feature_3/deep_1/ic_628.png";
+  static const String ic_63 = "assets/feature_3/deep_1/ic_63.png";
+  static const String ic_633 = "assets/feature_3/ic_633.png";
+  static const String ic_648 = "assets/feature_3/ic_648.webp";
+  static const String ic_653 = "assets/feature_3/ic_653.png";
+  static const String ic_658 = "assets/feature_3/ic_658.webp";
+  static const String ic_663 = "assets/feature_3/ic_663.webp";
+  static const String ic_668 = "assets/feature_3/deep_1/ic_668.png";
+  static const String ic_678 = "assets/feature_3/ic_678.webp";
+  static const String ic_683 = "assets/feature_3/sub_1/deep_2/ic_683.jpg";
+  static const String ic_688 = "assets/feature_3/sub_1/deep_2/ic_688.webp";
+  static const String ic_693 = "assets/feature_3/sub_0/deep_1/ic_693.webp";
+  static const String ic_698 = "assets/feature_3/sub_0/deep_1/ic_698.webp";
+  static const String ic_703 = "assets/feature_3/deep_0/ic_703.png";
+  static const String ic_713 = "assets/feature_3/sub_1/deep_1/ic_713.png";
+  static const String ic_718 = "assets/feature_3/ic_718.png";
+  static const String ic_723 = "assets/feature_3/sub_3/deep_0/ic_723.jpg";
+  static const String ic_728 = "assets/feature_3/deep_1/ic_728.png";
+  static const String ic_73 = "assets/feature_3/sub_3/deep_2/ic_73.png";
+  static const String ic_743 = "assets/feature_3/ic_743.png";
+  static const String ic_748 = "assets/feature_3/ic_748.png";
+  static const String ic_753 = "assets/feature_3/sub_1/deep_0/ic_753.png";
+  static const String ic_763 = "assets/feature_3/deep_0/ic_763.png";
+  static const String ic_768 = "assets/feature_3/sub_2/deep_1/ic_768.png";
+  static const String ic_773 = "assets/feature_3/deep_2/ic_773.webp";
+  static const String ic_783 = "assets/feature_3/sub_1/deep_2/ic_783.png";
+  static const String ic_788 = "assets/feature_3/sub_1/deep_1/ic_788.webp";
+  static const String ic_8 = "assets/feature_3/ic_8.webp";
+  static const String ic_803 = "assets/feature_3/deep_1/ic_803.png";
+  static const String ic_813 = "assets/feature_3/sub_0/deep_2/ic_813.png";
+  static const String ic_818 = "assets/feature_3/sub_1/deep_1/ic_818.png";
+  static const String ic_823 = "assets/feature_3/sub_0/deep_0/ic_823.webp";
+  static const String ic_828 = "assets/feature_3/sub_1/deep_1/ic_828.jpg";
+  static const String ic_83 = "assets/feature_3/deep_1/ic_83.webp";
+  static const String ic_843 = "assets/feature_3/sub_1/deep_2/ic_843.png";
+  static const String ic_863 = "assets/feature_3/ic_863.png";
+  static const String ic_868 = "assets/feature_3/sub_1/deep_0/ic_868.png";
+  static const String ic_873 = "assets/feature_3/sub_2/deep_1/ic_873.jpg";
+  static const String ic_878 = "assets/feature_3/sub_2/deep_0/ic_878.png";
+  static const String ic_883 = "assets/feature_3/sub_2/deep_2/ic_883.png";
+  static const String ic_888 = "assets/feature_3/deep_0/ic_888.png";
+  static const String ic_898 = "assets/feature_3/sub_3/deep_2/ic_898.webp";
+  static const String ic_903 = "assets/feature_3/ic_903.png";
+  static const String ic_908 = "assets/feature_3/sub_0/deep_1/ic_908.png";
+  static const String ic_913 = "assets/feature_3/ic_913.png";
+  static const String ic_918 = "assets/feature_3/sub_1/deep_0/ic_918.jpg";
+  static const String ic_928 = "assets/feature_3/sub_3/deep_2/ic_928.png";
+  static const String ic_93 = "assets/feature_3/ic_93.webp";
+  static const String ic_943 = "assets/feature_3/deep_2/ic_943.png";
+  static const String ic_948 = "assets/feature_3/deep_0/ic_948.png";
+  static const String ic_953 = "assets/feature_3/ic_953.jpg";
+  static const String ic_958 = "assets/feature_3/ic_958.png";
+  static const String ic_978 = "assets/feature_3/sub_1/deep_2/ic_978.png";
+  static const String ic_98 = "assets/feature_3/sub_2/deep_0/ic_98.png";
+  static const String ic_983 = "assets/feature_3/sub_2/deep_1/ic_983.png";
+  static const String ic_988 = "assets/feature_3/ic_988.jpg";
+  static const String ic_993 = "assets/feature_3/ic_993.jpg";
+  static const String ic_998 = "assets/feature_3/deep_2/ic_998.webp";
+  static const String senor_153 = "assets/feature_3/deep_2/señor_153.png";
+  static const String senor_338 = "assets/feature_3/señor_338.jpg";
+  static const String senor_43 = "assets/feature_3/señor_43.jpg";
+}
+// assets_feature_4.dart
+/// Generated by AssetsRefGenerator on <date>
+class ResAssetsFeature4 {
+  static const String acee_229 = "assets/feature_4/âĉéè_229.png";
+  static const String assets_feature_4_deep_1_common_4 = "assets/feature_4/deep_1/common_4.jpg";
+  static const String assets_feature_4_sub_0_deep_0_common_4 = "assets/feature_4/sub_0/deep_0/common_4.jpg";
+  static const String assets_feature_4_sub_0_deep_1_common_4 = "assets/feature_4/sub_0/deep_1/common_4.webp";
+  static const String assets_feature_4_sub_1_deep_2_common_19 = "assets/feature_4/sub_1/deep_2/common_19.png";
+  static const String assets_feature_4_sub_2_deep_0_common_19 = "assets/feature_4/sub_2/deep_0/common_19.png";
+  static const String assets_feature_4_sub_2_deep_1_common_19 = "assets/feature_4/sub_2/deep_1/common_19.png";
+  static const String assets_feature_4_sub_3_deep_1_common_19 = "assets/feature_4/sub_3/deep_1/common_19.png";
+  static const String assets_feature_4_sub_3_deep_1_common_4 = "assets/feature_4/sub_3/deep_1/common_4.jpg";
+  static const String bg_tile_179 = "assets/feature_4/deep_2/bg-tile-179.png";
+  static const String bg_tile_679 = "assets/feature_4/sub_1/deep_2/bg-tile-679.png";
+  static const String bg_tile_704 = "assets/feature_4/sub_1/deep_0/bg-tile-704.webp";
+  static const String bg_tile_724 = "assets/feature_4/bg-tile-724.png";
+  static const String bg_tile_774 = "assets/feature_4/bg-tile-774.png";
+  static const String bg_tile_794 = "assets/feature_4/sub_1/deep_1/bg-tile-794.webp";
+  static const String bg_tile_939 = "assets/feature_4/deep_2/bg-tile-939.png";
+  static const String cafe_609 = "assets/feature_4/sub_2/deep_0/café_609.png";
+  static const String common_14 = "assets/feature_4/sub_0/deep_0/common_14.webp";
+  static const String common_14 = "assets/feature_4/sub_3/deep_0/common_14.png";
+  static const String common_19 = "assets/feature_4/common_19.png";
+  static const String common_24 = "assets/feature_4/sub_0/deep_1/common_24.webp";
+  static const String common_4 = "assets/feature_4/deep_0/common_4.jpg";
+  static const String common_4 = "assets/feature_4/deep_1/common_4.webp";
+  static const String common_4 = "assets/feature_4/sub_2/deep_1/common_4.png";
+  static const String common_9 = "assets/feature_4/common_9.png";
+  static const String ic_109 = "assets/feature_4/sub_0/deep_0/ic_109.png";
+  static const String ic_114 = "assets/feature_4/sub_3/deep_2/ic_114.png";
+  static const String ic_119 = "assets/feature_4/sub_1/deep_0/ic_119.png";
+  static const String ic_124 = "assets/feature_4/sub_0/deep_1/ic_124.png";
+  static const String ic_129 = "assets/feature_4/deep_2/ic_129.jpg";
+  static const String ic_134 = "assets/feature_4/sub_2/deep_0/ic_134.png";
+  static const String ic_139 = "assets/feature_4/ic_139.png";
+  static const String ic_14 = "assets/feature_4/sub_3/deep_1/ic_14.png";
+  static const String ic_149 = "assets/feature_4/deep_0/ic_149.png";
+  static const String ic_154 = "assets/feature_4/sub_1/deep_1/ic_154.png";
+  static const String ic_159 = "assets/feature_4/ic_159.jpg";
+  static const String ic_164 = "assets/feature_4/sub_3/deep_1/ic_164.jpg";
+  static const String ic_169 = "assets/feature_4/sub_0/deep_2/ic_169.png";
+  static const String ic_174 = "assets/feature_4/ic_174.png";
+  static const String ic_184 = "assets/feature_4/deep_0/ic_184.jpg";
+  static const String ic_189 = "assets/feature_4/sub_2/deep_1/ic_189.png";
+  static const String ic_19 = "assets/feature_4/sub_0/deep_2/ic_19.png";
+  static const String ic_194 = "assets/feature_4/sub_1/deep_0/ic_194.webp";
+  static const String ic_199 = "assets/feature_4/sub_1/deep_0/ic_199.png";
+  static const String ic_209 = "assets/feature_4/ic_209.png";
+  static const String ic_214 = "assets/feature_4/deep_1/ic_214.webp";
+  static const String ic_219 = "assets/feature_4/ic_219.png";
+  static const String ic_234 = "assets/feature_4/sub_1/deep_0/ic_234.jpg";
+  static const String ic_244 = "assets/feature_4/sub_0/deep_2/ic_244.webp";
+  static const String ic_249 = "assets/feature_4/ic_249.png";
+  static const String ic_259 = "assets/feature_4/sub_1/deep_1/ic_259.png";
+  static const String ic_264 = "assets/feature_4/sub_1/deep_0/ic_264.webp";
+  static const String ic_269 = "assets/feature_4/sub_0/deep_0/ic_269.webp";
+  static const String ic_274 = "assets/feature_4/sub_2/deep_2/ic_274.png";
+  static const String ic_279 = "assets/feature_4/ic_279.webp";
+  static const String ic_289 = "assets/feature_4/deep_1/ic_289.png";
+  static const String ic_294 = "assets/feature_4/ic_294.png";
+  static const String ic_299 = "assets/feature_4/sub_2/deep_1/ic_299.jpg";
+  static const String ic_324 = "assets/feature_4/sub_1/deep_1/ic_324.webp";
+  static const String ic_329 = "assets/feature_4/sub_0/deep_2/ic_329.png";
+  static const String ic_334 = "assets/feature_4/sub_3/deep_1/ic_334.png";
+  static const String ic_34 = "assets/feature_4/ic_34.png";
+  static const String ic_344 = "assets/feature_4/sub_0/deep_1/ic_344.png";
+  static const String ic_349 = "assets/feature_4/ic_349.png";
+  static const String ic_354 = "assets/feature_4/ic_354.png";
+  static const String ic_359 = "assets/feature_4/sub_0/deep_1/ic_359.webp";
+  static const String ic_364 = "assets/feature_4/deep_1/ic_364.png";
+  static const String ic_369 = "assets/feature_4/ic_369.png";
+  static const String ic_374 = "assets/feature_4/sub_3/deep_1/ic_374.png";
+  static const String ic_384 = "assets/feature_4/sub_1/deep_0/ic_384.png";
+  static const String ic_389 = "assets/feature_4/ic_389.jpg";
+  static const String ic_394 = "assets/feature_4/sub_1/deep_1/ic_394.png";
+  static const String ic_399 = "assets/feature_4/sub_3/deep_0/ic_399.png";
+  static const String ic_4 = "assets/feature_4/sub_0/deep_2/ic_4.jpg";
+  static const String ic_414 = "assets/feature_4/sub_2/deep_0/ic_414.png";
+  static const String ic_419 = "assets/feature_4/sub_0/deep_0/ic_419.webp";
+  static const String ic_424 = "assets/feature_4/sub_0/deep_2/ic_424.png";
+  static const String ic_434 = "assets/feature_4/ic_434.jpg";
+  static const String ic_444 = "assets/feature_4/ic_444.png";
+  static const String ic_449 = "assets/feature_4/sub_3/deep_2/ic_449.png";
+  static const String ic_469 = "assets/feature_4/sub_0/deep_0/ic_469.png";
+  static const String ic_474 = "assets/feature_4/sub_2/deep_0/ic_474.jpg";
+  static const String ic_479 = "assets/feature_4/sub_1/deep_2/ic_479.webp";
+  static const String ic_484 = "assets/feature_4/deep_1/ic_484.webp";
+  static const String ic_489 = "assets/feature_4/sub_3/deep_2/ic_489.png";
+  static const String ic_499 = "assets/feature_4/ic_499.png";
+  static const String ic_504 = "assets/feature_4/deep_2/ic_504.png";
+  static const String ic_509 = "assets/feature_4/deep_0/ic_509.jpg";
+  static const String ic_514 = "assets/feature_4/deep_2/ic_514.png";
+  static const String ic_519 = "assets/feature_4/deep_0/ic_519.jpg";
+  static const String ic_534 = "assets/feature_4/sub_0/deep_1/ic_534.webp";
+  static const String ic_539 = "assets/feature_4/ic_539.jpg";
+  static const String ic_54 = "assets/feature_4/sub_1/deep_2/ic_54.png";
+  static const String ic_544 = "assets/feature_4/deep_2/ic_544.jpg";
+  static const String ic_549 = "assets/feature_4/ic_549.jpg";
+  static const String ic_554 = "assets/feature_4/ic_554.jpg";
+  static const String ic_559 = "assets/feature_4/ic_559.webp";
+  static const String ic_564 = "assets/feature_4/deep_0/ic_564.png";
+  static const String ic_569 = "assets/feature_4/sub_1/deep_2/ic_569.png";
+  static const String ic_579 = "assets/feature_4/sub_2/deep_2/ic_579.png";
+  static const String ic_584 = "assets/feature_4/deep_1/ic_584.png";
+  static const String ic_589 = "assets/feature_4/ic_589.png";
+  static const String ic_594 = "assets/feature_4/sub_1/deep_2/ic_594.png";
+  static const String ic_599 = "assets/feature_4/deep_2/ic_599.png";
+  static const String ic_604 = "assets/feature_4/sub_0/deep_1/ic_604.png";
+  static const String ic_619 = "assets/feature_4/ic_619.png";
+  static const String ic_624 = "assets/feature_4/deep_2/ic_624.png";
+  static const String ic_629 = "assets/feature_4/ic_629.png";
+  static const String ic_634 = "assets/feature_4/sub_1/deep_0/ic_634.png";
+  static const String ic_639 = "assets/feature_4/sub_2/deep_2/ic_639.webp";
+  static const String ic_64 = "assets/feature_4/ic_64.png";
+  static const String ic_644 = "assets/feature_4/sub_3/deep_2/ic_644.webp";
+  static const String ic_649 = "assets/feature_4/ic_649.png";
+  static const String ic_654 = "assets/feature_4/sub_0/deep_0/ic_654.jpg";
+  static const String ic_659 = "assets/feature_4/ic_659.png";
+  static const String ic_664 = "assets/feature_4/sub_2/deep_1/ic_664.png";
+  static const String ic_669 = "assets/feature_4/ic_669.png";
+  static const String ic_674 = "assets/feature_4/sub_0/deep_0/ic_674.jpg";
+  static const String ic_684 = "assets/feature_4/sub_3/deep_0/ic_684.webp";
+  static const String ic_689 = "assets/feature_4/sub_1/deep_0/ic_689.webp";
+  static const String ic_69 = "assets/feature_4/sub_3/deep_1/ic_69.png";
+  static const String ic_694 = "assets/feature_4/deep_0/ic_694.png";
+  static const String ic_699 = "assets/feature_4/ic_699.webp";
+  static const String ic_709 = "assets/feature_4/sub_0/deep_1/ic_709.png";
+  static const String ic_719 = "assets/feature_4/sub_1/deep_0/ic_719.png";
+  static const String ic_729 = "assets/feature_4/sub_0/deep_2/ic_729.jpg";
+  static const String ic_739 = "assets/feature_4/sub_0/deep_1/ic_739.png";
+  static const String ic_74 = "assets/feature_4/sub_2/deep_2/ic_74.png";
+  static const String ic_749 = "assets/feature_4/deep_2/ic_749.png";
+  static const String ic_754 = "assets/feature_4/sub_2/deep_0/ic_754.jpg";
+  static const String ic_759 = "assets/feature_4/sub_2/deep_1/ic_759.png";
+  static const String ic_779 = "assets/feature_4/ic_779.png";
+  static const String ic_784 = "assets/feature_4/sub_0/deep_0/ic_784.png";
+  static const String ic_789 = "assets/feature_4/ic_789.png";
+  static const String ic_79 = "assets/feature_4/ic_79.jpg";
+  static const String ic_799 = "assets/feature_4/ic_799.png";
+  static const String ic_804 = "assets/feature_4/sub_0/deep_1/ic_804.jpg";
+  static const String ic_809 = "assets/feature_4/sub_2/deep_1/ic_809.png";
+  static const String ic_814 = "assets/feature_4/deep_0/ic_814.png";
+  static const String ic_824 = "assets/feature_4/sub_3/deep_1/ic_824.png";
+  static const String ic_829 = "assets/feature_4/sub_3/deep_0/ic_829.jpg";
+  static const String ic_834 = "assets/feature_4/ic_834.webp";
+  static const String ic_839 = "assets/feature_4/deep_2/ic_839.png";
+  static const String ic_84 = "assets/feature_4/sub_3/deep_1/ic_84.jpg";
+  static const String ic_844 = "assets/feature_4/sub_0/deep_0/ic_844.png";
+  static const String ic_849 = "assets/feature_4/ic_849.png";
+  static const String ic_854 = "assets/feature_4/ic_854.png";
+  static const String ic_869 = "assets/feature_4/ic_869.png";
+  static const String ic_874 = "assets/feature_4/sub_3/deep_2/ic_874.jpg";
+  static const String ic_879 = "assets/feature_4/deep_0/ic_879.webp";
+  static const String ic_884 = "assets/feature_4/sub_1/deep_2/ic_884.png";
+  static const String ic_889 = "assets/feature_4/ic_889.png";
+  static const String ic_89 = "assets/feature_4/deep_1/ic_89.jpg";
+  static const String ic_894 = "assets/feature_4/ic_894.png";
+  static const String ic_9 = "assets/feature_4/sub_2/deep_2/ic_9.png";
+  static const String ic_914 = "assets/feature_4/deep_1/ic_914.png";
+  static const String ic_919 = "assets/feature_4/sub_0/deep_2/ic_919.png";
+  static const String ic_924 = "assets/feature_4/ic_924.png";
+  static const String ic_934 = "assets/feature_4/sub_1/deep_1/ic_934.webp";
+  static const String ic_94 = "assets/feature_4/sub_2/deep_1/ic_94.jpg";
+  static const String ic_944 = "assets/feature_4/sub_1/deep_0/ic_944.png";
+  static const String ic_949 = "assets/feature_4/sub_1/deep_0/ic_949.jpg";
+  static const String ic_954 = "assets/feature_4/ic_954.png";
+  static const String ic_959 = "assets/feature_4/ic_959.jpg";
+  static const String ic_964 = "assets/feature_4/sub_1/deep_2/ic_964.png";
+  static const String ic_969 = "assets/feature_4/sub_1/deep_2/ic_969.png";
+  static const String ic_974 = "assets/feature_4/sub_3/deep_1/ic_974.webp";
+  static const String ic_979 = "assets/feature_4/deep_0/ic_979.png";
+  static const String ic_984 = "assets/feature_4/sub_0/deep_0/ic_984.png";
+  static const String ic_989 = "assets/feature_4/ic_989.webp";
+  static const String ic_99 = "assets/feature_4/ic_99.png";
+  static const String ic_994 = "assets/feature_4/sub_1/deep_2/ic_994.jpg";
+  static const String ic_999 = "assets/feature_4/sub_1/deep_0/ic_999.png";
+  static const String naive_309 = "assets/feature_4/sub_3/deep_2/naïve_309.png";
+  static const String naive_404 = "assets/feature_4/sub_1/deep_0/naïve_404.webp";
+  static const String naive_574 = "assets/feature_4/sub_0/deep_0/naïve_574.jpg";
+  static const String naive_859 = "assets/feature_4/naïve_859.png";
+  static const String senor_314 = "assets/feature_4/sub_1/deep_0/señor_314.png";
+  static const String senor_464 = "assets/feature_4/deep_1/señor_464.webp";
+  static const String senor_744 = "assets/feature_4/sub_3/deep_2/señor_744.png";
+}
+// images_screens.dart
+/// Generated by AssetsRefGenerator on <date>
+class ResImagesScreens {
+  static const String bg_tile_810 = "images/screens/f0/bg-tile-810.webp";
+  static const String cafe_525 = "images/screens/f0/café_525.jpg";
+  static const String common_13 = "images/screens/f3/common_13.webp";
+  static const String common_20 = "images/screens/f0/common_20.png";
+  static const String ic_103 = "images/screens/f3/ic_103.webp";
+  static const String ic_106 = "images/screens/f1/ic_106.webp";
+  static const String ic_178 = "images/screens/f3/ic_178.png";
+  static const String ic_197 = "images/screens/f2/ic_197.png";
+  static const String ic_284 = "images/screens/f4/ic_284.jpg";
+  static const String ic_339 = "images/screens/f4/ic_339.png";
+  static const String ic_340 = "images/screens/f0/ic_340.webp";
+  static const String ic_422 = "images/screens/f2/ic_422.png";
+  static const String ic_428 = "images/screens/f3/ic_428.webp";
+  static const String ic_439 = "images/screens/f4/ic_439.jpg";
+  static const String ic_488 = "images/screens/f3/ic_488.webp";
+  static const String ic_49 = "images/screens/f4/ic_49.png";
+  static const String ic_491 = "images/screens/f1/ic_491.png";
+  static const String ic_512 = "images/screens/f2/ic_512.jpg";
+  static const String ic_533 = "images/screens/f3/ic_533.png";
+  static const String ic_562 = "images/screens/f2/ic_562.png";
+  static const String ic_570 = "images/screens/f0/ic_570.png";
+  static const String ic_608 = "images/screens/f3/ic_608.webp";
+  static const String ic_615 = "images/screens/f0/ic_615.png";
+  static const String ic_638 = "images/screens/f3/ic_638.jpg";
+  static const String ic_643 = "images/screens/f3/ic_643.png";
+  static const String ic_687 = "images/screens/f2/ic_687.png";
+  static const String ic_697 = "images/screens/f2/ic_697.png";
+  static const String ic_702 = "images/screens/f2/ic_702.png";
+  static const String ic_708 = "images/screens/f3/ic_708.webp";
+  static const String ic_727 = "images/screens/f2/ic_727.webp";
+  static const String ic_764 = "images/screens/f4/ic_764.jpg";
+  static const String ic_770 = "images/screens/f0/ic_770.png";
+  static const String ic_778 = "images/screens/f3/ic_778.png";
+  static const String ic_793 = "images/screens/f3/ic_793.png";
+  static const String ic_798 = "images/screens/f3/ic_798.png";
+  static const String ic_812 = "images/screens/f2/ic_812.jpg";
+  static const String ic_838 = "images/screens/f3/ic_838.png";
+  static const String ic_882 = "images/screens/f2/ic_882.jpg";
+  static const String ic_885 = "images/screens/f0/ic_885.png";
+  static const String ic_893 = "images/screens/f3/ic_893.png";
+  static const String ic_91 = "images/screens/f1/ic_91.png";
+  static const String ic_910 = "images/screens/f0/ic_910.jpg";
+  static const String ic_921 = "images/screens/f1/ic_921.png";
+  static const String ic_941 = "images/screens/f1/ic_941.png";
+  static const String images_screens_f1_common_16 = "images/screens/f1/common_16.png";
+  static const String images_screens_f2_common_2 = "images/screens/f2/common_2.png";
+  static const String naive_312 = "images/screens/f2/naïve_312.png";
+  static const String senor_42 = "images/screens/f2/señor_42.png";
+}
+// packages.dart
+/// Generated by AssetsRefGenerator on <date>
+class ResPackages {
+  static const String logo = "images/logo.png";
+}
@@ -0,0 +1,16 @@
+/// Generated by AssetsRefGenerator on <date>
+export 'res/asset.dart';
+export 'res/packages.dart';
+
+// Feature libraries, not exported here. Import them deferred and await loadLibrary() before use:
+// import 'res/assets_feature_0.dart' deferred as assets_feature_0;
+// import 'res/assets_feature_1.dart' deferred as assets_feature_1;
+// import 'res/assets_feature_2.dart' deferred as assets_feature_2;
+// import 'res/assets_feature_3.dart' deferred as assets_feature_3;
+// import 'res/assets_feature_4.dart' deferred as assets_feature_4;
+// import 'res/images_screens.dart' deferred as images_screens;
+// import 'res/_precache_groups.dart' deferred as precache_groups;
+
+class Packages {
+  static const String synthetic_icons = "synthetic_icons";
+}
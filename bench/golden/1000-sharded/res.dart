@@ -0,0 +1,13 @@
+/// Generated by AssetsRefGenerator on <date>
+export 'res/asset.dart';
+export 'res/assets_feature_0.dart';
+export 'res/assets_feature_1.dart';
+export 'res/assets_feature_2.dart';
+export 'res/assets_feature_3.dart';
+export 'res/assets_feature_4.dart';
+export 'res/images_screens.dart';
+export 'res/packages.dart';
+
+class Packages {
+  static const String synthetic_icons = "synthetic_icons";
+}
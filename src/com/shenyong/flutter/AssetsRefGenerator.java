@@ -24,29 +24,36 @@
 
 package com.shenyong.flutter;
 
+import com.intellij.notification.NotificationGroupManager;
+import com.intellij.notification.NotificationType;
 import com.intellij.openapi.actionSystem.AnAction;
 import com.intellij.openapi.actionSystem.AnActionEvent;
 import com.intellij.openapi.actionSystem.PlatformDataKeys;
+import com.intellij.openapi.application.ApplicationManager;
+import com.intellij.openapi.diagnostic.Logger;
+import com.intellij.openapi.progress.ProgressIndicator;
+import com.intellij.openapi.progress.Task;
 import com.intellij.openapi.project.Project;
 import com.intellij.openapi.ui.Messages;
 import com.shenyong.flutter.checker.AssetsChecker;
 import com.shenyong.flutter.checker.ICheck;
 import com.shenyong.flutter.checker.ProjChecker;
+import com.shenyong.flutter.generator.GenerateConfig;
+import com.shenyong.flutter.generator.PackageFinder;
+import com.shenyong.flutter.generator.WorkspaceGenerator;
 import com.shenyong.flutter.service.AssetSettingService;
+import com.shenyong.flutter.service.DocumentOutputSink;
+import org.jetbrains.annotations.NotNull;
 
-import java.io.*;
-import java.text.Normalizer;
-import java.text.SimpleDateFormat;
-import java.util.*;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.List;
+import java.util.Objects;
 
 
 /**
  * Flutter 资源声明和Dart引用生成工具
  * <p>
  * 功能： 扫描工程 asset/assets/images 目录下的资源文件，自动在 pubspec.yaml 文件中添加资源文件声明；并生成一个 res.dart 文件，
- * 包含所有资源文件的字符串声明。
+ * 包含所有资源文件的字符串声明。工程中包含多个 Flutter package 时，并行为每个 package 生成。
  * <p>
  * 主要解决问题：无需手动编辑 pubspec.yaml 中的资源文件声明和代码中的资源引用字符串。即避免出错，也方便开发编码，像 Android 中
  * R.drawable.xxx 方式一样，更加愉快的引用资源。
@@ -56,9 +63,8 @@ import java.util.regex.Pattern;
  */
 public class AssetsRefGenerator extends AnAction {
 
-    private static final String PUBSPEC = "pubspec.yaml";
-    public static final String RES_FILE = "res.dart";
-    private static final String MAC_OS_DS_STORE = ".DS_Store";
+    private static final Logger LOG = Logger.getInstance(AssetsRefGenerator.class);
+    public static final String NOTIFICATION_GROUP = "Flutter Assets Reference Generator";
 
     private final ProjChecker projChecker = new ProjChecker();
     private final AssetsChecker assetsChecker = new AssetsChecker();
@@ -67,390 +73,103 @@ public class AssetsRefGenerator extends AnAction {
     public void actionPerformed(AnActionEvent e) {
         Project project = e.getData(PlatformDataKeys.PROJECT);
         String path = Objects.requireNonNull(project).getBasePath();
-        ICheck.CheckResult result = projChecker.check(path);
-        if (!result.isOk) {
-            StringBuilder sb = new StringBuilder();
-            for (String f : result.missingFiles) {
-                sb.append(f).append("\n");
-            }
-            showErrMsg("Current directory does not seem to be a valid Flutter project directory. Files not found:\n" +
-                    sb);
-            return;
-        }
-        if (!assetsChecker.check(path).isOk) {
-            showErrMsg("No asset directory named asset, assets or images was found.");
-            return;
-        }
-
-        genAssetRef(path);
-    }
-
-    private void showErrMsg(String msg) {
-        Messages.showMessageDialog(msg, "Flutter Assets Reference Generator", Messages.getErrorIcon());
-    }
-
-    private void showSuccessInfo() {
-        Messages.showMessageDialog("Complete!\nAssets reference has been updated successfully.",
-                "Flutter Assets Reference Generator", Messages.getInformationIcon());
-    }
-
-    private List<String> getAssets(String path) {
-        System.out.println("Scanning asset files under asset, assets and images...");
-        assetsNames.clear();
-        namedAssets.clear();
-        List<String> assetsDirs = assetsChecker.getAssetsDirs();
-        List<String> assets = new ArrayList<>();
-        for (String name : assetsDirs) {
-            File dir = new File(path, name);
-            getAssets(assets, dir, name, false);
-        }
-        return assets;
+        genAssetRef(project, path);
     }
 
-    private final HashSet<String> assetsNames = new HashSet<>();
-    private final HashMap<String, String> namedAssets = new HashMap<>();
-
     /**
-     * 遍历资源目录，生成资源声明
+     * 查找工作区中的 package，会遍历目录，在后台线程调用
      *
-     * @param assets          资源声明集合
-     * @param dir             目录
-     * @param prefix          当前目录的资源路径前缀
-     * @param inMultiRatioDir 当前是否在 2.0x 3.0x 等多像素比目录下，用于判断重名资源层级
+     * @return 没有可生成的 package 时返回 null，并提示具体原因
      */
-    private void getAssets(List<String> assets, File dir, String prefix, boolean inMultiRatioDir) {
-        if (!dir.exists() || !dir.isDirectory()) {
-            return;
-        }
-        File[] files = dir.listFiles(new FilenameFilter() {
-            @Override
-            public boolean accept(File dir, String name) {
-                // 忽略 MacOS 中的 .DS_Store 文件
-                return !MAC_OS_DS_STORE.equals(name);
-            }
-        });
-        if (files == null) {
-            return;
-        }
-        List<File> fList = Arrays.asList(files);
-        /* 处理资源变体，参考：
-          https://flutterchina.club/assets-and-images/
-          https://flutter.dev/docs/development/ui/assets-and-images
-        */
-        // 重新排序，文件排在目录前面。先处理文件，然后处理下级目录，方便处理资源变体
-        fList.sort((o1, o2) -> {
-            if (o1.isFile() && o2.isDirectory()) {
-                return -1;
-            } else if (o1.isDirectory() && o2.isFile()) {
-                return 1;
-            }
-            return 0;
-        });
-        for (File f : fList) {
-            String name = f.getName();
-            if (f.isFile()) {
-                // 变体处理：在相邻子目录中查找具有相同名称的任何文件，如果添加过同名的，则认为当前资源为一个变体，不再添加。
-                // 但非相邻子目录中的同名文件，不算变体，如：/imageStyle1/1.png 和 /imageStyle2/1.png
-                String asset = "    - " + prefix + "/" + name;
-                String nameKey = name.split("\\.")[0];
-                if (!assetsNames.contains(name)) {
-                    namedAssets.put(asset, nameKey);
-                    assetsNames.add(name);
-                } else {
-                    String existedAsset = "";
-                    for (String s : assets) {
-                        if (s.contains(name)) {
-                            existedAsset = s;
-                            break;
-                        }
-                    }
-                    int existedDepth = existedAsset.split("/").length;
-                    String[] newAsset = asset.split("/");
-                    int newDepth = newAsset.length;
-                    newDepth = inMultiRatioDir ? newDepth + 1 : newDepth;
-                    if (newDepth > existedDepth) {
-                        // 同名且有更深的路径层级，认为是变体
-                        continue;
-                    }
-                    nameKey = nameKey.trim().replaceAll(" ", "_");
-                    String namePrefix = prefix.replaceAll(" ", "_").replaceAll("/", "_");
-                    namedAssets.put(asset, namePrefix + "_" + nameKey);
-                }
-                assets.add(asset);
-                System.out.println(asset);
-            } else {
-                // 2.0x 3.0x 等多分辨率目录处理
-                if (name.matches("^[1-9](\\.\\d)x$")) {
-                    getAssets(assets, f, prefix, true);
-                } else {
-                    getAssets(assets, f, prefix + "/" + name, false);
+    private List<String> findPackages(String path, GenerateConfig config) {
+        // 一个 IDE 工程中可能包含多个 Flutter package（monorepo），并行为每个 package 生成
+        List<String> packages = new PackageFinder(config.extraAssetRoots).find(path);
+        if (packages.isEmpty()) {
+            // 没有找到可生成的 package 时，按单个工程检查，提示具体原因
+            ICheck.CheckResult result = projChecker.check(path);
+            if (!result.isOk) {
+                StringBuilder sb = new StringBuilder();
+                for (String f : result.missingFiles) {
+                    sb.append(f).append("\n");
                 }
+                showErrMsg("Current directory does not seem to be a valid Flutter project directory. Files not found:\n" +
+                        sb);
+                return null;
             }
-        }
-    }
-
-    private void genAssetRef(String path) {
-        List<String> assets = getAssets(path);
-        if (assets.isEmpty()) {
-            return;
-        }
-        AssetSettingService.AssetConfig config = AssetSettingService.getInstance().getState();
-        List<String> excludePaths = new ArrayList<>();
-        if (config != null && config.excludePath != null) {
-            excludePaths = config.excludePath;
-        }
-        removeExclude(assets, excludePaths);
-
-        updatePubspec(path, assets, excludePaths);
-        genResDart(path, assets);
-    }
-
-    /**
-     * 更新pubspec.yaml文件中的资源声明
-     *
-     * @param path   项目路径
-     * @param assets 扫描生成的资源声明
-     * @param excludePaths 排除文件夹路径
-     */
-    private void updatePubspec(String path, List<String> assets, List<String> excludePaths) {
-        System.out.println("Updating pubspec.yaml...");
-        File pubspec = new File(path, PUBSPEC);
-        if (!pubspec.exists()) {
-            return;
-        }
-        List<String> outLines = new ArrayList<>();
-        List<String> oldRemained = new ArrayList<>();
-        boolean assetStart = false;
-        BufferedReader reader = null;
-        BufferedWriter writer = null;
-        try {
-            reader = new BufferedReader(new FileReader(pubspec));
-            String line = reader.readLine();
-            while (line != null) {
-                if (line.matches("^ {2}assets:")) {
-                    // 检测到资源声明起始行"  assets:"
-                    assetStart = true;
-                    outLines.add(line);
-                    line = reader.readLine();
-                    continue;
-                }
-                if (assetStart) {
-                    // 原pubspec.yaml文件中就有的资源声明，或资源声明之间的空行
-                    if (line.matches("^ {2,}- .*") || line.matches("^\\S*$")) {
-                        // 原有的其他声明，可能是已删除的，或引入的其他package的资源
-                        if (line.matches("^ {2,}- .*") && !assets.contains(line)) {
-                            oldRemained.add(line);
-                        }
-                    } else {
-                        // 资源声明结束
-                        assetStart = false;
-                        removeDeleted(assets, oldRemained, excludePaths);
-                        // 默认按字母顺序排序
-                        assets.sort(String::compareToIgnoreCase);
-                        outLines.addAll(assets);
-                        outLines.add(line);
-                    }
-                } else {
-                    outLines.add(line);
-                }
-                line = reader.readLine();
-                if (line == null && assetStart) {
-                    // 资源声明在yaml文件末尾的情况。判断asset声明未结束，但已读取到文件末尾了
-                    assetStart = false;
-                    removeDeleted(assets, oldRemained, excludePaths);
-                    // 默认按字母顺序排序
-                    assets.sort(String::compareToIgnoreCase);
-                    outLines.addAll(assets);
-                }
-            }
-            // 将更新了资源声明的内容写回到pubspec.yaml文件
-            writer = new BufferedWriter(new FileWriter(pubspec));
-            for (String out : outLines) {
-                writer.write(out);
-                writer.newLine();
-            }
-            writer.flush();
-        } catch (IOException e) {
-            e.printStackTrace();
-        } finally {
-            if (reader != null) {
-                try {
-                    reader.close();
-                } catch (IOException e) {
-                    e.printStackTrace();
-                }
-            }
-            if (writer != null) {
-                try {
-                    writer.close();
-                } catch (IOException e) {
-                    e.printStackTrace();
-                }
+            if (!assetsChecker.check(path).isOk) {
+                showErrMsg("No asset directory was found. Declare one under flutter: assets: in pubspec.yaml, "
+                        + "or create asset, assets or images.");
+                return null;
             }
+            packages.add(path);
         }
+        return packages;
     }
 
-    /**
-     * 去掉已删除资源的旧声明，但保留引入的其他package的资源（以”  - packages/*"形式声明的）和排除文件夹的声明
-     *
-     * @param newAssets   扫描生成的资源声明
-     * @param oldRemained 遗留的其他声明
-     * @param excludePaths 排除的文件夹路径
-     */
-    private void removeDeleted(List<String> newAssets, List<String> oldRemained, List<String> excludePaths) {
-        for (String line : oldRemained) {
-            if (line.matches("^ {2,}- packages/.*")) {
-                newAssets.add(line);
-            } else {
-                for (String path : excludePaths) {
-                    if (line.contains(path)) {
-                        newAssets.add(line);
-                        break;
-                    }
-                }
-            }
-        }
-    }
-
-
-    /**
-     * 去掉已被排除声明，
-     *
-     * @param newAssets   扫描生成的资源声明
-     * @param excludePaths 排除的文件夹
-     */
-    private void removeExclude(List<String> newAssets, List<String> excludePaths) {
-        for (String path : excludePaths) {
-            newAssets.removeIf(asset -> asset.contains(path));
-        }
+    private void showErrMsg(String msg) {
+        ApplicationManager.getApplication().invokeLater(() ->
+                Messages.showMessageDialog(msg, "Flutter Assets Reference Generator", Messages.getErrorIcon()));
     }
 
-    /**
-     * 首字母大写
-     * @param str
-     * @return result
-     */
-    private String captureName(String str) {
-        // 进行字母的ascii编码前移，效率要高于截取字符串进行转换的操作
-        char[] cs=str.toCharArray();
-        cs[0]-=32;
-        return String.valueOf(cs);
+    private void showResult(Project project, String basePath, WorkspaceGenerator.Result result) {
+        String content;
+        boolean failed = false;
+        if (result.packages.size() == 1) {
+            WorkspaceGenerator.PackageResult r = result.packages.get(0);
+            failed = r.error != null;
+            content = failed ? "Failed to update assets reference: " + r.error
+                    : "Assets reference has been updated successfully.\n" + r.stats.toSummary()
+                    + (r.bundleSize != null ? "\n" + r.bundleSize.toSummary() : "");
+            // 超出资源包大小预算时同样用警告提示
+            failed |= r.bundleSize != null && r.bundleSize.isOverBudget();
+        } else {
+            for (WorkspaceGenerator.PackageResult r : result.packages) {
+                failed |= r.error != null || r.bundleSize != null && r.bundleSize.isOverBudget();
+            }
+            content = "Assets reference has been updated for " + result.toSummary(basePath);
+        }
+        NotificationGroupManager.getInstance().getNotificationGroup(NOTIFICATION_GROUP)
+                .createNotification(content.replace("\n", "<br>"),
+                        failed ? NotificationType.WARNING : NotificationType.INFORMATION)
+                .notify(project);
     }
 
-    private static final Pattern PATTERN = Pattern.compile("packages/(?<pkgName>[a-z_]+)/.*");
-
-    private void genResDart(String path, List<String> assets) {
-        System.out.println("Updating res.dart...");
-        AssetSettingService.AssetConfig config = AssetSettingService.getInstance().getState();
-        File resDirectory = new File(path + "/" + "lib");
-        if (config != null && config.generatePath != null) {
-            resDirectory = new File(resDirectory.getPath() + "/" + config.generatePath);
-        }
-        if (!resDirectory.exists()) {
-            try {
-                resDirectory.mkdirs();
-            } catch (SecurityException e) {
-                e.printStackTrace();
-            }
-        }
-
-        File resFile = new File(resDirectory.getPath(), RES_FILE);
-        if (config != null && config.generateFileName != null) {
-            resFile = new File(resDirectory.getPath(), config.generateFileName + ".dart");
-        }
-        if (!resFile.exists()) {
-            try {
-                resFile.createNewFile();
-            } catch (IOException e) {
-                e.printStackTrace();
-            }
-        }
-        BufferedWriter writer = null;
-        try {
-            writer = new BufferedWriter(new FileWriter(resFile));
-            // TODO: 2020/1/8 其他语言地区格式处理
-            SimpleDateFormat sdf = new SimpleDateFormat("yyyy/MM/dd");
-            writer.write("/// Generated by AssetsRefGenerator on " + sdf.format(Calendar.getInstance().getTime()));
-            writer.newLine();
-            if (config != null && config.generateFileName != null) {
-                List<String> words = List.of(config.generateFileName.split("_"));
-                StringBuilder fileName = new StringBuilder();
-                for (String word : words) {
-                    fileName.append(captureName(word));
-                }
-
-                writer.write("class "+ fileName +" {");
-            } else {
-                writer.write("class Res {");
-            }
-            writer.newLine();
-            List<String> packages = new ArrayList<>();
-            List<String> assetDefines = new ArrayList<>();
-            List<String> excludeDirectory = new ArrayList<>();
-            if (config != null && config.excludePath != null) {
-                excludeDirectory = config.excludePath;
-            }
-            removeExclude(assets, excludeDirectory);
-            for (String out : assets) {
-                String assetPath = out.replaceAll(" {2,}- ", "").trim();
-                // 处理其他 package 的资源文件声明
-                // 声明格式通常为：   - packages/package_name/...
-                if (out.matches("^ {2,}- packages/[a-z_]+/.*")) {
-                    // 获取包名称
-                    Matcher matcher = PATTERN.matcher(assetPath);
-                    if (matcher.find()) {
-                        String pkgName = matcher.group("pkgName");
-                        if (!packages.contains(pkgName)) {
-                            packages.add(pkgName);
-                        }
-                    }
-                    assetPath = assetPath.replaceFirst("packages/[a-z_]+/", "");
-                }
-                String name = namedAssets.get(out);
-                if (name == null) {
-                    name = out.substring(out.lastIndexOf("/") + 1).split("\\.")[0];
+    private void genAssetRef(Project project, String basePath) {
+        AssetSettingService.AssetConfig assetConfig = AssetSettingService.getInstance().getState();
+        GenerateConfig config = assetConfig != null ? assetConfig.toGenerateConfig() : new GenerateConfig();
+        new Task.Backgroundable(project, "Generating Flutter assets reference", false) {
+            @Override
+            public void run(@NotNull ProgressIndicator indicator) {
+                List<String> packages = findPackages(basePath, config);
+                if (packages == null) {
+                    return;
                 }
-                // 替换连字符'-'为下划线'_'
-                name = name.replace('-', '_');
-                // 变音符处理，如：âĉéè.png
-                if (name.matches("^.*[\\u00C0-\\u017F]+.*$")) {
-                    name = Normalizer.normalize(name, Normalizer.Form.NFD).replaceAll("\\p{InCombiningDiacriticalMarks}+", "");
+                indicator.setIndeterminate(false);
+                WorkspaceGenerator generator = new WorkspaceGenerator(config);
+                // 每个 package 的输出在一个写操作中通过 Document/VFS 写入，打开的编辑器立即更新
+                generator.setOutputSinkFactory(p -> new DocumentOutputSink(project));
+                WorkspaceGenerator.Result result;
+                try {
+                    result = generator.generate(packages, (r, done, total) -> {
+                        indicator.setFraction(done * 1.0 / total);
+                        indicator.setText2(r.path);
+                    });
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
                 }
-                assetDefines.add("  static const String " + name + " = \"" + assetPath + "\";");
-            }
-
-            assetDefines.sort(String::compareToIgnoreCase);
-            for (String s : assetDefines) {
-                writer.write(s);
-                writer.newLine();
-            }
-            writer.write("}");
-            writer.newLine();
-            if (!packages.isEmpty()) {
-                writer.newLine();
-                writer.write("class Packages {");
-                writer.newLine();
-                for (String pkg : packages) {
-                    writer.write("  static const String " + pkg + " = \"" + pkg + "\";");
-                    writer.newLine();
+                for (WorkspaceGenerator.PackageResult r : result.packages) {
+                    if (r.error != null) {
+                        LOG.warn("Failed to generate assets reference for " + r.path, r.error);
+                    } else if (r.generated) {
+                        LOG.info("Generated assets reference for " + r.path + ": " + r.stats.toSummary());
+                    }
                 }
-                writer.write("}");
-                writer.newLine();
-            }
-
-            writer.flush();
-        } catch (IOException e) {
-            e.printStackTrace();
-        } finally {
-            if (writer != null) {
-                try {
-                    writer.close();
-                } catch (IOException e) {
-                    e.printStackTrace();
+                if (packages.size() > 1) {
+                    LOG.info("Generated assets reference for " + result.toSummary(basePath));
                 }
+                showResult(project, basePath, result);
             }
-        }
-        System.out.println("Flutter assets reference has been updated.");
-        showSuccessInfo();
+        }.queue();
     }
 }
@@ -0,0 +1,318 @@
+package com.shenyong.flutter;
+
+import com.intellij.notification.NotificationGroupManager;
+import com.intellij.notification.NotificationType;
+import com.intellij.openapi.actionSystem.AnAction;
+import com.intellij.openapi.actionSystem.AnActionEvent;
+import com.intellij.openapi.actionSystem.PlatformDataKeys;
+import com.intellij.openapi.application.ApplicationManager;
+import com.intellij.openapi.command.WriteCommandAction;
+import com.intellij.openapi.diagnostic.Logger;
+import com.intellij.openapi.fileEditor.FileDocumentManager;
+import com.intellij.openapi.progress.ProgressIndicator;
+import com.intellij.openapi.progress.Task;
+import com.intellij.openapi.project.DumbService;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.ui.Messages;
+import com.intellij.openapi.vfs.LocalFileSystem;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.PsiDocumentManager;
+import com.shenyong.flutter.analysis.DuplicateFinder;
+import com.shenyong.flutter.checker.AssetsChecker;
+import com.shenyong.flutter.generator.AssetModel;
+import com.shenyong.flutter.generator.AssetsGenerator;
+import com.shenyong.flutter.generator.GenerateConfig;
+import com.shenyong.flutter.generator.PackageFinder;
+import com.shenyong.flutter.generator.ResDartParser;
+import com.shenyong.flutter.generator.WorkspaceGenerator;
+import com.shenyong.flutter.psi.AssetUsageIndex;
+import com.shenyong.flutter.service.AssetPathService;
+import com.shenyong.flutter.service.AssetSettingService;
+import com.shenyong.flutter.service.DocumentOutputSink;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.regex.Pattern;
+
+/**
+ * 查找资源目录中内容完全相同的文件，报告浪费的空间，并可删除重复的文件，每组只保留一个。
+ * <p>
+ * 报告写到每个 package 的 {@link DuplicateFinder#REPORT_FILE}。删除在一个可撤销的命令中通过 VFS 进行，同时通过
+ * {@link AssetUsageIndex} 查出引用，把 Dart 中被删除文件的路径字符串和 Res 常量改为保留的文件，之后重新生成 pubspec.yaml 和 res 文件。
+ * 保留的文件没有生成的常量时无法改写常量引用，这样的文件不删除。
+ */
+public class DuplicateAssetsAction extends AnAction {
+
+    private static final Logger LOG = Logger.getInstance(DuplicateAssetsAction.class);
+    private static final String TITLE = "Duplicate Flutter Assets";
+    /**
+     * 确认对话框中最多列出的重复组数
+     */
+    private static final int MAX_LISTED_GROUPS = 10;
+
+    /**
+     * 一个 package 中可以删除的重复文件，以及需要改写的引用
+     */
+    private static class Collapse {
+        /**
+         * 删除的文件到保留的文件，相对于 package 目录
+         */
+        final Map<String, String> paths = new LinkedHashMap<>();
+        /**
+         * 删除的文件的常量引用到保留的文件的常量引用，如 Res.home_copy -> Res.home
+         */
+        final Map<String, String> constants = new HashMap<>();
+    }
+
+    @Override
+    public void actionPerformed(@NotNull AnActionEvent e) {
+        Project project = e.getData(PlatformDataKeys.PROJECT);
+        String basePath = Objects.requireNonNull(project).getBasePath();
+        AssetSettingService.AssetConfig assetConfig = AssetSettingService.getInstance().getState();
+        GenerateConfig config = assetConfig != null ? assetConfig.toGenerateConfig() : new GenerateConfig();
+        new Task.Backgroundable(project, "Finding duplicate Flutter assets", true) {
+            @Override
+            public void run(@NotNull ProgressIndicator indicator) {
+                List<String> packages = new PackageFinder(config.extraAssetRoots).find(basePath);
+                if (packages.isEmpty()) {
+                    ApplicationManager.getApplication().invokeLater(() -> Messages.showMessageDialog(project,
+                            "No Flutter package with asset directories was found.", TITLE, Messages.getErrorIcon()));
+                    return;
+                }
+                Map<String, DuplicateFinder.Report> reports = new LinkedHashMap<>();
+                Map<String, Collapse> collapses = new LinkedHashMap<>();
+                DuplicateFinder finder = new DuplicateFinder();
+                for (int i = 0; i < packages.size(); i++) {
+                    String path = packages.get(i);
+                    indicator.checkCanceled();
+                    indicator.setFraction(i * 1.0 / packages.size());
+                    indicator.setText2(path);
+                    try {
+                        DuplicateFinder.Report report = finder.find(path,
+                                new AssetsChecker().getAssetsDirs(path, config.extraAssetRoots));
+                        writeReport(path, report);
+                        LOG.info("Duplicate assets in " + path + ": " + report.toSummary());
+                        reports.put(path, report);
+                        collapses.put(path, plan(path, report, config));
+                    } catch (InterruptedException ex) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                }
+                ApplicationManager.getApplication().invokeLater(() -> showResult(project, reports, collapses, config),
+                        project.getDisposed());
+            }
+        }.queue();
+    }
+
+    /**
+     * 按生成的 res 文件确定每个要删除的文件的常量应改为哪个常量。被排除的资源（如 fonts: 中引用的字体）不在生成的声明中，
+     * 引用无法改写，不删除也不作为保留的文件
+     */
+    private static Collapse plan(String path, DuplicateFinder.Report report, GenerateConfig config) {
+        Map<String, String> pathToConstant = new HashMap<>();
+        for (Map.Entry<String, String> entry : ResDartParser.parse(path, config).entrySet()) {
+            pathToConstant.putIfAbsent(entry.getValue(), entry.getKey());
+        }
+        Collapse collapse = new Collapse();
+        for (Map.Entry<String, String> replacement : DuplicateFinder.getReplacements(report.groups).entrySet()) {
+            if (AssetsGenerator.isExcluded(replacement.getKey(), config.excludePath)
+                    || AssetsGenerator.isExcluded(replacement.getValue(), config.excludePath)) {
+                continue;
+            }
+            String constant = pathToConstant.get(replacement.getKey());
+            if (constant != null) {
+                String keptConstant = pathToConstant.get(replacement.getValue());
+                if (keptConstant == null) {
+                    continue;
+                }
+                collapse.constants.put(constant, keptConstant);
+            }
+            collapse.paths.put(replacement.getKey(), replacement.getValue());
+        }
+        return collapse;
+    }
+
+    private void showResult(Project project, Map<String, DuplicateFinder.Report> reports,
+                            Map<String, Collapse> collapses, GenerateConfig config) {
+        StringBuilder sb = new StringBuilder();
+        int listed = 0;
+        boolean found = false;
+        for (Map.Entry<String, DuplicateFinder.Report> entry : reports.entrySet()) {
+            DuplicateFinder.Report report = entry.getValue();
+            if (reports.size() > 1) {
+                sb.append(entry.getKey()).append(":\n");
+            }
+            sb.append(report.toSummary()).append("\n");
+            for (DuplicateFinder.DuplicateGroup group : report.groups) {
+                found = true;
+                if (listed++ < MAX_LISTED_GROUPS) {
+                    sb.append("\n").append(DuplicateFinder.formatBytes(group.wastedBytes())).append(" wasted, keep ")
+                            .append(group.paths.get(0)).append("\n");
+                    for (String duplicate : group.paths.subList(1, group.paths.size())) {
+                        sb.append("    ").append(duplicate).append("\n");
+                    }
+                }
+            }
+        }
+        if (!found) {
+            notify(project, "No duplicate assets found.\n" + sb, NotificationType.INFORMATION);
+            return;
+        }
+        if (listed > MAX_LISTED_GROUPS) {
+            sb.append("\n... and ").append(listed - MAX_LISTED_GROUPS).append(" more groups, see ")
+                    .append(DuplicateFinder.REPORT_FILE).append("\n");
+        }
+        int deletable = 0;
+        for (Collapse collapse : collapses.values()) {
+            deletable += collapse.paths.size();
+        }
+        if (deletable == 0) {
+            notify(project, sb + "\nNone of the duplicates can be deleted automatically: they are resolution variants, "
+                    + "excluded assets or the kept file has no generated constant.", NotificationType.INFORMATION);
+            return;
+        }
+        sb.append("\nDelete ").append(deletable).append(" duplicate files? Path strings and Res constants that use them "
+                + "are changed to the kept file, then the assets reference is regenerated. Resolution variants, excluded assets "
+                + "and duplicates whose kept file has no generated constant are left.");
+        int answer = Messages.showYesNoDialog(project, sb.toString(), TITLE, "Delete Duplicates", "Close",
+                Messages.getWarningIcon());
+        if (answer == Messages.YES) {
+            // 查找引用需要索引
+            DumbService.getInstance(project).runWhenSmart(() -> collapse(project, collapses, config));
+        }
+    }
+
+    private void collapse(Project project, Map<String, Collapse> collapses, GenerateConfig config) {
+        long start = System.nanoTime();
+        LocalFileSystem fs = LocalFileSystem.getInstance();
+        // 删除前查出所有引用：路径字符串按所在目录，常量按引用
+        Map<VirtualFile, Collapse> packages = new LinkedHashMap<>();
+        Set<VirtualFile> usages = new LinkedHashSet<>();
+        Set<String> constants = new HashSet<>();
+        for (Map.Entry<String, Collapse> entry : collapses.entrySet()) {
+            Collapse collapse = entry.getValue();
+            VirtualFile packageDir = fs.refreshAndFindFileByPath(entry.getKey());
+            if (packageDir == null || collapse.paths.isEmpty()) {
+                continue;
+            }
+            packages.put(packageDir, collapse);
+            Set<String> dirs = new TreeSet<>();
+            for (String path : collapse.paths.keySet()) {
+                dirs.add(path.substring(0, path.lastIndexOf('/')));
+            }
+            for (String dir : dirs) {
+                usages.addAll(AssetUsageIndex.findFilesUsingDir(project, packageDir, dir));
+            }
+            constants.addAll(collapse.constants.keySet());
+        }
+        usages.addAll(AssetUsageIndex.findFiles(project, constants));
+
+        int[] count = new int[3];
+        WriteCommandAction.runWriteCommandAction(project, TITLE, null, () -> {
+            for (VirtualFile file : usages) {
+                // pubspec.yaml 中的声明在重新生成时更新
+                if (!"dart".equals(file.getExtension())) {
+                    continue;
+                }
+                // 常量和路径只在所属 package 中改写，其他 package 可能有同名的常量
+                VirtualFile packageDir = AssetPathService.findPackageDir(file);
+                Collapse collapse = packageDir != null ? packages.get(packageDir) : null;
+                if (collapse == null) {
+                    continue;
+                }
+                count[0] += MoveAssetDirectoryAction.replace(file, literalPattern(collapse.paths.keySet()),
+                        m -> collapse.paths.get(m.group()));
+                count[1] += MoveAssetDirectoryAction.replace(file, AssetUsageIndex.CONSTANT_REFERENCE,
+                        m -> collapse.constants.get(m.group()));
+            }
+            PsiDocumentManager.getInstance(project).commitAllDocuments();
+            FileDocumentManager.getInstance().saveAllDocuments();
+            for (Map.Entry<VirtualFile, Collapse> entry : packages.entrySet()) {
+                for (Map.Entry<String, String> r : entry.getValue().paths.entrySet()) {
+                    VirtualFile file = entry.getKey().findFileByRelativePath(r.getKey());
+                    if (file == null) {
+                        continue;
+                    }
+                    try {
+                        file.delete(this);
+                        count[2]++;
+                        LOG.info("Deleted duplicate asset " + r.getKey() + ", use " + r.getValue());
+                    } catch (IOException e) {
+                        LOG.warn("Failed to delete duplicate asset " + r.getKey(), e);
+                    }
+                }
+            }
+        });
+        String summary = count[2] + " duplicate files deleted, " + count[0] + " path strings and " + count[1]
+                + " Res references changed to the kept files";
+        regenerate(project, packages.keySet(), config, summary, start);
+    }
+
+    private static Pattern literalPattern(Set<String> paths) {
+        StringBuilder sb = new StringBuilder();
+        for (String path : paths) {
+            sb.append(sb.length() == 0 ? "" : "|").append(Pattern.quote(path));
+        }
+        return Pattern.compile("(?<=['\"])(?:" + sb + ")(?=['\"])");
+    }
+
+    private static void regenerate(Project project, Collection<VirtualFile> packageDirs, GenerateConfig config,
+                                   String summary, long start) {
+        // 删除的文件还在 git 索引中，重新生成时遍历磁盘
+        config.gitIndexSource = false;
+        new Task.Backgroundable(project, "Regenerating Flutter assets reference", false) {
+            @Override
+            public void run(@NotNull ProgressIndicator indicator) {
+                for (VirtualFile packageDir : packageDirs) {
+                    try {
+                        WorkspaceGenerator.PackageResult r = WorkspaceGenerator.generatePackage(packageDir.getPath(),
+                                config, AssetModel.FILES, new DocumentOutputSink(project));
+                        if (r.error != null) {
+                            LOG.warn("Failed to regenerate assets reference for " + r.path, r.error);
+                        }
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                }
+            }
+
+            @Override
+            public void onSuccess() {
+                String content = summary + " in " + (System.nanoTime() - start) / 1_000_000 + " ms.";
+                LOG.info(content);
+                DuplicateAssetsAction.notify(project, content, NotificationType.INFORMATION);
+            }
+        }.queue();
+    }
+
+    private static void writeReport(String path, DuplicateFinder.Report report) {
+        File file = new File(path, DuplicateFinder.REPORT_FILE);
+        try {
+            file.getParentFile().mkdirs();
+            Files.write(file.toPath(), report.toJson(path).getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    private static void notify(Project project, String content, NotificationType type) {
+        NotificationGroupManager.getInstance().getNotificationGroup(AssetsRefGenerator.NOTIFICATION_GROUP)
+                .createNotification(content.replace("\n", "<br>"), type)
+                .notify(project);
+    }
+}
@@ -0,0 +1,261 @@
+package com.shenyong.flutter;
+
+import com.intellij.notification.NotificationGroupManager;
+import com.intellij.notification.NotificationType;
+import com.intellij.openapi.actionSystem.AnAction;
+import com.intellij.openapi.actionSystem.AnActionEvent;
+import com.intellij.openapi.actionSystem.CommonDataKeys;
+import com.intellij.openapi.command.WriteCommandAction;
+import com.intellij.openapi.diagnostic.Logger;
+import com.intellij.openapi.editor.Document;
+import com.intellij.openapi.fileEditor.FileDocumentManager;
+import com.intellij.openapi.progress.ProgressIndicator;
+import com.intellij.openapi.progress.Task;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.ui.InputValidator;
+import com.intellij.openapi.ui.Messages;
+import com.intellij.openapi.vfs.VfsUtil;
+import com.intellij.openapi.vfs.VfsUtilCore;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.PsiDocumentManager;
+import com.shenyong.flutter.generator.AssetModel;
+import com.shenyong.flutter.generator.GenerateConfig;
+import com.shenyong.flutter.generator.ResDartParser;
+import com.shenyong.flutter.generator.WorkspaceGenerator;
+import com.shenyong.flutter.psi.AssetUsageIndex;
+import com.shenyong.flutter.service.AssetModelService;
+import com.shenyong.flutter.service.AssetPathService;
+import com.shenyong.flutter.service.AssetSettingService;
+import com.shenyong.flutter.service.DocumentOutputSink;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.util.*;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 重命名或移动资源目录，如 assets/icons -> assets/glyphs，并更新所有引用。
+ * <p>
+ * 通过 {@link AssetUsageIndex} 一次查出引用了该目录的 Dart 文件和 pubspec.yaml，在一个 write action 中移动目录并改写其中的路径字符串，
+ * 之后只重新生成一次 pubspec.yaml 和 res 文件。重新生成后常量名有变化的 Res 引用（如分片类名、重名资源带目录前缀的常量名）
+ * 再查一次索引统一改写。
+ */
+public class MoveAssetDirectoryAction extends AnAction {
+
+    private static final Logger LOG = Logger.getInstance(MoveAssetDirectoryAction.class);
+    private static final String TITLE = "Move Flutter Asset Directory";
+    private static final String VALID_PATH = "[-\\w\\u00C0-\\u017F]+(/[-\\w\\u00C0-\\u017F]+)*";
+
+    @Override
+    public void update(@NotNull AnActionEvent e) {
+        VirtualFile file = e.getData(CommonDataKeys.VIRTUAL_FILE);
+        Project project = e.getProject();
+        e.getPresentation().setEnabledAndVisible(project != null && getAssetDirPath(project, file) != null);
+    }
+
+    @Override
+    public void actionPerformed(@NotNull AnActionEvent e) {
+        Project project = Objects.requireNonNull(e.getProject());
+        VirtualFile dir = e.getData(CommonDataKeys.VIRTUAL_FILE);
+        String oldPath = getAssetDirPath(project, dir);
+        VirtualFile packageDir = AssetPathService.findPackageDir(dir);
+        if (oldPath == null || packageDir == null) {
+            return;
+        }
+        String newPath = Messages.showInputDialog(project, "Move " + oldPath + " to (relative to " + packageDir.getName() + "):",
+                TITLE, null, oldPath, new InputValidator() {
+                    @Override
+                    public boolean checkInput(String inputString) {
+                        return isValidTarget(project, packageDir, oldPath, inputString);
+                    }
+
+                    @Override
+                    public boolean canClose(String inputString) {
+                        return checkInput(inputString);
+                    }
+                });
+        if (newPath == null) {
+            return;
+        }
+        move(project, packageDir, dir, oldPath, newPath);
+    }
+
+    private void move(Project project, VirtualFile packageDir, VirtualFile dir, String oldPath, String newPath) {
+        long start = System.nanoTime();
+        AssetSettingService.AssetConfig assetConfig = AssetSettingService.getInstance().getState();
+        GenerateConfig config = assetConfig != null ? assetConfig.toGenerateConfig() : new GenerateConfig();
+        // 移动后的文件还没有加入 git 索引，重新生成时遍历磁盘
+        config.gitIndexSource = false;
+        Map<String, String> oldConstants = ResDartParser.parse(packageDir.getPath(), config);
+        // 动作不是 DumbAware，执行时索引已就绪
+        Set<VirtualFile> files = AssetUsageIndex.findFilesUsingDir(project, packageDir, oldPath);
+        Pattern literal = Pattern.compile("(?<=['\"\\s:])" + Pattern.quote(oldPath) + "(?=[/'\"\\s]|$)", Pattern.MULTILINE);
+
+        int[] updated = new int[2];
+        IOException[] error = new IOException[1];
+        WriteCommandAction.runWriteCommandAction(project, TITLE, null, () -> {
+            try {
+                moveDirectory(packageDir, dir, newPath);
+            } catch (IOException ex) {
+                error[0] = ex;
+                return;
+            }
+            for (VirtualFile file : files) {
+                int count = replace(file, literal, m -> newPath);
+                if (count > 0) {
+                    updated[0] += count;
+                    updated[1]++;
+                }
+            }
+            PsiDocumentManager.getInstance(project).commitAllDocuments();
+            // 之后从磁盘解析 res 文件得到新的常量名，重新生成时内容没有变化的文件不会再写入
+            FileDocumentManager.getInstance().saveAllDocuments();
+        });
+        if (error[0] != null) {
+            Messages.showErrorDialog(project, "Failed to move " + oldPath + ": " + error[0].getMessage(), TITLE);
+            return;
+        }
+        String summary = oldPath + " moved to " + newPath + ", " + updated[0] + " path references updated in "
+                + updated[1] + " files";
+        new Task.Backgroundable(project, "Regenerating Flutter assets reference", false) {
+            private final Map<String, String> renamedConstants = new LinkedHashMap<>();
+            private String stats = "";
+
+            @Override
+            public void run(@NotNull ProgressIndicator indicator) {
+                try {
+                    // 输出通过 Document/VFS 写入，结束后 VFS 中已是新的内容，不需要再刷新
+                    WorkspaceGenerator.PackageResult r = WorkspaceGenerator.generatePackage(packageDir.getPath(),
+                            config, AssetModel.FILES, new DocumentOutputSink(project));
+                    if (r.error != null) {
+                        LOG.warn("Failed to regenerate assets reference for " + r.path, r.error);
+                    } else if (r.generated) {
+                        stats = r.stats.toSummary();
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                Map<String, String> pathToConstant = new HashMap<>();
+                for (Map.Entry<String, String> entry : ResDartParser.parse(packageDir.getPath(), config).entrySet()) {
+                    pathToConstant.put(entry.getValue(), entry.getKey());
+                }
+                for (Map.Entry<String, String> entry : oldConstants.entrySet()) {
+                    String path = entry.getValue();
+                    if (!path.startsWith(oldPath + "/")) {
+                        continue;
+                    }
+                    String constant = pathToConstant.get(newPath + path.substring(oldPath.length()));
+                    if (constant != null && !constant.equals(entry.getKey())) {
+                        renamedConstants.put(entry.getKey(), constant);
+                    }
+                }
+            }
+
+            @Override
+            public void onSuccess() {
+                int constants = 0;
+                if (!renamedConstants.isEmpty()) {
+                    Set<VirtualFile> resUsages = AssetUsageIndex.findFiles(project, renamedConstants.keySet());
+                    int[] count = new int[1];
+                    WriteCommandAction.runWriteCommandAction(project, TITLE, null, () -> {
+                        for (VirtualFile file : resUsages) {
+                            // 只改写生成的文件中改名的常量，其他类的同名成员不在映射中
+                            count[0] += replace(file, AssetUsageIndex.CONSTANT_REFERENCE,
+                                    m -> renamedConstants.get(m.group()));
+                        }
+                    });
+                    constants = count[0];
+                }
+                String content = summary + ", " + constants + " Res references updated in "
+                        + (System.nanoTime() - start) / 1_000_000 + " ms.\n" + stats;
+                LOG.info(content);
+                NotificationGroupManager.getInstance().getNotificationGroup(AssetsRefGenerator.NOTIFICATION_GROUP)
+                        .createNotification(content.replace("\n", "<br>"), NotificationType.INFORMATION)
+                        .notify(project);
+            }
+        }.queue();
+    }
+
+    interface Replacer {
+        /**
+         * @return 替换后的文本，null 表示不替换
+         */
+        @Nullable String replace(Matcher matcher);
+    }
+
+    /**
+     * 从后向前替换，前面的偏移不受影响。需要在 write action 中调用，删除重复资源后改写引用时也使用
+     *
+     * @return 替换的次数
+     */
+    static int replace(VirtualFile file, Pattern pattern, Replacer replacer) {
+        Document document = FileDocumentManager.getInstance().getDocument(file);
+        if (document == null || !document.isWritable()) {
+            return 0;
+        }
+        List<int[]> ranges = new ArrayList<>();
+        List<String> replacements = new ArrayList<>();
+        Matcher matcher = pattern.matcher(document.getImmutableCharSequence());
+        while (matcher.find()) {
+            String replacement = replacer.replace(matcher);
+            if (replacement != null) {
+                ranges.add(new int[]{matcher.start(), matcher.end()});
+                replacements.add(replacement);
+            }
+        }
+        for (int i = ranges.size() - 1; i >= 0; i--) {
+            document.replaceString(ranges.get(i)[0], ranges.get(i)[1], replacements.get(i));
+        }
+        return ranges.size();
+    }
+
+    private void moveDirectory(VirtualFile packageDir, VirtualFile dir, String newPath) throws IOException {
+        int slash = newPath.lastIndexOf('/');
+        String newName = newPath.substring(slash + 1);
+        VirtualFile newParent = slash == -1 ? packageDir : VfsUtil.createDirectoryIfMissing(packageDir, newPath.substring(0, slash));
+        if (newParent == null) {
+            throw new IOException("Cannot create " + newPath.substring(0, slash));
+        }
+        VirtualFile oldParent = Objects.requireNonNull(dir.getParent());
+        // 先在原目录中重命名，除非原目录中已有同名文件
+        if (oldParent.findChild(newName) == null) {
+            dir.rename(this, newName);
+            if (!newParent.equals(oldParent)) {
+                dir.move(this, newParent);
+            }
+        } else {
+            dir.move(this, newParent);
+            dir.rename(this, newName);
+        }
+    }
+
+    private boolean isValidTarget(Project project, VirtualFile packageDir, String oldPath, String newPath) {
+        if (newPath == null || !newPath.matches(VALID_PATH) || newPath.equals(oldPath)
+                || newPath.startsWith(oldPath + "/")) {
+            return false;
+        }
+        int slash = newPath.indexOf('/');
+        return slash != -1 && AssetModelService.getInstance(project).getAssetsDirs(packageDir)
+                .contains(newPath.substring(0, slash)) && packageDir.findFileByRelativePath(newPath) == null;
+    }
+
+    /**
+     * @return 资源目录相对于 package 的路径，如 assets/icons；不是资源根目录下的目录时返回 null
+     */
+    private @Nullable String getAssetDirPath(@NotNull Project project, @Nullable VirtualFile file) {
+        if (file == null || !file.isDirectory()) {
+            return null;
+        }
+        VirtualFile packageDir = AssetPathService.findPackageDir(file);
+        String path = packageDir != null ? VfsUtilCore.getRelativePath(file, packageDir) : null;
+        if (path == null) {
+            return null;
+        }
+        int slash = path.indexOf('/');
+        return slash != -1 && AssetModelService.getInstance(project).getAssetsDirs(packageDir)
+                .contains(path.substring(0, slash)) ? path : null;
+    }
+}
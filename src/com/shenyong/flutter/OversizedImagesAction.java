@@ -0,0 +1,97 @@
+package com.shenyong.flutter;
+
+import com.intellij.notification.NotificationGroupManager;
+import com.intellij.notification.NotificationType;
+import com.intellij.openapi.actionSystem.AnAction;
+import com.intellij.openapi.actionSystem.AnActionEvent;
+import com.intellij.openapi.actionSystem.PlatformDataKeys;
+import com.intellij.openapi.application.ApplicationManager;
+import com.intellij.openapi.diagnostic.Logger;
+import com.intellij.openapi.progress.ProgressIndicator;
+import com.intellij.openapi.progress.Task;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.ui.Messages;
+import com.shenyong.flutter.analysis.DuplicateFinder;
+import com.shenyong.flutter.analysis.OversizedImageFinder;
+import com.shenyong.flutter.checker.AssetsChecker;
+import com.shenyong.flutter.generator.GenerateConfig;
+import com.shenyong.flutter.generator.PackageFinder;
+import com.shenyong.flutter.service.AssetSettingService;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 检查整个项目中超出尺寸或文件大小预算的图片，报告写到每个 package 的 {@link OversizedImageFinder#REPORT_FILE}。
+ */
+public class OversizedImagesAction extends AnAction {
+
+    private static final Logger LOG = Logger.getInstance(OversizedImagesAction.class);
+    /**
+     * 通知中最多列出的图片数
+     */
+    private static final int MAX_LISTED = 10;
+
+    @Override
+    public void actionPerformed(@NotNull AnActionEvent e) {
+        Project project = e.getData(PlatformDataKeys.PROJECT);
+        String basePath = Objects.requireNonNull(project).getBasePath();
+        AssetSettingService.AssetConfig assetConfig = AssetSettingService.getInstance().getState();
+        GenerateConfig config = assetConfig != null ? assetConfig.toGenerateConfig() : new GenerateConfig();
+        new Task.Backgroundable(project, "Checking Flutter image sizes", true) {
+            @Override
+            public void run(@NotNull ProgressIndicator indicator) {
+                List<String> packages = new PackageFinder(config.extraAssetRoots).find(basePath);
+                if (packages.isEmpty()) {
+                    ApplicationManager.getApplication().invokeLater(() -> Messages.showMessageDialog(project,
+                            "No Flutter package with asset directories was found.", "Oversized Flutter Images", Messages.getErrorIcon()));
+                    return;
+                }
+                OversizedImageFinder finder = new OversizedImageFinder(config.imageBudget);
+                StringBuilder sb = new StringBuilder();
+                int found = 0;
+                int listed = 0;
+                for (int i = 0; i < packages.size(); i++) {
+                    String path = packages.get(i);
+                    indicator.checkCanceled();
+                    indicator.setFraction(i * 1.0 / packages.size());
+                    indicator.setText2(path);
+                    OversizedImageFinder.Report report = finder.find(path,
+                            new AssetsChecker().getAssetsDirs(path, config.extraAssetRoots), config.excludePath);
+                    writeReport(path, report);
+                    LOG.info("Oversized images in " + path + ": " + report.toSummary());
+                    found += report.violations.size();
+                    sb.append(packages.size() > 1 ? path + ": " : "").append(report.toSummary()).append("\n");
+                    for (OversizedImageFinder.Violation v : report.violations) {
+                        if (listed++ < MAX_LISTED) {
+                            sb.append(v.path).append(" (").append(DuplicateFinder.formatBytes(v.bytes)).append("): ")
+                                    .append(v.message).append("\n");
+                        }
+                    }
+                }
+                if (listed > MAX_LISTED) {
+                    sb.append("... see ").append(OversizedImageFinder.REPORT_FILE);
+                }
+                NotificationGroupManager.getInstance().getNotificationGroup(AssetsRefGenerator.NOTIFICATION_GROUP)
+                        .createNotification(sb.toString().replace("\n", "<br>"),
+                                found > 0 ? NotificationType.WARNING : NotificationType.INFORMATION)
+                        .notify(project);
+            }
+        }.queue();
+    }
+
+    private static void writeReport(String path, OversizedImageFinder.Report report) {
+        File file = new File(path, OversizedImageFinder.REPORT_FILE);
+        try {
+            file.getParentFile().mkdirs();
+            Files.write(file.toPath(), report.toJson(path).getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+}
@@ -0,0 +1,207 @@
+package com.shenyong.flutter.analysis;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+
+/**
+ * 按路径分段的资源路径前缀树，用于补全。补全时只需沿已输入的完整分段向下查找，再在最后一级按前缀取子节点，
+ * 与资源总数无关。
+ * <p>
+ * 2.0x、3.0x 等倍率目录中的文件记在主资源的路径下，与代码中引用资源的写法一致；同一路径的多个物理文件分别计数，
+ * 全部删除后才移除该路径。可以在读的同时增量更新。
+ */
+public class AssetPathTrie {
+
+    private static final Pattern RATIO_DIR = Pattern.compile("^[1-9](\\.\\d)x$");
+
+    public static class Entry {
+        /**
+         * 分段名，目录以 / 结尾
+         */
+        public final String name;
+        /**
+         * 完整的资源路径，如 assets/icons/home.png
+         */
+        public final String path;
+        public final boolean directory;
+
+        Entry(String name, String path, boolean directory) {
+            this.name = name;
+            this.path = path;
+            this.directory = directory;
+        }
+    }
+
+    private static class Node {
+        final TreeMap<String, Node> children = new TreeMap<>();
+        /**
+         * 对应这个路径的物理文件数，目录为 0
+         */
+        int files;
+    }
+
+    private final Node root = new Node();
+    /**
+     * 已添加的物理文件路径，重复添加或删除不存在的文件时不改变计数
+     */
+    private final Set<String> physicalPaths = new HashSet<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * @param physicalPath 相对于 package 目录的文件路径，如 assets/icons/3.0x/home.png
+     * @return 是否为新添加的文件
+     */
+    public boolean add(String physicalPath) {
+        lock.writeLock().lock();
+        try {
+            if (!physicalPaths.add(physicalPath)) {
+                return false;
+            }
+            Node node = root;
+            for (String segment : toLogical(physicalPath)) {
+                node = node.children.computeIfAbsent(segment, k -> new Node());
+            }
+            node.files++;
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * @param physicalPath 相对于 package 目录的文件路径
+     * @return 文件是否存在
+     */
+    public boolean remove(String physicalPath) {
+        lock.writeLock().lock();
+        try {
+            if (!physicalPaths.remove(physicalPath)) {
+                return false;
+            }
+            List<String> segments = toLogical(physicalPath);
+            Node[] path = new Node[segments.size() + 1];
+            path[0] = root;
+            for (int i = 0; i < segments.size(); i++) {
+                path[i + 1] = path[i].children.get(segments.get(i));
+            }
+            path[segments.size()].files--;
+            // 自下而上删除已经没有文件的节点
+            for (int i = segments.size(); i > 0; i--) {
+                Node node = path[i];
+                if (node.files > 0 || !node.children.isEmpty()) {
+                    break;
+                }
+                path[i - 1].children.remove(segments.get(i - 1));
+            }
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 删除某个目录下的所有文件
+     *
+     * @param physicalDir 相对于 package 目录的目录路径，不以 / 结尾
+     */
+    public void removeDirectory(String physicalDir) {
+        lock.writeLock().lock();
+        try {
+            String prefix = physicalDir + "/";
+            List<String> removed = new ArrayList<>();
+            for (String path : physicalPaths) {
+                if (path.startsWith(prefix)) {
+                    removed.add(path);
+                }
+            }
+            for (String path : removed) {
+                remove(path);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * @param typed 已输入的路径，如 assets/ic
+     * @param limit 最多返回的条数
+     * @return 最后一级中以已输入部分开头的分段，目录在前
+     */
+    public List<Entry> complete(String typed, int limit) {
+        int slash = typed.lastIndexOf('/');
+        String dir = slash == -1 ? "" : typed.substring(0, slash + 1);
+        String prefix = typed.substring(slash + 1);
+        lock.readLock().lock();
+        try {
+            Node node = root;
+            if (!dir.isEmpty()) {
+                for (String segment : dir.split("/")) {
+                    node = node.children.get(segment);
+                    if (node == null) {
+                        return Collections.emptyList();
+                    }
+                }
+            }
+            List<Entry> dirs = new ArrayList<>();
+            List<Entry> files = new ArrayList<>();
+            for (Map.Entry<String, Node> child : node.children.tailMap(prefix, true).entrySet()) {
+                String name = child.getKey();
+                if (!name.startsWith(prefix) || dirs.size() + files.size() >= limit) {
+                    break;
+                }
+                if (!child.getValue().children.isEmpty()) {
+                    dirs.add(new Entry(name + "/", dir + name + "/", true));
+                }
+                if (child.getValue().files > 0) {
+                    files.add(new Entry(name, dir + name, false));
+                }
+            }
+            dirs.addAll(files);
+            return dirs;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public boolean contains(String logicalPath) {
+        lock.readLock().lock();
+        try {
+            Node node = root;
+            for (String segment : logicalPath.split("/")) {
+                node = node.children.get(segment);
+                if (node == null) {
+                    return false;
+                }
+            }
+            return node.files > 0;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @return 物理文件数
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return physicalPaths.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static List<String> toLogical(String physicalPath) {
+        String[] segments = physicalPath.split("/");
+        List<String> logical = new ArrayList<>(segments.length);
+        for (int i = 0; i < segments.length; i++) {
+            // 最后一段是文件名，其余的倍率目录不计入
+            if (i == segments.length - 1 || !RATIO_DIR.matcher(segments[i]).matches()) {
+                logical.add(segments[i]);
+            }
+        }
+        return logical;
+    }
+}
@@ -0,0 +1,98 @@
+package com.shenyong.flutter.analysis;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeSet;
+
+/**
+ * 资源包大小预算，单位为 KB。预算保存在 package 目录下的 {@link #FILE} 中，随工程提交，IDE 和 CI 使用同一份预算：
+ * <pre>
+ * # 所有声明的资源（含变体）的总大小
+ * total=51200
+ * # 目录，包括下级目录
+ * dir.assets/feature_0=4096
+ * # 文件类型
+ * type.png=40960
+ * # 像素比
+ * ratio.3.0x=20480
+ * </pre>
+ */
+public class BundleBudget {
+
+    public static final String FILE = "asset_budget.properties";
+
+    private static final String TOTAL = "total";
+    private static final String DIR_PREFIX = "dir.";
+    private static final String TYPE_PREFIX = "type.";
+    private static final String RATIO_PREFIX = "ratio.";
+
+    /**
+     * 总大小上限，0 表示不限制
+     */
+    public long maxTotalKb;
+    /**
+     * 目录（如 assets/feature_0，不带末尾的 /）到上限的映射
+     */
+    public final Map<String, Long> maxKbByDir = new LinkedHashMap<>();
+    /**
+     * 小写的扩展名（如 png）到上限的映射
+     */
+    public final Map<String, Long> maxKbByType = new LinkedHashMap<>();
+    /**
+     * 像素比（如 3.0x）到上限的映射
+     */
+    public final Map<String, Long> maxKbByRatio = new LinkedHashMap<>();
+    /**
+     * 值不是整数或键无法识别的项（key=value），不参与检查，在报告中列出
+     */
+    public final List<String> invalidEntries = new ArrayList<>();
+
+    /**
+     * @param content {@link #FILE} 的内容，为 null 时没有预算
+     */
+    public static BundleBudget parse(String content) {
+        BundleBudget budget = new BundleBudget();
+        if (content == null) {
+            return budget;
+        }
+        Properties properties = new Properties();
+        try {
+            properties.load(new StringReader(content));
+        } catch (IOException e) {
+            e.printStackTrace();
+            return budget;
+        }
+        for (String key : new TreeSet<>(properties.stringPropertyNames())) {
+            long kb;
+            try {
+                kb = Long.parseLong(properties.getProperty(key).trim());
+            } catch (NumberFormatException e) {
+                budget.invalidEntries.add(key + "=" + properties.getProperty(key));
+                continue;
+            }
+            if (key.equals(TOTAL)) {
+                budget.maxTotalKb = kb;
+            } else if (key.startsWith(DIR_PREFIX)) {
+                String dir = key.substring(DIR_PREFIX.length());
+                budget.maxKbByDir.put(dir.endsWith("/") ? dir.substring(0, dir.length() - 1) : dir, kb);
+            } else if (key.startsWith(TYPE_PREFIX)) {
+                budget.maxKbByType.put(key.substring(TYPE_PREFIX.length()).toLowerCase(Locale.ROOT), kb);
+            } else if (key.startsWith(RATIO_PREFIX)) {
+                budget.maxKbByRatio.put(key.substring(RATIO_PREFIX.length()), kb);
+            } else {
+                budget.invalidEntries.add(key + "=" + properties.getProperty(key));
+            }
+        }
+        return budget;
+    }
+
+    public boolean isEmpty() {
+        return maxTotalKb <= 0 && maxKbByDir.isEmpty() && maxKbByType.isEmpty() && maxKbByRatio.isEmpty();
+    }
+}
@@ -0,0 +1,254 @@
+package com.shenyong.flutter.analysis;
+
+import com.shenyong.flutter.generator.AssetModel;
+import com.shenyong.flutter.generator.FileSizes;
+import com.shenyong.flutter.generator.GenerationStats;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+/**
+ * 资源包大小报告：声明的资源（含变体，不含排除的资源）按目录、文件类型和像素比汇总的大小，最大的文件，以及超出 {@link BundleBudget} 的项。
+ * 大小来自扫描时记录的 {@link FileSizes}，汇总只遍历一次内存中的记录，不访问磁盘。
+ */
+public class BundleSizeReport {
+
+    /**
+     * JSON 报告路径，相对于项目目录
+     */
+    public static final String REPORT_FILE = ".dart_tool/assets_ref_generator/bundle_size.json";
+    public static final int DEFAULT_TOP = 10;
+
+    public static class Entry {
+        /**
+         * 目录、扩展名、像素比或文件路径
+         */
+        public String name;
+        public long bytes;
+        public int files;
+    }
+
+    public long totalBytes;
+    public int files;
+    /**
+     * 以下列表都按大小从大到小排序。目录为资源所在的逻辑目录，变体计入主资源的目录
+     */
+    public final List<Entry> byDir = new ArrayList<>();
+    public final List<Entry> byType = new ArrayList<>();
+    public final List<Entry> byRatio = new ArrayList<>();
+    /**
+     * 最大的 top 个文件
+     */
+    public final List<Entry> largestFiles = new ArrayList<>();
+    /**
+     * 超出预算的说明，没有超出时为空
+     */
+    public final List<String> violations = new ArrayList<>();
+    /**
+     * 预算文件中无效、被忽略的项，见 {@link BundleBudget#invalidEntries}
+     */
+    public final List<String> invalidBudgets = new ArrayList<>();
+    public long nanos;
+
+    /**
+     * @param sizes    扫描时记录的文件大小
+     * @param excluded 被排除的资源，不计入
+     * @param budget   预算
+     * @param top      最大文件的数量
+     */
+    public static BundleSizeReport compute(FileSizes sizes, Collection<AssetModel.AssetGroup> excluded,
+                                           BundleBudget budget, int top) {
+        long start = System.nanoTime();
+        BundleSizeReport report = new BundleSizeReport();
+        Set<AssetModel.AssetGroup> excludedGroups = Collections.newSetFromMap(new IdentityHashMap<>());
+        excludedGroups.addAll(excluded);
+        Map<AssetModel.Dir, Entry> dirs = new IdentityHashMap<>();
+        Map<String, Entry> types = new HashMap<>();
+        Map<Byte, Entry> ratios = new HashMap<>();
+        // 小顶堆，保留最大的 top 个文件的下标
+        PriorityQueue<Integer> largest = new PriorityQueue<>(Comparator.comparingLong(sizes::getBytes));
+        for (int i = 0; i < sizes.size(); i++) {
+            AssetModel.AssetGroup group = sizes.getGroup(i);
+            if (excludedGroups.contains(group)) {
+                continue;
+            }
+            long bytes = sizes.getBytes(i);
+            report.totalBytes += bytes;
+            report.files++;
+            add(dirs.computeIfAbsent(group.dir, d -> newEntry(d.path)), bytes);
+            add(types.computeIfAbsent(typeOf(group.fileName), BundleSizeReport::newEntry), bytes);
+            add(ratios.computeIfAbsent(sizes.getRatio(i), r -> newEntry(r / 10 + "." + r % 10 + "x")), bytes);
+            if (largest.size() < top) {
+                largest.add(i);
+            } else if (top > 0 && bytes > sizes.getBytes(largest.peek())) {
+                largest.poll();
+                largest.add(i);
+            }
+        }
+        report.byDir.addAll(dirs.values());
+        report.byType.addAll(types.values());
+        report.byRatio.addAll(ratios.values());
+        for (int i : largest) {
+            Entry entry = newEntry(sizes.getPath(i));
+            add(entry, sizes.getBytes(i));
+            report.largestFiles.add(entry);
+        }
+        Comparator<Entry> bySize = Comparator.comparingLong((Entry e) -> e.bytes).reversed().thenComparing(e -> e.name);
+        report.byDir.sort(bySize);
+        report.byType.sort(bySize);
+        report.byRatio.sort(bySize);
+        report.largestFiles.sort(bySize);
+        report.check(budget);
+        report.invalidBudgets.addAll(budget.invalidEntries);
+        report.nanos = System.nanoTime() - start;
+        return report;
+    }
+
+    private void check(BundleBudget budget) {
+        if (budget.maxTotalKb > 0) {
+            checkLimit("total", totalBytes, budget.maxTotalKb);
+        }
+        for (Map.Entry<String, Long> limit : budget.maxKbByDir.entrySet()) {
+            String dir = limit.getKey();
+            long bytes = 0;
+            for (Entry e : byDir) {
+                if (e.name.equals(dir) || e.name.startsWith(dir + "/")) {
+                    bytes += e.bytes;
+                }
+            }
+            checkLimit(dir + "/", bytes, limit.getValue());
+        }
+        checkLimits(byType, budget.maxKbByType);
+        checkLimits(byRatio, budget.maxKbByRatio);
+    }
+
+    private void checkLimits(List<Entry> entries, Map<String, Long> limits) {
+        for (Entry e : entries) {
+            Long kb = limits.get(e.name);
+            if (kb != null) {
+                checkLimit(e.name, e.bytes, kb);
+            }
+        }
+    }
+
+    private void checkLimit(String name, long bytes, long maxKb) {
+        if (bytes > maxKb * 1024) {
+            violations.add(name + ": " + DuplicateFinder.formatBytes(bytes) + " exceeds "
+                    + DuplicateFinder.formatBytes(maxKb * 1024));
+        }
+    }
+
+    public boolean isOverBudget() {
+        return !violations.isEmpty();
+    }
+
+    /**
+     * @return 一行摘要，用于日志和通知
+     */
+    public String toSummary() {
+        return String.format(Locale.ROOT, "asset bundle %s in %d files", DuplicateFinder.formatBytes(totalBytes), files)
+                + (violations.isEmpty() ? "" : ", " + violations.size() + " budgets exceeded: "
+                + String.join("; ", violations))
+                + (invalidBudgets.isEmpty() ? "" : ", " + invalidBudgets.size() + " invalid budgets ignored: "
+                + String.join("; ", invalidBudgets));
+    }
+
+    /**
+     * @param rows 每个分类最多列出的行数
+     * @return 多行的文本报告，用于命令行输出
+     */
+    public String toText(int rows) {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format(Locale.ROOT, "Asset bundle: %s in %d files, computed in %d ms%n",
+                DuplicateFinder.formatBytes(totalBytes), files, nanos / 1_000_000));
+        appendTable(sb, "By directory", byDir, rows);
+        appendTable(sb, "By type", byType, rows);
+        appendTable(sb, "By ratio", byRatio, rows);
+        appendTable(sb, "Largest files", largestFiles, rows);
+        if (!violations.isEmpty()) {
+            sb.append(String.format(Locale.ROOT, "Budgets exceeded:%n"));
+            for (String v : violations) {
+                sb.append(String.format(Locale.ROOT, "  %s%n", v));
+            }
+        }
+        if (!invalidBudgets.isEmpty()) {
+            sb.append(String.format(Locale.ROOT, "Invalid budgets ignored:%n"));
+            for (String entry : invalidBudgets) {
+                sb.append(String.format(Locale.ROOT, "  %s%n", entry));
+            }
+        }
+        return sb.toString();
+    }
+
+    private static void appendTable(StringBuilder sb, String title, List<Entry> entries, int rows) {
+        sb.append(String.format(Locale.ROOT, "%s:%n", title));
+        for (int i = 0; i < Math.min(rows, entries.size()); i++) {
+            Entry e = entries.get(i);
+            sb.append(String.format(Locale.ROOT, "  %10s %7d  %s%n", DuplicateFinder.formatBytes(e.bytes), e.files, e.name));
+        }
+        if (entries.size() > rows) {
+            sb.append(String.format(Locale.ROOT, "  ... %d more%n", entries.size() - rows));
+        }
+    }
+
+    public String toJson(String projectPath) {
+        StringBuilder sb = new StringBuilder("{\n");
+        sb.append("  \"project\": ").append(GenerationStats.quote(projectPath)).append(",\n");
+        sb.append("  \"totalBytes\": ").append(totalBytes).append(",\n");
+        sb.append("  \"files\": ").append(files).append(",\n");
+        sb.append("  \"durationMs\": ").append(nanos / 1_000_000).append(",\n");
+        appendJson(sb, "byDir", byDir);
+        appendJson(sb, "byType", byType);
+        appendJson(sb, "byRatio", byRatio);
+        appendJson(sb, "largestFiles", largestFiles);
+        appendStrings(sb, "violations", violations);
+        sb.append(",\n");
+        appendStrings(sb, "invalidBudgets", invalidBudgets);
+        return sb.append("\n}\n").toString();
+    }
+
+    private static void appendStrings(StringBuilder sb, String key, List<String> values) {
+        sb.append("  \"").append(key).append("\": [");
+        for (int i = 0; i < values.size(); i++) {
+            sb.append(i == 0 ? "" : ", ").append(GenerationStats.quote(values.get(i)));
+        }
+        sb.append("]");
+    }
+
+    private static void appendJson(StringBuilder sb, String key, List<Entry> entries) {
+        sb.append("  \"").append(key).append("\": [");
+        for (int i = 0; i < entries.size(); i++) {
+            Entry e = entries.get(i);
+            sb.append(i == 0 ? "\n" : ",\n");
+            sb.append("    {\"name\": ").append(GenerationStats.quote(e.name))
+                    .append(", \"bytes\": ").append(e.bytes)
+                    .append(", \"files\": ").append(e.files).append("}");
+        }
+        sb.append(entries.isEmpty() ? "],\n" : "\n  ],\n");
+    }
+
+    private static Entry newEntry(String name) {
+        Entry entry = new Entry();
+        entry.name = name;
+        return entry;
+    }
+
+    private static void add(Entry entry, long bytes) {
+        entry.bytes += bytes;
+        entry.files++;
+    }
+
+    private static String typeOf(String fileName) {
+        int dot = fileName.lastIndexOf('.');
+        return dot > 0 ? fileName.substring(dot + 1).toLowerCase(Locale.ROOT) : "(none)";
+    }
+}
@@ -0,0 +1,302 @@
+package com.shenyong.flutter.analysis;
+
+import com.shenyong.flutter.generator.GenerationStats;
+import com.shenyong.flutter.generator.NamedThreadFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.regex.Pattern;
+
+/**
+ * 查找资源目录中内容完全相同的文件。
+ * <p>
+ * 先按文件大小分组，只有大小相同的文件才需要比较；再并行计算文件头 {@value #PREFIX_SIZE} 字节的摘要，排除大部分大小相同、内容不同的文件；
+ * 最后只对文件头也相同的文件流式计算完整的 SHA-256，不会把整个文件读入内存。
+ */
+public class DuplicateFinder {
+
+    /**
+     * JSON 报告路径，相对于项目目录
+     */
+    public static final String REPORT_FILE = ".dart_tool/assets_ref_generator/duplicates.json";
+
+    private static final String MAC_OS_DS_STORE = ".DS_Store";
+    private static final Pattern RATIO_DIR = Pattern.compile("^[1-9](\\.\\d)x$");
+    private static final int PREFIX_SIZE = 8 * 1024;
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    public static class DuplicateGroup {
+        public long size;
+        public String digest;
+        /**
+         * 相对于项目目录的路径，第一个为保留的文件：层级最浅，其次按名称排序
+         */
+        public final List<String> paths = new ArrayList<>();
+
+        public long wastedBytes() {
+            return size * (paths.size() - 1);
+        }
+    }
+
+    public static class Report {
+        /**
+         * 按浪费的字节数从大到小排序
+         */
+        public final List<DuplicateGroup> groups = new ArrayList<>();
+        public int filesScanned;
+        public long bytesScanned;
+        /**
+         * 计算了摘要的文件数和读取的字节数
+         */
+        public int filesHashed;
+        public long bytesHashed;
+        public long nanos;
+
+        public long wastedBytes() {
+            long wasted = 0;
+            for (DuplicateGroup group : groups) {
+                wasted += group.wastedBytes();
+            }
+            return wasted;
+        }
+
+        public int duplicateFiles() {
+            int count = 0;
+            for (DuplicateGroup group : groups) {
+                count += group.paths.size() - 1;
+            }
+            return count;
+        }
+
+        /**
+         * @return 一行摘要，用于日志和通知
+         */
+        public String toSummary() {
+            return String.format(Locale.ROOT,
+                    "%d duplicate groups, %d redundant files wasting %s; scanned %d files (%s), hashed %d files (%s) in %d ms",
+                    groups.size(), duplicateFiles(), formatBytes(wastedBytes()), filesScanned, formatBytes(bytesScanned),
+                    filesHashed, formatBytes(bytesHashed), nanos / 1_000_000);
+        }
+
+        public String toJson(String projectPath) {
+            StringBuilder sb = new StringBuilder("{\n");
+            sb.append("  \"project\": ").append(GenerationStats.quote(projectPath)).append(",\n");
+            sb.append("  \"filesScanned\": ").append(filesScanned).append(",\n");
+            sb.append("  \"bytesScanned\": ").append(bytesScanned).append(",\n");
+            sb.append("  \"filesHashed\": ").append(filesHashed).append(",\n");
+            sb.append("  \"bytesHashed\": ").append(bytesHashed).append(",\n");
+            sb.append("  \"durationMs\": ").append(nanos / 1_000_000).append(",\n");
+            sb.append("  \"wastedBytes\": ").append(wastedBytes()).append(",\n");
+            sb.append("  \"groups\": [");
+            for (int i = 0; i < groups.size(); i++) {
+                DuplicateGroup group = groups.get(i);
+                sb.append(i == 0 ? "\n" : ",\n");
+                sb.append("    {\"size\": ").append(group.size)
+                        .append(", \"sha256\": ").append(GenerationStats.quote(group.digest))
+                        .append(", \"wastedBytes\": ").append(group.wastedBytes())
+                        .append(", \"paths\": [");
+                for (int j = 0; j < group.paths.size(); j++) {
+                    sb.append(j == 0 ? "" : ", ").append(GenerationStats.quote(group.paths.get(j)));
+                }
+                sb.append("]}");
+            }
+            sb.append(groups.isEmpty() ? "]\n" : "\n  ]\n");
+            return sb.append("}\n").toString();
+        }
+    }
+
+    private final int parallelism;
+
+    /**
+     * @param parallelism 并行计算摘要的最大线程数
+     */
+    public DuplicateFinder(int parallelism) {
+        this.parallelism = Math.max(1, parallelism);
+    }
+
+    public DuplicateFinder() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * @param path       项目路径
+     * @param assetsDirs 资源根目录名称，如 asset、assets、images
+     */
+    public Report find(String path, List<String> assetsDirs) throws InterruptedException {
+        long start = System.nanoTime();
+        Report report = new Report();
+        Map<Long, List<File>> bySize = new HashMap<>();
+        for (String name : assetsDirs) {
+            collect(new File(path, name), bySize, report);
+        }
+
+        Collection<List<File>> candidates = new ArrayList<>();
+        for (List<File> files : bySize.values()) {
+            if (files.size() > 1) {
+                candidates.add(files);
+            }
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(parallelism, new NamedThreadFactory("duplicates"));
+        try {
+            // 文件头摘要，不超过 PREFIX_SIZE 的文件即为完整摘要
+            Map<String, List<File>> prefixed = regroup(candidates, PREFIX_SIZE, executor, report);
+            List<List<File>> large = new ArrayList<>();
+            Map<String, List<File>> duplicates = new LinkedHashMap<>();
+            for (Map.Entry<String, List<File>> entry : prefixed.entrySet()) {
+                if (entry.getValue().get(0).length() > PREFIX_SIZE) {
+                    large.add(entry.getValue());
+                } else {
+                    duplicates.put(entry.getKey(), entry.getValue());
+                }
+            }
+            duplicates.putAll(regroup(large, Long.MAX_VALUE, executor, report));
+            for (Map.Entry<String, List<File>> entry : duplicates.entrySet()) {
+                report.groups.add(toGroup(path, entry.getKey(), entry.getValue()));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        report.groups.sort(Comparator.comparingLong(DuplicateGroup::wastedBytes).reversed()
+                .thenComparing(g -> g.paths.get(0)));
+        report.nanos = System.nanoTime() - start;
+        return report;
+    }
+
+    /**
+     * 每组保留第一个不在 2.0x 等像素比目录中的文件，同组其他不在像素比目录中的文件可以删除，引用改为保留的文件。
+     * 像素比目录中的文件是变体，删除会改变运行时选择的图片，不删除。只计算映射，删除由调用方完成
+     *
+     * @return 可以删除的文件到保留文件的映射
+     */
+    public static Map<String, String> getReplacements(List<DuplicateGroup> groups) {
+        Map<String, String> replacements = new LinkedHashMap<>();
+        for (DuplicateGroup group : groups) {
+            String kept = null;
+            for (String p : group.paths) {
+                if (isVariant(p)) {
+                    continue;
+                }
+                if (kept == null) {
+                    kept = p;
+                } else {
+                    replacements.put(p, kept);
+                }
+            }
+        }
+        return replacements;
+    }
+
+    private static boolean isVariant(String path) {
+        for (String segment : path.split("/")) {
+            if (RATIO_DIR.matcher(segment).matches()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public static String formatBytes(long bytes) {
+        if (bytes < 1024) {
+            return bytes + " B";
+        }
+        if (bytes < 1024 * 1024) {
+            return String.format(Locale.ROOT, "%.1f KB", bytes / 1024.0);
+        }
+        return String.format(Locale.ROOT, "%.1f MB", bytes / 1048576.0);
+    }
+
+    private void collect(File dir, Map<Long, List<File>> bySize, Report report) {
+        File[] files = dir.listFiles((d, name) -> !MAC_OS_DS_STORE.equals(name));
+        if (files == null) {
+            return;
+        }
+        for (File f : files) {
+            if (f.isDirectory()) {
+                collect(f, bySize, report);
+                continue;
+            }
+            long size = f.length();
+            report.filesScanned++;
+            report.bytesScanned += size;
+            // 空文件不算重复
+            if (size > 0) {
+                bySize.computeIfAbsent(size, k -> new ArrayList<>()).add(f);
+            }
+        }
+    }
+
+    /**
+     * 并行计算每组文件的摘要，按摘要拆分，只返回仍有多个文件的组
+     *
+     * @param limit 最多读取的字节数
+     * @return 摘要到文件的映射
+     */
+    private Map<String, List<File>> regroup(Collection<List<File>> groups, long limit, ExecutorService executor,
+                                            Report report)
+            throws InterruptedException {
+        List<File> files = new ArrayList<>();
+        List<Future<String>> futures = new ArrayList<>();
+        for (List<File> group : groups) {
+            for (File f : group) {
+                files.add(f);
+                futures.add(executor.submit(() -> digest(f, limit)));
+            }
+        }
+        Map<String, List<File>> byDigest = new LinkedHashMap<>();
+        for (int i = 0; i < files.size(); i++) {
+            File f = files.get(i);
+            String digest;
+            try {
+                digest = futures.get(i).get();
+            } catch (ExecutionException e) {
+                // 读取失败的文件不参与比较
+                e.getCause().printStackTrace();
+                continue;
+            }
+            report.filesHashed++;
+            report.bytesHashed += Math.min(f.length(), limit);
+            // 不同大小的文件即使文件头相同也不是重复
+            byDigest.computeIfAbsent(f.length() + ":" + digest, k -> new ArrayList<>()).add(f);
+        }
+        byDigest.values().removeIf(group -> group.size() < 2);
+        return byDigest;
+    }
+
+    private static String digest(File file, long limit) throws IOException, NoSuchAlgorithmException {
+        MessageDigest md = MessageDigest.getInstance("SHA-256");
+        byte[] buffer = new byte[(int) Math.max(1, Math.min(BUFFER_SIZE, Math.min(limit, file.length())))];
+        long remaining = limit;
+        try (InputStream is = Files.newInputStream(file.toPath())) {
+            int read;
+            while (remaining > 0 && (read = is.read(buffer, 0, (int) Math.min(buffer.length, remaining))) != -1) {
+                md.update(buffer, 0, read);
+                remaining -= read;
+            }
+        }
+        StringBuilder sb = new StringBuilder();
+        for (byte b : md.digest()) {
+            sb.append(Character.forDigit((b >> 4) & 0xf, 16)).append(Character.forDigit(b & 0xf, 16));
+        }
+        return sb.toString();
+    }
+
+    private static DuplicateGroup toGroup(String path, String key, List<File> files) {
+        DuplicateGroup group = new DuplicateGroup();
+        group.size = files.get(0).length();
+        group.digest = key.substring(key.indexOf(':') + 1);
+        String base = new File(path).getAbsolutePath();
+        for (File f : files) {
+            String rel = f.getAbsolutePath();
+            rel = rel.startsWith(base) ? rel.substring(base.length() + 1) : rel;
+            group.paths.add(rel.replace(File.separatorChar, '/'));
+        }
+        group.paths.sort(Comparator.comparingInt((String p) -> p.split("/").length).thenComparing(p -> p));
+        return group;
+    }
+}
@@ -0,0 +1,68 @@
+package com.shenyong.flutter.analysis;
+
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * 图片尺寸和文件大小预算。预算按 1.0x 设置，其他倍率按比例放大：边长乘以倍率，文件大小乘以倍率的平方。
+ */
+public class ImageBudget {
+
+    public static final int DEFAULT_MAX_DIMENSION = 1024;
+    public static final int DEFAULT_MAX_KB = 256;
+
+    private static final Pattern RATIO_DIR = Pattern.compile("^[1-9](\\.\\d)x$");
+
+    /**
+     * 1.0x 图片的最大边长，单位为像素
+     */
+    public int maxDimension = DEFAULT_MAX_DIMENSION;
+    /**
+     * 1.0x 图片的最大文件大小，单位为 KB
+     */
+    public int maxKb = DEFAULT_MAX_KB;
+
+    public int maxDimension(double ratio) {
+        return (int) Math.round(maxDimension * ratio);
+    }
+
+    public long maxBytes(double ratio) {
+        return Math.round(maxKb * 1024L * ratio * ratio);
+    }
+
+    /**
+     * @param parentDirName 图片所在目录名，如 3.0x
+     * @return 图片的像素比，不在倍率目录中时为 1.0
+     */
+    public static double ratioOf(String parentDirName) {
+        if (parentDirName != null && RATIO_DIR.matcher(parentDirName).matches()) {
+            return Double.parseDouble(parentDirName.substring(0, parentDirName.length() - 1));
+        }
+        return 1.0;
+    }
+
+    /**
+     * @return 超出预算时返回说明，否则返回 null
+     */
+    public String check(ImageInfoCache.ImageInfo info, double ratio) {
+        if (info == null) {
+            return null;
+        }
+        int maxDim = maxDimension(ratio);
+        long maxBytes = maxBytes(ratio);
+        boolean tooLarge = Math.max(info.width, info.height) > maxDim;
+        boolean tooHeavy = info.length > maxBytes;
+        if (!tooLarge && !tooHeavy) {
+            return null;
+        }
+        StringBuilder sb = new StringBuilder();
+        if (tooLarge) {
+            sb.append(String.format(Locale.ROOT, "%dx%d px exceeds %d px", info.width, info.height, maxDim));
+        }
+        if (tooHeavy) {
+            sb.append(tooLarge ? ", " : "").append(DuplicateFinder.formatBytes(info.length)).append(" exceeds ")
+                    .append(DuplicateFinder.formatBytes(maxBytes));
+        }
+        return sb.append(String.format(Locale.ROOT, " for %.1fx", ratio)).toString();
+    }
+}
@@ -0,0 +1,89 @@
+package com.shenyong.flutter.analysis;
+
+import com.shenyong.flutter.image.FastImageInfo;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 图片尺寸缓存，只读取文件头。以文件路径为 key，修改时间和大小都没有变化时直接返回缓存结果，
+ * 编辑器中的检查和整个项目的报告共用同一份缓存。
+ */
+public class ImageInfoCache {
+
+    private static final ImageInfoCache INSTANCE = new ImageInfoCache();
+
+    public static class ImageInfo {
+        public final int width;
+        public final int height;
+        public final long length;
+        public final String mimeType;
+
+        ImageInfo(int width, int height, long length, String mimeType) {
+            this.width = width;
+            this.height = height;
+            this.length = length;
+            this.mimeType = mimeType;
+        }
+    }
+
+    private static class Entry {
+        final long stamp;
+        final long length;
+        /**
+         * 无法识别的文件为 null，同样缓存，避免重复读取
+         */
+        final ImageInfo info;
+
+        Entry(long stamp, long length, ImageInfo info) {
+            this.stamp = stamp;
+            this.length = length;
+            this.info = info;
+        }
+    }
+
+    private final ConcurrentHashMap<String, Entry> cache = new ConcurrentHashMap<>();
+
+    public static ImageInfoCache getInstance() {
+        return INSTANCE;
+    }
+
+    public ImageInfo get(File file) {
+        return get(file, file.lastModified(), file.length());
+    }
+
+    /**
+     * @param stamp  文件修改时间，IDE 中可以使用 VirtualFile 的时间戳，避免访问磁盘
+     * @param length 文件大小
+     * @return 不支持的格式或读取失败时返回 null
+     */
+    public ImageInfo get(File file, long stamp, long length) {
+        String key = file.getPath();
+        Entry entry = cache.get(key);
+        if (entry != null && entry.stamp == stamp && entry.length == length) {
+            return entry.info;
+        }
+        ImageInfo info = null;
+        try {
+            FastImageInfo imageInfo = new FastImageInfo(file);
+            info = new ImageInfo(imageInfo.getWidth(), imageInfo.getHeight(), length, imageInfo.getMimeType());
+        } catch (IOException ignored) {
+            // 非图片或文件头损坏
+        }
+        cache.put(key, new Entry(stamp, length, info));
+        return info;
+    }
+
+    public void remove(File file) {
+        cache.remove(file.getPath());
+    }
+
+    public void clear() {
+        cache.clear();
+    }
+
+    public int size() {
+        return cache.size();
+    }
+}
@@ -0,0 +1,129 @@
+package com.shenyong.flutter.analysis;
+
+import com.shenyong.flutter.generator.AssetsGenerator;
+import com.shenyong.flutter.generator.GenerationStats;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 查找整个项目中超出 {@link ImageBudget} 的图片。只读取文件头获取尺寸，并使用 {@link ImageInfoCache}，未修改的文件不会重复读取。
+ */
+public class OversizedImageFinder {
+
+    /**
+     * JSON 报告路径，相对于项目目录
+     */
+    public static final String REPORT_FILE = ".dart_tool/assets_ref_generator/oversized.json";
+
+    private static final String MAC_OS_DS_STORE = ".DS_Store";
+
+    public static class Violation {
+        /**
+         * 相对于项目目录的路径
+         */
+        public String path;
+        public int width;
+        public int height;
+        public long bytes;
+        public double ratio;
+        public String message;
+    }
+
+    public static class Report {
+        /**
+         * 按文件大小从大到小排序
+         */
+        public final List<Violation> violations = new ArrayList<>();
+        public int imagesChecked;
+        public long nanos;
+
+        public String toSummary() {
+            return String.format(Locale.ROOT, "%d of %d images exceed the budget, checked in %d ms",
+                    violations.size(), imagesChecked, nanos / 1_000_000);
+        }
+
+        public String toJson(String projectPath) {
+            StringBuilder sb = new StringBuilder("{\n");
+            sb.append("  \"project\": ").append(GenerationStats.quote(projectPath)).append(",\n");
+            sb.append("  \"imagesChecked\": ").append(imagesChecked).append(",\n");
+            sb.append("  \"durationMs\": ").append(nanos / 1_000_000).append(",\n");
+            sb.append("  \"violations\": [");
+            for (int i = 0; i < violations.size(); i++) {
+                Violation v = violations.get(i);
+                sb.append(i == 0 ? "\n" : ",\n");
+                sb.append("    {\"path\": ").append(GenerationStats.quote(v.path))
+                        .append(", \"width\": ").append(v.width)
+                        .append(", \"height\": ").append(v.height)
+                        .append(", \"bytes\": ").append(v.bytes)
+                        .append(", \"ratio\": ").append(v.ratio)
+                        .append(", \"message\": ").append(GenerationStats.quote(v.message)).append("}");
+            }
+            sb.append(violations.isEmpty() ? "]\n" : "\n  ]\n");
+            return sb.append("}\n").toString();
+        }
+    }
+
+    private final ImageBudget budget;
+    private final ImageInfoCache cache;
+
+    public OversizedImageFinder(ImageBudget budget, ImageInfoCache cache) {
+        this.budget = budget;
+        this.cache = cache;
+    }
+
+    public OversizedImageFinder(ImageBudget budget) {
+        this(budget, ImageInfoCache.getInstance());
+    }
+
+    /**
+     * @param path         项目路径
+     * @param assetsDirs   资源根目录名称，如 asset、assets、images
+     * @param excludePaths 排除的文件夹，可为 null
+     */
+    public Report find(String path, List<String> assetsDirs, List<String> excludePaths) {
+        long start = System.nanoTime();
+        Report report = new Report();
+        for (String name : assetsDirs) {
+            collect(new File(path, name), name, excludePaths, report);
+        }
+        report.violations.sort(Comparator.comparingLong((Violation v) -> v.bytes).reversed()
+                .thenComparing(v -> v.path));
+        report.nanos = System.nanoTime() - start;
+        return report;
+    }
+
+    private void collect(File dir, String prefix, List<String> excludePaths, Report report) {
+        File[] files = dir.listFiles((d, name) -> !MAC_OS_DS_STORE.equals(name));
+        if (files == null || AssetsGenerator.isExcluded(prefix + "/", excludePaths)) {
+            return;
+        }
+        double ratio = ImageBudget.ratioOf(dir.getName());
+        for (File f : files) {
+            String assetPath = prefix + "/" + f.getName();
+            if (f.isDirectory()) {
+                collect(f, assetPath, excludePaths, report);
+                continue;
+            }
+            ImageInfoCache.ImageInfo info = cache.get(f);
+            if (info == null) {
+                continue;
+            }
+            report.imagesChecked++;
+            String message = budget.check(info, ratio);
+            if (message != null) {
+                Violation v = new Violation();
+                v.path = assetPath;
+                v.width = info.width;
+                v.height = info.height;
+                v.bytes = info.length;
+                v.ratio = ratio;
+                v.message = message;
+                report.violations.add(v);
+            }
+        }
+    }
+}
@@ -0,0 +1,925 @@
+package com.shenyong.flutter.bench;
+
+import com.shenyong.flutter.analysis.AssetPathTrie;
+import com.shenyong.flutter.analysis.BundleBudget;
+import com.shenyong.flutter.analysis.BundleSizeReport;
+import com.shenyong.flutter.analysis.DuplicateFinder;
+import com.shenyong.flutter.analysis.ImageBudget;
+import com.shenyong.flutter.analysis.ImageInfoCache;
+import com.shenyong.flutter.analysis.OversizedImageFinder;
+import com.shenyong.flutter.checker.AssetsChecker;
+import com.shenyong.flutter.generator.AssetModel;
+import com.shenyong.flutter.generator.AtlasPacker;
+import com.shenyong.flutter.generator.AssetWatcher;
+import com.shenyong.flutter.generator.AssetsGenerator;
+import com.shenyong.flutter.generator.GenerateConfig;
+import com.shenyong.flutter.generator.GenerationStats;
+import com.shenyong.flutter.generator.NamedThreadFactory;
+import com.shenyong.flutter.generator.PackageFinder;
+import com.shenyong.flutter.generator.PubspecUpdater;
+import com.shenyong.flutter.generator.ResDartWriter;
+import com.shenyong.flutter.generator.WorkspaceGenerator;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.*;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.management.ThreadMXBean;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.stream.Stream;
+
+/**
+ * 端到端规模测试：生成 1k/10k/100k 资源规模的合成 Flutter 工程，运行完整的生成流程，记录每个阶段的耗时、堆内存峰值和分配字节数，
+ * 并将生成的 pubspec.yaml 和 res.dart 与黄金文件比对，防止性能优化悄悄改变生成结果。
+ * <p>
+ * 在仓库根目录运行（classpath 为编译后的 src）：
+ * <pre>
+ * java -cp out com.shenyong.flutter.bench.ScaleHarness [--scales 1000,10000,100000] [--iterations 2]
+ *      [--work /tmp/assets-bench] [--golden bench/golden] [--budgets bench/budgets.properties]
+ *      [--packages 1] [--directory-mode] [--sharded] [--deferred] [--precache] [--git-index] [--git-untracked] [--bundle-size] [--atlas] [--duplicates] [--oversized] [--completion] [--watch] [--concurrent]
+ *      [--update-golden] [--keep]
+ * </pre>
+ * {@code --directory-mode} 在 pubspec.yaml 中按目录声明资源，使用单独的黄金文件（如 1000-directory）。
+ * {@code --duplicates} 额外统计重复内容检查的耗时，{@code --oversized} 额外统计超大图片检查首次和命中缓存时的耗时。
+ * {@code --completion} 用全部资源构建补全用的前缀树，统计构建耗时和逐字符输入资源路径时单次查询的平均、p99 和最大耗时。
+ * {@code --watch} 启动 {@link AssetWatcher}，一次放入和删除一批文件，检查从最后一个事件到生成完成的延迟和生成结果。
+ * {@code --concurrent} 同时发起多次同一 package 的生成，检查最多执行两次、没有失败，且结果与黄金文件一致。
+ * {@code --sharded} 按顶层资源目录分文件生成（黄金文件如 1000-sharded），并检查新增一个资源后只改写一个分片。
+ * {@code --deferred} 功能目录的分片作为按需加载的库、汇总文件不 export（黄金文件如 1000-deferred），同样检查增量生成。
+ * {@code --precache} 同时生成每个目录的图片预缓存分组（黄金文件如 1000-precache、1000-sharded-precache）。
+ * {@code --git-index} 合成工程中加入被 .gitignore 忽略的构建产物和 .git/index，从索引读取资源，结果应与默认的黄金文件一致；
+ * {@code --git-untracked} 同时遍历磁盘加入未跟踪的文件，检查 .gitignore 的处理。
+ * {@code --bundle-size} 扫描时记录文件大小生成资源包大小报告，检查各分类的合计与总大小一致、记录的大小与磁盘一致、很小的预算会报超出，
+ * 并统计记录大小带来的扫描耗时变化。
+ * {@code --atlas} 加入一个可解码的小图标目录并打包为图集，检查图标不重叠、与源图片逐像素一致、位置表已生成，
+ * 输入不变时不重新打包、修改一个图标后重新打包，不再配置时删除图集；统计首次打包和跳过时的耗时。
+ * {@code --packages} 大于 1 时，每个规模生成一个包含多个相同 package 的工作区，并行生成并对比总耗时与各 package 耗时之和。
+ * 黄金文件比对或预算检查不通过时，进程以 1 退出。合成工程包含带变音符的文件名，需要在 UTF-8 环境下运行（如 LANG=C.UTF-8）。
+ */
+public class ScaleHarness {
+
+    private static final long SEED = 20200108L;
+    /**
+     * 不超过该规模时保存完整的黄金文件，便于查看差异；更大的规模只保存摘要
+     */
+    private static final int FULL_GOLDEN_MAX_ASSETS = 1000;
+    private static final String DIGESTS = "digests.properties";
+    private static final String[] PHASES = {"scan", "exclude", "pubspec", "resDart", "total"};
+
+    private final PrintStream out = System.out;
+    private final ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+    private final List<MemoryPoolMXBean> heapPools = new ArrayList<>();
+
+    private List<Integer> scales = List.of(1000, 10000, 100000);
+    private int iterations = 2;
+    private int packages = 1;
+    private boolean directoryMode;
+    private boolean sharded;
+    private boolean deferred;
+    private boolean precache;
+    private boolean gitIndex;
+    private boolean bundleSize;
+    private boolean atlas;
+    private boolean gitUntracked;
+    private boolean duplicates;
+    private boolean oversized;
+    private boolean completion;
+    private boolean watch;
+    private boolean concurrent;
+    private File workDir = new File(System.getProperty("java.io.tmpdir"), "assets-ref-bench");
+    private File goldenDir = new File("bench/golden");
+    private File budgetsFile = new File("bench/budgets.properties");
+    private boolean updateGolden;
+    private boolean keep;
+
+    private final List<String> failures = new ArrayList<>();
+    private GenerationStats lastStats;
+
+    public static void main(String[] args) throws Exception {
+        if (!"UTF-8".equalsIgnoreCase(System.getProperty("sun.jnu.encoding"))) {
+            System.err.println("File name encoding is " + System.getProperty("sun.jnu.encoding")
+                    + ", diacritic asset names cannot be created. Run with LANG=C.UTF-8.");
+            System.exit(2);
+        }
+        ScaleHarness harness = new ScaleHarness();
+        harness.parseArgs(args);
+        System.exit(harness.run() ? 0 : 1);
+    }
+
+    private ScaleHarness() {
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP) {
+                heapPools.add(pool);
+            }
+        }
+    }
+
+    private void parseArgs(String[] args) {
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--scales":
+                    List<Integer> list = new ArrayList<>();
+                    for (String s : args[++i].split(",")) {
+                        list.add(Integer.parseInt(s.trim()));
+                    }
+                    scales = list;
+                    break;
+                case "--iterations":
+                    iterations = Integer.parseInt(args[++i]);
+                    break;
+                case "--packages":
+                    packages = Integer.parseInt(args[++i]);
+                    break;
+                case "--work":
+                    workDir = new File(args[++i]);
+                    break;
+                case "--golden":
+                    goldenDir = new File(args[++i]);
+                    break;
+                case "--budgets":
+                    budgetsFile = new File(args[++i]);
+                    break;
+                case "--directory-mode":
+                    directoryMode = true;
+                    break;
+                case "--sharded":
+                    sharded = true;
+                    break;
+                case "--deferred":
+                    deferred = true;
+                    sharded = true;
+                    break;
+                case "--git-index":
+                    gitIndex = true;
+                    break;
+                case "--git-untracked":
+                    gitIndex = true;
+                    gitUntracked = true;
+                    break;
+                case "--precache":
+                    precache = true;
+                    break;
+                case "--bundle-size":
+                    bundleSize = true;
+                    break;
+                case "--atlas":
+                    atlas = true;
+                    break;
+                case "--duplicates":
+                    duplicates = true;
+                    break;
+                case "--oversized":
+                    oversized = true;
+                    break;
+                case "--completion":
+                    completion = true;
+                    break;
+                case "--watch":
+                    watch = true;
+                    break;
+                case "--concurrent":
+                    concurrent = true;
+                    break;
+                case "--update-golden":
+                    updateGolden = true;
+                    break;
+                case "--keep":
+                    keep = true;
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown argument: " + args[i]);
+            }
+        }
+    }
+
+    private boolean run() throws IOException {
+        Properties budgets = loadProperties(budgetsFile);
+        Properties digests = loadProperties(new File(goldenDir, DIGESTS));
+        out.println("java " + System.getProperty("java.version") + ", " + Runtime.getRuntime().availableProcessors()
+                + " cpus, max heap " + (Runtime.getRuntime().maxMemory() >> 20) + " MB");
+        for (int scale : scales) {
+            if (packages > 1) {
+                runWorkspace(scale, digests);
+                continue;
+            }
+            File projDir = new File(workDir, "scale-" + scale);
+            deleteRecursively(projDir);
+            long start = System.nanoTime();
+            SyntheticProject project = new SyntheticProject(projDir, scale, SEED);
+            int files = project.create();
+            if (gitIndex) {
+                files += project.initGit();
+            }
+            out.printf(Locale.ROOT, "%n== %d assets (%d files written in %d ms) ==%n", scale, files,
+                    (System.nanoTime() - start) / 1_000_000);
+            out.printf(Locale.ROOT, "%-6s %-8s %10s %12s %12s %12s%n", "run", "phase", "wall ms", "alloc MB", "peak MB",
+                    "live MB");
+            for (int i = 1; i <= iterations; i++) {
+                Map<String, PhaseStats> stats = runPipeline(projDir.getPath());
+                for (String phase : PHASES) {
+                    PhaseStats s = stats.get(phase);
+                    out.printf(Locale.ROOT, "%-6s %-8s %10.1f %12.1f %12.1f %12.1f%n", "#" + i, phase, s.nanos / 1e6,
+                            s.allocatedBytes / 1048576.0, s.peakHeapBytes / 1048576.0, s.liveHeapBytes / 1048576.0);
+                    checkBudget(budgets, scale, phase, s);
+                }
+                out.println("       " + lastStats.toSummary());
+                checkGolden(projDir, scale, "run #" + i, digests);
+            }
+            if (concurrent) {
+                runConcurrent(projDir, scale, digests);
+            }
+            if (sharded) {
+                checkIncrementalShard(projDir, scale);
+            }
+            if (bundleSize) {
+                runBundleSize(projDir, scale, budgets);
+            }
+            if (duplicates) {
+                runDuplicates(projDir, scale, budgets);
+            }
+            if (oversized) {
+                runOversized(projDir, scale, budgets);
+            }
+            if (completion) {
+                runCompletion(projDir, scale, budgets);
+            }
+            if (watch) {
+                runWatch(projDir, scale, budgets);
+            }
+            if (atlas) {
+                runAtlas(project, projDir, scale, budgets);
+            }
+            if (!keep) {
+                deleteRecursively(projDir);
+            }
+        }
+        if (updateGolden) {
+            // 按 key 排序写出，不带时间戳，避免无关的差异
+            StringBuilder sb = new StringBuilder("# SHA-256 of normalized generated outputs, see ScaleHarness\n");
+            for (String key : new TreeSet<>(digests.stringPropertyNames())) {
+                sb.append(key).append('=').append(digests.getProperty(key)).append('\n');
+            }
+            Files.write(new File(goldenDir, DIGESTS).toPath(), sb.toString().getBytes(StandardCharsets.UTF_8));
+            out.println("\nGolden files updated in " + goldenDir);
+        }
+        if (failures.isEmpty()) {
+            out.println("\nOK");
+            return true;
+        }
+        out.println("\nFAILED:");
+        for (String f : failures) {
+            out.println("  " + f);
+        }
+        return false;
+    }
+
+    private void runWorkspace(int scale, Properties digests) throws IOException {
+        File workspace = new File(workDir, "workspace-" + scale);
+        deleteRecursively(workspace);
+        List<String> paths = new ArrayList<>();
+        for (int i = 0; i < packages; i++) {
+            File projDir = new File(workspace, "packages/pkg_" + i);
+            SyntheticProject project = new SyntheticProject(projDir, scale, SEED);
+            project.create();
+            if (gitIndex) {
+                project.initGit();
+            }
+            paths.add(projDir.getPath());
+        }
+        List<String> found = new PackageFinder().find(workspace.getPath());
+        if (!found.equals(paths)) {
+            failures.add("workspace " + scale + ": PackageFinder found " + found);
+        }
+        out.printf(Locale.ROOT, "%n== workspace of %d packages x %d assets ==%n", packages, scale);
+        for (int i = 1; i <= iterations; i++) {
+            WorkspaceGenerator.Result result;
+            try {
+                result = new WorkspaceGenerator(newConfig()).generate(found, null);
+            } catch (InterruptedException e) {
+                throw new IOException(e);
+            }
+            out.println("#" + i + "     " + result.toSummary(workspace.getPath()).split("\n")[0]);
+            for (WorkspaceGenerator.PackageResult r : result.packages) {
+                if (r.error != null) {
+                    failures.add("workspace " + scale + ": " + r.path + " failed: " + r.error);
+                } else {
+                    checkGolden(new File(r.path), scale, "workspace run #" + i, digests);
+                }
+            }
+        }
+        if (!keep) {
+            deleteRecursively(workspace);
+        }
+    }
+
+    private GenerateConfig newConfig() {
+        GenerateConfig config = new GenerateConfig();
+        config.excludePath = List.of(SyntheticProject.EXCLUDED_DIR);
+        config.pubspecDirectoryMode = directoryMode;
+        config.shardedOutput = sharded;
+        config.deferredOutput = deferred;
+        config.precacheGroups = precache;
+        config.gitIndexSource = gitIndex;
+        config.gitIncludeUntracked = gitUntracked;
+        return config;
+    }
+
+    private Map<String, PhaseStats> runPipeline(String path) {
+        AssetsGenerator generator = new AssetsGenerator(path, newConfig());
+        Map<String, PhaseStats> stats = new LinkedHashMap<>();
+        PhaseStats total = new PhaseStats();
+        stats.put("scan", measure(generator::scan));
+        stats.put("exclude", measure(generator::filterExcluded));
+        stats.put("pubspec", measure(generator::updatePubspec));
+        stats.put("resDart", measure(generator::writeResDart));
+        for (PhaseStats s : stats.values()) {
+            total.nanos += s.nanos;
+            total.allocatedBytes += s.allocatedBytes;
+            total.peakHeapBytes = Math.max(total.peakHeapBytes, s.peakHeapBytes);
+            total.liveHeapBytes = Math.max(total.liveHeapBytes, s.liveHeapBytes);
+        }
+        stats.put("total", total);
+        lastStats = generator.getStats();
+        if (gitIndex && lastStats.gitIndexFiles == 0) {
+            failures.add(path + ": git index was not used");
+        }
+        return stats;
+    }
+
+    private PhaseStats measure(Runnable phase) {
+        System.gc();
+        for (MemoryPoolMXBean pool : heapPools) {
+            pool.resetPeakUsage();
+        }
+        long allocated = allocatedBytes();
+        long start = System.nanoTime();
+        phase.run();
+        PhaseStats stats = new PhaseStats();
+        stats.nanos = System.nanoTime() - start;
+        stats.allocatedBytes = allocatedBytes() - allocated;
+        for (MemoryPoolMXBean pool : heapPools) {
+            stats.peakHeapBytes += pool.getPeakUsage().getUsed();
+        }
+        // 阶段结束后仍然存活的对象，主要是生成器保存的扫描结果
+        System.gc();
+        for (MemoryPoolMXBean pool : heapPools) {
+            stats.liveHeapBytes += pool.getUsage().getUsed();
+        }
+        return stats;
+    }
+
+    /**
+     * 所有存活线程的累计分配字节数。阶段内创建并已结束的线程不计入。
+     */
+    private long allocatedBytes() {
+        if (!(threadBean instanceof com.sun.management.ThreadMXBean)) {
+            return 0;
+        }
+        com.sun.management.ThreadMXBean bean = (com.sun.management.ThreadMXBean) threadBean;
+        long sum = 0;
+        for (long bytes : bean.getThreadAllocatedBytes(bean.getAllThreadIds())) {
+            if (bytes > 0) {
+                sum += bytes;
+            }
+        }
+        return sum;
+    }
+
+    private void checkBudget(Properties budgets, int scale, String phase, PhaseStats stats) {
+        String key = scale + "." + phase + ".";
+        checkLimit(key + "maxMillis", budgets, stats.nanos / 1e6);
+        checkLimit(key + "maxAllocMb", budgets, stats.allocatedBytes / 1048576.0);
+        checkLimit(key + "maxPeakHeapMb", budgets, stats.peakHeapBytes / 1048576.0);
+        checkLimit(key + "maxLiveHeapMb", budgets, stats.liveHeapBytes / 1048576.0);
+    }
+
+    private void checkLimit(String key, Properties budgets, double actual) {
+        String limit = budgets.getProperty(key);
+        if (limit != null && actual > Double.parseDouble(limit)) {
+            failures.add(String.format(Locale.ROOT, "budget %s=%s exceeded: %.1f", key, limit, actual));
+        }
+    }
+
+    private void runBundleSize(File projDir, int scale, Properties budgets) throws IOException {
+        GenerateConfig config = newConfig();
+        config.bundleSizeReport = true;
+        AssetsGenerator generator = new AssetsGenerator(projDir.getPath(), config);
+        // 与不记录大小的扫描对比，记录大小不应明显增加扫描耗时；先各扫描一次预热
+        new AssetsGenerator(projDir.getPath(), config).scan();
+        PhaseStats plain = measure(new AssetsGenerator(projDir.getPath(), newConfig())::scan);
+        PhaseStats scan = measure(generator::scan);
+        generator.filterExcluded();
+        PhaseStats stats = measure(generator::checkBundleSize);
+        BundleSizeReport report = generator.getBundleSizeReport();
+        out.printf(Locale.ROOT, "%-6s %-8s %10.1f %12.1f %12.1f%n", "bundle", "scan", scan.nanos / 1e6,
+                scan.allocatedBytes / 1048576.0, scan.peakHeapBytes / 1048576.0);
+        out.printf(Locale.ROOT, "%-6s %-8s %10.1f %12.1f %12.1f%n", "bundle", "report", stats.nanos / 1e6,
+                stats.allocatedBytes / 1048576.0, stats.peakHeapBytes / 1048576.0);
+        out.printf(Locale.ROOT, "       %s; scan %+.1f ms vs. without sizes%n", report.toSummary(),
+                (scan.nanos - plain.nanos) / 1e6);
+        checkBudget(budgets, scale, "bundle", stats);
+        for (List<BundleSizeReport.Entry> entries : List.of(report.byDir, report.byType, report.byRatio)) {
+            long bytes = 0;
+            int files = 0;
+            for (BundleSizeReport.Entry e : entries) {
+                bytes += e.bytes;
+                files += e.files;
+            }
+            if (bytes != report.totalBytes || files != report.files) {
+                failures.add(scale + " bundle size: categories sum to " + bytes + " bytes in " + files
+                        + " files, total is " + report.totalBytes + " bytes in " + report.files + " files");
+            }
+        }
+        for (BundleSizeReport.Entry e : report.largestFiles) {
+            long actual = Files.size(new File(projDir, e.name).toPath());
+            if (actual != e.bytes) {
+                failures.add(scale + " bundle size: " + e.name + " recorded " + e.bytes + " bytes, actual " + actual);
+            }
+        }
+        if (report.files == 0 || report.largestFiles.isEmpty()) {
+            failures.add(scale + " bundle size: no files recorded");
+        }
+        BundleBudget tiny = BundleBudget.parse("total=1\ntype.png=1\n");
+        if (!BundleSizeReport.compute(generator.getStats().fileSizes, List.of(), tiny, 0).isOverBudget()) {
+            failures.add(scale + " bundle size: 1 KB budget was not exceeded");
+        }
+    }
+
+    private void runAtlas(SyntheticProject project, File projDir, int scale, Properties budgets) throws IOException {
+        String iconDir = "assets/toolbar";
+        int icons = 300;
+        int files = project.createIcons(iconDir, icons);
+        GenerateConfig config = newConfig();
+        config.atlasDirs = List.of(iconDir);
+        AssetsGenerator cold = new AssetsGenerator(projDir.getPath(), config);
+        PhaseStats packed = measure(cold::packAtlases);
+        GenerationStats stats = cold.getStats();
+        // 只读取 git 索引时，新的图标和图集需要加入索引才会被声明
+        addToGitIndex(projDir);
+        cold.scan();
+        cold.filterExcluded();
+        cold.updatePubspec();
+        cold.writeResDart();
+        cold.flush();
+        out.printf(Locale.ROOT, "%-6s %-8s %10.1f %12.1f %12.1f%n", "atlas", "pack", packed.nanos / 1e6,
+                packed.allocatedBytes / 1048576.0, packed.peakHeapBytes / 1048576.0);
+        out.printf(Locale.ROOT, "       %d icons from %d files, atlas stage %d ms%n", icons, files, stats.atlasNanos / 1_000_000);
+        checkBudget(budgets, scale, "atlas", packed);
+        if (stats.atlasesPacked != 1 || stats.atlasSprites != icons || cold.getAtlases().size() != 1) {
+            failures.add(scale + " atlas: " + stats.atlasesPacked + " atlases packed with " + stats.atlasSprites + " sprites");
+            return;
+        }
+        checkAtlas(projDir, cold.getAtlases().get(0), scale);
+        String res = readGenerated(projDir, config);
+        AtlasPacker.Atlas atlas = cold.getAtlases().get(0);
+        if (!res.contains("class ResAtlas {") || !res.contains("\"" + iconDir + "/icon_0.png\": ResSprite(")
+                || !res.contains("\"" + atlas.pages.get(0).path + "\";")) {
+            failures.add(scale + " atlas: sprite table or atlas constant missing from generated res files");
+        }
+
+        AssetsGenerator warm = new AssetsGenerator(projDir.getPath(), config);
+        PhaseStats skipped = measure(warm::packAtlases);
+        out.printf(Locale.ROOT, "%-6s %-8s %10.1f %12.1f %12.1f%n", "atlas", "cached", skipped.nanos / 1e6,
+                skipped.allocatedBytes / 1048576.0, skipped.peakHeapBytes / 1048576.0);
+        if (warm.getStats().atlasesPacked != 0 || warm.getStats().atlasesUpToDate != 1) {
+            failures.add(scale + " atlas: unchanged icons were packed again");
+        }
+
+        File icon = new File(projDir, iconDir + "/icon_1.png");
+        SyntheticProject.writeIcon(icon, 20, 20, 7);
+        icon.setLastModified(icon.lastModified() + 2000);
+        AssetsGenerator changed = new AssetsGenerator(projDir.getPath(), config);
+        changed.packAtlases();
+        if (changed.getStats().atlasesPacked != 1) {
+            failures.add(scale + " atlas: changed icon did not repack the atlas");
+        } else {
+            checkAtlas(projDir, changed.getAtlases().get(0), scale);
+        }
+
+        // 去掉图标目录和配置后，图集和清单都被删除，工程恢复原样
+        deleteRecursively(new File(projDir, iconDir));
+        AssetsGenerator removed = new AssetsGenerator(projDir.getPath(), newConfig());
+        removed.packAtlases();
+        addToGitIndex(projDir);
+        removed.generate();
+        if (new File(projDir, atlas.pages.get(0).path).exists() || AtlasPacker.hasManifests(projDir.getPath())) {
+            failures.add(scale + " atlas: stale atlas was not removed");
+        }
+    }
+
+    /**
+     * 只读取 git 索引、不遍历未跟踪的文件时，重写索引，相当于 git add 了新增和删除的文件
+     */
+    private void addToGitIndex(File projDir) throws IOException {
+        if (gitIndex && !gitUntracked) {
+            SyntheticProject.writeGitIndex(projDir);
+        }
+    }
+
+    /**
+     * 图标在页内且互不重叠；源文件与图集倍率相同的图标逐像素一致
+     */
+    private void checkAtlas(File projDir, AtlasPacker.Atlas atlas, int scale) throws IOException {
+        List<AtlasPacker.Sprite> sprites = atlas.sprites;
+        for (int i = 0; i < sprites.size(); i++) {
+            AtlasPacker.Sprite a = sprites.get(i);
+            AtlasPacker.Page page = atlas.pages.get(a.page);
+            if (a.x < 0 || a.y < 0 || a.x + a.width > page.width || a.y + a.height > page.height) {
+                failures.add(scale + " atlas: " + a.path + " is outside of its page");
+            }
+            for (int j = i + 1; j < sprites.size(); j++) {
+                AtlasPacker.Sprite b = sprites.get(j);
+                if (a.page == b.page && a.x < b.x + b.width && b.x < a.x + a.width
+                        && a.y < b.y + b.height && b.y < a.y + a.height) {
+                    failures.add(scale + " atlas: " + a.path + " overlaps " + b.path);
+                }
+            }
+        }
+        int compared = 0;
+        for (byte ratio : atlas.ratios) {
+            String dir = ratio == 10 ? "" : ratio / 10 + "." + ratio % 10 + "x/";
+            List<BufferedImage> pages = new ArrayList<>();
+            for (AtlasPacker.Page page : atlas.pages) {
+                String path = page.path;
+                pages.add(ImageIO.read(new File(projDir, path.substring(0, path.lastIndexOf('/') + 1) + dir
+                        + path.substring(path.lastIndexOf('/') + 1))));
+            }
+            for (AtlasPacker.Sprite sprite : sprites) {
+                String path = sprite.path;
+                File source = new File(projDir, path.substring(0, path.lastIndexOf('/') + 1) + dir
+                        + path.substring(path.lastIndexOf('/') + 1));
+                if (!source.isFile()) {
+                    continue;
+                }
+                BufferedImage image = ImageIO.read(source);
+                BufferedImage page = pages.get(sprite.page);
+                int x0 = (int) Math.round(sprite.x * ratio / 10.0);
+                int y0 = (int) Math.round(sprite.y * ratio / 10.0);
+                if (image.getWidth() != Math.round((sprite.x + sprite.width) * ratio / 10.0) - x0
+                        || image.getHeight() != Math.round((sprite.y + sprite.height) * ratio / 10.0) - y0) {
+                    // 与逻辑尺寸不成比例的源文件被缩放后放入
+                    continue;
+                }
+                for (int y = 0; y < image.getHeight(); y++) {
+                    for (int x = 0; x < image.getWidth(); x++) {
+                        int expected = image.getRGB(x, y);
+                        int actual = page.getRGB(x0 + x, y0 + y);
+                        if (expected != actual && (expected >>> 24 != 0 || actual >>> 24 != 0)) {
+                            failures.add(scale + " atlas: pixel (" + x + ", " + y + ") of " + source + " differs");
+                            return;
+                        }
+                    }
+                }
+                compared++;
+            }
+        }
+        if (compared == 0) {
+            failures.add(scale + " atlas: no icon compared");
+        }
+    }
+
+    /**
+     * @return res 文件和所有分片的内容
+     */
+    private static String readGenerated(File projDir, GenerateConfig config) throws IOException {
+        File resFile = ResDartWriter.getResFile(projDir.getPath(), config);
+        StringBuilder sb = new StringBuilder(new String(Files.readAllBytes(resFile.toPath()), StandardCharsets.UTF_8));
+        File[] shards = ResDartWriter.getShardDirectory(resFile).listFiles();
+        if (shards != null) {
+            for (File shard : shards) {
+                sb.append(new String(Files.readAllBytes(shard.toPath()), StandardCharsets.UTF_8));
+            }
+        }
+        return sb.toString();
+    }
+
+    private void runDuplicates(File projDir, int scale, Properties budgets) throws IOException {
+        PhaseStats stats = new PhaseStats();
+        DuplicateFinder.Report[] report = new DuplicateFinder.Report[1];
+        try {
+            stats = measure(() -> {
+                try {
+                    report[0] = new DuplicateFinder().find(projDir.getPath(),
+                            new AssetsChecker().getAssetsDirs(projDir.getPath(), null));
+                } catch (InterruptedException e) {
+                    throw new IllegalStateException(e);
+                }
+            });
+        } catch (IllegalStateException e) {
+            throw new IOException(e.getCause());
+        }
+        out.printf(Locale.ROOT, "%-6s %-8s %10.1f %12.1f %12.1f%n", "dup", "total", stats.nanos / 1e6,
+                stats.allocatedBytes / 1048576.0, stats.peakHeapBytes / 1048576.0);
+        out.println("       " + report[0].toSummary());
+        checkBudget(budgets, scale, "duplicates", stats);
+    }
+
+    private void runOversized(File projDir, int scale, Properties budgets) {
+        // 合成图片边长为 24~511 像素乘以倍率，较小的预算使一部分图片超出
+        ImageBudget budget = new ImageBudget();
+        budget.maxDimension = 400;
+        ImageInfoCache cache = new ImageInfoCache();
+        OversizedImageFinder finder = new OversizedImageFinder(budget, cache);
+        OversizedImageFinder.Report[] report = new OversizedImageFinder.Report[1];
+        for (String run : new String[]{"cold", "cached"}) {
+            PhaseStats stats = measure(() -> report[0] = finder.find(projDir.getPath(),
+                    new AssetsChecker().getAssetsDirs(projDir.getPath(), null), List.of(SyntheticProject.EXCLUDED_DIR)));
+            out.printf(Locale.ROOT, "%-6s %-8s %10.1f %12.1f %12.1f%n", "size", run, stats.nanos / 1e6,
+                    stats.allocatedBytes / 1048576.0, stats.peakHeapBytes / 1048576.0);
+            checkBudget(budgets, scale, "oversized", stats);
+        }
+        out.println("       " + report[0].toSummary());
+    }
+
+    private void runCompletion(File projDir, int scale, Properties budgets) throws IOException {
+        List<String> files = new ArrayList<>();
+        for (String name : new AssetsChecker().getAssetsDirs(projDir.getPath(), null)) {
+            Path root = projDir.toPath().resolve(name);
+            if (Files.isDirectory(root)) {
+                try (Stream<Path> walk = Files.walk(root)) {
+                    walk.filter(Files::isRegularFile)
+                            .forEach(p -> files.add(projDir.toPath().relativize(p).toString().replace(File.separatorChar, '/')));
+                }
+            }
+        }
+        AssetPathTrie trie = new AssetPathTrie();
+        PhaseStats build = measure(() -> files.forEach(trie::add));
+        out.printf(Locale.ROOT, "%-6s %-8s %10.1f %12.1f %12.1f%n", "trie", "build", build.nanos / 1e6,
+                build.allocatedBytes / 1048576.0, build.peakHeapBytes / 1048576.0);
+        // 模拟逐字符输入每个路径，每次输入后查询一次
+        int step = Math.max(1, files.size() / 1000);
+        List<Long> samples = new ArrayList<>();
+        for (int i = 0; i < files.size(); i += step) {
+            String path = files.get(i);
+            for (int end = 1; end <= path.length(); end++) {
+                long start = System.nanoTime();
+                trie.complete(path.substring(0, end), 500);
+                samples.add(System.nanoTime() - start);
+            }
+        }
+        long totalNanos = 0;
+        for (long nanos : samples) {
+            totalNanos += nanos;
+        }
+        Collections.sort(samples);
+        // 单 CPU 环境下最大值受 JIT 和 GC 影响，预算按 p99 检查
+        long p99 = samples.get(samples.size() * 99 / 100);
+        out.printf(Locale.ROOT, "%-6s %-8s %10.1f%n", "trie", "query", totalNanos / 1e6);
+        out.printf(Locale.ROOT, "       %d files, %d queries, avg %.1f µs, p99 %.1f µs, max %.1f µs%n", trie.size(),
+                samples.size(), totalNanos / 1e3 / samples.size(), p99 / 1e3, samples.get(samples.size() - 1) / 1e3);
+        checkLimit(scale + ".completion.p99Millis", budgets, p99 / 1e6);
+    }
+
+    /**
+     * 启动监听，放入一批文件（一个新目录和已有目录中的文件），再删除新目录，每次检查延迟和生成结果
+     */
+    private void runWatch(File projDir, int scale, Properties budgets) throws IOException {
+        BlockingQueue<long[]> generated = new LinkedBlockingQueue<>();
+        AssetWatcher watcher = new AssetWatcher(projDir.getPath(), newConfig());
+        Thread thread = new Thread(() -> {
+            try {
+                watcher.run((stats, events, latencyNanos) -> {
+                    lastStats = stats;
+                    generated.add(new long[]{events, latencyNanos});
+                });
+            } catch (IOException e) {
+                e.printStackTrace();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }, "AssetsRefGenerator-watch-bench");
+        thread.setDaemon(true);
+        thread.start();
+        try {
+            awaitGeneration(generated, scale, "initial");
+            File dropDir = new File(projDir, "assets/feature_0/watch_drop");
+            File pubspec = new File(projDir, PubspecUpdater.PUBSPEC);
+            String[] steps = {"drop", "remove"};
+            for (String step : steps) {
+                if (step.equals("drop")) {
+                    for (int i = 0; i < 20; i++) {
+                        writeBenchFile(new File(dropDir, "dropped_" + i + ".png"));
+                        writeBenchFile(new File(projDir, "assets/feature_0/dropped_" + i + ".png"));
+                    }
+                } else {
+                    deleteRecursively(dropDir);
+                }
+                long[] result = awaitGeneration(generated, scale, step);
+                if (result == null) {
+                    continue;
+                }
+                out.printf(Locale.ROOT, "%-6s %-8s %10.1f%n", "watch", step, result[1] / 1e6);
+                out.println("       " + result[0] + " events coalesced, " + lastStats.toSummary());
+                checkLimit(scale + ".watch.maxMillis", budgets, result[1] / 1e6);
+                String declarations = new String(Files.readAllBytes(pubspec.toPath()), StandardCharsets.UTF_8);
+                boolean declared = declarations.contains("- assets/feature_0/watch_drop/dropped_19.png");
+                if (declared != step.equals("drop")) {
+                    failures.add(scale + " watch " + step + ": pubspec.yaml not updated");
+                }
+            }
+        } finally {
+            watcher.close();
+        }
+    }
+
+    /**
+     * 同时发起 8 次生成，合并后应只执行一次加最多一次后续执行
+     */
+    private void runConcurrent(File projDir, int scale, Properties digests) throws IOException {
+        int requests = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(requests, new NamedThreadFactory("concurrent-bench"));
+        CountDownLatch startSignal = new CountDownLatch(1);
+        List<Future<WorkspaceGenerator.PackageResult>> futures = new ArrayList<>();
+        for (int i = 0; i < requests; i++) {
+            futures.add(executor.submit(() -> {
+                startSignal.await();
+                return WorkspaceGenerator.generatePackage(projDir.getPath(), newConfig(), AssetModel.FILES);
+            }));
+        }
+        long start = System.nanoTime();
+        startSignal.countDown();
+        Set<WorkspaceGenerator.PackageResult> runs = Collections.newSetFromMap(new IdentityHashMap<>());
+        try {
+            for (Future<WorkspaceGenerator.PackageResult> future : futures) {
+                WorkspaceGenerator.PackageResult r = future.get();
+                runs.add(r);
+                if (r.error != null) {
+                    failures.add(scale + " concurrent: " + r.error);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        } catch (ExecutionException e) {
+            failures.add(scale + " concurrent: " + e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+        out.printf(Locale.ROOT, "%-6s %-8s %10.1f%n", "conc", requests + " req", (System.nanoTime() - start) / 1e6);
+        out.println("       " + runs.size() + " runs");
+        if (runs.size() > 2) {
+            failures.add(scale + " concurrent: " + requests + " requests were not coalesced (" + runs.size() + " runs)");
+        }
+        checkGolden(projDir, scale, "concurrent", digests);
+    }
+
+    private long[] awaitGeneration(BlockingQueue<long[]> generated, int scale, String step) {
+        try {
+            // 等待一批事件全部处理完：生成完成后 200 ms 内没有新的生成
+            long[] result = generated.poll(30, TimeUnit.SECONDS);
+            long[] next;
+            while (result != null && (next = generated.poll(200, TimeUnit.MILLISECONDS)) != null) {
+                result = new long[]{result[0] + next[0], next[1]};
+            }
+            if (result == null) {
+                failures.add(scale + " watch " + step + ": no generation within 30 s");
+            }
+            return result;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+    }
+
+    private static void writeBenchFile(File file) throws IOException {
+        file.getParentFile().mkdirs();
+        Files.write(file.toPath(), new byte[]{(byte) 137, 80, 78, 71});
+    }
+
+    /**
+     * 新增一个资源后重新生成，应只改写它所在的分片
+     */
+    private void checkIncrementalShard(File projDir, int scale) throws IOException {
+        Files.write(new File(projDir, "assets/feature_0/bench_added_icon.png").toPath(), new byte[]{(byte) 137, 80, 78, 71});
+        addToGitIndex(projDir);
+        Map<String, PhaseStats> stats = runPipeline(projDir.getPath());
+        out.printf(Locale.ROOT, "+1     %-8s %10.1f%n", "total", stats.get("total").nanos / 1e6);
+        out.println("       " + lastStats.toSummary());
+        // 新增的图片同时改变所在目录的预缓存分组
+        int expected = precache ? 2 : 1;
+        if (lastStats.resDartFilesWritten != expected) {
+            failures.add(scale + " incremental: expected " + expected + " shard files rewritten but was "
+                    + lastStats.resDartFilesWritten);
+        }
+    }
+
+    private void checkGolden(File projDir, int scale, String run, Properties digests) throws IOException {
+        Map<String, String> outputs = new LinkedHashMap<>();
+        outputs.put(PubspecUpdater.PUBSPEC, normalize(new File(projDir, PubspecUpdater.PUBSPEC)));
+        File resFile = ResDartWriter.getResFile(projDir.getPath(), new GenerateConfig());
+        outputs.put(ResDartWriter.RES_FILE, normalize(resFile));
+        if (sharded) {
+            // 所有分片合并为一个黄金文件
+            StringBuilder shards = new StringBuilder();
+            File[] files = ResDartWriter.getShardDirectory(resFile).listFiles();
+            if (files != null) {
+                Arrays.sort(files);
+                for (File file : files) {
+                    shards.append("// ").append(file.getName()).append('\n').append(normalize(file));
+                }
+            }
+            outputs.put("res-shards.dart", shards.toString());
+        }
+        for (Map.Entry<String, String> entry : outputs.entrySet()) {
+            String name = entry.getKey();
+            String actual = entry.getValue();
+            String golden = scale + (directoryMode ? "-directory" : "") + (deferred ? "-deferred" : sharded ? "-sharded" : "")
+                    + (precache ? "-precache" : "");
+            String digestKey = golden + "." + name;
+            File fullGolden = new File(goldenDir, golden + "/" + name);
+            if (updateGolden) {
+                digests.setProperty(digestKey, sha256(actual));
+                if (scale <= FULL_GOLDEN_MAX_ASSETS) {
+                    fullGolden.getParentFile().mkdirs();
+                    Files.write(fullGolden.toPath(), actual.getBytes(StandardCharsets.UTF_8));
+                }
+                continue;
+            }
+            if (fullGolden.exists()) {
+                String expected = new String(Files.readAllBytes(fullGolden.toPath()), StandardCharsets.UTF_8);
+                if (!expected.equals(actual)) {
+                    failures.add(scale + " " + run + ": " + name + " differs from " + fullGolden + firstDiff(expected, actual));
+                }
+            } else if (!digests.containsKey(digestKey)) {
+                failures.add(scale + " " + run + ": no golden for " + name + ", run with --update-golden");
+            } else if (!digests.getProperty(digestKey).equals(sha256(actual))) {
+                failures.add(scale + " " + run + ": " + name + " digest differs from golden");
+            }
+        }
+    }
+
+    /**
+     * 统一换行符，并去掉 res.dart 文件头中的生成日期
+     */
+    private static String normalize(File file) throws IOException {
+        if (!file.exists()) {
+            return "";
+        }
+        String text = new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8).replace("\r\n", "\n");
+        return text.replaceAll("(?m)^(" + ResDartWriter.HEADER_PREFIX + ").*$", "$1<date>");
+    }
+
+    private static String firstDiff(String expected, String actual) {
+        String[] e = expected.split("\n", -1);
+        String[] a = actual.split("\n", -1);
+        for (int i = 0; i < Math.max(e.length, a.length); i++) {
+            String el = i < e.length ? e[i] : "<eof>";
+            String al = i < a.length ? a[i] : "<eof>";
+            if (!el.equals(al)) {
+                return " at line " + (i + 1) + ": expected [" + el + "] but was [" + al + "]";
+            }
+        }
+        return "";
+    }
+
+    private static String sha256(String text) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(text.getBytes(StandardCharsets.UTF_8));
+            StringBuilder sb = new StringBuilder();
+            for (byte b : digest) {
+                sb.append(String.format("%02x", b));
+            }
+            return sb.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static Properties loadProperties(File file) throws IOException {
+        Properties properties = new Properties();
+        if (file.exists()) {
+            try (InputStream is = new FileInputStream(file)) {
+                properties.load(is);
+            }
+        }
+        return properties;
+    }
+
+    private static void deleteRecursively(File file) {
+        File[] children = file.listFiles();
+        if (children != null) {
+            for (File child : children) {
+                deleteRecursively(child);
+            }
+        }
+        file.delete();
+    }
+
+    private static class PhaseStats {
+        long nanos;
+        long allocatedBytes;
+        long peakHeapBytes;
+        /**
+         * 阶段结束并 GC 之后的堆占用
+         */
+        long liveHeapBytes;
+    }
+}
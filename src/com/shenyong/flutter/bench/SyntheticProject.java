@@ -0,0 +1,313 @@
+package com.shenyong.flutter.bench;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * 按固定随机种子生成一个合成的 Flutter 工程，用于规模测试。
+ * <p>
+ * 工程包含 pubspec.yaml、lib、.metadata、pubspec.lock，以及 asset 目录树：多层级的功能目录、2.0x/3.0x 变体、
+ * 不同目录下的同名文件、带变音符和连字符的文件名、需要排除的目录和 .DS_Store 文件。pubspec.yaml 中声明了 asset、assets 和 images
+ * 三个资源根目录。同一个种子和规模生成的目录树完全一致。
+ */
+public class SyntheticProject {
+
+    /**
+     * 合成工程中需要排除的目录，对应 {@code excludePath} 配置
+     */
+    public static final String EXCLUDED_DIR = "assets/excluded/";
+
+    private static final String DESIGN_CACHE_DIR = ".design_cache";
+    private static final String[] EXTENSIONS = {"png", "png", "png", "jpg", "webp"};
+    private static final String[] DIACRITIC_NAMES = {"café", "crème", "âĉéè", "naïve", "señor"};
+    private static final byte[] PNG_SIGNATURE = {(byte) 137, 80, 78, 71, 13, 10, 26, 10};
+
+    private final File root;
+    private final int assetCount;
+    private final Random random;
+    private int fileCount;
+
+    /**
+     * @param root       工程目录，不能已存在
+     * @param assetCount 主资源文件数量，不含变体
+     * @param seed       随机种子
+     */
+    public SyntheticProject(File root, int assetCount, long seed) {
+        this.root = root;
+        this.assetCount = assetCount;
+        this.random = new Random(seed);
+    }
+
+    /**
+     * @return 实际写入的资源文件数量，包含变体、排除目录和 .DS_Store
+     */
+    public int create() throws IOException {
+        if (root.exists()) {
+            throw new IOException("Directory already exists: " + root);
+        }
+        mkdirs(new File(root, "lib"));
+        writeText(new File(root, "lib/main.dart"), "void main() {}\n");
+        writeText(new File(root, ".metadata"), "version:\n  revision: synthetic\n  channel: stable\n\nproject_type: app\n");
+        writeText(new File(root, "pubspec.lock"), "packages: {}\nsdks:\n  dart: \">=2.12.0 <3.0.0\"\n");
+        writeText(new File(root, "pubspec.yaml"), pubspec());
+
+        int features = Math.max(1, assetCount / 200);
+        List<File> dirs = new ArrayList<>();
+        for (int i = 0; i < assetCount; i++) {
+            File dir = pickDir(i % features);
+            String name = pickName(i);
+            writeImage(new File(dir, name), 1);
+            // 约三成资源带 2.0x/3.0x 变体，其中一部分只有 3.0x
+            int variant = random.nextInt(10);
+            if (variant < 2) {
+                writeImage(new File(dir, "2.0x/" + name), 2);
+                writeImage(new File(dir, "3.0x/" + name), 3);
+            } else if (variant < 3) {
+                writeImage(new File(dir, "3.0x/" + name), 3);
+            }
+            if (i % 97 == 0) {
+                dirs.add(dir);
+            }
+        }
+        for (File dir : dirs) {
+            writeText(new File(dir, ".DS_Store"), "synthetic");
+        }
+        return fileCount;
+    }
+
+    /**
+     * 模拟 git 仓库：在每个功能目录中写入被 .gitignore 忽略的构建产物和设计工具缓存，数量与资源相当，再写入跟踪其余文件的 .git/index。
+     * 在 {@link #create()} 之后调用
+     *
+     * @return 写入的被忽略的文件数量
+     */
+    public int initGit() throws IOException {
+        writeText(new File(root, ".gitignore"), "build/\n" + DESIGN_CACHE_DIR + "/\n");
+        int features = Math.max(1, assetCount / 200);
+        int ignored = 0;
+        for (int f = 0; f < features; f++) {
+            File feature = new File(root, "assets/feature_" + f);
+            for (int i = 0; i < 200; i++) {
+                String dir = i % 2 == 0 ? "build/intermediates/" : DESIGN_CACHE_DIR + "/layer_" + (i % 10) + "/";
+                writeText(new File(feature, dir + "artifact_" + i + ".png"), "artifact");
+                ignored++;
+            }
+        }
+        writeGitIndex(root);
+        return ignored;
+    }
+
+    /**
+     * 写入版本 2 的 .git/index，跟踪 root 下除构建产物和设计工具缓存外的所有文件。记录中只有路径、文件类型和大小，
+     * 时间戳和对象哈希为 0
+     */
+    public static void writeGitIndex(File root) throws IOException {
+        List<byte[]> paths = new ArrayList<>();
+        collectTracked(root, "", paths);
+        paths.sort(Arrays::compareUnsigned);
+        ByteArrayOutputStream index = new ByteArrayOutputStream();
+        DataOutputStream os = new DataOutputStream(index);
+        os.writeBytes("DIRC");
+        os.writeInt(2);
+        os.writeInt(paths.size());
+        for (byte[] path : paths) {
+            // ctime、mtime、dev、ino
+            os.write(new byte[24]);
+            os.writeInt(0100644);
+            // uid、gid
+            os.write(new byte[8]);
+            os.writeInt((int) new File(root, new String(path, StandardCharsets.UTF_8)).length());
+            // SHA-1
+            os.write(new byte[20]);
+            os.writeShort(Math.min(path.length, 0xFFF));
+            os.write(path);
+            int entryLength = 62 + path.length;
+            os.write(new byte[((entryLength + 8) & ~7) - entryLength]);
+        }
+        os.flush();
+        byte[] content = index.toByteArray();
+        try {
+            byte[] checksum = MessageDigest.getInstance("SHA-1").digest(content);
+            File indexFile = new File(root, ".git/index");
+            mkdirs(indexFile.getParentFile());
+            try (OutputStream out = new FileOutputStream(indexFile)) {
+                out.write(content);
+                out.write(checksum);
+            }
+        } catch (NoSuchAlgorithmException e) {
+            throw new IOException(e);
+        }
+    }
+
+    private static void collectTracked(File dir, String prefix, List<byte[]> paths) {
+        File[] files = dir.listFiles();
+        if (files == null) {
+            return;
+        }
+        for (File file : files) {
+            String name = file.getName();
+            if (file.isDirectory()) {
+                if (!name.equals(".git") && !name.equals("build") && !name.equals(DESIGN_CACHE_DIR)) {
+                    collectTracked(file, prefix + name + "/", paths);
+                }
+            } else {
+                paths.add((prefix + name).getBytes(StandardCharsets.UTF_8));
+            }
+        }
+    }
+
+    private String pubspec() {
+        return "name: synthetic_app\n" +
+                "description: Synthetic Flutter project for AssetsRefGenerator scale tests.\n" +
+                "version: 1.0.0+1\n" +
+                "\n" +
+                "environment:\n" +
+                "  sdk: \">=2.12.0 <3.0.0\"\n" +
+                "\n" +
+                "dependencies:\n" +
+                "  flutter:\n" +
+                "    sdk: flutter\n" +
+                "\n" +
+                "flutter:\n" +
+                "  uses-material-design: true\n" +
+                "  assets:\n" +
+                "    - packages/synthetic_icons/images/logo.png\n" +
+                "    - asset/\n" +
+                "    - assets/stale/removed.png\n" +
+                "    - images/screens/\n" +
+                "    - " + EXCLUDED_DIR + "kept.png\n" +
+                "\n" +
+                "  fonts:\n" +
+                "    - family: Synthetic\n" +
+                "      fonts:\n" +
+                "        - asset: fonts/Synthetic-Regular.ttf\n";
+    }
+
+    private File pickDir(int feature) {
+        int r = random.nextInt(100);
+        if (r < 5) {
+            return new File(root, EXCLUDED_DIR + "f" + feature);
+        }
+        if (r < 10) {
+            return new File(root, "images/screens/f" + feature);
+        }
+        if (r < 12) {
+            return new File(root, "asset");
+        }
+        String dir = "assets/feature_" + feature;
+        if (r < 60) {
+            dir += "/sub_" + random.nextInt(4);
+        }
+        if (r < 75) {
+            dir += "/deep_" + random.nextInt(3);
+        }
+        return new File(root, dir);
+    }
+
+    private String pickName(int i) {
+        String ext = EXTENSIONS[random.nextInt(EXTENSIONS.length)];
+        int r = random.nextInt(100);
+        if (r < 8) {
+            // 不同目录下的同名文件
+            return "common_" + (i % 25) + "." + ext;
+        }
+        if (r < 12) {
+            return DIACRITIC_NAMES[random.nextInt(DIACRITIC_NAMES.length)] + "_" + i + "." + ext;
+        }
+        if (r < 16) {
+            return "bg-tile-" + i + "." + ext;
+        }
+        return "ic_" + i + "." + ext;
+    }
+
+    /**
+     * 写入一个可以解码的小图标目录，用于图集打包：逻辑尺寸 16~48 像素，三分之一的图标有 1.0x、2.0x 和 3.0x，
+     * 三分之一有 1.0x 和 3.0x，其余只有 3.0x
+     *
+     * @param dir   图标目录，相对于工程目录，如 assets/toolbar
+     * @param count 图标数量
+     * @return 写入的文件数量
+     */
+    public int createIcons(String dir, int count) throws IOException {
+        int files = 0;
+        for (int i = 0; i < count; i++) {
+            int width = 16 + random.nextInt(33);
+            int height = 16 + random.nextInt(33);
+            String name = "icon_" + i + ".png";
+            int[] ratios = i % 3 == 0 ? new int[]{1, 2, 3} : i % 3 == 1 ? new int[]{1, 3} : new int[]{3};
+            for (int ratio : ratios) {
+                String path = ratio == 1 ? dir + "/" + name : dir + "/" + ratio + ".0x/" + name;
+                writeIcon(new File(root, path), width * ratio, height * ratio, i);
+                files++;
+            }
+        }
+        return files;
+    }
+
+    /**
+     * 写入一张半透明的渐变图标，同样的参数得到同样的像素
+     */
+    public static void writeIcon(File file, int width, int height, int seed) throws IOException {
+        mkdirs(file.getParentFile());
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                int alpha = 128 + (x * 7 + y * 13 + seed) % 128;
+                image.setRGB(x, y, alpha << 24 | (seed * 37 & 0xFF) << 16 | (x * 255 / width) << 8 | y * 255 / height);
+            }
+        }
+        ImageIO.write(image, "png", file);
+    }
+
+    /**
+     * 写入一个带有效 PNG 文件头的小文件，文件头中的尺寸随像素比变化，文件体为随机内容
+     */
+    private void writeImage(File file, int ratio) throws IOException {
+        mkdirs(file.getParentFile());
+        int width = (24 + random.nextInt(488)) * ratio;
+        int height = (24 + random.nextInt(488)) * ratio;
+        byte[] payload = new byte[16 + random.nextInt(240)];
+        random.nextBytes(payload);
+        try (OutputStream os = new FileOutputStream(file)) {
+            os.write(PNG_SIGNATURE);
+            os.write(new byte[]{0, 0, 0, 13, 'I', 'H', 'D', 'R'});
+            writeInt(os, width);
+            writeInt(os, height);
+            os.write(new byte[]{8, 6, 0, 0, 0, 0, 0, 0, 0});
+            os.write(payload);
+        }
+        fileCount++;
+    }
+
+    private static void writeInt(OutputStream os, int value) throws IOException {
+        os.write(value >>> 24);
+        os.write(value >>> 16);
+        os.write(value >>> 8);
+        os.write(value);
+    }
+
+    private static void writeText(File file, String text) throws IOException {
+        mkdirs(file.getParentFile());
+        Files.write(file.toPath(), text.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static void mkdirs(File dir) throws IOException {
+        if (!dir.isDirectory() && !dir.mkdirs()) {
+            throw new IOException("Failed to create directory: " + dir);
+        }
+    }
+}
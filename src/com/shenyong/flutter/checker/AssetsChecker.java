@@ -1,9 +1,15 @@
 package com.shenyong.flutter.checker;
 
+import com.shenyong.flutter.generator.PubspecEditor;
+
 import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.TreeSet;
 
 /**
  * @author ShenYong
@@ -11,6 +17,8 @@ import java.util.Objects;
  */
 public class AssetsChecker implements ICheck {
 
+    private static final String PUBSPEC = "pubspec.yaml";
+
     private final ArrayList<String> assetFiles;
 
     {
@@ -29,9 +37,10 @@ public class AssetsChecker implements ICheck {
 
         File dir = new File(path);
         String[] files = Objects.requireNonNull(dir.list());
+        List<String> assetsDirs = getAssetsDirs(path, null);
         int cnt = 0;
         for (String f : files) {
-            if (assetFiles.contains(f)) {
+            if (assetsDirs.contains(f)) {
                 cnt++;
             }
         }
@@ -39,7 +48,85 @@ public class AssetsChecker implements ICheck {
         return result;
     }
 
+    /**
+     * @return pubspec.yaml 中还没有声明本地资源时使用的资源根目录
+     */
     public List<String> getAssetsDirs() {
         return assetFiles;
     }
+
+    /**
+     * 需要扫描的资源根目录：pubspec.yaml 中已声明的本地资源所在的顶层目录，加上额外配置的根目录。
+     * 没有声明任何本地资源（如首次生成）时使用 {@link #getAssetsDirs()}。不再扫描没有声明过的 images 等目录，
+     * 其中的截图等文件不会被当作资源。
+     *
+     * @param path       package 路径
+     * @param extraRoots 额外的资源根目录，如 res，可为 null
+     */
+    public List<String> getAssetsDirs(String path, List<String> extraRoots) {
+        String content = "";
+        File pubspec = new File(path, PUBSPEC);
+        if (pubspec.isFile()) {
+            try {
+                content = new String(Files.readAllBytes(pubspec.toPath()), StandardCharsets.UTF_8);
+            } catch (IOException e) {
+                e.printStackTrace();
+            }
+        }
+        return resolveAssetsDirs(content, extraRoots);
+    }
+
+    /**
+     * @param pubspecContent pubspec.yaml 的内容
+     * @param extraRoots     额外的资源根目录，可为 null
+     * @return 按名称排序的资源根目录
+     */
+    public List<String> resolveAssetsDirs(String pubspecContent, List<String> extraRoots) {
+        TreeSet<String> roots = new TreeSet<>(String::compareToIgnoreCase);
+        roots.addAll(getDeclaredRoots(pubspecContent));
+        if (roots.isEmpty()) {
+            roots.addAll(assetFiles);
+        }
+        if (extraRoots != null) {
+            for (String root : extraRoots) {
+                String name = topLevelDir(root.trim());
+                if (name != null) {
+                    roots.add(name);
+                }
+            }
+        }
+        return new ArrayList<>(roots);
+    }
+
+    /**
+     * @return pubspec.yaml 的 flutter: assets: 中本地资源（不含 packages/ 开头的其他 package 资源）所在的顶层目录
+     */
+    public static List<String> getDeclaredRoots(String pubspecContent) {
+        List<String> roots = new ArrayList<>();
+        PubspecEditor.AssetsBlock block = PubspecEditor.locate(pubspecContent.getBytes(StandardCharsets.UTF_8));
+        if (block == null) {
+            return roots;
+        }
+        for (PubspecEditor.Entry entry : block.entries) {
+            String root = topLevelDir(entry.value);
+            if (root != null && !root.equals("packages") && !roots.contains(root)) {
+                roots.add(root);
+            }
+        }
+        return roots;
+    }
+
+    /**
+     * @param path 资源路径，如 assets/icons/home.png 或 res/
+     * @return 顶层目录名，如 assets；不在目录中时返回 null
+     */
+    private static String topLevelDir(String path) {
+        String relative = path.startsWith("./") ? path.substring(2) : path;
+        int slash = relative.indexOf('/');
+        if (slash > 0) {
+            return relative.substring(0, slash);
+        }
+        // 没有 / 的配置项本身就是目录名
+        return !relative.isEmpty() && !relative.contains(".") ? relative : null;
+    }
 }
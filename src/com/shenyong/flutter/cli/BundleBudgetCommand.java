@@ -0,0 +1,85 @@
+package com.shenyong.flutter.cli;
+
+import com.shenyong.flutter.analysis.BundleSizeReport;
+import com.shenyong.flutter.generator.AssetsGenerator;
+import com.shenyong.flutter.generator.DiskOutputSink;
+import com.shenyong.flutter.generator.GenerateConfig;
+import com.shenyong.flutter.generator.PackageFinder;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * 在 CI 中检查资源包大小：扫描每个 Flutter package 的资源，按目录、类型和像素比汇总大小，与 package 目录下
+ * asset_budget.properties 中的预算比较。只写 JSON 报告，不修改 pubspec.yaml 和 res 文件；任一 package 超出预算时退出码为 1。
+ * <p>
+ * 用法：
+ * <pre>
+ * java -cp out com.shenyong.flutter.cli.BundleBudgetCommand [project] [--exclude assets/font/] [--root res] [--top 10] [--git-index]
+ * </pre>
+ */
+public class BundleBudgetCommand {
+
+    private final GenerateConfig config = new GenerateConfig();
+    private String path = ".";
+    private int top = BundleSizeReport.DEFAULT_TOP;
+
+    public static void main(String[] args) throws Exception {
+        BundleBudgetCommand command = new BundleBudgetCommand();
+        command.parseArgs(args);
+        System.exit(command.run() ? 0 : 1);
+    }
+
+    private void parseArgs(String[] args) {
+        config.bundleSizeReport = true;
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--exclude":
+                    config.excludePath.add(args[++i]);
+                    break;
+                case "--root":
+                    config.extraAssetRoots.add(args[++i]);
+                    break;
+                case "--top":
+                    top = Integer.parseInt(args[++i]);
+                    break;
+                case "--git-index":
+                    config.gitIndexSource = true;
+                    break;
+                default:
+                    if (args[i].startsWith("--")) {
+                        throw new IllegalArgumentException("Unknown argument: " + args[i]);
+                    }
+                    path = args[i];
+            }
+        }
+    }
+
+    /**
+     * @return 所有 package 都没有超出预算时为 true
+     */
+    private boolean run() throws IOException {
+        String basePath = new File(path).getCanonicalPath();
+        List<String> packages = new PackageFinder(config.extraAssetRoots).find(basePath);
+        if (packages.isEmpty()) {
+            packages.add(basePath);
+        }
+        DiskOutputSink sink = new DiskOutputSink();
+        boolean passed = true;
+        for (String packagePath : packages) {
+            AssetsGenerator generator = new AssetsGenerator(packagePath, config);
+            generator.scan();
+            generator.filterExcluded();
+            BundleSizeReport report = generator.checkBundleSize(top);
+            sink.write(new File(packagePath, BundleSizeReport.REPORT_FILE),
+                    report.toJson(packagePath).getBytes(StandardCharsets.UTF_8));
+            System.out.println(packagePath);
+            System.out.print(report.toText(top));
+            passed &= !report.isOverBudget();
+        }
+        System.out.println(passed ? "Asset bundle is within budget" : "Asset bundle budget exceeded");
+        return passed;
+    }
+}
@@ -0,0 +1,128 @@
+package com.shenyong.flutter.cli;
+
+import com.shenyong.flutter.generator.AssetWatcher;
+import com.shenyong.flutter.generator.GenerateConfig;
+import com.shenyong.flutter.generator.NamedThreadFactory;
+import com.shenyong.flutter.generator.PackageFinder;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 在 IDE 之外持续监听资源目录，资源变化后自动更新 pubspec.yaml 和 res 文件，直到 Ctrl+C 退出。
+ * 工程中包含多个 Flutter package 时，每个 package 一个监听线程。
+ * <p>
+ * 用法（classpath 为编译后的 src 和 libs/thumbnailator）：
+ * <pre>
+ * java -cp out com.shenyong.flutter.cli.WatchCommand [project] [--directory-mode] [--sharded] [--deferred] [--precache-groups] [--variants]
+ *      [--atlas assets/icons] [--exclude assets/font/] [--root res] [--file-name res] [--generate-path generated] [--quiet-ms 50] [--max-delay-ms 1000]
+ * </pre>
+ * project 默认为当前目录，{@code --exclude}、{@code --root}（pubspec.yaml 中还没有声明的资源根目录）和 {@code --atlas}
+ * （打包为图集的图标目录）可以重复。
+ */
+public class WatchCommand {
+
+    private final GenerateConfig config = new GenerateConfig();
+    private String path = ".";
+    private long quietMillis = 50;
+    private long maxDelayMillis = 1000;
+
+    public static void main(String[] args) throws Exception {
+        WatchCommand command = new WatchCommand();
+        command.parseArgs(args);
+        command.run();
+    }
+
+    private void parseArgs(String[] args) {
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--directory-mode":
+                    config.pubspecDirectoryMode = true;
+                    break;
+                case "--sharded":
+                    config.shardedOutput = true;
+                    break;
+                case "--deferred":
+                    config.deferredOutput = true;
+                    break;
+                case "--precache-groups":
+                    config.precacheGroups = true;
+                    break;
+                case "--variants":
+                    config.generateVariants = true;
+                    break;
+                case "--exclude":
+                    config.excludePath.add(args[++i]);
+                    break;
+                case "--root":
+                    config.extraAssetRoots.add(args[++i]);
+                    break;
+                case "--atlas":
+                    config.atlasDirs.add(args[++i]);
+                    break;
+                case "--file-name":
+                    config.generateFileName = args[++i];
+                    break;
+                case "--generate-path":
+                    config.generatePath = args[++i];
+                    break;
+                case "--quiet-ms":
+                    quietMillis = Long.parseLong(args[++i]);
+                    break;
+                case "--max-delay-ms":
+                    maxDelayMillis = Long.parseLong(args[++i]);
+                    break;
+                default:
+                    if (args[i].startsWith("--")) {
+                        throw new IllegalArgumentException("Unknown argument: " + args[i]);
+                    }
+                    path = args[i];
+            }
+        }
+    }
+
+    private void run() throws IOException, InterruptedException {
+        String basePath = new File(path).getCanonicalPath();
+        List<String> packages = new PackageFinder(config.extraAssetRoots).find(basePath);
+        if (packages.isEmpty()) {
+            packages.add(basePath);
+        }
+        List<AssetWatcher> watchers = new ArrayList<>();
+        ExecutorService executor = Executors.newFixedThreadPool(packages.size(), new NamedThreadFactory("watch"));
+        for (String packagePath : packages) {
+            AssetWatcher watcher = new AssetWatcher(packagePath, config);
+            watcher.setDelays(quietMillis, maxDelayMillis);
+            watchers.add(watcher);
+            executor.execute(() -> {
+                try {
+                    watcher.run((stats, events, latencyNanos) -> System.out.println(String.format(Locale.ROOT,
+                            "%s: %s", packagePath, events == 0 ? stats.toSummary()
+                                    : events + " changes, " + stats.toSummary() + ", "
+                                    + latencyNanos / 1_000_000 + " ms after last change")));
+                } catch (IOException e) {
+                    e.printStackTrace();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+        }
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            for (AssetWatcher watcher : watchers) {
+                try {
+                    watcher.close();
+                } catch (IOException e) {
+                    e.printStackTrace();
+                }
+            }
+        }));
+        System.out.println("Watching " + packages.size() + " packages under " + basePath + ", press Ctrl+C to stop");
+        executor.shutdown();
+        executor.awaitTermination(Long.MAX_VALUE, TimeUnit.DAYS);
+    }
+}
@@ -0,0 +1,429 @@
+package com.shenyong.flutter.generator;
+
+import java.io.File;
+import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.regex.Pattern;
+
+/**
+ * 一个 package 中所有资源的模型：每个逻辑资源（代码和 pubspec.yaml 中引用的路径，如 assets/icons/home.png）及其 1.0x、2.0x、3.0x
+ * 等变体文件。一次遍历资源目录构建，生成 pubspec.yaml、res 文件以及编辑器中的跳转、预览都使用同一个模型，对变体的判断保持一致。
+ * <p>
+ * 变体规则与 Flutter 相同：主资源所在目录的 N.Nx 子目录中同名的文件是它的变体；只有变体、没有主文件的资源同样作为一个逻辑资源。
+ * 不同目录中的同名文件是不同的资源，先扫描到的使用文件名作为常量名，之后的加上目录前缀。
+ * <p>
+ * 资源很多时（10 万级）模型常驻内存：每个目录只保存一次路径，资源只保存目录、文件名和像素比，pubspec.yaml 中的声明和 Dart
+ * 常量在生成时逐个拼出，不再保存每个资源的完整路径、声明行和常量名。
+ */
+public class AssetModel {
+
+    private static final String MAC_OS_DS_STORE = ".DS_Store";
+    private static final Pattern RATIO_DIR = Pattern.compile("^[1-9](\\.\\d)x$");
+
+    /**
+     * 遍历的目录树，插件中为 VFS，生成时为磁盘上的文件
+     */
+    public interface Tree<T> {
+        /**
+         * @return 子文件或目录，不存在时为 null
+         */
+        T getChild(T dir, String name);
+
+        /**
+         * @return 子文件和目录，不是目录时为 null
+         */
+        List<T> getChildren(T dir);
+
+        String getName(T file);
+
+        boolean isDirectory(T file);
+
+        /**
+         * 文件大小，只在记录资源大小（见 {@link GenerationStats#fileSizes}）时调用，实现应尽量使用列出目录时已读取的属性
+         */
+        long getLength(T file);
+    }
+
+    public static final Tree<File> FILES = new Tree<File>() {
+        @Override
+        public File getChild(File dir, String name) {
+            File child = new File(dir, name);
+            return child.exists() ? child : null;
+        }
+
+        @Override
+        public List<File> getChildren(File dir) {
+            File[] files = dir.listFiles();
+            return files != null ? Arrays.asList(files) : null;
+        }
+
+        @Override
+        public String getName(File file) {
+            return file.getName();
+        }
+
+        @Override
+        public boolean isDirectory(File file) {
+            return file.isDirectory();
+        }
+
+        @Override
+        public long getLength(File file) {
+            return file.length();
+        }
+    };
+
+    /**
+     * 资源所在的逻辑目录（倍率目录不计入），同一个模型中每个目录只有一个实例，目录下的资源共用它的路径
+     */
+    public static class Dir {
+        /**
+         * 逻辑路径，如 assets/icons
+         */
+        public final String path;
+        /**
+         * 分片名，第一次使用时计算
+         */
+        private String shardName;
+        /**
+         * 扫描期间该目录下的资源，用于把倍率目录中的变体归到主资源，扫描结束后释放
+         */
+        private Map<String, AssetGroup> files = new HashMap<>();
+
+        Dir(String path) {
+            this.path = path;
+        }
+
+        /**
+         * @see ResDartWriter#getShardName(String)
+         */
+        public String getShardName() {
+            if (shardName == null) {
+                shardName = ResDartWriter.getShardName(path + "/_");
+            }
+            return shardName;
+        }
+    }
+
+    /**
+     * 一个逻辑资源。路径、常量名和变体路径都在需要时由目录和文件名拼出，不为每个资源保存完整的路径字符串
+     */
+    public static class AssetGroup {
+        /**
+         * 只有主文件的资源共用的像素比列表
+         */
+        private static final byte[] MAIN_ONLY = {10};
+
+        public final Dir dir;
+        public final String fileName;
+        /**
+         * 文件名与之前扫描到的资源重复，常量名带目录前缀
+         */
+        private boolean prefixed;
+        /**
+         * 存在的像素比，以 0.1 为单位从小到大排列，如 {10, 20, 30} 表示 1.0x、2.0x、3.0x
+         */
+        private byte[] ratios;
+        /**
+         * 文件名相同的下一个资源
+         */
+        private AssetGroup nextSameName;
+
+        AssetGroup(Dir dir, String fileName) {
+            this.dir = dir;
+            this.fileName = fileName;
+        }
+
+        /**
+         * @return 逻辑资源路径，如 assets/icons/home.png
+         */
+        public String getPath() {
+            return dir.path + "/" + fileName;
+        }
+
+        /**
+         * @return 常量名，重名资源带目录前缀，转换为合法的 Dart 常量名前的原始值
+         */
+        public String getName() {
+            String nameKey = baseName(fileName);
+            if (!prefixed) {
+                return nameKey;
+            }
+            return dir.path.replace(' ', '_').replace('/', '_') + "_" + nameKey.trim().replace(' ', '_');
+        }
+
+        /**
+         * @return 所有变体文件的路径，按像素比从小到大排列，主文件为 1.0
+         */
+        public List<String> getVariantPaths() {
+            List<String> paths = new ArrayList<>(ratios.length);
+            for (byte ratio : ratios) {
+                paths.add(ratio == 10 ? getPath() : dir.path + "/" + ratio / 10 + "." + ratio % 10 + "x/" + fileName);
+            }
+            return paths;
+        }
+
+        /**
+         * @return 只有 2.0x、3.0x 等变体，没有主文件
+         */
+        public boolean isRatioOnly() {
+            return ratios[0] != 10;
+        }
+
+        /**
+         * @return 是否新增了这个像素比
+         */
+        private boolean addRatio(byte ratio) {
+            if (ratios == null) {
+                ratios = ratio == 10 ? MAIN_ONLY : new byte[]{ratio};
+                return true;
+            }
+            int i = 0;
+            while (i < ratios.length && ratios[i] < ratio) {
+                i++;
+            }
+            if (i < ratios.length && ratios[i] == ratio) {
+                return false;
+            }
+            byte[] grown = new byte[ratios.length + 1];
+            System.arraycopy(ratios, 0, grown, 0, i);
+            grown[i] = ratio;
+            System.arraycopy(ratios, i, grown, i + 1, ratios.length - i);
+            ratios = grown;
+            return true;
+        }
+    }
+
+    private final ArrayList<AssetGroup> groups = new ArrayList<>();
+    /**
+     * 文件名到第一个该文件名的资源，重名资源通过 {@link AssetGroup#nextSameName} 连接
+     */
+    private final Map<String, AssetGroup> byFileName = new HashMap<>();
+    /**
+     * 扫描期间的目录，扫描结束后释放
+     */
+    private Map<String, Dir> dirs = new HashMap<>();
+    /**
+     * 只在编辑器中按不带后缀的文件名查找时用到，第一次查找时建立
+     */
+    private volatile Map<String, List<AssetGroup>> byBaseName;
+
+    /**
+     * @param path       项目路径
+     * @param assetsDirs 资源根目录名称，如 asset、assets、images
+     * @param stats      记录扫描过的目录、文件和变体数量
+     */
+    public static AssetModel scan(String path, List<String> assetsDirs, GenerationStats stats) {
+        return scan(new File(path), assetsDirs, FILES, stats);
+    }
+
+    public static <T> AssetModel scan(T packageDir, List<String> assetsDirs, Tree<T> tree, GenerationStats stats) {
+        AssetModel model = scanRoots(packageDir, assetsDirs, tree, stats);
+        model.compact();
+        return model;
+    }
+
+    private static <T> AssetModel scanRoots(T packageDir, List<String> assetsDirs, Tree<T> tree,
+                                            GenerationStats stats) {
+        AssetModel model = new AssetModel();
+        for (String name : assetsDirs) {
+            T dir = tree.getChild(packageDir, name);
+            if (dir != null && tree.isDirectory(dir)) {
+                model.scanDir(dir, model.dir(name), (byte) 10, tree, stats);
+            }
+        }
+        return model;
+    }
+
+    /**
+     * 在 executor 中同时扫描各个资源根目录，再按 assetsDirs 的顺序合并，结果与 {@link #scan(Object, List, Tree, GenerationStats)}
+     * 相同，重名资源的命名不受扫描完成先后的影响。tree 需要支持多线程访问。
+     */
+    public static <T> AssetModel scan(T packageDir, List<String> assetsDirs, Tree<T> tree, GenerationStats stats,
+                                      ExecutorService executor) throws InterruptedException {
+        List<Future<AssetModel>> futures = new ArrayList<>();
+        List<GenerationStats> rootStats = new ArrayList<>();
+        for (String name : assetsDirs) {
+            GenerationStats s = new GenerationStats();
+            s.fileSizes = stats.fileSizes != null ? new FileSizes() : null;
+            rootStats.add(s);
+            futures.add(executor.submit(() -> scanRoots(packageDir, Collections.singletonList(name), tree, s)));
+        }
+        AssetModel model = new AssetModel();
+        for (int i = 0; i < futures.size(); i++) {
+            try {
+                model.merge(futures.get(i).get());
+            } catch (ExecutionException e) {
+                throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause()
+                        : new IllegalStateException(e.getCause());
+            }
+            GenerationStats s = rootStats.get(i);
+            stats.dirsVisited += s.dirsVisited;
+            stats.filesVisited += s.filesVisited;
+            stats.variantsDetected += s.variantsDetected;
+            if (s.fileSizes != null) {
+                stats.fileSizes.addAll(s.fileSizes);
+            }
+        }
+        model.compact();
+        return model;
+    }
+
+    /**
+     * 按扫描顺序加入另一个根目录的资源，重新计算重名资源的常量名。各根目录的路径互不相同，资源对象直接复用
+     */
+    private void merge(AssetModel other) {
+        for (AssetGroup g : other.groups) {
+            g.nextSameName = null;
+            register(g);
+        }
+        other.compact();
+    }
+
+    /**
+     * 扫描结束，释放只在扫描期间用到的索引
+     */
+    private void compact() {
+        if (dirs == null) {
+            return;
+        }
+        for (Dir dir : dirs.values()) {
+            dir.files = null;
+        }
+        dirs = null;
+        groups.trimToSize();
+    }
+
+    private Dir dir(String path) {
+        return dirs.computeIfAbsent(path, Dir::new);
+    }
+
+    /**
+     * @param dir   当前目录对应的逻辑目录，倍率目录为所在的主资源目录
+     * @param ratio 当前目录的像素比，以 0.1 为单位
+     */
+    private <T> void scanDir(T physical, Dir dir, byte ratio, Tree<T> tree, GenerationStats stats) {
+        List<T> children = tree.getChildren(physical);
+        if (children == null) {
+            return;
+        }
+        stats.dirsVisited++;
+        // 文件排在目录前面，先处理主资源，再处理倍率目录中的变体；同类按名称排序，保证重名资源的命名不依赖文件系统返回的顺序
+        List<T> files = new ArrayList<>();
+        List<T> subDirs = new ArrayList<>();
+        for (T child : children) {
+            if (tree.isDirectory(child)) {
+                subDirs.add(child);
+            } else if (!MAC_OS_DS_STORE.equals(tree.getName(child))) {
+                files.add(child);
+            }
+        }
+        Comparator<T> byName = Comparator.comparing(tree::getName);
+        files.sort(byName);
+        subDirs.sort(byName);
+        for (T file : files) {
+            stats.filesVisited++;
+            String fileName = tree.getName(file);
+            AssetGroup group = dir.files.get(fileName);
+            if (group != null) {
+                stats.variantsDetected++;
+            } else {
+                group = new AssetGroup(dir, fileName);
+                dir.files.put(fileName, group);
+                register(group);
+            }
+            group.addRatio(ratio);
+            if (stats.fileSizes != null) {
+                stats.fileSizes.add(group, ratio, tree.getLength(file));
+            }
+        }
+        String physicalPrefix = ratio == 10 ? dir.path : dir.path + "/" + tree.getName(physical);
+        for (T child : subDirs) {
+            String name = tree.getName(child);
+            // 倍率目录只在主资源目录下有效，如 assets/icons/2.0x/
+            if (ratio == 10 && RATIO_DIR.matcher(name).matches()) {
+                scanDir(child, dir, (byte) ((name.charAt(0) - '0') * 10 + name.charAt(2) - '0'), tree, stats);
+            } else {
+                scanDir(child, dir(physicalPrefix + "/" + name), (byte) 10, tree, stats);
+            }
+        }
+    }
+
+    private void register(AssetGroup group) {
+        AssetGroup first = byFileName.putIfAbsent(group.fileName, group);
+        group.prefixed = first != null;
+        if (first != null) {
+            AssetGroup last = first;
+            while (last.nextSameName != null) {
+                last = last.nextSameName;
+            }
+            last.nextSameName = group;
+        }
+        groups.add(group);
+    }
+
+    /**
+     * @return 去掉后缀的文件名，如 home.png -> home
+     */
+    static String baseName(String fileName) {
+        int dot = fileName.indexOf('.');
+        return dot == -1 ? fileName : fileName.substring(0, dot);
+    }
+
+    /**
+     * @return 所有逻辑资源，按扫描顺序
+     */
+    public List<AssetGroup> getGroups() {
+        return groups;
+    }
+
+    public AssetGroup getByPath(String path) {
+        int slash = path.lastIndexOf('/');
+        if (slash <= 0) {
+            return null;
+        }
+        for (AssetGroup g = byFileName.get(path.substring(slash + 1)); g != null; g = g.nextSameName) {
+            if (g.dir.path.length() == slash && path.startsWith(g.dir.path)) {
+                return g;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 查找代码或 pubspec.yaml 中的资源字符串对应的资源
+     *
+     * @param text 完整路径（assets/icons/home.png）、文件名（home.png）或不带后缀的文件名（home），可带引号
+     */
+    public List<AssetGroup> resolve(String text) {
+        String value = text.replaceAll("[\"']", "");
+        if (value.contains("/")) {
+            AssetGroup group = getByPath(value);
+            return group != null ? Collections.singletonList(group) : Collections.emptyList();
+        }
+        if (value.lastIndexOf('.') > 0) {
+            List<AssetGroup> found = new ArrayList<>();
+            for (AssetGroup g = byFileName.get(value); g != null; g = g.nextSameName) {
+                found.add(g);
+            }
+            return found;
+        }
+        Map<String, List<AssetGroup>> index = byBaseName;
+        if (index == null) {
+            synchronized (this) {
+                if (byBaseName == null) {
+                    Map<String, List<AssetGroup>> built = new HashMap<>();
+                    for (AssetGroup group : groups) {
+                        built.computeIfAbsent(baseName(group.fileName), k -> new ArrayList<>()).add(group);
+                    }
+                    byBaseName = built;
+                }
+                index = byBaseName;
+            }
+        }
+        List<AssetGroup> found = index.get(value);
+        return found != null ? found : Collections.emptyList();
+    }
+}
@@ -0,0 +1,47 @@
+package com.shenyong.flutter.generator;
+
+import java.io.File;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 资源目录扫描，生成 pubspec.yaml 中的资源声明，并记录每个资源声明对应的 Dart 常量名。
+ * 变体判断和重名资源的命名见 {@link AssetModel}。
+ * <p>
+ * 不保存状态，可以在多个线程中同时使用；不依赖 IDE 接口，可以在插件之外（如基准测试）直接运行。
+ */
+public class AssetScanner {
+
+    /**
+     * 扫描项目下的资源目录
+     *
+     * @param path       项目路径
+     * @param assetsDirs 资源根目录名称，如 asset、assets、images
+     * @param stats      记录扫描过的目录、文件和变体数量
+     */
+    public ScanResult scan(String path, List<String> assetsDirs, GenerationStats stats) {
+        return scan(new File(path), assetsDirs, AssetModel.FILES, stats);
+    }
+
+    /**
+     * 有多个资源根目录并且有多个 CPU 时，各根目录同时扫描
+     *
+     * @param tree 遍历的目录树，如缓存了目录列表的 {@link CachedFileTree}，需要支持多线程访问
+     */
+    public <T> ScanResult scan(T packageDir, List<String> assetsDirs, AssetModel.Tree<T> tree, GenerationStats stats) {
+        int parallelism = Math.min(assetsDirs.size(), Runtime.getRuntime().availableProcessors());
+        if (parallelism <= 1) {
+            return new ScanResult(AssetModel.scan(packageDir, assetsDirs, tree, stats));
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(parallelism, new NamedThreadFactory("scan"));
+        try {
+            return new ScanResult(AssetModel.scan(packageDir, assetsDirs, tree, stats, executor));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while scanning " + packageDir, e);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
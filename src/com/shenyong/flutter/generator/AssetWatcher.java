@@ -0,0 +1,213 @@
+package com.shenyong.flutter.generator;
+
+import com.shenyong.flutter.checker.AssetsChecker;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.*;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static java.nio.file.StandardWatchEventKinds.*;
+
+/**
+ * 监听资源目录的变化并自动重新生成 pubspec.yaml 和 res 文件，用于在 IDE 之外修改资源的场景（如设计工具导出、命令行构建）。
+ * <p>
+ * 在所有资源目录上注册 {@link WatchService}，新建的子目录出现后立即注册。一批文件变化（如一次拖入多个文件）在安静
+ * {@code quietMillis} 后合并为一次生成，持续变化时最多等待 {@code maxDelayMillis}。扫描使用 {@link CachedFileTree}，
+ * 只重新读取发生变化的目录；输出内容没有变化的文件不会改写。没有变化时线程阻塞在 {@link WatchService#take()} 上，不占用 CPU。
+ * <p>
+ * 资源目录只监听新增和删除（包括重命名和移动），文件内容的修改不影响资源声明；开启资源包大小报告时同时监听修改，
+ * 只重新读取被修改文件的大小。监听的资源根目录见 {@link AssetsChecker#getAssetsDirs(String, List)}，pubspec.yaml 被修改或替换
+ * （如编辑器保存）时重新确定，新增的根目录在下一次变化时扫描。
+ * macOS 上 JDK 的 WatchService 为轮询实现，延迟为秒级。
+ */
+public class AssetWatcher implements Closeable {
+
+    public interface Listener {
+        /**
+         * 一次生成完成，在监听线程中回调
+         *
+         * @param events       本次合并的事件数，启动时的首次生成为 0
+         * @param latencyNanos 从最后一个事件到生成完成的耗时
+         */
+        void onGenerated(GenerationStats stats, int events, long latencyNanos);
+    }
+
+    private final File packageDir;
+    private final GenerateConfig config;
+    private List<String> assetsDirs = new ArrayList<>();
+    private final CachedFileTree tree;
+    private final WatchService watchService;
+    private final Map<WatchKey, Path> keys = new HashMap<>();
+
+    private long quietMillis = 50;
+    private long maxDelayMillis = 1000;
+
+    /**
+     * @param path   Flutter package 路径
+     * @param config 生成配置
+     */
+    public AssetWatcher(String path, GenerateConfig config) throws IOException {
+        this.packageDir = new File(path);
+        this.config = config;
+        this.tree = new CachedFileTree(config.bundleSizeReport);
+        this.watchService = FileSystems.getDefault().newWatchService();
+    }
+
+    /**
+     * @param quietMillis    最后一个事件之后没有新事件多久开始生成
+     * @param maxDelayMillis 持续有事件时，从第一个事件起最多等待多久
+     */
+    public void setDelays(long quietMillis, long maxDelayMillis) {
+        this.quietMillis = quietMillis;
+        this.maxDelayMillis = maxDelayMillis;
+    }
+
+    /**
+     * 注册监听并生成一次，之后阻塞处理文件变化，直到 {@link #close()} 或线程被中断
+     */
+    public void run(Listener listener) throws IOException, InterruptedException {
+        // package 目录本身用于发现新建的资源根目录和 pubspec.yaml 的变化
+        register(packageDir.toPath());
+        refreshRoots();
+        listener.onGenerated(generate(), 0, 0);
+        try {
+            while (true) {
+                WatchKey key = watchService.take();
+                long first = System.nanoTime();
+                long last = first;
+                int events = handle(key);
+                // 合并同一批变化
+                while (true) {
+                    long waitMillis = Math.min(quietMillis,
+                            maxDelayMillis - TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - first));
+                    key = waitMillis > 0 ? watchService.poll(waitMillis, TimeUnit.MILLISECONDS) : null;
+                    if (key == null) {
+                        break;
+                    }
+                    events += handle(key);
+                    last = System.nanoTime();
+                }
+                if (events > 0) {
+                    GenerationStats stats = generate();
+                    listener.onGenerated(stats, events, System.nanoTime() - last);
+                }
+            }
+        } catch (ClosedWatchServiceException e) {
+            // close() 结束监听
+        }
+    }
+
+    /**
+     * @return 影响资源目录的事件数
+     */
+    private int handle(WatchKey key) throws IOException {
+        Path dir = keys.get(key);
+        int count = 0;
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (event.kind() == OVERFLOW) {
+                // 事件丢失，全部重新读取
+                tree.clear();
+                for (String name : assetsDirs) {
+                    registerTree(new File(packageDir, name).toPath());
+                }
+                count++;
+                continue;
+            }
+            if (dir == null) {
+                continue;
+            }
+            Path child = dir.resolve((Path) event.context());
+            boolean isPackageDir = dir.equals(packageDir.toPath());
+            if (isPackageDir && child.getFileName().toString().equals(PubspecUpdater.PUBSPEC)) {
+                // 声明的资源目录可能有变化，本身不触发生成，避免生成时写 pubspec.yaml 引起循环
+                refreshRoots();
+                continue;
+            }
+            if (isPackageDir && (event.kind() == ENTRY_MODIFY || !assetsDirs.contains(child.getFileName().toString()))) {
+                // package 目录中的其他文件，以及资源根目录本身的属性变化
+                continue;
+            }
+            if (event.kind() == ENTRY_MODIFY) {
+                // 只在记录文件大小时注册，目录的修改由它自己的监听处理
+                if (Files.isDirectory(child, LinkOption.NOFOLLOW_LINKS)) {
+                    continue;
+                }
+                tree.invalidateLength(child.toFile());
+                count++;
+                continue;
+            }
+            tree.invalidate(dir.toFile());
+            if (event.kind() == ENTRY_CREATE && Files.isDirectory(child, LinkOption.NOFOLLOW_LINKS)) {
+                registerTree(child);
+            } else if (event.kind() == ENTRY_DELETE) {
+                tree.invalidateTree(child.toFile());
+            }
+            count++;
+        }
+        if (!key.reset()) {
+            // 目录已被删除
+            keys.remove(key);
+        }
+        return count;
+    }
+
+    private GenerationStats generate() throws InterruptedException {
+        WorkspaceGenerator.PackageResult r = WorkspaceGenerator.generatePackage(packageDir.getPath(), config, tree);
+        if (r.error != null) {
+            r.error.printStackTrace();
+        }
+        return r.stats != null ? r.stats : new GenerationStats();
+    }
+
+    /**
+     * 重新确定资源根目录，注册新增的根目录
+     */
+    private void refreshRoots() throws IOException {
+        List<String> roots = new AssetsChecker().getAssetsDirs(packageDir.getPath(), config.extraAssetRoots);
+        for (String name : roots) {
+            if (!assetsDirs.contains(name)) {
+                registerTree(new File(packageDir, name).toPath());
+            }
+        }
+        assetsDirs = roots;
+    }
+
+    /**
+     * 注册目录及其所有下级目录，新目录中已有的文件在下次扫描时读取
+     */
+    private void registerTree(Path root) throws IOException {
+        if (!Files.isDirectory(root)) {
+            return;
+        }
+        Files.walkFileTree(root, new SimpleFileVisitor<Path>() {
+            @Override
+            public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) throws IOException {
+                register(dir);
+                tree.invalidate(dir.toFile());
+                return FileVisitResult.CONTINUE;
+            }
+        });
+    }
+
+    /**
+     * package 目录监听修改以发现 pubspec.yaml 的编辑；资源目录只在记录文件大小时监听修改
+     */
+    private void register(Path dir) throws IOException {
+        WatchKey key = dir.equals(packageDir.toPath()) || config.bundleSizeReport
+                ? dir.register(watchService, ENTRY_CREATE, ENTRY_DELETE, ENTRY_MODIFY)
+                : dir.register(watchService, ENTRY_CREATE, ENTRY_DELETE);
+        keys.put(key, dir);
+    }
+
+    @Override
+    public void close() throws IOException {
+        watchService.close();
+    }
+}
@@ -0,0 +1,306 @@
+package com.shenyong.flutter.generator;
+
+import com.shenyong.flutter.analysis.BundleBudget;
+import com.shenyong.flutter.analysis.BundleSizeReport;
+import com.shenyong.flutter.checker.AssetsChecker;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 资源声明和 res.dart 生成流程：（生成低倍率变体 ->）扫描资源 -> 去掉排除的资源 -> 更新 pubspec.yaml -> 生成 res.dart。
+ * <p>
+ * 每个阶段可以单独调用，便于基准测试分阶段统计耗时；插件中直接调用 {@link #generate()}。
+ * <p>
+ * 一个实例对应一次生成，阶段之间的数据只保存在实例中；同一个 package 的多次生成通过
+ * {@link WorkspaceGenerator#generatePackage} 合并，不会同时写同一个 pubspec.yaml 和 res 文件。
+ */
+public class AssetsGenerator {
+
+    private final String path;
+    private final GenerateConfig config;
+    private final AssetScanner scanner = new AssetScanner();
+    private final PubspecUpdater pubspecUpdater = new PubspecUpdater();
+    private final ResDartWriter resDartWriter = new ResDartWriter();
+
+    private final GenerationStats stats = new GenerationStats();
+    private AssetModel.Tree<File> tree = AssetModel.FILES;
+    private OutputSink sink = OutputSink.DISK;
+
+    private List<String> assetsDirs;
+    private ScanResult scanResult;
+    private List<AssetModel.AssetGroup> assets = new ArrayList<>();
+    private final List<AssetModel.AssetGroup> excludedAssets = new ArrayList<>();
+    /**
+     * pubspec.yaml 中保留下来、同样需要生成常量的其他声明，如其他 package 的资源
+     */
+    private List<String> retainedAssets = new ArrayList<>();
+    private BundleSizeReport bundleSizeReport;
+    private List<AtlasPacker.Atlas> atlases = new ArrayList<>();
+
+    /**
+     * @param path   Flutter 项目路径
+     * @param config 生成配置
+     */
+    public AssetsGenerator(String path, GenerateConfig config) {
+        this.path = path;
+        this.config = config;
+    }
+
+    /**
+     * 执行完整的生成流程
+     *
+     * @return 没有扫描到任何资源时返回 false，此时不会修改任何文件
+     */
+    public boolean generate() {
+        if (config.generateVariants) {
+            generateVariants();
+        }
+        if (!config.atlasDirs.isEmpty() || AtlasPacker.hasManifests(path)) {
+            packAtlases();
+        }
+        scan();
+        boolean found = !assets.isEmpty();
+        if (found) {
+            filterExcluded();
+            if (config.bundleSizeReport) {
+                checkBundleSize();
+            }
+            updatePubspec();
+            writeResDart();
+            writeReport();
+        }
+        flush();
+        return found;
+    }
+
+    public void generateVariants() {
+        long start = System.nanoTime();
+        new VariantGenerator().generate(path, getAssetsDirs(), config.excludePath, stats);
+        if (stats.variantsGenerated > 0) {
+            for (String dir : getAssetsDirs()) {
+                sink.changedExternally(new File(path, dir));
+            }
+        }
+        stats.variantsNanos = System.nanoTime() - start;
+    }
+
+    /**
+     * 把配置的小图标目录打包为图集，需要在 {@link #scan()} 之前调用，图集作为普通资源被扫描；布局随 res 文件生成图标位置表
+     */
+    public void packAtlases() {
+        long start = System.nanoTime();
+        AtlasPacker packer = new AtlasPacker(config.atlasMaxSize);
+        atlases = packer.pack(path, config.atlasDirs, stats);
+        for (File dir : packer.getChangedDirs()) {
+            sink.changedExternally(dir);
+            // 增量扫描使用的缓存目录树中，图集目录和它所在的目录都需要重新读取
+            if (tree instanceof CachedFileTree) {
+                ((CachedFileTree) tree).invalidateTree(dir);
+                ((CachedFileTree) tree).invalidate(dir.getParentFile());
+            }
+        }
+        stats.atlasNanos = System.nanoTime() - start;
+    }
+
+    public List<AtlasPacker.Atlas> getAtlases() {
+        return atlases;
+    }
+
+    public ScanResult scan() {
+        long start = System.nanoTime();
+        File packageDir = new File(path);
+        AssetModel.Tree<File> scanTree = tree;
+        // 增量扫描等传入了目录树时不读取 git 索引
+        if (config.gitIndexSource && tree == AssetModel.FILES) {
+            GitIndexTree gitTree = GitIndexTree.load(packageDir, getAssetsDirs(), config.gitIncludeUntracked);
+            if (gitTree != null) {
+                // 图集由打包写入，不开启 gitIncludeUntracked 时不在索引中，但 res 文件引用了它们
+                gitTree.addGenerated(AtlasPacker.getOutputFiles(path, atlases));
+                scanTree = gitTree;
+                stats.gitIndexFiles = gitTree.getTrackedFiles();
+            }
+        }
+        stats.fileSizes = config.bundleSizeReport ? new FileSizes() : null;
+        if (config.bundleSizeReport && scanTree == AssetModel.FILES) {
+            // 列出目录时一次属性读取同时得到文件类型和大小，不再逐个读取文件大小
+            scanTree = new CachedFileTree(true);
+        }
+        scanResult = scanner.scan(packageDir, getAssetsDirs(), scanTree, stats);
+        assets = scanResult.groups;
+        stats.assetsFound = assets.size();
+        stats.scanNanos = System.nanoTime() - start;
+        return scanResult;
+    }
+
+    public void filterExcluded() {
+        long start = System.nanoTime();
+        excludedAssets.clear();
+        List<AssetModel.AssetGroup> included = new ArrayList<>(assets.size());
+        for (AssetModel.AssetGroup asset : assets) {
+            if (isExcluded(asset.getPath(), config.excludePath)) {
+                excludedAssets.add(asset);
+            } else {
+                included.add(asset);
+            }
+        }
+        assets = included;
+        stats.assetsExcluded = excludedAssets.size();
+        stats.excludeNanos = System.nanoTime() - start;
+    }
+
+    /**
+     * 按扫描时记录的文件大小和 package 目录下的 {@link BundleBudget#FILE} 生成资源包大小报告，需要在 {@link #filterExcluded()} 之后调用
+     */
+    public BundleSizeReport checkBundleSize() {
+        return checkBundleSize(BundleSizeReport.DEFAULT_TOP);
+    }
+
+    /**
+     * @param top 列出的最大文件数量
+     */
+    public BundleSizeReport checkBundleSize(int top) {
+        if (stats.fileSizes == null) {
+            throw new IllegalStateException("File sizes were not recorded, enable bundleSizeReport before scanning");
+        }
+        String budget = null;
+        try {
+            byte[] content = sink.read(new File(path, BundleBudget.FILE));
+            budget = content != null ? new String(content, StandardCharsets.UTF_8) : null;
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+        bundleSizeReport = BundleSizeReport.compute(stats.fileSizes, excludedAssets, BundleBudget.parse(budget), top);
+        return bundleSizeReport;
+    }
+
+    /**
+     * @return 没有开启 bundleSizeReport 时为 null
+     */
+    public BundleSizeReport getBundleSizeReport() {
+        return bundleSizeReport;
+    }
+
+    public void updatePubspec() {
+        long start = System.nanoTime();
+        if (config.pubspecDirectoryMode) {
+            List<String> declarations = DirectoryDeclarations.compute(assets, excludedAssets);
+            List<String> retained = pubspecUpdater.update(path, declarations, config.excludePath, sink, stats);
+            // 保留的其他 package 资源也需要生成引用，目录声明除外
+            retainedAssets = new ArrayList<>();
+            for (String declaration : retained) {
+                if (!declaration.endsWith("/")) {
+                    retainedAssets.add(declaration);
+                }
+            }
+        } else {
+            // 声明在这里拼出，只在更新期间存在
+            List<String> declarations = new ArrayList<>(assets.size());
+            for (AssetModel.AssetGroup asset : assets) {
+                declarations.add(asset.getPath());
+            }
+            retainedAssets = pubspecUpdater.update(path, declarations, config.excludePath, sink, stats);
+        }
+        stats.pubspecNanos = System.nanoTime() - start;
+    }
+
+    public void writeResDart() {
+        long start = System.nanoTime();
+        resDartWriter.write(path, assets, retainedAssets, atlases, config, sink, stats);
+        stats.resDartNanos = System.nanoTime() - start;
+    }
+
+    /**
+     * 将本次生成的统计信息写到 {@link GenerationStats#REPORT_FILE}，资源包大小报告写到 {@link BundleSizeReport#REPORT_FILE}
+     */
+    public void writeReport() {
+        File report = new File(path, GenerationStats.REPORT_FILE);
+        try {
+            sink.write(report, stats.toJson(path).getBytes(StandardCharsets.UTF_8));
+            if (bundleSizeReport != null) {
+                sink.write(new File(path, BundleSizeReport.REPORT_FILE),
+                        bundleSizeReport.toJson(path).getBytes(StandardCharsets.UTF_8));
+            }
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * 执行 {@link OutputSink} 中缓存的写入，IDE 中所有输出文件在同一个写操作中更新
+     */
+    public void flush() {
+        try {
+            sink.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * @return 本次生成扫描的资源根目录，在更新 pubspec.yaml 之前确定，见 {@link AssetsChecker#getAssetsDirs(String, List)}
+     */
+    public List<String> getAssetsDirs() {
+        if (assetsDirs == null) {
+            // 通过 sink 读取，IDE 中 pubspec.yaml 未保存的修改也会生效
+            String content = "";
+            try {
+                byte[] pubspec = sink.read(new File(path, PubspecUpdater.PUBSPEC));
+                if (pubspec != null) {
+                    content = new String(pubspec, StandardCharsets.UTF_8);
+                }
+            } catch (IOException e) {
+                e.printStackTrace();
+            }
+            assetsDirs = new AssetsChecker().resolveAssetsDirs(content, config.extraAssetRoots);
+        }
+        return assetsDirs;
+    }
+
+    /**
+     * 扫描资源时使用的目录树，默认直接读取磁盘
+     */
+    public void setTree(AssetModel.Tree<File> tree) {
+        this.tree = tree;
+    }
+
+    /**
+     * 输出文件的读写方式，默认直接读写磁盘
+     */
+    public void setOutputSink(OutputSink sink) {
+        this.sink = sink;
+    }
+
+    public GenerationStats getStats() {
+        return stats;
+    }
+
+    /**
+     * 去掉已被排除声明，
+     *
+     * @param newAssets    扫描生成的资源声明
+     * @param excludePaths 排除的文件夹
+     */
+    static void removeExclude(List<String> newAssets, List<String> excludePaths) {
+        if (excludePaths == null) {
+            return;
+        }
+        newAssets.removeIf(asset -> isExcluded(asset, excludePaths));
+    }
+
+    public static boolean isExcluded(String asset, List<String> excludePaths) {
+        if (excludePaths == null) {
+            return false;
+        }
+        for (String path : excludePaths) {
+            if (asset.contains(path)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
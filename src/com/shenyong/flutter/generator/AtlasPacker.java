@@ -0,0 +1,726 @@
+package com.shenyong.flutter.generator;
+
+import net.coobird.thumbnailator.Thumbnails;
+
+import javax.imageio.ImageIO;
+import java.awt.AlphaComposite;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.text.Normalizer;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.regex.Pattern;
+
+/**
+ * 把选定的小图标目录打包为纹理图集。大量小图标各自是一个资源，启动时要逐个查找、加载和解码；打包后每个目录只需加载几张图集。
+ * <p>
+ * 每个目录中直接存放的图片（含 2.0x、3.0x 等倍率目录中的变体）按逻辑尺寸用 skyline 算法排布到一页或多页中，每个倍率按同一布局
+ * 用 Java2D 绘制一张图集，缺少某个倍率的图标由更高倍率的图片缩小得到。图集写到所在资源根目录的 {@link #OUTPUT_DIR} 目录下，
+ * 如 assets/atlas/assets_icons.png 和 assets/atlas/2.0x/assets_icons.png，之后与其他资源一样被扫描和声明。
+ * <p>
+ * 输入文件的指纹（路径、大小、修改时间）和布局保存在 {@link #MANIFEST_DIR} 中，指纹没有变化且图集文件都存在时直接使用保存的布局，
+ * 不解码任何图片；只有输入变化的目录重新打包。不再打包的目录，其图集在下次打包时删除。图标目录本身仍照常声明，
+ * 代码改为从图集绘制后可以把它加入排除列表。
+ */
+public class AtlasPacker {
+
+    /**
+     * 图集输出目录名，位于图标目录所在的资源根目录下
+     */
+    public static final String OUTPUT_DIR = "atlas";
+    /**
+     * 布局清单目录，相对于项目目录
+     */
+    public static final String MANIFEST_DIR = ".dart_tool/assets_ref_generator/atlas";
+    /**
+     * 最高倍率图集的最大边长（像素），超出时分页
+     */
+    public static final int DEFAULT_MAX_SIZE = 2048;
+    /**
+     * 布局算法或清单格式变化时加一，所有图集重新生成
+     */
+    private static final int VERSION = 1;
+    /**
+     * 图标之间的间距（逻辑像素），绘制时不会采样到相邻的图标
+     */
+    private static final int PADDING = 2;
+    private static final String MANIFEST_SUFFIX = ".txt";
+    private static final Pattern RATIO_DIR = Pattern.compile("^[1-9](\\.\\d)x$");
+    private static final Set<String> SUPPORTED_EXTENSIONS = new HashSet<>(Arrays.asList("png", "jpg", "jpeg"));
+
+    public static class Sprite {
+        /**
+         * 图标的资源路径，如 assets/icons/home.png
+         */
+        public String path;
+        public int page;
+        /**
+         * 在图集中的位置和大小，逻辑像素，即 1.0x 图集中的像素
+         */
+        public int x;
+        public int y;
+        public int width;
+        public int height;
+    }
+
+    public static class Page {
+        /**
+         * 1.0x 图集的资源路径，如 assets/atlas/assets_icons.png
+         */
+        public String path;
+        public int width;
+        public int height;
+    }
+
+    public static class Atlas {
+        /**
+         * 打包的图标目录，如 assets/icons
+         */
+        public String sourceDir;
+        public final List<Page> pages = new ArrayList<>();
+        /**
+         * 输出的倍率，以 0.1 为单位，升序，第一个为 10（1.0x）
+         */
+        public final List<Byte> ratios = new ArrayList<>();
+        /**
+         * 按资源路径排序
+         */
+        public final List<Sprite> sprites = new ArrayList<>();
+        String fingerprint;
+    }
+
+    /**
+     * 一个图标在各倍率下的源文件
+     */
+    private static class Input {
+        final String path;
+        final TreeMap<Byte, File> files = new TreeMap<>();
+        Sprite sprite;
+
+        Input(String path) {
+            this.path = path;
+        }
+    }
+
+    private final int maxSize;
+    private final int parallelism;
+    private final Set<File> changedDirs = new HashSet<>();
+
+    /**
+     * @param maxSize     最高倍率图集的最大边长（像素）
+     * @param parallelism 同时解码和绘制的最大图片数
+     */
+    public AtlasPacker(int maxSize, int parallelism) {
+        this.maxSize = maxSize;
+        this.parallelism = Math.max(1, parallelism);
+    }
+
+    public AtlasPacker(int maxSize) {
+        this(maxSize, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * @param path 项目路径
+     * @return 是否有之前打包的图集，没有配置图标目录时也需要调用 {@link #pack} 删除它们
+     */
+    public static boolean hasManifests(String path) {
+        return new File(path, MANIFEST_DIR).isDirectory();
+    }
+
+    /**
+     * @param path      项目路径
+     * @param atlasDirs 打包的图标目录，如 assets/icons
+     * @param stats     记录打包、已是最新和失败的图集数量
+     * @return 每个图标目录的布局，按 atlasDirs 的顺序；目录不存在、没有图片或打包失败时不包含
+     */
+    public List<Atlas> pack(String path, List<String> atlasDirs, GenerationStats stats) {
+        File manifestDir = new File(path, MANIFEST_DIR);
+        List<Atlas> atlases = new ArrayList<>();
+        Set<String> names = new HashSet<>();
+        ExecutorService executor = null;
+        try {
+            for (String dir : atlasDirs) {
+                String sourceDir = trimSlashes(dir);
+                String name = toAtlasName(sourceDir);
+                int root = sourceDir.indexOf('/');
+                // 输出目录本身和它下面的目录不打包
+                if (sourceDir.isEmpty() || (root != -1 && (sourceDir.substring(root + 1) + "/").startsWith(OUTPUT_DIR + "/"))
+                        || !names.add(name)) {
+                    continue;
+                }
+                String outputPath = (root == -1 ? sourceDir : sourceDir.substring(0, root)) + "/" + OUTPUT_DIR;
+                File manifest = new File(manifestDir, name + MANIFEST_SUFFIX);
+                Atlas old = readManifest(manifest);
+                Map<String, Input> inputs = collect(new File(path, sourceDir), sourceDir);
+                if (inputs.isEmpty()) {
+                    if (old != null) {
+                        deleteOutputs(path, old, Collections.emptySet());
+                        manifest.delete();
+                    }
+                    continue;
+                }
+                String fingerprint = fingerprint(sourceDir, inputs);
+                if (old != null && fingerprint.equals(old.fingerprint) && outputsExist(path, old)) {
+                    stats.atlasesUpToDate++;
+                    stats.atlasSprites += old.sprites.size();
+                    countSkipped(inputs, old, stats);
+                    atlases.add(old);
+                    continue;
+                }
+                if (executor == null) {
+                    executor = Executors.newFixedThreadPool(parallelism, new NamedThreadFactory("atlas"));
+                }
+                try {
+                    Atlas atlas = build(path, sourceDir, name, outputPath, inputs, executor);
+                    atlas.fingerprint = fingerprint;
+                    Set<File> outputs = outputFiles(path, atlas);
+                    if (old != null) {
+                        deleteOutputs(path, old, outputs);
+                    }
+                    writeManifest(manifest, atlas);
+                    changedDirs.add(new File(path, outputPath));
+                    stats.atlasesPacked++;
+                    stats.atlasSprites += atlas.sprites.size();
+                    countSkipped(inputs, atlas, stats);
+                    atlases.add(atlas);
+                } catch (IOException | ExecutionException e) {
+                    stats.atlasesFailed++;
+                    e.printStackTrace();
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            // 没有处理完所有目录，不清理
+            return atlases;
+        } finally {
+            if (executor != null) {
+                executor.shutdownNow();
+            }
+        }
+        removeStale(path, manifestDir, names);
+        return atlases;
+    }
+
+    /**
+     * 无法解码或大于图集的图片不在布局中，由输入和布局的差得到，已是最新的图集不需要重新解码
+     */
+    private static void countSkipped(Map<String, Input> inputs, Atlas atlas, GenerationStats stats) {
+        Set<String> packed = new HashSet<>();
+        for (Sprite sprite : atlas.sprites) {
+            packed.add(sprite.path);
+        }
+        for (String input : inputs.keySet()) {
+            if (!packed.contains(input)) {
+                stats.atlasSpritesSkipped++;
+                stats.atlasSkippedPaths.add(input);
+            }
+        }
+    }
+
+    /**
+     * @return 本次写入或删除了图集文件的输出目录，需要通知 IDE 刷新
+     */
+    public Set<File> getChangedDirs() {
+        return changedDirs;
+    }
+
+    /**
+     * 删除不再打包的目录的图集和清单
+     */
+    private void removeStale(String path, File manifestDir, Set<String> names) {
+        File[] manifests = manifestDir.listFiles((dir, name) -> name.endsWith(MANIFEST_SUFFIX));
+        if (manifests == null) {
+            return;
+        }
+        for (File manifest : manifests) {
+            String name = manifest.getName();
+            if (!names.contains(name.substring(0, name.length() - MANIFEST_SUFFIX.length()))) {
+                Atlas old = readManifest(manifest);
+                if (old != null) {
+                    deleteOutputs(path, old, Collections.emptySet());
+                }
+                manifest.delete();
+            }
+        }
+        String[] remaining = manifestDir.list();
+        if (remaining != null && remaining.length == 0) {
+            manifestDir.delete();
+        }
+    }
+
+    /**
+     * 列出目录中直接存放的图片和倍率目录中的变体
+     *
+     * @return 资源路径 -> 各倍率的源文件，按路径排序
+     */
+    private static Map<String, Input> collect(File dir, String sourceDir) {
+        Map<String, Input> inputs = new TreeMap<>();
+        File[] children = dir.listFiles();
+        if (children == null) {
+            return inputs;
+        }
+        for (File child : children) {
+            String name = child.getName();
+            if (child.isDirectory()) {
+                if (!RATIO_DIR.matcher(name).matches()) {
+                    continue;
+                }
+                byte ratio = (byte) ((name.charAt(0) - '0') * 10 + name.charAt(2) - '0');
+                File[] images = child.listFiles(f -> f.isFile() && isSupported(f.getName()));
+                if (images != null) {
+                    for (File image : images) {
+                        inputs.computeIfAbsent(sourceDir + "/" + image.getName(), Input::new).files.putIfAbsent(ratio, image);
+                    }
+                }
+            } else if (isSupported(name)) {
+                inputs.computeIfAbsent(sourceDir + "/" + name, Input::new).files.put((byte) 10, child);
+            }
+        }
+        return inputs;
+    }
+
+    private String fingerprint(String sourceDir, Map<String, Input> inputs) {
+        StringBuilder sb = new StringBuilder();
+        sb.append(VERSION).append(' ').append(PADDING).append(' ').append(maxSize).append(' ').append(sourceDir).append('\n');
+        for (Input input : inputs.values()) {
+            for (Map.Entry<Byte, File> file : input.files.entrySet()) {
+                File f = file.getValue();
+                sb.append(file.getKey()).append(' ').append(f.length()).append(' ').append(f.lastModified())
+                        .append(' ').append(input.path).append('\n');
+            }
+        }
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(sb.toString().getBytes(StandardCharsets.UTF_8));
+            StringBuilder hex = new StringBuilder();
+            for (byte b : digest) {
+                hex.append(String.format(Locale.ROOT, "%02x", b));
+            }
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private Atlas build(String path, String sourceDir, String name, String outputPath, Map<String, Input> inputs,
+                        ExecutorService executor) throws IOException, ExecutionException, InterruptedException {
+        // 并行解码所有源文件
+        Map<File, Future<BufferedImage>> decoding = new HashMap<>();
+        for (Input input : inputs.values()) {
+            for (File file : input.files.values()) {
+                decoding.put(file, executor.submit(() -> ImageIO.read(file)));
+            }
+        }
+        Map<File, BufferedImage> images = new HashMap<>();
+        for (Map.Entry<File, Future<BufferedImage>> entry : decoding.entrySet()) {
+            BufferedImage image = entry.getValue().get();
+            if (image != null) {
+                images.put(entry.getKey(), image);
+            }
+        }
+        Atlas atlas = new Atlas();
+        atlas.sourceDir = sourceDir;
+        TreeSet<Byte> ratios = new TreeSet<>();
+        ratios.add((byte) 10);
+        // 最高倍率图集的边长不超过 maxSize
+        List<Input> packable = new ArrayList<>();
+        for (Input input : inputs.values()) {
+            input.files.values().removeIf(f -> !images.containsKey(f));
+            if (input.files.isEmpty()) {
+                // 无法解码，计入 GenerationStats#atlasSpritesSkipped
+                continue;
+            }
+            ratios.addAll(input.files.keySet());
+            packable.add(input);
+        }
+        int maxLogical = maxSize * 10 / ratios.last();
+        List<Input> sized = new ArrayList<>();
+        for (Input input : packable) {
+            Sprite sprite = new Sprite();
+            sprite.path = input.path;
+            // 逻辑尺寸以 1.0x 图片为准，没有时由最高倍率换算
+            Map.Entry<Byte, File> base = input.files.containsKey((byte) 10)
+                    ? input.files.firstEntry() : input.files.lastEntry();
+            BufferedImage image = images.get(base.getValue());
+            sprite.width = (image.getWidth() * 10 + base.getKey() - 1) / base.getKey();
+            sprite.height = (image.getHeight() * 10 + base.getKey() - 1) / base.getKey();
+            if (sprite.width + PADDING > maxLogical || sprite.height + PADDING > maxLogical) {
+                // 大于图集，同样计入跳过的数量
+                continue;
+            }
+            input.sprite = sprite;
+            sized.add(input);
+        }
+        if (sized.isEmpty()) {
+            throw new IOException("No image of " + sourceDir + " can be packed");
+        }
+        List<int[]> pageSizes = layout(sized, maxLogical);
+        atlas.ratios.addAll(ratios);
+        for (int i = 0; i < pageSizes.size(); i++) {
+            Page page = new Page();
+            page.path = outputPath + "/" + (pageSizes.size() == 1 ? name : name + "_" + i) + ".png";
+            page.width = pageSizes.get(i)[0];
+            page.height = pageSizes.get(i)[1];
+            atlas.pages.add(page);
+        }
+        for (Input input : sized) {
+            atlas.sprites.add(input.sprite);
+        }
+        atlas.sprites.sort(Comparator.comparing(s -> s.path));
+        // 每页每个倍率绘制并编码一张图集
+        List<Future<?>> rendering = new ArrayList<>();
+        for (int i = 0; i < atlas.pages.size(); i++) {
+            int pageIndex = i;
+            for (byte ratio : ratios) {
+                rendering.add(executor.submit(() -> {
+                    render(new File(path, variantPath(atlas.pages.get(pageIndex).path, ratio)),
+                            atlas.pages.get(pageIndex), pageIndex, ratio, sized, images);
+                    return null;
+                }));
+            }
+        }
+        for (Future<?> future : rendering) {
+            future.get();
+        }
+        return atlas;
+    }
+
+    /**
+     * 按高度从大到小依次放入，每页用 skyline 记录已占用区域的上边缘，每个图标放在使其底边最低、其次最靠左的位置。
+     * 尝试几种页宽，取页数最少、总面积最小的结果。
+     *
+     * @return 每页的逻辑尺寸，图标的页码和位置写入 sprite
+     */
+    private static List<int[]> layout(List<Input> inputs, int maxLogical) {
+        inputs.sort(Comparator.comparingInt((Input i) -> -i.sprite.height)
+                .thenComparingInt(i -> -i.sprite.width).thenComparing(i -> i.path));
+        long area = 0;
+        int widest = 0;
+        for (Input input : inputs) {
+            area += (long) (input.sprite.width + PADDING) * (input.sprite.height + PADDING);
+            widest = Math.max(widest, input.sprite.width + PADDING);
+        }
+        int width = Math.max(widest, Integer.highestOneBit((int) Math.max(1, Math.sqrt(area))));
+        int[][] best = null;
+        List<int[]> bestSizes = null;
+        long bestArea = Long.MAX_VALUE;
+        for (int w = Math.min(width, maxLogical); ; w = Math.min(w * 2, maxLogical)) {
+            int[][] positions = new int[inputs.size()][];
+            List<int[]> sizes = packPages(inputs, w, maxLogical, positions);
+            long total = 0;
+            for (int[] size : sizes) {
+                total += (long) size[0] * size[1];
+            }
+            if (bestSizes == null || sizes.size() < bestSizes.size()
+                    || (sizes.size() == bestSizes.size() && total < bestArea)) {
+                best = positions;
+                bestSizes = sizes;
+                bestArea = total;
+            }
+            if (w == maxLogical) {
+                break;
+            }
+        }
+        for (int i = 0; i < inputs.size(); i++) {
+            Sprite sprite = inputs.get(i).sprite;
+            sprite.page = best[i][0];
+            sprite.x = best[i][1];
+            sprite.y = best[i][2];
+        }
+        return bestSizes;
+    }
+
+    /**
+     * @param positions 输出每个图标的页码、x、y
+     * @return 每页的尺寸，去掉右侧和底部多余的间距
+     */
+    private static List<int[]> packPages(List<Input> inputs, int width, int maxHeight, int[][] positions) {
+        List<List<int[]>> skylines = new ArrayList<>();
+        List<int[]> sizes = new ArrayList<>();
+        for (int i = 0; i < inputs.size(); i++) {
+            Sprite sprite = inputs.get(i).sprite;
+            int w = sprite.width + PADDING;
+            int h = sprite.height + PADDING;
+            int page = 0;
+            int[] position = null;
+            for (; page < skylines.size(); page++) {
+                position = findPosition(skylines.get(page), w, h, width, maxHeight);
+                if (position != null) {
+                    break;
+                }
+            }
+            if (position == null) {
+                List<int[]> skyline = new ArrayList<>();
+                skyline.add(new int[]{0, 0, width});
+                skylines.add(skyline);
+                sizes.add(new int[]{0, 0});
+                page = skylines.size() - 1;
+                position = findPosition(skyline, w, h, width, maxHeight);
+            }
+            place(skylines.get(page), position[0], position[1], position[2] + h, w);
+            positions[i] = new int[]{page, position[1], position[2]};
+            int[] size = sizes.get(page);
+            size[0] = Math.max(size[0], position[1] + sprite.width);
+            size[1] = Math.max(size[1], position[2] + sprite.height);
+        }
+        return sizes;
+    }
+
+    /**
+     * skyline 中每段为 {x, y, width}，按 x 排列、首尾相接
+     *
+     * @return {段下标, x, y}，放不下时返回 null
+     */
+    private static int[] findPosition(List<int[]> skyline, int w, int h, int width, int maxHeight) {
+        int[] best = null;
+        int bestBottom = Integer.MAX_VALUE;
+        for (int i = 0; i < skyline.size(); i++) {
+            int x = skyline.get(i)[0];
+            if (x + w > width) {
+                break;
+            }
+            // 跨过的各段中最高的上边缘
+            int y = 0;
+            for (int j = i, remaining = w; remaining > 0; j++) {
+                int[] segment = skyline.get(j);
+                y = Math.max(y, segment[1]);
+                remaining -= segment[2];
+            }
+            if (y + h <= maxHeight && y + h < bestBottom) {
+                best = new int[]{i, x, y};
+                bestBottom = y + h;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * 在第 index 段的起点放入宽 w 的图标，上边缘变为 top，合并被覆盖的段和高度相同的相邻段
+     */
+    private static void place(List<int[]> skyline, int index, int x, int top, int w) {
+        skyline.add(index, new int[]{x, top, w});
+        int end = x + w;
+        for (int i = index + 1; i < skyline.size(); ) {
+            int[] segment = skyline.get(i);
+            if (segment[0] >= end) {
+                break;
+            }
+            int segmentEnd = segment[0] + segment[2];
+            if (segmentEnd <= end) {
+                skyline.remove(i);
+            } else {
+                segment[2] = segmentEnd - end;
+                segment[0] = end;
+                break;
+            }
+        }
+        for (int i = 0; i < skyline.size() - 1; ) {
+            int[] a = skyline.get(i);
+            int[] b = skyline.get(i + 1);
+            if (a[1] == b[1]) {
+                a[2] += b[2];
+                skyline.remove(i + 1);
+            } else {
+                i++;
+            }
+        }
+    }
+
+    private static void render(File output, Page page, int pageIndex, byte ratio, List<Input> inputs,
+                               Map<File, BufferedImage> images) throws IOException {
+        BufferedImage atlas = new BufferedImage(scale(page.width, ratio), scale(page.height, ratio),
+                BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = atlas.createGraphics();
+        try {
+            // 直接复制像素，包括透明度
+            g.setComposite(AlphaComposite.Src);
+            for (Input input : inputs) {
+                Sprite sprite = input.sprite;
+                if (sprite.page != pageIndex) {
+                    continue;
+                }
+                int x = scale(sprite.x, ratio);
+                int y = scale(sprite.y, ratio);
+                int w = scale(sprite.x + sprite.width, ratio) - x;
+                int h = scale(sprite.y + sprite.height, ratio) - y;
+                // 优先用不低于目标倍率的最接近的源文件，缩小比放大清晰
+                Map.Entry<Byte, File> source = input.files.ceilingEntry(ratio);
+                BufferedImage image = images.get((source != null ? source : input.files.lastEntry()).getValue());
+                if (image.getWidth() != w || image.getHeight() != h) {
+                    image = Thumbnails.of(image).forceSize(w, h).asBufferedImage();
+                }
+                g.drawImage(image, x, y, null);
+            }
+        } finally {
+            g.dispose();
+        }
+        File dir = output.getParentFile();
+        if (!dir.exists()) {
+            dir.mkdirs();
+        }
+        if (!ImageIO.write(atlas, "png", output)) {
+            throw new IOException("No PNG writer for " + output);
+        }
+    }
+
+    private static int scale(int logical, byte ratio) {
+        return (int) Math.round(logical * ratio / 10.0);
+    }
+
+    /**
+     * @return 图集在某个倍率下的路径，如 assets/atlas/2.0x/assets_icons.png
+     */
+    static String variantPath(String pagePath, byte ratio) {
+        if (ratio == 10) {
+            return pagePath;
+        }
+        int slash = pagePath.lastIndexOf('/');
+        return pagePath.substring(0, slash + 1) + ratio / 10 + "." + ratio % 10 + "x" + pagePath.substring(slash);
+    }
+
+    /**
+     * @return 图集各页各倍率的文件
+     */
+    public static Set<File> getOutputFiles(String path, List<Atlas> atlases) {
+        Set<File> files = new HashSet<>();
+        for (Atlas atlas : atlases) {
+            files.addAll(outputFiles(path, atlas));
+        }
+        return files;
+    }
+
+    private static Set<File> outputFiles(String path, Atlas atlas) {
+        Set<File> files = new HashSet<>();
+        for (Page page : atlas.pages) {
+            for (byte ratio : atlas.ratios) {
+                files.add(new File(path, variantPath(page.path, ratio)));
+            }
+        }
+        return files;
+    }
+
+    private static boolean outputsExist(String path, Atlas atlas) {
+        for (File file : outputFiles(path, atlas)) {
+            if (!file.isFile()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void deleteOutputs(String path, Atlas old, Set<File> keep) {
+        for (File file : outputFiles(path, old)) {
+            if (!keep.contains(file) && file.delete()) {
+                File dir = file.getParentFile();
+                // 删除空的倍率目录
+                String[] remaining = dir.list();
+                if (remaining != null && remaining.length == 0 && RATIO_DIR.matcher(dir.getName()).matches()) {
+                    dir.delete();
+                    dir = dir.getParentFile();
+                }
+                changedDirs.add(dir);
+            }
+        }
+    }
+
+    private static Atlas readManifest(File manifest) {
+        if (!manifest.isFile()) {
+            return null;
+        }
+        try {
+            Atlas atlas = new Atlas();
+            for (String line : Files.readAllLines(manifest.toPath(), StandardCharsets.UTF_8)) {
+                String[] parts = line.split(" ", 2);
+                switch (parts[0]) {
+                    case "fingerprint":
+                        atlas.fingerprint = parts[1];
+                        break;
+                    case "source":
+                        atlas.sourceDir = parts[1];
+                        break;
+                    case "ratio":
+                        atlas.ratios.add(Byte.parseByte(parts[1]));
+                        break;
+                    case "page": {
+                        String[] fields = line.split(" ", 4);
+                        Page page = new Page();
+                        page.width = Integer.parseInt(fields[1]);
+                        page.height = Integer.parseInt(fields[2]);
+                        page.path = fields[3];
+                        atlas.pages.add(page);
+                        break;
+                    }
+                    case "sprite": {
+                        String[] fields = line.split(" ", 7);
+                        Sprite sprite = new Sprite();
+                        sprite.page = Integer.parseInt(fields[1]);
+                        sprite.x = Integer.parseInt(fields[2]);
+                        sprite.y = Integer.parseInt(fields[3]);
+                        sprite.width = Integer.parseInt(fields[4]);
+                        sprite.height = Integer.parseInt(fields[5]);
+                        sprite.path = fields[6];
+                        atlas.sprites.add(sprite);
+                        break;
+                    }
+                    default:
+                }
+            }
+            return atlas.fingerprint != null && atlas.sourceDir != null ? atlas : null;
+        } catch (IOException | RuntimeException e) {
+            // 清单损坏时重新打包
+            e.printStackTrace();
+            return null;
+        }
+    }
+
+    private static void writeManifest(File manifest, Atlas atlas) throws IOException {
+        StringBuilder sb = new StringBuilder("# Generated by AssetsRefGenerator, layout of a sprite atlas\n");
+        sb.append("fingerprint ").append(atlas.fingerprint).append('\n');
+        sb.append("source ").append(atlas.sourceDir).append('\n');
+        for (byte ratio : atlas.ratios) {
+            sb.append("ratio ").append(ratio).append('\n');
+        }
+        for (Page page : atlas.pages) {
+            sb.append("page ").append(page.width).append(' ').append(page.height).append(' ').append(page.path).append('\n');
+        }
+        for (Sprite s : atlas.sprites) {
+            sb.append("sprite ").append(s.page).append(' ').append(s.x).append(' ').append(s.y).append(' ')
+                    .append(s.width).append(' ').append(s.height).append(' ').append(s.path).append('\n');
+        }
+        File dir = manifest.getParentFile();
+        if (!dir.exists()) {
+            dir.mkdirs();
+        }
+        Files.write(manifest.toPath(), sb.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @param sourceDir 图标目录，如 assets/icons
+     * @return 图集文件名，如 assets_icons
+     */
+    static String toAtlasName(String sourceDir) {
+        String name = Normalizer.normalize(sourceDir, Normalizer.Form.NFD).replaceAll("\\p{InCombiningDiacriticalMarks}+", "");
+        return name.toLowerCase(Locale.ROOT).replaceAll("[^a-z0-9_]", "_");
+    }
+
+    private static String trimSlashes(String dir) {
+        String trimmed = dir.trim().replace('\\', '/');
+        while (trimmed.endsWith("/")) {
+            trimmed = trimmed.substring(0, trimmed.length() - 1);
+        }
+        while (trimmed.startsWith("/")) {
+            trimmed = trimmed.substring(1);
+        }
+        return trimmed;
+    }
+
+    private static boolean isSupported(String name) {
+        int index = name.lastIndexOf('.');
+        return index != -1 && SUPPORTED_EXTENSIONS.contains(name.substring(index + 1).toLowerCase(Locale.ROOT));
+    }
+}
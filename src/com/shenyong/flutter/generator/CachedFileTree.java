@@ -0,0 +1,145 @@
+package com.shenyong.flutter.generator;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 缓存目录列表和文件类型的 {@link AssetModel.Tree}。只有调用 {@link #invalidate} 标记过的目录会重新读取磁盘，
+ * 其他目录直接使用缓存，重新扫描只需在内存中遍历。供 {@link AssetWatcher} 在文件变化后增量扫描。
+ * <p>
+ * 扫描时各资源根目录可以在不同线程中同时读取；{@link #invalidate} 等修改需要在扫描之外调用。
+ * <p>
+ * recordLengths 时列出目录用一次属性读取同时得到文件类型和大小，资源包大小报告不需要再逐个读取文件大小。
+ */
+public class CachedFileTree implements AssetModel.Tree<File> {
+
+    private final Map<File, List<File>> listings = new ConcurrentHashMap<>();
+    private final Set<File> directories = ConcurrentHashMap.newKeySet();
+    private final Map<File, Long> lengths;
+
+    public CachedFileTree() {
+        this(false);
+    }
+
+    public CachedFileTree(boolean recordLengths) {
+        lengths = recordLengths ? new ConcurrentHashMap<>() : null;
+    }
+
+    /**
+     * 标记目录的内容已变化，下次扫描时重新读取
+     */
+    public void invalidate(File dir) {
+        List<File> children = listings.remove(dir);
+        if (children != null) {
+            for (File child : children) {
+                directories.remove(child);
+                if (lengths != null) {
+                    lengths.remove(child);
+                }
+            }
+        }
+    }
+
+    /**
+     * 目录被删除或移走，去掉它和所有下级目录的缓存
+     */
+    public void invalidateTree(File dir) {
+        invalidate(dir);
+        String prefix = dir.getPath() + File.separator;
+        listings.keySet().removeIf(f -> f.getPath().startsWith(prefix));
+        directories.removeIf(f -> f.getPath().startsWith(prefix));
+        if (lengths != null) {
+            lengths.keySet().removeIf(f -> f.getPath().startsWith(prefix));
+        }
+    }
+
+    /**
+     * 文件内容被修改，下次读取大小时重新读取。目录列表不受影响
+     */
+    public void invalidateLength(File file) {
+        if (lengths != null) {
+            lengths.remove(file);
+        }
+    }
+
+    public void clear() {
+        listings.clear();
+        directories.clear();
+        if (lengths != null) {
+            lengths.clear();
+        }
+    }
+
+    @Override
+    public File getChild(File dir, String name) {
+        List<File> children = getChildren(dir);
+        if (children == null) {
+            return null;
+        }
+        for (File child : children) {
+            if (child.getName().equals(name)) {
+                return child;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public List<File> getChildren(File dir) {
+        List<File> children = listings.get(dir);
+        if (children == null) {
+            File[] files = dir.listFiles();
+            if (files == null) {
+                return null;
+            }
+            children = Arrays.asList(files);
+            for (File child : children) {
+                if (lengths == null) {
+                    if (child.isDirectory()) {
+                        directories.add(child);
+                    }
+                    continue;
+                }
+                try {
+                    BasicFileAttributes attributes = Files.readAttributes(child.toPath(), BasicFileAttributes.class);
+                    if (attributes.isDirectory()) {
+                        directories.add(child);
+                    } else {
+                        lengths.put(child, attributes.size());
+                    }
+                } catch (IOException e) {
+                    // 失效的符号链接等，与 File#isDirectory 一样当作文件
+                    lengths.put(child, 0L);
+                }
+            }
+            listings.put(dir, children);
+        }
+        return children;
+    }
+
+    @Override
+    public String getName(File file) {
+        return file.getName();
+    }
+
+    @Override
+    public long getLength(File file) {
+        return lengths != null ? lengths.computeIfAbsent(file, File::length) : file.length();
+    }
+
+    @Override
+    public boolean isDirectory(File file) {
+        File parent = file.getParentFile();
+        if (parent != null && listings.containsKey(parent)) {
+            return directories.contains(file);
+        }
+        return file.isDirectory();
+    }
+}
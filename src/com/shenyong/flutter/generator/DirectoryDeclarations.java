@@ -0,0 +1,36 @@
+package com.shenyong.flutter.generator;
+
+import java.util.*;
+
+/**
+ * 按目录声明资源：Flutter 支持在 pubspec.yaml 中声明目录（如 "- assets/icons/"），目录下的文件及其 2.0x、3.0x 等变体都会被打包，
+ * 但不包括子目录。声明目录可以大幅减少 pubspec.yaml 的行数。
+ */
+public class DirectoryDeclarations {
+
+    /**
+     * 计算覆盖所有资源的最少声明：每个直接包含资源文件的目录一条目录声明。
+     * 目录中有被排除的文件时，该目录退回到逐个文件声明；只有变体没有主文件的资源，目录声明覆盖不到，也单独声明。
+     *
+     * @param assets         排除后的资源
+     * @param excludedAssets 被排除的资源
+     * @return 新的资源声明，如 assets/icons/、assets/splash/2.0x_only.png
+     */
+    public static List<String> compute(List<AssetModel.AssetGroup> assets, List<AssetModel.AssetGroup> excludedAssets) {
+        // 同一个模型中每个目录只有一个 Dir 实例，直接按实例比较
+        Set<AssetModel.Dir> partiallyExcluded = new HashSet<>();
+        for (AssetModel.AssetGroup asset : excludedAssets) {
+            partiallyExcluded.add(asset.dir);
+        }
+        Set<AssetModel.Dir> dirs = new HashSet<>();
+        List<String> declarations = new ArrayList<>();
+        for (AssetModel.AssetGroup asset : assets) {
+            if (partiallyExcluded.contains(asset.dir) || asset.isRatioOnly()) {
+                declarations.add(asset.getPath());
+            } else if (dirs.add(asset.dir)) {
+                declarations.add(asset.dir.path + "/");
+            }
+        }
+        return declarations;
+    }
+}
@@ -0,0 +1,48 @@
+package com.shenyong.flutter.generator;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+
+/**
+ * 直接读写磁盘，写入立即执行
+ */
+public class DiskOutputSink implements OutputSink {
+
+    @Override
+    public byte[] read(File file) throws IOException {
+        return file.isFile() ? Files.readAllBytes(file.toPath()) : null;
+    }
+
+    @Override
+    public void write(File file, byte[] content) throws IOException {
+        File directory = file.getParentFile();
+        if (directory != null && !directory.exists()) {
+            directory.mkdirs();
+        }
+        Files.write(file.toPath(), content);
+    }
+
+    /**
+     * 从替换开始的位置写入，之前的内容不变；长度不变时只写替换的部分
+     */
+    @Override
+    public long replace(File file, byte[] content, int start, int end, byte[] replacement) throws IOException {
+        try (RandomAccessFile raf = new RandomAccessFile(file, "rw")) {
+            raf.seek(start);
+            raf.write(replacement);
+            if (replacement.length == end - start) {
+                return replacement.length;
+            }
+            raf.write(content, end, content.length - end);
+            raf.setLength(start + replacement.length + content.length - end);
+            return replacement.length + content.length - end;
+        }
+    }
+
+    @Override
+    public void delete(File file) throws IOException {
+        Files.deleteIfExists(file.toPath());
+    }
+}
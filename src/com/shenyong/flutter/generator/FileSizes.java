@@ -0,0 +1,63 @@
+package com.shenyong.flutter.generator;
+
+import java.util.Arrays;
+
+/**
+ * 扫描时记录的每个资源文件（包括变体）的大小，按扫描顺序。大小来自扫描使用的目录树（见 {@link AssetModel.Tree#getLength}），
+ * 资源本身只保存引用，每个文件一条记录只占一个引用、一个倍率和一个长整数。
+ */
+public class FileSizes {
+
+    private AssetModel.AssetGroup[] groups = new AssetModel.AssetGroup[256];
+    private byte[] ratios = new byte[256];
+    private long[] bytes = new long[256];
+    private int size;
+
+    void add(AssetModel.AssetGroup group, byte ratio, long length) {
+        if (size == groups.length) {
+            int capacity = size * 2;
+            groups = Arrays.copyOf(groups, capacity);
+            ratios = Arrays.copyOf(ratios, capacity);
+            bytes = Arrays.copyOf(bytes, capacity);
+        }
+        groups[size] = group;
+        ratios[size] = ratio;
+        bytes[size] = length;
+        size++;
+    }
+
+    void addAll(FileSizes other) {
+        for (int i = 0; i < other.size; i++) {
+            add(other.groups[i], other.ratios[i], other.bytes[i]);
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public AssetModel.AssetGroup getGroup(int index) {
+        return groups[index];
+    }
+
+    /**
+     * @return 像素比的十倍，如 2.0x 为 20
+     */
+    public byte getRatio(int index) {
+        return ratios[index];
+    }
+
+    public long getBytes(int index) {
+        return bytes[index];
+    }
+
+    /**
+     * @return 文件相对于项目目录的路径，变体为倍率目录中的路径，如 assets/icons/2.0x/home.png
+     */
+    public String getPath(int index) {
+        AssetModel.AssetGroup group = groups[index];
+        int ratio = ratios[index];
+        return ratio == 10 ? group.getPath()
+                : group.dir.path + "/" + ratio / 10 + "." + ratio % 10 + "x/" + group.fileName;
+    }
+}
@@ -0,0 +1,73 @@
+package com.shenyong.flutter.generator;
+
+import com.shenyong.flutter.analysis.ImageBudget;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 生成配置。与 {@code AssetSettingService.AssetConfig} 字段对应，但不依赖 IDE 接口。
+ */
+public class GenerateConfig {
+    /**
+     * res.dart 生成目录，相对于 lib，为空时生成在 lib 下
+     */
+    public String generatePath;
+    /**
+     * 生成的文件名（不含 .dart 后缀），为空时为 res
+     */
+    public String generateFileName;
+    /**
+     * 排除的文件夹路径，如 assets/font/
+     */
+    public List<String> excludePath = new ArrayList<>();
+    /**
+     * 除 pubspec.yaml 中已声明的目录外，额外扫描的顶层资源目录，如 res
+     */
+    public List<String> extraAssetRoots = new ArrayList<>();
+    /**
+     * pubspec.yaml 中按目录声明资源，res.dart 仍然列出每个文件
+     */
+    public boolean pubspecDirectoryMode;
+    /**
+     * 每个顶层资源目录生成一个 dart 文件，res.dart 只 export 各分片
+     */
+    public boolean shardedOutput;
+    /**
+     * 在分片的基础上，功能目录（如 assets/home）的分片作为独立的库，res.dart 不再 export，页面用 deferred as 按需加载，
+     * 减小 Web 首次加载的体积；res.dart 只 export 资源根目录下直接存放的资源和其他 package 的资源。开启时忽略 shardedOutput
+     */
+    public boolean deferredOutput;
+    /**
+     * 为每个资源目录生成图片路径的常量列表和 precacheImage 方法，页面跳转时预缓存所在目录的图片
+     */
+    public boolean precacheGroups;
+    /**
+     * 从 git 索引（.git/index）读取资源根目录下已跟踪的文件，不逐个目录列出磁盘上的文件；不在 git 仓库中或索引无法读取时仍遍历磁盘
+     */
+    public boolean gitIndexSource;
+    /**
+     * 读取 git 索引时，再遍历资源根目录加入未跟踪的新文件，按 .gitignore 跳过被忽略的文件和目录
+     */
+    public boolean gitIncludeUntracked;
+    /**
+     * 扫描时记录资源文件大小，按目录、类型和像素比汇总，并与 package 目录下 asset_budget.properties 中的预算比较
+     */
+    public boolean bundleSizeReport;
+    /**
+     * 扫描前根据最高倍率的图片生成缺失的低倍率变体
+     */
+    public boolean generateVariants;
+    /**
+     * 打包为纹理图集的小图标目录，如 assets/icons，扫描前打包，图集写到所在资源根目录的 atlas 目录下
+     */
+    public List<String> atlasDirs = new ArrayList<>();
+    /**
+     * 最高倍率图集的最大边长（像素），超出时分页
+     */
+    public int atlasMaxSize = AtlasPacker.DEFAULT_MAX_SIZE;
+    /**
+     * 图片尺寸和文件大小预算，用于超大图片检查
+     */
+    public ImageBudget imageBudget = new ImageBudget();
+}
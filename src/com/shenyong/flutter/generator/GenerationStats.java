@@ -0,0 +1,184 @@
+package com.shenyong.flutter.generator;
+
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 一次生成过程的分阶段耗时和计数，用于 IDE 日志、通知摘要和 JSON 报告。
+ */
+public class GenerationStats {
+
+    /**
+     * JSON 报告路径，相对于项目目录。.dart_tool 在 Flutter 工程中默认被 git 忽略
+     */
+    public static final String REPORT_FILE = ".dart_tool/assets_ref_generator/report.json";
+
+    public long variantsNanos;
+    public long atlasNanos;
+    public long scanNanos;
+    public long excludeNanos;
+    public long pubspecNanos;
+    public long resDartNanos;
+
+    /**
+     * 扫描时记录每个资源文件的大小，用于资源包大小报告；为 null 时不记录
+     */
+    public FileSizes fileSizes;
+
+    public int dirsVisited;
+    public int filesVisited;
+    /**
+     * 被识别为 2.0x、3.0x 等变体而不单独声明的文件数
+     */
+    public int variantsDetected;
+    /**
+     * 生成的低倍率变体数，已是最新而跳过的数量，以及生成失败的数量
+     */
+    public int variantsGenerated;
+    public int variantsUpToDate;
+    public int variantsFailed;
+    /**
+     * 重新打包的图集数，输入没有变化而跳过的数量，打包失败的数量，以及图集中的图标总数
+     */
+    public int atlasesPacked;
+    public int atlasesUpToDate;
+    public int atlasesFailed;
+    public int atlasSprites;
+    /**
+     * 无法解码或大于图集而没有打包的图片数，以及它们的资源路径
+     */
+    public int atlasSpritesSkipped;
+    public final List<String> atlasSkippedPaths = new ArrayList<>();
+    /**
+     * 从 git 索引读到的资源根目录下已跟踪的文件数，没有使用 git 索引时为 0
+     */
+    public int gitIndexFiles;
+    public int assetsFound;
+    public int assetsExcluded;
+    /**
+     * pubspec.yaml 中资源声明的条数，按目录声明时少于资源数
+     */
+    public int pubspecEntries;
+
+    /**
+     * 实际写入的字节数，内容没有变化、未写文件时为 0
+     */
+    public long pubspecBytes;
+    public boolean pubspecChanged;
+    public long resDartBytes;
+    public boolean resDartChanged;
+    /**
+     * 生成的 dart 文件数和实际改写的文件数，分片输出时大于 1
+     */
+    public int resDartFiles;
+    public int resDartFilesWritten;
+
+    public long totalNanos() {
+        return variantsNanos + atlasNanos + scanNanos + excludeNanos + pubspecNanos + resDartNanos;
+    }
+
+    public int assetsDeclared() {
+        return assetsFound - assetsExcluded;
+    }
+
+    /**
+     * @return 一行摘要，用于日志和通知
+     */
+    public String toSummary() {
+        return String.format(Locale.ROOT,
+                "%d assets (%d variants, %d excluded) from %d files in %d dirs, %d ms "
+                        + "[scan %d, exclude %d, pubspec %d, res %d]; pubspec.yaml %s, res file %s",
+                assetsDeclared(), variantsDetected, assetsExcluded, filesVisited, dirsVisited, millis(totalNanos()),
+                millis(scanNanos), millis(excludeNanos), millis(pubspecNanos), millis(resDartNanos),
+                pubspecChanged ? "updated" : "unchanged", resDartChanged ? "updated" : "unchanged")
+                + (gitIndexFiles > 0 ? String.format(Locale.ROOT, "; %d tracked files from git index", gitIndexFiles) : "")
+                + (resDartFiles > 1 ? String.format(Locale.ROOT, " (%d of %d files)", resDartFilesWritten, resDartFiles) : "")
+                + (variantsGenerated + variantsUpToDate + variantsFailed > 0
+                ? String.format(Locale.ROOT, "; %d variants generated in %d ms (%d up to date, %d failed)",
+                variantsGenerated, millis(variantsNanos), variantsUpToDate, variantsFailed) : "")
+                + (atlasesPacked + atlasesUpToDate + atlasesFailed > 0
+                ? String.format(Locale.ROOT, "; %d atlases packed in %d ms (%d up to date, %d failed, %d sprites%s)",
+                atlasesPacked, millis(atlasNanos), atlasesUpToDate, atlasesFailed, atlasSprites,
+                atlasSpritesSkipped > 0 ? ", " + atlasSpritesSkipped + " skipped" : "") : "");
+    }
+
+    /**
+     * @param projectPath 项目路径
+     * @return 机器可读的 JSON 报告
+     */
+    public String toJson(String projectPath) {
+        SimpleDateFormat iso = new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ss.SSSXXX", Locale.ROOT);
+        return "{\n" +
+                "  \"project\": " + quote(projectPath) + ",\n" +
+                "  \"timestamp\": " + quote(iso.format(new Date())) + ",\n" +
+                "  \"environment\": {\n" +
+                "    \"java\": " + quote(System.getProperty("java.version")) + ",\n" +
+                "    \"os\": " + quote(System.getProperty("os.name") + " " + System.getProperty("os.version")) + ",\n" +
+                "    \"cpus\": " + Runtime.getRuntime().availableProcessors() + ",\n" +
+                "    \"maxHeapMb\": " + (Runtime.getRuntime().maxMemory() >> 20) + "\n" +
+                "  },\n" +
+                "  \"durationsMs\": {\n" +
+                "    \"variants\": " + millis(variantsNanos) + ",\n" +
+                "    \"atlas\": " + millis(atlasNanos) + ",\n" +
+                "    \"scan\": " + millis(scanNanos) + ",\n" +
+                "    \"exclude\": " + millis(excludeNanos) + ",\n" +
+                "    \"pubspec\": " + millis(pubspecNanos) + ",\n" +
+                "    \"resDart\": " + millis(resDartNanos) + ",\n" +
+                "    \"total\": " + millis(totalNanos()) + "\n" +
+                "  },\n" +
+                "  \"counts\": {\n" +
+                "    \"dirsVisited\": " + dirsVisited + ",\n" +
+                "    \"filesVisited\": " + filesVisited + ",\n" +
+                "    \"gitIndexFiles\": " + gitIndexFiles + ",\n" +
+                "    \"variantsDetected\": " + variantsDetected + ",\n" +
+                "    \"variantsGenerated\": " + variantsGenerated + ",\n" +
+                "    \"variantsUpToDate\": " + variantsUpToDate + ",\n" +
+                "    \"variantsFailed\": " + variantsFailed + ",\n" +
+                "    \"atlasesPacked\": " + atlasesPacked + ",\n" +
+                "    \"atlasesUpToDate\": " + atlasesUpToDate + ",\n" +
+                "    \"atlasesFailed\": " + atlasesFailed + ",\n" +
+                "    \"atlasSprites\": " + atlasSprites + ",\n" +
+                "    \"atlasSpritesSkipped\": " + atlasSpritesSkipped + ",\n" +
+                "    \"assetsFound\": " + assetsFound + ",\n" +
+                "    \"assetsExcluded\": " + assetsExcluded + ",\n" +
+                "    \"assetsDeclared\": " + assetsDeclared() + ",\n" +
+                "    \"pubspecEntries\": " + pubspecEntries + "\n" +
+                "  },\n" +
+                "  \"atlasSkipped\": " + quoteAll(atlasSkippedPaths) + ",\n" +
+                "  \"outputs\": {\n" +
+                "    \"pubspec\": {\"bytesWritten\": " + pubspecBytes + ", \"changed\": " + pubspecChanged + "},\n" +
+                "    \"resDart\": {\"bytesWritten\": " + resDartBytes + ", \"changed\": " + resDartChanged
+                + ", \"files\": " + resDartFiles + ", \"filesWritten\": " + resDartFilesWritten + "}\n" +
+                "  }\n" +
+                "}\n";
+    }
+
+    static long millis(long nanos) {
+        return nanos / 1_000_000;
+    }
+
+    private static String quoteAll(List<String> list) {
+        StringBuilder sb = new StringBuilder("[");
+        for (int i = 0; i < list.size(); i++) {
+            sb.append(i == 0 ? "" : ", ").append(quote(list.get(i)));
+        }
+        return sb.append(']').toString();
+    }
+
+    public static String quote(String s) {
+        StringBuilder sb = new StringBuilder("\"");
+        for (char c : s.toCharArray()) {
+            if (c == '"' || c == '\\') {
+                sb.append('\\').append(c);
+            } else if (c < 0x20) {
+                sb.append(String.format("\\u%04x", (int) c));
+            } else {
+                sb.append(c);
+            }
+        }
+        return sb.append('"').toString();
+    }
+}
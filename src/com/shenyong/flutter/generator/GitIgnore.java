@@ -0,0 +1,195 @@
+package com.shenyong.flutter.generator;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * .gitignore 规则，路径都是相对于仓库根目录、以 / 分隔的路径。
+ * <p>
+ * 每个包含 .gitignore 的目录一层，下层目录的规则优先于上层，同一文件中后面的规则优先，最上层是 .git/info/exclude。
+ * 支持 !、末尾的 /、含 / 时相对于所在目录匹配，以及 *、?、[...] 和 **；不读取全局的 core.excludesFile。创建后不再修改。
+ */
+public class GitIgnore {
+
+    public static final String FILE_NAME = ".gitignore";
+
+    private static class Rule {
+        Pattern pattern;
+        boolean negated;
+        boolean directoryOnly;
+        /**
+         * 含 / 的规则匹配相对于所在目录的整个路径，否则只匹配文件名
+         */
+        boolean anchored;
+    }
+
+    private final GitIgnore parent;
+    /**
+     * 规则所在的目录，相对于仓库根目录，以 / 结尾，根目录为空字符串
+     */
+    private final String base;
+    private final List<Rule> rules;
+
+    private GitIgnore(GitIgnore parent, String base, List<Rule> rules) {
+        this.parent = parent;
+        this.base = base;
+        this.rules = rules;
+    }
+
+    /**
+     * @param workTree 仓库根目录
+     * @param gitDir   .git 目录
+     * @return .git/info/exclude 和根目录 .gitignore 的规则
+     */
+    public static GitIgnore load(File workTree, File gitDir) {
+        GitIgnore exclude = new GitIgnore(null, "", parse(new File(gitDir, "info/exclude")));
+        return exclude.child(workTree, "");
+    }
+
+    /**
+     * @param dir         目录
+     * @param relativeDir 目录相对于仓库根目录的路径，以 / 结尾，根目录为空字符串
+     * @return 加上目录中 .gitignore 的规则，没有时返回自身
+     */
+    public GitIgnore child(File dir, String relativeDir) {
+        List<Rule> childRules = parse(new File(dir, FILE_NAME));
+        return childRules.isEmpty() ? this : new GitIgnore(this, relativeDir, childRules);
+    }
+
+    /**
+     * 只判断路径本身，上级目录是否被忽略由调用方在遍历时判断
+     *
+     * @param path      相对于仓库根目录的路径，如 assets/icons/.cache
+     * @param directory 路径是否是目录
+     */
+    public boolean isIgnored(String path, boolean directory) {
+        for (GitIgnore level = this; level != null; level = level.parent) {
+            if (!path.startsWith(level.base)) {
+                continue;
+            }
+            String relative = path.substring(level.base.length());
+            String name = relative.substring(relative.lastIndexOf('/') + 1);
+            for (int i = level.rules.size() - 1; i >= 0; i--) {
+                Rule rule = level.rules.get(i);
+                if (rule.directoryOnly && !directory) {
+                    continue;
+                }
+                if (rule.pattern.matcher(rule.anchored ? relative : name).matches()) {
+                    return !rule.negated;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static List<Rule> parse(File file) {
+        List<Rule> rules = new ArrayList<>();
+        if (!file.isFile()) {
+            return rules;
+        }
+        try {
+            for (String line : Files.readAllLines(file.toPath(), StandardCharsets.UTF_8)) {
+                Rule rule = parseLine(line);
+                if (rule != null) {
+                    rules.add(rule);
+                }
+            }
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+        return rules;
+    }
+
+    private static Rule parseLine(String line) {
+        // 末尾的空格忽略，除非用 \ 转义
+        int end = line.length();
+        while (end > 0 && line.charAt(end - 1) == ' ' && (end < 2 || line.charAt(end - 2) != '\\')) {
+            end--;
+        }
+        String text = line.substring(0, end);
+        if (text.isEmpty() || text.startsWith("#")) {
+            return null;
+        }
+        Rule rule = new Rule();
+        if (text.startsWith("!")) {
+            rule.negated = true;
+            text = text.substring(1);
+        }
+        if (text.endsWith("/")) {
+            rule.directoryOnly = true;
+            text = text.substring(0, text.length() - 1);
+        }
+        rule.anchored = text.contains("/");
+        if (text.startsWith("/")) {
+            text = text.substring(1);
+        }
+        if (text.isEmpty()) {
+            return null;
+        }
+        rule.pattern = Pattern.compile(toRegex(text));
+        return rule;
+    }
+
+    /**
+     * 通配符转为正则：* 和 ? 不匹配 /，** 匹配任意层目录
+     */
+    static String toRegex(String glob) {
+        StringBuilder sb = new StringBuilder();
+        int i = 0;
+        if (glob.startsWith("**/")) {
+            sb.append("(?:.*/)?");
+            i = 3;
+        }
+        while (i < glob.length()) {
+            char c = glob.charAt(i);
+            if (glob.startsWith("/**/", i)) {
+                sb.append("/(?:.*/)?");
+                i += 4;
+                continue;
+            }
+            if (glob.startsWith("/**", i) && i + 3 == glob.length()) {
+                sb.append("/.*");
+                break;
+            }
+            if (c == '*') {
+                if (glob.startsWith("**", i)) {
+                    sb.append(".*");
+                    i += 2;
+                } else {
+                    sb.append("[^/]*");
+                    i++;
+                }
+                continue;
+            }
+            if (c == '?') {
+                sb.append("[^/]");
+            } else if (c == '[') {
+                int close = glob.indexOf(']', i + 2);
+                if (close == -1) {
+                    sb.append("\\[");
+                } else {
+                    String set = glob.substring(i + 1, close);
+                    if (set.startsWith("!")) {
+                        set = "^" + set.substring(1);
+                    }
+                    sb.append('[').append(set.replace("\\", "\\\\").replace("[", "\\[")).append(']');
+                    i = close;
+                }
+            } else if (c == '\\' && i + 1 < glob.length()) {
+                i++;
+                sb.append(Pattern.quote(String.valueOf(glob.charAt(i))));
+            } else if (Character.isLetterOrDigit(c) || c == '/' || c == '_' || c == '-') {
+                sb.append(c);
+            } else {
+                sb.append('\\').append(c);
+            }
+            i++;
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,361 @@
+package com.shenyong.flutter.generator;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 从 git 索引（.git/index）得到的目录树：一次顺序读取索引文件，列出资源根目录下已跟踪的文件，不再逐个目录列出磁盘上的文件，
+ * 资源目录中大量未跟踪的构建产物和设计工具缓存不会被访问。直接解析索引文件，不需要 git 命令。
+ * <p>
+ * 支持索引版本 2、3、4 和 SHA-256 仓库，跳过子模块和 sparse checkout 中不在工作区的文件；工作区中已删除、还没有 git rm 的文件仍会列出。
+ * includeUntracked 时再遍历资源根目录加入未跟踪的文件，按 .gitignore 的规则（见 {@link GitIgnore}）跳过被忽略的文件，
+ * 被忽略的目录不会进入。文件大小使用索引中记录的大小（即最后一次 git add 时的大小，工作区中未暂存的修改不计入），未跟踪的文件使用遍历时读取的属性。扫描开始后不再修改，可以在多个线程中同时使用。
+ */
+public class GitIndexTree implements AssetModel.Tree<File> {
+
+    private static final int SIGNATURE = 0x44495243; // DIRC
+    private static final int SPLIT_INDEX_EXTENSION = 0x6c696e6b; // link
+    private static final int MODE_TYPE_MASK = 0xF000;
+    private static final int MODE_DIRECTORY = 0x4000;
+    private static final int MODE_GITLINK = 0xE000;
+    private static final int FLAG_EXTENDED = 0x4000;
+    private static final int FLAG_NAME_MASK = 0xFFF;
+    private static final int EXTENDED_FLAG_SKIP_WORKTREE = 0x4000;
+
+    private final File packageDir;
+    private final Map<File, List<File>> listings = new HashMap<>();
+    private final Set<File> directories = new HashSet<>();
+    private final Set<File> files = new HashSet<>();
+    private final Map<File, Long> lengths = new HashMap<>();
+    private int trackedFiles;
+
+    private GitIndexTree(File packageDir) {
+        this.packageDir = packageDir;
+    }
+
+    /**
+     * @param packageDir       Flutter package 目录，扫描时以同一个 File 对象为起点
+     * @param roots            资源根目录，如 assets
+     * @param includeUntracked 是否遍历资源根目录加入未跟踪、未被忽略的文件
+     * @return 不在 git 工作区中或索引无法解析（如开启了 split index）时返回 null，由调用方遍历磁盘
+     */
+    public static GitIndexTree load(File packageDir, List<String> roots, boolean includeUntracked) {
+        File workTree = packageDir.getAbsoluteFile();
+        File gitDir = null;
+        while (workTree != null && (gitDir = findGitDir(workTree)) == null) {
+            workTree = workTree.getParentFile();
+        }
+        if (gitDir == null) {
+            return null;
+        }
+        String packagePrefix = relativize(workTree, packageDir.getAbsoluteFile());
+        GitIndexTree tree = new GitIndexTree(packageDir);
+        try {
+            if (!tree.readIndex(new File(gitDir, "index"), packagePrefix, roots, hashLength(gitDir))) {
+                return null;
+            }
+        } catch (IOException | RuntimeException e) {
+            e.printStackTrace();
+            return null;
+        }
+        if (includeUntracked) {
+            tree.addUntracked(workTree, gitDir, packagePrefix, roots);
+        }
+        return tree;
+    }
+
+    /**
+     * @return 从索引中读到的资源根目录下的文件数
+     */
+    public int getTrackedFiles() {
+        return trackedFiles;
+    }
+
+    /**
+     * 加入本次生成写入、还没有被 git 跟踪的文件（如图集），它们被 res 文件引用，需要声明。需要在扫描之前调用
+     *
+     * @param generated package 目录下的文件，不存在的忽略
+     */
+    public void addGenerated(Collection<File> generated) {
+        for (File file : generated) {
+            if (!files.contains(file) && file.isFile()) {
+                add(file, false);
+                lengths.put(file, file.length());
+            }
+        }
+    }
+
+    @Override
+    public File getChild(File dir, String name) {
+        List<File> children = listings.get(dir);
+        if (children == null) {
+            return null;
+        }
+        for (File child : children) {
+            if (child.getName().equals(name)) {
+                return child;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public List<File> getChildren(File dir) {
+        return listings.get(dir);
+    }
+
+    @Override
+    public String getName(File file) {
+        return file.getName();
+    }
+
+    @Override
+    public boolean isDirectory(File file) {
+        return directories.contains(file);
+    }
+
+    @Override
+    public long getLength(File file) {
+        Long length = lengths.get(file);
+        return length != null ? length : file.length();
+    }
+
+    /**
+     * @return 索引可以解析时返回 true
+     */
+    private boolean readIndex(File index, String packagePrefix, List<String> roots, int hashLength) throws IOException {
+        if (!index.isFile()) {
+            return false;
+        }
+        byte[] data = Files.readAllBytes(index.toPath());
+        ByteBuffer buffer = ByteBuffer.wrap(data);
+        if (data.length < 12 || buffer.getInt(0) != SIGNATURE) {
+            return false;
+        }
+        int version = buffer.getInt(4);
+        if (version < 2 || version > 4) {
+            return false;
+        }
+        byte[][] prefixes = new byte[roots.size()][];
+        for (int i = 0; i < roots.size(); i++) {
+            prefixes[i] = (packagePrefix + roots.get(i) + "/").getBytes(StandardCharsets.UTF_8);
+        }
+        int count = buffer.getInt(8);
+        int pos = 12;
+        // 版本 4 的路径相对于上一条压缩，需要保留上一条的完整路径
+        byte[] path = new byte[256];
+        int pathLength = 0;
+        String last = null;
+        for (int i = 0; i < count; i++) {
+            int entryStart = pos;
+            int mode = buffer.getInt(pos + 24);
+            // 索引中记录的文件大小只保留低 32 位
+            long length = buffer.getInt(pos + 36) & 0xFFFFFFFFL;
+            pos += 40 + hashLength;
+            int flags = buffer.getShort(pos) & 0xFFFF;
+            pos += 2;
+            int extendedFlags = 0;
+            if (version >= 3 && (flags & FLAG_EXTENDED) != 0) {
+                extendedFlags = buffer.getShort(pos) & 0xFFFF;
+                pos += 2;
+            }
+            int nameEnd;
+            if (version == 4) {
+                int c = data[pos++] & 0xFF;
+                int strip = c & 0x7F;
+                while ((c & 0x80) != 0) {
+                    c = data[pos++] & 0xFF;
+                    strip = ((strip + 1) << 7) + (c & 0x7F);
+                }
+                pathLength -= strip;
+                nameEnd = indexOfNul(data, pos);
+            } else {
+                pathLength = 0;
+                int nameLength = flags & FLAG_NAME_MASK;
+                nameEnd = nameLength < FLAG_NAME_MASK ? pos + nameLength : indexOfNul(data, pos);
+            }
+            int suffixLength = nameEnd - pos;
+            if (path.length < pathLength + suffixLength) {
+                path = Arrays.copyOf(path, Math.max(path.length * 2, pathLength + suffixLength));
+            }
+            System.arraycopy(data, pos, path, pathLength, suffixLength);
+            pathLength += suffixLength;
+            // 版本 2、3 每条记录用 1 到 8 个 NUL 补齐到 8 字节的倍数
+            pos = version == 4 ? nameEnd + 1 : entryStart + ((nameEnd - entryStart + 8) & ~7);
+
+            int type = mode & MODE_TYPE_MASK;
+            if (type == MODE_DIRECTORY || type == MODE_GITLINK
+                    || (extendedFlags & EXTENDED_FLAG_SKIP_WORKTREE) != 0 || !startsWithAny(path, pathLength, prefixes)) {
+                continue;
+            }
+            String entry = new String(path, 0, pathLength, StandardCharsets.UTF_8);
+            // 有冲突的文件每个 stage 一条，相邻排列
+            if (!entry.equals(last)) {
+                last = entry;
+                File file = new File(packageDir, entry.substring(packagePrefix.length()));
+                add(file, false);
+                lengths.put(file, length);
+                trackedFiles++;
+            }
+        }
+        // 拆分的索引只有一部分记录，不使用
+        while (pos + 8 <= data.length - hashLength) {
+            if (buffer.getInt(pos) == SPLIT_INDEX_EXTENSION) {
+                return false;
+            }
+            pos += 8 + buffer.getInt(pos + 4);
+        }
+        return true;
+    }
+
+    private void addUntracked(File workTree, File gitDir, String packagePrefix, List<String> roots) {
+        for (String root : roots) {
+            // 逐级加入从仓库根目录到资源根目录各层的 .gitignore，资源根目录本身被忽略时不遍历
+            GitIgnore ignore = GitIgnore.load(workTree, gitDir);
+            String relativeDir = "";
+            File dir = workTree;
+            boolean ignored = false;
+            for (String segment : (packagePrefix + root).split("/")) {
+                relativeDir += segment;
+                dir = new File(dir, segment);
+                if (ignore.isIgnored(relativeDir, true)) {
+                    ignored = true;
+                    break;
+                }
+                relativeDir += "/";
+                ignore = ignore.child(dir, relativeDir);
+            }
+            if (!ignored) {
+                walkUntracked(new File(packageDir, root), relativeDir, ignore);
+            }
+        }
+    }
+
+    /**
+     * @param ignore 已包含 dir 中 .gitignore 的规则
+     */
+    private void walkUntracked(File dir, String relativeDir, GitIgnore ignore) {
+        File[] children = dir.listFiles();
+        if (children == null) {
+            return;
+        }
+        for (File child : children) {
+            String name = child.getName();
+            BasicFileAttributes attributes;
+            try {
+                attributes = Files.readAttributes(child.toPath(), BasicFileAttributes.class);
+            } catch (IOException e) {
+                continue;
+            }
+            boolean directory = attributes.isDirectory();
+            String path = relativeDir + name;
+            if (".git".equals(name) || ignore.isIgnored(path, directory)) {
+                continue;
+            }
+            if (directory) {
+                walkUntracked(child, path + "/", ignore.child(child, path + "/"));
+            } else if (!files.contains(child)) {
+                add(child, false);
+                lengths.put(child, attributes.size());
+            }
+        }
+    }
+
+    private void add(File file, boolean directory) {
+        if (!(directory ? directories : files).add(file)) {
+            return;
+        }
+        File parent = file.getParentFile();
+        listings.computeIfAbsent(parent, k -> new ArrayList<>()).add(file);
+        if (!parent.equals(packageDir)) {
+            add(parent, true);
+        }
+    }
+
+    private static boolean startsWithAny(byte[] path, int length, byte[][] prefixes) {
+        for (byte[] prefix : prefixes) {
+            if (length > prefix.length && Arrays.equals(path, 0, prefix.length, prefix, 0, prefix.length)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static int indexOfNul(byte[] data, int from) {
+        int i = from;
+        while (data[i] != 0) {
+            i++;
+        }
+        return i;
+    }
+
+    /**
+     * @return dir 中的 .git 目录；.git 是文件时（如 git worktree、子模块）为其中 gitdir: 指向的目录；不是仓库根目录时返回 null
+     */
+    private static File findGitDir(File dir) {
+        File dotGit = new File(dir, ".git");
+        if (dotGit.isDirectory()) {
+            return dotGit;
+        }
+        if (dotGit.isFile()) {
+            try {
+                String content = new String(Files.readAllBytes(dotGit.toPath()), StandardCharsets.UTF_8).trim();
+                if (content.startsWith("gitdir:")) {
+                    File gitDir = new File(content.substring("gitdir:".length()).trim());
+                    return gitDir.isAbsolute() ? gitDir : new File(dir, gitDir.getPath());
+                }
+            } catch (IOException e) {
+                e.printStackTrace();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @return SHA-256 仓库为 32，否则为 20。worktree 的配置在 commondir 指向的目录中
+     */
+    private static int hashLength(File gitDir) {
+        File configDir = gitDir;
+        File commonDir = new File(gitDir, "commondir");
+        try {
+            if (commonDir.isFile()) {
+                File common = new File(new String(Files.readAllBytes(commonDir.toPath()), StandardCharsets.UTF_8).trim());
+                configDir = common.isAbsolute() ? common : new File(gitDir, common.getPath());
+            }
+            File config = new File(configDir, "config");
+            if (config.isFile()) {
+                for (String line : Files.readAllLines(config.toPath(), StandardCharsets.UTF_8)) {
+                    String trimmed = line.replace(" ", "").replace("\t", "").toLowerCase(Locale.ROOT);
+                    if (trimmed.equals("objectformat=sha256")) {
+                        return 32;
+                    }
+                }
+            }
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+        return 20;
+    }
+
+    /**
+     * @return child 相对于 dir 的路径，以 / 分隔和结尾，相同时为空字符串
+     */
+    private static String relativize(File dir, File child) {
+        String relative = dir.toPath().normalize().relativize(child.toPath().normalize()).toString()
+                .replace(File.separatorChar, '/');
+        return relative.isEmpty() ? "" : relative + "/";
+    }
+}
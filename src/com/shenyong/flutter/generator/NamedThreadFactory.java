@@ -0,0 +1,27 @@
+package com.shenyong.flutter.generator;
+
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 生成过程中使用的后台线程，命名为 AssetsRefGenerator-xxx-N，便于在线程转储中识别；守护线程不阻止 IDE 或命令行退出。
+ */
+public class NamedThreadFactory implements ThreadFactory {
+
+    private final String prefix;
+    private final AtomicInteger count = new AtomicInteger();
+
+    /**
+     * @param name 线程名中的用途，如 workspace
+     */
+    public NamedThreadFactory(String name) {
+        this.prefix = "AssetsRefGenerator-" + name + "-";
+    }
+
+    @Override
+    public Thread newThread(Runnable r) {
+        Thread t = new Thread(r, prefix + count.incrementAndGet());
+        t.setDaemon(true);
+        return t;
+    }
+}
@@ -0,0 +1,47 @@
+package com.shenyong.flutter.generator;
+
+import java.io.File;
+import java.io.IOException;
+
+/**
+ * 生成结果（pubspec.yaml、res.dart 及分片、统计报告）的读写。默认的 {@link #DISK} 直接读写磁盘，命令行和基准测试使用；
+ * 插件中的实现通过 IDE 的 Document/VFS 写入，打开的编辑器立即看到新的内容，不会被当作外部修改重新加载。
+ * <p>
+ * 实现可以把写入缓存到 {@link #flush()} 时统一执行，{@link #read(File)} 返回的是写入之前的内容。
+ */
+public interface OutputSink {
+
+    OutputSink DISK = new DiskOutputSink();
+
+    /**
+     * @return 文件当前的内容，编辑器中有未保存的修改时返回修改后的内容；文件不存在时返回 null
+     */
+    byte[] read(File file) throws IOException;
+
+    /**
+     * 写入整个文件，所在目录不存在时创建
+     */
+    void write(File file, byte[] content) throws IOException;
+
+    /**
+     * 用 replacement 替换文件中 [start, end) 的字节，其余内容不变
+     *
+     * @param content {@link #read(File)} 读到的内容
+     * @return 写入的字节数
+     */
+    long replace(File file, byte[] content, int start, int end, byte[] replacement) throws IOException;
+
+    void delete(File file) throws IOException;
+
+    /**
+     * 文件或目录在生成过程中被直接修改，如生成的变体图片，需要时通知 IDE 刷新
+     */
+    default void changedExternally(File file) {
+    }
+
+    /**
+     * 执行缓存的写入，每次生成结束时调用一次
+     */
+    default void flush() throws IOException {
+    }
+}
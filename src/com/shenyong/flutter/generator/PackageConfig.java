@@ -0,0 +1,61 @@
+package com.shenyong.flutter.generator;
+
+import java.io.File;
+import java.net.URI;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 读取 pub get 生成的 .dart_tool/package_config.json，得到依赖的 package 名到其根目录的映射，
+ * 用于在依赖的目录中查找 packages/package_name/... 形式声明的资源。
+ */
+public class PackageConfig {
+
+    public static final String FILE = ".dart_tool/package_config.json";
+
+    /**
+     * 每个 package 是一个不含嵌套对象的 JSON 对象
+     */
+    private static final Pattern ENTRY = Pattern.compile("\\{[^{}]*}");
+    private static final Pattern NAME = Pattern.compile("\"name\"\\s*:\\s*\"([^\"]+)\"");
+    private static final Pattern ROOT_URI = Pattern.compile("\"rootUri\"\\s*:\\s*\"([^\"]+)\"");
+
+    /**
+     * @param content    package_config.json 的内容
+     * @param configFile package_config.json 文件，相对的 rootUri 以它所在的目录为基准
+     * @return package 名到根目录绝对路径的映射
+     */
+    public static Map<String, String> parse(String content, File configFile) {
+        Map<String, String> roots = new HashMap<>();
+        URI base = configFile.getAbsoluteFile().toURI();
+        Matcher entry = ENTRY.matcher(content);
+        while (entry.find()) {
+            Matcher name = NAME.matcher(entry.group());
+            Matcher rootUri = ROOT_URI.matcher(entry.group());
+            if (!name.find() || !rootUri.find()) {
+                continue;
+            }
+            try {
+                URI root = base.resolve(rootUri.group(1));
+                if ("file".equals(root.getScheme())) {
+                    roots.put(name.group(1), new File(root).getPath());
+                }
+            } catch (IllegalArgumentException e) {
+                e.printStackTrace();
+            }
+        }
+        return roots;
+    }
+
+    /**
+     * 依赖通过 packages/package_name/path 引用的资源在依赖的 lib 目录中，依赖自己声明的资源在它的根目录中
+     *
+     * @param assetPath 去掉 packages/package_name/ 后的路径
+     * @return 依次查找的相对于依赖根目录的路径
+     */
+    public static String[] getCandidatePaths(String assetPath) {
+        return new String[]{"lib/" + assetPath, assetPath};
+    }
+}
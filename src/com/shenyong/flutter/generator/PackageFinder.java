@@ -0,0 +1,82 @@
+package com.shenyong.flutter.generator;
+
+import com.shenyong.flutter.checker.AssetsChecker;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 查找工作区中所有需要生成资源引用的 Flutter package：目录下有 pubspec.yaml 和 lib，并且有资源目录
+ * （pubspec.yaml 中声明的资源所在目录，没有声明时为 asset、assets 或 images，以及额外配置的资源根目录）。
+ * <p>
+ * 不进入隐藏目录、构建输出，以及 package 中的原生平台工程、lib、test 和资源目录，避免遍历大量无关文件。
+ * 不在 package 中的同名目录（如工作区中的 apps/web、packages/test）仍会查找。
+ */
+public class PackageFinder {
+
+    private static final int MAX_DEPTH = 6;
+    private static final Set<String> SKIPPED_DIRS = new HashSet<>(Arrays.asList("build", "node_modules", "Pods"));
+    /**
+     * 只在 package 目录中跳过
+     */
+    private static final Set<String> PACKAGE_SKIPPED_DIRS = new HashSet<>(Arrays.asList(
+            "lib", "test", "android", "ios", "macos", "linux", "windows", "web"));
+
+    private final AssetsChecker assetsChecker = new AssetsChecker();
+    private final List<String> extraAssetRoots;
+
+    public PackageFinder() {
+        this(null);
+    }
+
+    /**
+     * @param extraAssetRoots 额外的资源根目录，如 res，可为 null
+     */
+    public PackageFinder(List<String> extraAssetRoots) {
+        this.extraAssetRoots = extraAssetRoots;
+    }
+
+    /**
+     * @param basePath 工作区根目录
+     * @return package 目录的绝对路径，按路径排序
+     */
+    public List<String> find(String basePath) {
+        List<String> packages = new ArrayList<>();
+        if (basePath != null) {
+            find(new File(basePath), 0, packages);
+        }
+        packages.sort(String::compareTo);
+        return packages;
+    }
+
+    private void find(File dir, int depth, List<String> packages) {
+        File[] children = dir.listFiles(File::isDirectory);
+        if (children == null) {
+            return;
+        }
+        boolean isPackage = new File(dir, PubspecUpdater.PUBSPEC).isFile() && new File(dir, "lib").isDirectory();
+        List<String> assetsDirs = isPackage ? assetsChecker.getAssetsDirs(dir.getPath(), extraAssetRoots) : Collections.emptyList();
+        for (File child : children) {
+            if (assetsDirs.contains(child.getName())) {
+                packages.add(dir.getPath());
+                break;
+            }
+        }
+        if (depth >= MAX_DEPTH) {
+            return;
+        }
+        for (File child : children) {
+            String name = child.getName();
+            if (name.startsWith(".") || SKIPPED_DIRS.contains(name)
+                    || isPackage && (PACKAGE_SKIPPED_DIRS.contains(name) || assetsDirs.contains(name))) {
+                continue;
+            }
+            find(child, depth + 1, packages);
+        }
+    }
+}
@@ -0,0 +1,439 @@
+package com.shenyong.flutter.generator;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 按 YAML 结构定位 pubspec.yaml 中 flutter: assets: 列表的位置，只替换列表所在的字节范围，文件其他部分（注释、空行、缩进、换行符）保持原样。
+ * <p>
+ * 支持任意缩进的块列表（列表项可以与 assets: 同一缩进）、列表中的注释和多行的流式列表 [a, b]。直接在 UTF-8 字节上查找，
+ * YAML 的结构字符都是 ASCII；只逐行检查 flutter: 下的顶层键，定位之后的开销与 assets 列表的大小成正比。
+ * <p>
+ * 列表项按值比较：保留下来的项使用原来的文本（引号、行尾注释不变），新增的项使用已有列表项的缩进。列表项之前的注释跟随该项，
+ * 该项被删除时移到下一个保留的项之前。流式列表保持流式，其中有注释时每项一行输出。
+ */
+public class PubspecEditor {
+
+    /**
+     * 列表中的一项
+     */
+    public static class Entry {
+        /**
+         * 去掉引号和注释的值，如 assets/icons/home.png
+         */
+        public final String value;
+        /**
+         * 该项之前的注释行
+         */
+        final List<String> comments = new ArrayList<>();
+        /**
+         * 该项的原文，块列表中可能有多行
+         */
+        final List<String> lines = new ArrayList<>();
+        /**
+         * 流式列表中该项同一行之后的注释，块列表的行尾注释在 lines 中
+         */
+        String comment;
+
+        Entry(String value) {
+            this.value = value;
+        }
+    }
+
+    /**
+     * assets 列表在文件中的位置
+     */
+    public static class AssetsBlock {
+        /**
+         * 需要替换的字节范围 [start, end)
+         */
+        public int start;
+        public int end;
+        /**
+         * 原有的列表项
+         */
+        public final List<Entry> entries = new ArrayList<>();
+        /**
+         * 流式列表，如 assets: [a, b]
+         */
+        boolean flow;
+        /**
+         * 原来的流式列表是否跨多行
+         */
+        boolean multiLine;
+        /**
+         * 流式列表中最后一项之后、] 之前的注释
+         */
+        final List<String> comments = new ArrayList<>();
+        /**
+         * 列表项缩进
+         */
+        String itemIndent;
+        /**
+         * 没有 assets: 时插入的键，如 "  assets:"
+         */
+        String header;
+        /**
+         * 插入位置在没有换行的最后一行之后
+         */
+        boolean needsNewline;
+    }
+
+    private PubspecEditor() {
+    }
+
+    /**
+     * @return 没有顶层 flutter: 键时返回 null
+     */
+    public static AssetsBlock locate(byte[] content) {
+        int pos = 0;
+        int len = content.length;
+        boolean inFlutter = false;
+        int childIndent = -1;
+        int flutterEnd = -1;
+        while (pos < len) {
+            int lineEnd = lineEnd(content, pos);
+            int next = lineEnd < len ? lineEnd + 1 : len;
+            int contentEnd = stripCr(content, pos, lineEnd);
+            int indent = indent(content, pos, contentEnd);
+            int first = pos + indent;
+            if (first >= contentEnd || content[first] == '#') {
+                pos = next;
+                continue;
+            }
+            if (!inFlutter) {
+                if (indent == 0 && keyEnd(content, first, contentEnd, "flutter") == contentEnd) {
+                    inFlutter = true;
+                    flutterEnd = next;
+                }
+            } else {
+                if (indent == 0) {
+                    break;
+                }
+                if (childIndent == -1) {
+                    childIndent = indent;
+                }
+                if (indent == childIndent) {
+                    int valueStart = keyValueStart(content, first, contentEnd, "assets");
+                    if (valueStart != -1) {
+                        return valueStart == contentEnd
+                                ? locateBlock(content, next, indent, lineEnd == len)
+                                : content[valueStart] == '[' ? locateFlow(content, valueStart, indent) : null;
+                    }
+                }
+            }
+            pos = next;
+        }
+        if (!inFlutter) {
+            return null;
+        }
+        // flutter: 下没有 assets:，插入到 flutter: 的下一行
+        AssetsBlock block = new AssetsBlock();
+        int indent = childIndent > 0 ? childIndent : 2;
+        block.start = block.end = flutterEnd;
+        block.needsNewline = flutterEnd == len && (len == 0 || content[len - 1] != '\n');
+        block.header = spaces(indent) + "assets:";
+        block.itemIndent = spaces(indent + 2);
+        return block;
+    }
+
+    private static AssetsBlock locateBlock(byte[] content, int start, int keyIndent, boolean atEof) {
+        AssetsBlock block = new AssetsBlock();
+        block.start = block.end = start;
+        block.needsNewline = atEof && (content.length == 0 || content[content.length - 1] != '\n');
+        int len = content.length;
+        int pos = start;
+        int itemIndent = -1;
+        List<String> pendingComments = new ArrayList<>();
+        Entry entry = null;
+        while (pos < len) {
+            int lineEnd = lineEnd(content, pos);
+            int next = lineEnd < len ? lineEnd + 1 : len;
+            int contentEnd = stripCr(content, pos, lineEnd);
+            int indent = indent(content, pos, contentEnd);
+            int first = pos + indent;
+            String line = new String(content, pos, contentEnd - pos, StandardCharsets.UTF_8);
+            if (first >= contentEnd || content[first] == '#') {
+                // 空行和注释行，后面还有列表项时属于列表
+                pendingComments.add(line);
+                pos = next;
+                continue;
+            }
+            boolean item = content[first] == '-' && (first + 1 == contentEnd || content[first + 1] == ' ');
+            if (item && indent >= keyIndent && (itemIndent == -1 || indent == itemIndent)) {
+                itemIndent = indent;
+                entry = new Entry(scalar(content, first + 1, contentEnd));
+                entry.comments.addAll(pendingComments);
+                entry.lines.add(line);
+                block.entries.add(entry);
+            } else if (entry != null && indent > itemIndent && pendingComments.isEmpty()) {
+                // 多行的列表项
+                entry.lines.add(line);
+            } else {
+                break;
+            }
+            pendingComments.clear();
+            block.end = next;
+            pos = next;
+        }
+        block.itemIndent = spaces(itemIndent != -1 ? itemIndent : keyIndent + 2);
+        return block;
+    }
+
+    private static AssetsBlock locateFlow(byte[] content, int open, int keyIndent) {
+        AssetsBlock block = new AssetsBlock();
+        block.flow = true;
+        block.itemIndent = spaces(keyIndent + 2);
+        block.start = open;
+        int pos = open + 1;
+        int itemStart = pos;
+        byte quote = 0;
+        // 上一项与当前位置在同一行，其后的注释属于上一项
+        Entry sameLine = null;
+        List<String> pendingComments = new ArrayList<>();
+        while (pos < content.length) {
+            byte c = content[pos];
+            if (quote != 0) {
+                if (c == quote) {
+                    quote = 0;
+                }
+            } else if (c == '"' || c == '\'') {
+                quote = c;
+            } else if (c == '#' && (content[pos - 1] == ' ' || content[pos - 1] == '\n')) {
+                // 注释到行尾
+                int lineEnd = lineEnd(content, pos);
+                String comment = new String(content, pos, stripCr(content, pos, lineEnd) - pos, StandardCharsets.UTF_8);
+                Entry entry = addFlowItem(block, content, itemStart, pos, pendingComments);
+                if (entry != null) {
+                    sameLine = entry;
+                }
+                if (sameLine != null) {
+                    sameLine.comment = comment;
+                } else {
+                    pendingComments.add(comment);
+                }
+                itemStart = lineEnd;
+                pos = lineEnd;
+                continue;
+            } else if (c == ',' || c == ']') {
+                Entry entry = addFlowItem(block, content, itemStart, pos, pendingComments);
+                if (entry != null) {
+                    sameLine = entry;
+                }
+                itemStart = pos + 1;
+                if (c == ']') {
+                    block.comments.addAll(pendingComments);
+                    block.end = pos + 1;
+                    return block;
+                }
+            } else if (c == '\n') {
+                block.multiLine = true;
+                sameLine = null;
+            }
+            pos++;
+        }
+        // 没有结束的 ]，不是合法的 YAML
+        return null;
+    }
+
+    /**
+     * @param pendingComments 该项之前的注释行，加入该项后清空
+     * @return 加入的项，[start, end) 为空白时返回 null
+     */
+    private static Entry addFlowItem(AssetsBlock block, byte[] content, int start, int end, List<String> pendingComments) {
+        String value = scalar(content, start, end);
+        if (value.isEmpty()) {
+            return null;
+        }
+        Entry entry = new Entry(value);
+        entry.lines.add(new String(content, start, end - start, StandardCharsets.UTF_8).trim());
+        entry.comments.addAll(pendingComments);
+        pendingComments.clear();
+        block.entries.add(entry);
+        return entry;
+    }
+
+    /**
+     * 生成替换 [start, end) 的内容
+     *
+     * @param values 新的列表项，已排序
+     */
+    public static String render(AssetsBlock block, List<String> values, String newline) {
+        Map<String, Entry> old = new HashMap<>();
+        for (Entry entry : block.entries) {
+            old.putIfAbsent(entry.value, entry);
+        }
+        // 被删除的项之前的注释移到下一个保留的项之前
+        Map<String, List<String>> carried = new HashMap<>();
+        List<String> carry = new ArrayList<>();
+        Set<String> kept = new HashSet<>(values);
+        for (Entry entry : block.entries) {
+            carry.addAll(entry.comments);
+            if (kept.contains(entry.value) && old.get(entry.value) == entry) {
+                carried.put(entry.value, carry);
+                carry = new ArrayList<>();
+            }
+        }
+        if (block.flow) {
+            carry.addAll(block.comments);
+            return renderFlow(block, values, old, carried, carry, newline);
+        }
+        StringBuilder sb = new StringBuilder();
+        if (block.needsNewline) {
+            sb.append(newline);
+        }
+        if (block.header != null) {
+            sb.append(block.header).append(newline);
+        }
+        for (String value : values) {
+            Entry entry = old.get(value);
+            List<String> comments = carried.get(value);
+            if (comments != null) {
+                for (String comment : comments) {
+                    sb.append(comment).append(newline);
+                }
+            }
+            if (entry != null) {
+                for (String line : entry.lines) {
+                    sb.append(line).append(newline);
+                }
+            } else {
+                sb.append(block.itemIndent).append("- ").append(value).append(newline);
+            }
+        }
+        for (String comment : carry) {
+            sb.append(comment).append(newline);
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 注释到行尾结束，有注释时每项一行，] 与 assets: 对齐
+     */
+    private static String renderFlow(AssetsBlock block, List<String> values, Map<String, Entry> old,
+                                     Map<String, List<String>> carried, List<String> carry, String newline) {
+        boolean multiLine = block.multiLine || !carry.isEmpty();
+        for (String value : values) {
+            Entry entry = old.get(value);
+            List<String> comments = carried.get(value);
+            multiLine |= (comments != null && !comments.isEmpty()) || (entry != null && entry.comment != null);
+        }
+        StringBuilder sb = new StringBuilder("[");
+        for (int i = 0; i < values.size(); i++) {
+            String value = values.get(i);
+            Entry entry = old.get(value);
+            if (multiLine) {
+                List<String> comments = carried.get(value);
+                if (comments != null) {
+                    for (String comment : comments) {
+                        sb.append(newline).append(block.itemIndent).append(comment);
+                    }
+                }
+                sb.append(newline).append(block.itemIndent);
+            } else if (i > 0) {
+                sb.append(", ");
+            }
+            sb.append(entry != null ? entry.lines.get(0) : value);
+            if (multiLine && i < values.size() - 1) {
+                sb.append(',');
+            }
+            if (entry != null && entry.comment != null) {
+                sb.append(' ').append(entry.comment);
+            }
+        }
+        if (multiLine) {
+            for (String comment : carry) {
+                sb.append(newline).append(block.itemIndent).append(comment);
+            }
+            sb.append(newline).append(block.itemIndent, 0, block.itemIndent.length() - 2);
+        }
+        return sb.append(']').toString();
+    }
+
+    /**
+     * @return 文件使用的换行符
+     */
+    public static String detectNewline(byte[] content) {
+        for (int i = 0; i < content.length; i++) {
+            if (content[i] == '\n') {
+                return i > 0 && content[i - 1] == '\r' ? "\r\n" : "\n";
+            }
+        }
+        return System.lineSeparator();
+    }
+
+    private static int lineEnd(byte[] content, int pos) {
+        while (pos < content.length && content[pos] != '\n') {
+            pos++;
+        }
+        return pos;
+    }
+
+    private static int stripCr(byte[] content, int start, int end) {
+        return end > start && content[end - 1] == '\r' ? end - 1 : end;
+    }
+
+    private static int indent(byte[] content, int start, int end) {
+        int i = start;
+        while (i < end && content[i] == ' ') {
+            i++;
+        }
+        return i - start;
+    }
+
+    /**
+     * @return key: 之后第一个非空白字符的位置，其后只有注释时为 end；不是该键时返回 -1
+     */
+    private static int keyValueStart(byte[] content, int first, int end, String key) {
+        int i = first;
+        for (int k = 0; k < key.length(); k++, i++) {
+            if (i >= end || content[i] != key.charAt(k)) {
+                return -1;
+            }
+        }
+        if (i >= end || content[i] != ':') {
+            return -1;
+        }
+        i++;
+        if (i < end && content[i] != ' ') {
+            return -1;
+        }
+        while (i < end && content[i] == ' ') {
+            i++;
+        }
+        return i < end && content[i] == '#' ? end : i;
+    }
+
+    /**
+     * @return 值为空（块映射）时为 end，否则为 -1
+     */
+    private static int keyEnd(byte[] content, int first, int end, String key) {
+        return keyValueStart(content, first, end, key) == end ? end : -1;
+    }
+
+    /**
+     * 去掉空白、行尾注释和引号
+     */
+    private static String scalar(byte[] content, int start, int end) {
+        String s = new String(content, start, end - start, StandardCharsets.UTF_8).trim();
+        if (s.startsWith("\"") || s.startsWith("'")) {
+            int close = s.indexOf(s.charAt(0), 1);
+            return close > 0 ? s.substring(1, close) : s.substring(1);
+        }
+        int comment = s.indexOf(" #");
+        return (comment != -1 ? s.substring(0, comment) : s).trim();
+    }
+
+    private static String spaces(int n) {
+        StringBuilder sb = new StringBuilder(n);
+        for (int i = 0; i < n; i++) {
+            sb.append(' ');
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,90 @@
+package com.shenyong.flutter.generator;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 更新 pubspec.yaml 文件中的资源声明。列表的定位和替换见 {@link PubspecEditor}，只改写 assets 列表及其之后的部分，
+ * 列表长度不变时只改写列表本身。
+ */
+public class PubspecUpdater {
+
+    public static final String PUBSPEC = "pubspec.yaml";
+
+    private static final String PACKAGES = "packages/";
+
+    /**
+     * 更新pubspec.yaml文件中的资源声明，内容没有变化时不写文件。pubspec.yaml 的 flutter: 下没有 assets: 时加上。
+     *
+     * @param path         项目路径
+     * @param declarations 扫描生成的资源声明，如 assets/icons/home.png，目录声明以 / 结尾
+     * @param excludePaths 排除文件夹路径
+     * @param sink         读写 pubspec.yaml，在 IDE 中读到的是编辑器中的内容
+     * @param stats        记录写入的字节数和文件是否有变化
+     * @return 保留下来的原有声明，如其他 package 的资源和排除文件夹的声明，按字母顺序排列
+     */
+    public List<String> update(String path, List<String> declarations, List<String> excludePaths, OutputSink sink,
+                               GenerationStats stats) {
+        List<String> retained = new ArrayList<>();
+        File pubspec = new File(path, PUBSPEC);
+        try {
+            byte[] content = sink.read(pubspec);
+            if (content == null) {
+                return retained;
+            }
+            PubspecEditor.AssetsBlock block = PubspecEditor.locate(content);
+            if (block == null) {
+                // 没有 flutter: 配置
+                return retained;
+            }
+            // 每项只做一次哈希查找，资源很多时避免逐个比较
+            Set<String> scanned = new HashSet<>(declarations);
+            Set<String> seen = new HashSet<>();
+            for (PubspecEditor.Entry entry : block.entries) {
+                if (!scanned.contains(entry.value) && seen.add(entry.value) && isRetained(entry.value, excludePaths)) {
+                    retained.add(entry.value);
+                }
+            }
+            retained.sort(String::compareToIgnoreCase);
+            List<String> values = new ArrayList<>(declarations.size() + retained.size());
+            values.addAll(declarations);
+            values.addAll(retained);
+            // 默认按字母顺序排序
+            values.sort(String::compareToIgnoreCase);
+            byte[] replacement = PubspecEditor.render(block, values, PubspecEditor.detectNewline(content))
+                    .getBytes(StandardCharsets.UTF_8);
+            stats.pubspecEntries = values.size();
+            stats.pubspecChanged = !Arrays.equals(content, block.start, block.end, replacement, 0, replacement.length);
+            if (stats.pubspecChanged) {
+                // 从列表开始的位置写入，列表之前的内容不变
+                stats.pubspecBytes = sink.replace(pubspec, content, block.start, block.end, replacement);
+            }
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+        return retained;
+    }
+
+    /**
+     * 保留引入的其他package的资源（以"  - packages/*"形式声明的）和排除文件夹的声明，去掉已删除资源的旧声明
+     */
+    private static boolean isRetained(String value, List<String> excludePaths) {
+        if (value.startsWith(PACKAGES)) {
+            return true;
+        }
+        if (excludePaths != null) {
+            for (String path : excludePaths) {
+                if (value.contains(path)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+}
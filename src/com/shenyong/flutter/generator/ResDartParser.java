@@ -0,0 +1,101 @@
+package com.shenyong.flutter.generator;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 读取 {@link ResDartWriter} 生成的文件，得到常量引用（如 Res.home、ResAssetsIcons.home）到资源路径的映射。
+ * 分片输出时同时读取分片目录中的文件。
+ * <p>
+ * 其他 package 的资源在生成的文件中去掉了 packages/package_name/ 前缀（配合 package 参数使用），
+ * 解析时按 pubspec.yaml 中的声明恢复完整路径，如 packages/package_name/images/logo.png。
+ */
+public class ResDartParser {
+
+    private static final Pattern CLASS = Pattern.compile("^class (\\w+) \\{");
+    private static final Pattern CONSTANT = Pattern.compile("^ {2}static const String (\\w+) = \"(.*)\";");
+    /**
+     * 与 {@link ResDartWriter} 去掉前缀时使用的规则一致
+     */
+    private static final Pattern PACKAGE_ASSET = Pattern.compile("packages/[a-z_]+/(.+)");
+
+    /**
+     * @param path   项目路径
+     * @param config 生成配置
+     * @return 常量引用到资源路径的映射，文件不存在时为空。其他 package 的 Packages 类不计入
+     */
+    public static Map<String, String> parse(String path, GenerateConfig config) {
+        File resFile = ResDartWriter.getResFile(path, config);
+        Map<String, String> packageAssets = getPackageAssets(readFile(new File(path, PubspecUpdater.PUBSPEC)));
+        Map<String, String> constants = new LinkedHashMap<>();
+        parse(readFile(resFile), packageAssets, constants);
+        File[] shards = ResDartWriter.getShardDirectory(resFile).listFiles((dir, name) -> name.endsWith(".dart"));
+        if (shards != null) {
+            for (File shard : shards) {
+                parse(readFile(shard), packageAssets, constants);
+            }
+        }
+        return constants;
+    }
+
+    private static String readFile(File file) {
+        if (!file.isFile()) {
+            return "";
+        }
+        try {
+            return new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            e.printStackTrace();
+            return "";
+        }
+    }
+
+    /**
+     * @param pubspecContent pubspec.yaml 的内容
+     * @return 其他 package 的资源在生成的文件中的路径到完整声明的映射，如 images/logo.png -> packages/foo/images/logo.png
+     */
+    public static Map<String, String> getPackageAssets(String pubspecContent) {
+        Map<String, String> packageAssets = new HashMap<>();
+        // 按 YAML 结构读取，带引号的项和流式列表 [a, b] 也能识别
+        PubspecEditor.AssetsBlock block = PubspecEditor.locate(pubspecContent.getBytes(StandardCharsets.UTF_8));
+        if (block == null) {
+            return packageAssets;
+        }
+        for (PubspecEditor.Entry entry : block.entries) {
+            Matcher matcher = PACKAGE_ASSET.matcher(entry.value);
+            if (matcher.matches()) {
+                packageAssets.put(matcher.group(1), entry.value);
+            }
+        }
+        return packageAssets;
+    }
+
+    /**
+     * 解析一个生成的文件的内容，插件中从 VFS 读取的内容也由这里解析
+     *
+     * @param packageAssets {@link #getPackageAssets} 的结果，用于恢复其他 package 资源的完整路径
+     * @param constants     常量引用到资源路径的映射，结果加入其中
+     */
+    public static void parse(String content, Map<String, String> packageAssets, Map<String, String> constants) {
+        String className = null;
+        for (String line : content.split("\r?\n")) {
+            Matcher matcher = CLASS.matcher(line);
+            if (matcher.find()) {
+                className = "Packages".equals(matcher.group(1)) ? null : matcher.group(1);
+                continue;
+            }
+            matcher = CONSTANT.matcher(line);
+            if (className != null && matcher.find()) {
+                String assetPath = matcher.group(2);
+                constants.put(className + "." + matcher.group(1), packageAssets.getOrDefault(assetPath, assetPath));
+            }
+        }
+    }
+}
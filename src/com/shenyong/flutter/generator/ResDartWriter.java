@@ -0,0 +1,544 @@
+package com.shenyong.flutter.generator;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.text.Normalizer;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 生成 res.dart 文件，包含所有资源文件的字符串声明
+ */
+public class ResDartWriter {
+
+    public static final String RES_FILE = "res.dart";
+    public static final String HEADER_PREFIX = "/// Generated by AssetsRefGenerator on ";
+    /**
+     * 分片输出时预缓存分组所在的文件名，下划线开头，不会与按目录命名的分片重名
+     */
+    public static final String PRECACHE_GROUPS_FILE = "_precache_groups";
+    /**
+     * 分片输出时图集位置表所在的文件名
+     */
+    public static final String ATLAS_FILE = "_atlas";
+    /**
+     * Flutter 能解码、可以用 precacheImage 预缓存的图片格式
+     */
+    private static final Set<String> IMAGE_EXTENSIONS = new HashSet<>(
+            Arrays.asList("png", "jpg", "jpeg", "gif", "webp", "bmp", "wbmp"));
+    private static final String FLUTTER_IMPORT = "import 'package:flutter/widgets.dart';";
+    private static final String UI_IMPORT = "import 'dart:ui' show Rect;";
+
+    private static final Pattern PATTERN = Pattern.compile("packages/(?<pkgName>[a-z_]+)/.*");
+
+    /**
+     * @param path        项目路径
+     * @param config      生成配置
+     * @return 生成的 dart 文件
+     */
+    public static File getResFile(String path, GenerateConfig config) {
+        File resDirectory = new File(path + "/" + "lib");
+        if (config.generatePath != null) {
+            resDirectory = new File(resDirectory.getPath() + "/" + config.generatePath);
+        }
+        if (config.generateFileName != null) {
+            return new File(resDirectory.getPath(), config.generateFileName + ".dart");
+        }
+        return new File(resDirectory.getPath(), RES_FILE);
+    }
+
+    /**
+     * 首字母大写
+     * @param str
+     * @return result
+     */
+    private static String captureName(String str) {
+        // 进行字母的ascii编码前移，效率要高于截取字符串进行转换的操作
+        char[] cs=str.toCharArray();
+        cs[0]-=32;
+        return String.valueOf(cs);
+    }
+
+    /**
+     * @param config 生成配置
+     * @return 生成的 Dart 类名，默认为 Res
+     */
+    public static String getClassName(GenerateConfig config) {
+        if (config.generateFileName == null) {
+            return "Res";
+        }
+        List<String> words = List.of(config.generateFileName.split("_"));
+        StringBuilder fileName = new StringBuilder();
+        for (String word : words) {
+            fileName.append(captureName(word));
+        }
+        return fileName.toString();
+    }
+
+    /**
+     * @param resFile 汇总文件
+     * @return 分片文件所在目录，与汇总文件同名，如 lib/res/
+     */
+    public static File getShardDirectory(File resFile) {
+        String name = resFile.getName();
+        return new File(resFile.getParentFile(), name.substring(0, name.length() - ".dart".length()));
+    }
+
+    /**
+     * 生成 res.dart，除文件头中的日期外内容没有变化时不写文件
+     *
+     * @param path         项目路径
+     * @param assets       扫描到的资源
+     * @param declarations pubspec.yaml 中保留的其他资源声明，如 packages/package_name/images/logo.png
+     * @param atlases      打包的图集，生成图标位置表，没有时为空
+     * @param config       生成配置
+     * @param sink         读写生成的文件
+     * @param stats        记录写入的字节数和文件是否有变化
+     */
+    public void write(String path, List<AssetModel.AssetGroup> assets, List<String> declarations,
+                      List<AtlasPacker.Atlas> atlases, GenerateConfig config, OutputSink sink, GenerationStats stats) {
+        File resFile = getResFile(path, config);
+        Map<File, String> outputs = new LinkedHashMap<>();
+        File shardDirectory = getShardDirectory(resFile);
+        List<String> others = new ArrayList<>(declarations);
+        AssetsGenerator.removeExclude(others, config.excludePath);
+        if (config.shardedOutput || config.deferredOutput) {
+            renderSharded(resFile, assets, others, atlases, config, outputs);
+        } else {
+            outputs.put(resFile, render(assets, others, atlases, config));
+        }
+        stats.resDartFiles = outputs.size();
+        try {
+            for (Map.Entry<File, String> output : outputs.entrySet()) {
+                long written = writeIfChanged(sink, output.getKey(), output.getValue());
+                if (written >= 0) {
+                    stats.resDartChanged = true;
+                    stats.resDartFilesWritten++;
+                    stats.resDartBytes += written;
+                }
+            }
+            // 删除不再对应任何资源目录的分片，只删除本插件生成的文件
+            File[] shards = shardDirectory.listFiles((dir, name) -> name.endsWith(".dart"));
+            if (shards != null) {
+                for (File shard : shards) {
+                    if (!outputs.containsKey(shard) && isGenerated(sink, shard)) {
+                        sink.delete(shard);
+                        stats.resDartChanged = true;
+                    }
+                }
+            }
+        } catch (IOException | SecurityException e) {
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * @return 写入的字节数，除文件头中的日期外内容没有变化时不写文件，返回 -1
+     */
+    private static long writeIfChanged(OutputSink sink, File file, String content) throws IOException {
+        byte[] old = sink.read(file);
+        if (old != null) {
+            String oldContent = new String(old, StandardCharsets.UTF_8);
+            if (stripHeader(oldContent).equals(stripHeader(content))) {
+                return -1;
+            }
+        }
+        byte[] bytes = content.getBytes(StandardCharsets.UTF_8);
+        sink.write(file, bytes);
+        return bytes.length;
+    }
+
+    private static boolean isGenerated(OutputSink sink, File file) throws IOException {
+        byte[] content = sink.read(file);
+        return content != null && new String(content, StandardCharsets.UTF_8).startsWith(HEADER_PREFIX);
+    }
+
+    /**
+     * 去掉文件头中的生成日期
+     */
+    private static String stripHeader(String content) {
+        if (content.startsWith(HEADER_PREFIX)) {
+            int lineEnd = content.indexOf('\n');
+            return lineEnd == -1 ? "" : content.substring(lineEnd + 1);
+        }
+        return content;
+    }
+
+    private String render(List<AssetModel.AssetGroup> assets, List<String> others, List<AtlasPacker.Atlas> atlases,
+                          GenerateConfig config) {
+        String newLine = System.lineSeparator();
+        StringBuilder sb = new StringBuilder();
+        sb.append(header()).append(newLine);
+        appendImports(sb, !atlases.isEmpty(), config.precacheGroups);
+        sb.append("class ").append(getClassName(config)).append(" {").append(newLine);
+        Set<String> packages = new TreeSet<>();
+        List<String> assetDefines = new ArrayList<>(assets.size() + others.size());
+        for (AssetModel.AssetGroup asset : assets) {
+            assetDefines.add(toDefine(asset.getPath(), asset.getName(), packages));
+        }
+        for (String other : others) {
+            assetDefines.add(toDefine(other, null, packages));
+        }
+
+        assetDefines.sort(String::compareToIgnoreCase);
+        for (String s : assetDefines) {
+            sb.append(s).append(newLine);
+        }
+        sb.append("}").append(newLine);
+        appendPackages(sb, packages);
+        if (config.precacheGroups) {
+            sb.append(newLine);
+            appendPrecacheGroups(sb, assets, getClassName(config));
+        }
+        if (!atlases.isEmpty()) {
+            sb.append(newLine);
+            appendAtlases(sb, atlases, getClassName(config));
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 分片输出：每个顶层资源目录（如 assets/icons）生成一个类和文件，放在与汇总文件同名的目录下；
+     * 汇总文件只 export 各分片。新增或删除一个资源只会改写它所在的分片，Dart analyzer 只需重新分析这个小文件。
+     * <p>
+     * deferredOutput 时汇总文件只 export 资源根目录下直接存放的资源（如 assets/logo.png）和其他 package 的资源，
+     * 功能目录的分片和预缓存分组不 export，在注释中列出 deferred 导入的写法，由用到的页面按需加载。图集位置表总是 export，
+     * 图集通常在启动时就要用到。
+     *
+     * @param outputs 输出文件到内容的映射，汇总文件在第一个
+     */
+    private void renderSharded(File resFile, List<AssetModel.AssetGroup> assets, List<String> others,
+                               List<AtlasPacker.Atlas> atlases, GenerateConfig config, Map<File, String> outputs) {
+        String newLine = System.lineSeparator();
+        String className = getClassName(config);
+        File shardDirectory = getShardDirectory(resFile);
+        Set<String> packages = new TreeSet<>();
+        // 分片文件名 -> 常量声明
+        Map<String, List<String>> shards = new TreeMap<>();
+        // 始终加载的分片，不开启 deferredOutput 时是所有分片
+        Set<String> eager = new HashSet<>();
+        for (AssetModel.AssetGroup asset : assets) {
+            // 分片名按目录计算一次
+            String shardName = asset.dir.getShardName();
+            shards.computeIfAbsent(shardName, k -> new ArrayList<>())
+                    .add(toDefine(asset.getPath(), asset.getName(), packages));
+            if (!config.deferredOutput || asset.dir.path.indexOf('/') < 0) {
+                eager.add(shardName);
+            }
+        }
+        for (String other : others) {
+            String shardName = getShardName(other);
+            shards.computeIfAbsent(shardName, k -> new ArrayList<>())
+                    .add(toDefine(other, null, packages));
+            eager.add(shardName);
+        }
+        List<String> deferred = new ArrayList<>();
+
+        StringBuilder aggregator = new StringBuilder();
+        aggregator.append(header()).append(newLine);
+        outputs.put(resFile, null);
+        for (Map.Entry<String, List<String>> shard : shards.entrySet()) {
+            String shardName = shard.getKey();
+            if (eager.contains(shardName)) {
+                aggregator.append("export '").append(shardDirectory.getName()).append('/').append(shardName)
+                        .append(".dart';").append(newLine);
+            } else {
+                deferred.add(shardName);
+            }
+
+            List<String> assetDefines = shard.getValue();
+            assetDefines.sort(String::compareToIgnoreCase);
+            StringBuilder sb = new StringBuilder();
+            sb.append(header()).append(newLine);
+            sb.append("class ").append(className).append(getShardClassSuffix(shardName)).append(" {").append(newLine);
+            for (String s : assetDefines) {
+                sb.append(s).append(newLine);
+            }
+            sb.append("}").append(newLine);
+            outputs.put(new File(shardDirectory, shardName + ".dart"), sb.toString());
+        }
+        if (config.precacheGroups) {
+            if (config.deferredOutput) {
+                deferred.add(PRECACHE_GROUPS_FILE);
+            } else {
+                aggregator.append("export '").append(shardDirectory.getName()).append('/').append(PRECACHE_GROUPS_FILE)
+                        .append(".dart';").append(newLine);
+            }
+            StringBuilder sb = new StringBuilder();
+            sb.append(header()).append(newLine);
+            sb.append(FLUTTER_IMPORT).append(newLine).append(newLine);
+            appendPrecacheGroups(sb, assets, className);
+            outputs.put(new File(shardDirectory, PRECACHE_GROUPS_FILE + ".dart"), sb.toString());
+        }
+        if (!atlases.isEmpty()) {
+            aggregator.append("export '").append(shardDirectory.getName()).append('/').append(ATLAS_FILE)
+                    .append(".dart';").append(newLine);
+            StringBuilder sb = new StringBuilder();
+            sb.append(header()).append(newLine);
+            appendImports(sb, true, false);
+            appendAtlases(sb, atlases, className);
+            outputs.put(new File(shardDirectory, ATLAS_FILE + ".dart"), sb.toString());
+        }
+        appendDeferred(aggregator, shardDirectory.getName(), deferred);
+        appendPackages(aggregator, packages);
+        outputs.put(resFile, aggregator.toString());
+    }
+
+    /**
+     * 在汇总文件中列出按需加载的库，注释可以直接复制到页面中使用。库名用分片名，去掉开头的下划线，
+     * 如 _precache_groups 为 precache_groups
+     */
+    private static void appendDeferred(StringBuilder sb, String shardDirectoryName, List<String> deferred) {
+        if (deferred.isEmpty()) {
+            return;
+        }
+        String newLine = System.lineSeparator();
+        sb.append(newLine);
+        sb.append("// Feature libraries, not exported here. Import them deferred and await loadLibrary() before use:")
+                .append(newLine);
+        for (String shardName : deferred) {
+            String prefix = shardName.startsWith("_") ? shardName.substring(1) : shardName;
+            sb.append("// import '").append(shardDirectoryName).append('/').append(shardName)
+                    .append(".dart' deferred as ").append(prefix).append(';').append(newLine);
+        }
+    }
+
+    /**
+     * 预缓存分组：每个直接包含图片的逻辑目录（与扫描的目录结构一致，倍率目录归到主资源目录）一个图片路径的常量列表，
+     * 以及预缓存一个分组的方法。页面可以在跳转时预缓存所在目录的图片，避免首帧图片延迟出现。assets 已去掉排除的资源。
+     */
+    private static void appendPrecacheGroups(StringBuilder sb, List<AssetModel.AssetGroup> assets, String className) {
+        String newLine = System.lineSeparator();
+        // 目录路径 -> 图片路径，按目录排序，目录内按扫描顺序（文件名）
+        Map<String, List<String>> groups = new TreeMap<>();
+        for (AssetModel.AssetGroup asset : assets) {
+            if (isImage(asset.fileName)) {
+                groups.computeIfAbsent(asset.dir.path, k -> new ArrayList<>()).add(asset.getPath());
+            }
+        }
+        String groupsClass = className + "PrecacheGroups";
+        sb.append("/// Images of each asset directory, for precaching before a screen is shown").append(newLine);
+        sb.append("class ").append(groupsClass).append(" {").append(newLine);
+        Set<String> names = new HashSet<>();
+        for (Map.Entry<String, List<String>> group : groups.entrySet()) {
+            String name = toGroupName(group.getKey());
+            // 不同目录转换后重名时加序号，目录按路径排序，序号稳定
+            for (int i = 2; !names.add(name); i++) {
+                name = toGroupName(group.getKey()) + i;
+            }
+            sb.append("  /// ").append(group.getKey()).append('/').append(newLine);
+            sb.append("  static const List<String> ").append(name).append(" = [").append(newLine);
+            for (String path : group.getValue()) {
+                sb.append("    \"").append(path).append("\",").append(newLine);
+            }
+            sb.append("  ];").append(newLine);
+        }
+        sb.append("}").append(newLine).append(newLine);
+        String function = "precache" + className + "Group";
+        sb.append("/// Precaches every image of [group] into the image cache, e.g. `").append(function)
+                .append("(context, ").append(groupsClass).append(".assets)` before navigating").append(newLine);
+        sb.append("Future<void> ").append(function).append("(BuildContext context, List<String> group) {")
+                .append(newLine);
+        sb.append("  return Future.wait(group.map((path) => precacheImage(AssetImage(path), context)));")
+                .append(newLine);
+        sb.append("}").append(newLine);
+    }
+
+    /**
+     * 图集位置表：每个图集目录的图集图片，以及图标资源路径到所在图集和位置的映射。位置为逻辑像素，
+     * 绘制时用解析出的图集图片的倍率（ImageInfo.scale）换算为图片中的像素位置，如传给 Canvas.drawImageRect。
+     */
+    private static void appendAtlases(StringBuilder sb, List<AtlasPacker.Atlas> atlases, String className) {
+        String newLine = System.lineSeparator();
+        String spriteClass = className + "Sprite";
+        sb.append("/// An icon packed into an atlas image, [rect] is in logical pixels").append(newLine);
+        sb.append("class ").append(spriteClass).append(" {").append(newLine);
+        sb.append("  final String atlas;").append(newLine);
+        sb.append("  final Rect rect;").append(newLine).append(newLine);
+        sb.append("  const ").append(spriteClass).append("(this.atlas, this.rect);").append(newLine).append(newLine);
+        sb.append("  /// Rectangle in the resolved atlas image, [scale] is its ImageInfo.scale").append(newLine);
+        sb.append("  Rect sourceRect(double scale) =>").append(newLine);
+        sb.append("      Rect.fromLTWH(rect.left * scale, rect.top * scale, rect.width * scale, rect.height * scale);")
+                .append(newLine);
+        sb.append("}").append(newLine).append(newLine);
+        sb.append("/// Atlases packed from small icon folders and the position of every icon").append(newLine);
+        sb.append("class ").append(className).append("Atlas {").append(newLine);
+        Set<String> names = new HashSet<>();
+        for (AtlasPacker.Atlas atlas : atlases) {
+            String name = toGroupName(atlas.sourceDir);
+            for (int i = 2; !names.add(name); i++) {
+                name = toGroupName(atlas.sourceDir) + i;
+            }
+            sb.append("  /// Atlas images of ").append(atlas.sourceDir).append('/').append(newLine);
+            sb.append("  static const List<String> ").append(name).append(" = [").append(newLine);
+            for (AtlasPacker.Page page : atlas.pages) {
+                sb.append("    \"").append(page.path).append("\",").append(newLine);
+            }
+            sb.append("  ];").append(newLine);
+        }
+        sb.append(newLine);
+        sb.append("  /// Icon asset path -> atlas and position").append(newLine);
+        sb.append("  static const Map<String, ").append(spriteClass).append("> sprites = {").append(newLine);
+        for (AtlasPacker.Atlas atlas : atlases) {
+            for (AtlasPacker.Sprite sprite : atlas.sprites) {
+                sb.append("    \"").append(sprite.path).append("\": ").append(spriteClass).append("(\"")
+                        .append(atlas.pages.get(sprite.page).path).append("\", Rect.fromLTWH(")
+                        .append(sprite.x).append(", ").append(sprite.y).append(", ")
+                        .append(sprite.width).append(", ").append(sprite.height).append(")),").append(newLine);
+            }
+        }
+        sb.append("  };").append(newLine);
+        sb.append("}").append(newLine);
+    }
+
+    /**
+     * dart: 导入在前，package: 导入在后，之间空一行
+     */
+    private static void appendImports(StringBuilder sb, boolean ui, boolean flutter) {
+        String newLine = System.lineSeparator();
+        if (ui) {
+            sb.append(UI_IMPORT).append(newLine).append(newLine);
+        }
+        if (flutter) {
+            sb.append(FLUTTER_IMPORT).append(newLine).append(newLine);
+        }
+    }
+
+    private static boolean isImage(String fileName) {
+        int dot = fileName.lastIndexOf('.');
+        return dot != -1 && IMAGE_EXTENSIONS.contains(fileName.substring(dot + 1).toLowerCase(Locale.ROOT));
+    }
+
+    /**
+     * @param dirPath 目录路径，如 assets/icons/home_page
+     * @return 分组常量名，如 assetsIconsHomePage
+     */
+    static String toGroupName(String dirPath) {
+        String name = Normalizer.normalize(dirPath, Normalizer.Form.NFD)
+                .replaceAll("\\p{InCombiningDiacriticalMarks}+", "");
+        StringBuilder sb = new StringBuilder();
+        boolean upper = false;
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            if ((c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9')) {
+                if (sb.length() == 0) {
+                    sb.append(Character.toLowerCase(c));
+                } else {
+                    sb.append(upper ? Character.toUpperCase(c) : c);
+                }
+                upper = false;
+            } else {
+                // /、_、- 等分隔符，下一个字母大写
+                upper = true;
+            }
+        }
+        if (sb.length() == 0 || Character.isDigit(sb.charAt(0))) {
+            sb.insert(0, sb.length() == 0 ? "group" : "dir");
+        }
+        return sb.toString();
+    }
+
+    /**
+     * @param assetPath 资源路径，如 assets/icons/home.png
+     * @return 分片名，取前两级目录，如 assets_icons；直接放在资源根目录下的文件为 assets，其他 package 的资源为 packages
+     */
+    public static String getShardName(String assetPath) {
+        String[] segments = assetPath.split("/");
+        String shard;
+        if (segments[0].equals("packages")) {
+            shard = "packages";
+        } else if (segments.length > 2) {
+            shard = segments[0] + "_" + segments[1];
+        } else {
+            shard = segments[0];
+        }
+        // 变音符和其他非法字符，保证是合法的 dart 文件名
+        shard = Normalizer.normalize(shard, Normalizer.Form.NFD).replaceAll("\\p{InCombiningDiacriticalMarks}+", "");
+        return shard.toLowerCase(Locale.ROOT).replaceAll("[^a-z0-9_]", "_");
+    }
+
+    /**
+     * @return 分片类名后缀，如 assets_icons -> AssetsIcons
+     */
+    public static String getShardClassSuffix(String shardName) {
+        StringBuilder sb = new StringBuilder();
+        for (String word : shardName.split("_")) {
+            if (!word.isEmpty()) {
+                sb.append(Character.toUpperCase(word.charAt(0))).append(word.substring(1));
+            }
+        }
+        return sb.toString();
+    }
+
+    private static String header() {
+        // TODO: 2020/1/8 其他语言地区格式处理
+        SimpleDateFormat sdf = new SimpleDateFormat("yyyy/MM/dd");
+        return HEADER_PREFIX + sdf.format(Calendar.getInstance().getTime());
+    }
+
+    /**
+     * @param assetPath 资源路径
+     * @param name      扫描得到的资源名，为 null 时取不带后缀的文件名
+     * @param packages  收集用到的其他 package 名称
+     * @return 常量声明
+     */
+    private static String toDefine(String assetPath, String name, Set<String> packages) {
+        if (name == null) {
+            name = AssetModel.baseName(assetPath.substring(assetPath.lastIndexOf('/') + 1));
+        }
+        // 处理其他 package 的资源文件声明
+        // 声明格式通常为：packages/package_name/...
+        if (assetPath.startsWith("packages/")) {
+            Matcher matcher = PATTERN.matcher(assetPath);
+            if (matcher.matches()) {
+                packages.add(matcher.group("pkgName"));
+                assetPath = assetPath.substring(matcher.end("pkgName") + 1);
+            }
+        }
+        return "  static const String " + toConstantName(name) + " = \"" + assetPath + "\";";
+    }
+
+    /**
+     * @param name 扫描得到的资源名，如 home-page、âĉéè
+     * @return 合法的 Dart 常量名
+     */
+    public static String toConstantName(String name) {
+        // 替换连字符'-'为下划线'_'
+        name = name.replace('-', '_');
+        // 变音符处理，如：âĉéè.png
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            if (c >= '\u00C0' && c <= '\u017F') {
+                return Normalizer.normalize(name, Normalizer.Form.NFD)
+                        .replaceAll("\\p{InCombiningDiacriticalMarks}+", "");
+            }
+        }
+        return name;
+    }
+
+    private static void appendPackages(StringBuilder sb, Set<String> packages) {
+        String newLine = System.lineSeparator();
+        if (!packages.isEmpty()) {
+            sb.append(newLine);
+            sb.append("class Packages {").append(newLine);
+            for (String pkg : packages) {
+                sb.append("  static const String ").append(pkg).append(" = \"").append(pkg).append("\";")
+                        .append(newLine);
+            }
+            sb.append("}").append(newLine);
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.shenyong.flutter.generator;
+
+import java.util.*;
+
+/**
+ * 一次资源扫描的结果，创建后不再修改。每次生成使用自己的扫描结果，同时进行的多次生成之间互不影响。
+ * <p>
+ * 只保存 {@link AssetModel}，pubspec.yaml 中的声明和 Dart 常量在写入时由模型中的资源拼出。
+ */
+public class ScanResult {
+
+    /**
+     * 所有逻辑资源，按扫描顺序
+     */
+    public final List<AssetModel.AssetGroup> groups;
+    public final AssetModel model;
+
+    ScanResult(AssetModel model) {
+        this.groups = Collections.unmodifiableList(model.getGroups());
+        this.model = model;
+    }
+}
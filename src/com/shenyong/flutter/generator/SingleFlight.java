@@ -0,0 +1,108 @@
+package com.shenyong.flutter.generator;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Supplier;
+
+/**
+ * 合并同一个 key 上同时发起的任务：没有任务在执行时立即执行；已有任务在执行时，最多排队一次后续执行，
+ * 之后的请求都等待并共享这次后续执行的结果。后续执行在当前任务结束后开始，能看到所有请求发起前的修改，
+ * 连续快速触发（如重复点击、批量文件变化）时最多执行两次。
+ * <p>
+ * 任务在发起请求的线程中执行，排队的请求阻塞到对应的执行结束。
+ */
+public class SingleFlight<K, V> {
+
+    private static class Flight<V> {
+        CompletableFuture<V> running;
+        CompletableFuture<V> next;
+    }
+
+    private final Map<K, Flight<V>> flights = new HashMap<>();
+
+    /**
+     * @return 本次执行或合并到的执行的结果，任务抛出的 RuntimeException 原样抛出
+     */
+    public V run(K key, Supplier<V> task) throws InterruptedException {
+        Flight<V> flight;
+        CompletableFuture<V> previous = null;
+        CompletableFuture<V> mine = null;
+        CompletableFuture<V> joined = null;
+        synchronized (flights) {
+            flight = flights.get(key);
+            if (flight == null) {
+                flight = new Flight<>();
+                flight.running = new CompletableFuture<>();
+                flights.put(key, flight);
+                mine = flight.running;
+            } else if (flight.next != null) {
+                // 已有排队的后续执行，与它合并
+                joined = flight.next;
+            } else {
+                flight.next = new CompletableFuture<>();
+                mine = flight.next;
+                previous = flight.running;
+            }
+        }
+        if (joined != null) {
+            return await(joined);
+        }
+        if (previous != null) {
+            try {
+                previous.get();
+            } catch (ExecutionException e) {
+                // 上一次执行失败不影响后续执行
+            } catch (InterruptedException e) {
+                // 合并到这次后续执行的请求收到异常，之后的请求重新排队
+                mine.completeExceptionally(e);
+                synchronized (flights) {
+                    flight.next = null;
+                }
+                throw e;
+            }
+            synchronized (flights) {
+                flight.running = mine;
+                flight.next = null;
+            }
+        }
+        try {
+            V value = task.get();
+            finish(key, flight, mine);
+            mine.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            finish(key, flight, mine);
+            mine.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    private void finish(K key, Flight<V> flight, CompletableFuture<V> mine) {
+        synchronized (flights) {
+            if (flight.running == mine && flight.next == null) {
+                flights.remove(key);
+            }
+        }
+    }
+
+    private static <V> V await(CompletableFuture<V> future) throws InterruptedException {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            if (cause instanceof InterruptedException) {
+                // 排队的执行者被中断，本次请求没有执行
+                throw new IllegalStateException("Coalesced run was interrupted", cause);
+            }
+            throw new IllegalStateException(cause);
+        }
+    }
+}
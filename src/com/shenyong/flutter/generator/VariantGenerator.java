@@ -0,0 +1,239 @@
+package com.shenyong.flutter.generator;
+
+import net.coobird.thumbnailator.Thumbnails;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.regex.Pattern;
+
+/**
+ * 根据最高倍率的图片生成缺失的低倍率变体。设计通常只提供 3.0x 图片，低密度设备只能解码大图再缩小，浪费内存和解码时间。
+ * <p>
+ * 对每个包含 2.0x、3.0x 等多像素比子目录的资源目录，以倍率最高的同名图片为源，按比例缩小生成 1.0x（资源目录本身）、2.0x 等缺失的变体。
+ * 生成的文件记录在 {@link #MANIFEST_FILE} 中，只有记录中的文件在早于源文件时重新生成；已存在但不在记录中的文件是设计提供的，
+ * 不会被覆盖。缩放在固定大小的线程池中进行，同时解码的图片数量不超过线程数。
+ */
+public class VariantGenerator {
+
+    /**
+     * 生成过的变体列表，每行一个相对于项目目录的路径
+     */
+    public static final String MANIFEST_FILE = ".dart_tool/assets_ref_generator/variants.txt";
+
+    private static final Pattern RATIO_DIR = Pattern.compile("^[1-9](\\.\\d)x$");
+    /**
+     * 总是生成的倍率，资源目录中已有的其他倍率目录（如 1.5x）也会生成
+     */
+    private static final double[] STANDARD_RATIOS = {1.0, 2.0, 3.0};
+    private static final Set<String> SUPPORTED_EXTENSIONS = new HashSet<>(Arrays.asList("png", "jpg", "jpeg"));
+
+    private static class ResizeTask {
+        final File source;
+        final File output;
+        /**
+         * 输出文件相对于项目目录的路径
+         */
+        final String outputPath;
+        final double scale;
+
+        ResizeTask(File source, File output, String outputPath, double scale) {
+            this.source = source;
+            this.output = output;
+            this.outputPath = outputPath;
+            this.scale = scale;
+        }
+    }
+
+    private final int parallelism;
+
+    /**
+     * @param parallelism 同时缩放的最大图片数
+     */
+    public VariantGenerator(int parallelism) {
+        this.parallelism = Math.max(1, parallelism);
+    }
+
+    public VariantGenerator() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * @param path         项目路径
+     * @param assetsDirs   资源根目录名称，如 asset、assets、images
+     * @param excludePaths 排除的文件夹，不生成其中的变体
+     * @param stats        记录生成、跳过和失败的变体数量
+     */
+    public void generate(String path, List<String> assetsDirs, List<String> excludePaths, GenerationStats stats) {
+        File manifest = new File(path, MANIFEST_FILE);
+        Set<String> generated = readManifest(manifest);
+        // 已删除的变体不再记录，排除的目录中的记录保留
+        Set<String> recorded = new TreeSet<>();
+        for (String p : generated) {
+            if (new File(path, p).isFile()) {
+                recorded.add(p);
+            }
+        }
+        List<ResizeTask> tasks = new ArrayList<>();
+        for (String name : assetsDirs) {
+            collect(new File(path, name), name, excludePaths, generated, tasks, stats);
+        }
+        try {
+            resizeAll(tasks, recorded, stats);
+        } finally {
+            if (!recorded.equals(generated)) {
+                writeManifest(manifest, recorded);
+            }
+        }
+    }
+
+    private void resizeAll(List<ResizeTask> tasks, Set<String> recorded, GenerationStats stats) {
+        if (tasks.isEmpty()) {
+            return;
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(parallelism, tasks.size()),
+                new NamedThreadFactory("variants"));
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (ResizeTask task : tasks) {
+                futures.add(executor.submit(() -> {
+                    resize(task);
+                    return null;
+                }));
+            }
+            for (int i = 0; i < futures.size(); i++) {
+                try {
+                    futures.get(i).get();
+                    recorded.add(tasks.get(i).outputPath);
+                    stats.variantsGenerated++;
+                } catch (ExecutionException e) {
+                    stats.variantsFailed++;
+                    e.getCause().printStackTrace();
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * 查找需要生成的变体
+     *
+     * @param generated 之前生成过的变体
+     */
+    private void collect(File dir, String prefix, List<String> excludePaths, Set<String> generated,
+                         List<ResizeTask> tasks, GenerationStats stats) {
+        File[] files = dir.listFiles();
+        if (files == null || AssetsGenerator.isExcluded(prefix + "/", excludePaths)) {
+            return;
+        }
+        // 倍率 -> 倍率目录，1.0 为资源目录本身
+        TreeMap<Double, File> ratioDirs = new TreeMap<>();
+        ratioDirs.put(1.0, dir);
+        for (File f : files) {
+            if (f.isDirectory()) {
+                String name = f.getName();
+                if (RATIO_DIR.matcher(name).matches()) {
+                    ratioDirs.put(Double.parseDouble(name.substring(0, name.length() - 1)), f);
+                } else {
+                    collect(f, prefix + "/" + name, excludePaths, generated, tasks, stats);
+                }
+            }
+        }
+        if (ratioDirs.size() == 1) {
+            return;
+        }
+        for (double ratio : STANDARD_RATIOS) {
+            ratioDirs.putIfAbsent(ratio, new File(dir, String.format(Locale.ROOT, "%.1fx", ratio)));
+        }
+        // 图片名 -> 最高倍率的源文件
+        Map<String, File> sources = new TreeMap<>();
+        Map<String, Double> sourceRatios = new HashMap<>();
+        for (Map.Entry<Double, File> entry : ratioDirs.entrySet()) {
+            File[] images = entry.getValue().listFiles(f -> f.isFile() && isSupported(f.getName()));
+            if (images == null) {
+                continue;
+            }
+            for (File image : images) {
+                // ratioDirs 按倍率升序，后面的覆盖前面的
+                sources.put(image.getName(), image);
+                sourceRatios.put(image.getName(), entry.getKey());
+            }
+        }
+        for (Map.Entry<String, File> entry : sources.entrySet()) {
+            File source = entry.getValue();
+            double sourceRatio = sourceRatios.get(entry.getKey());
+            for (Map.Entry<Double, File> target : ratioDirs.headMap(sourceRatio, false).entrySet()) {
+                File output = new File(target.getValue(), entry.getKey());
+                String outputPath = (target.getKey() == 1.0 ? prefix : prefix + "/" + target.getValue().getName())
+                        + "/" + entry.getKey();
+                if (output.exists()) {
+                    // 不在列表中的是设计提供的图片，不覆盖
+                    if (!generated.contains(outputPath)) {
+                        stats.variantsUpToDate++;
+                        continue;
+                    }
+                    if (output.lastModified() >= source.lastModified()) {
+                        stats.variantsUpToDate++;
+                        continue;
+                    }
+                }
+                tasks.add(new ResizeTask(source, output, outputPath, target.getKey() / sourceRatio));
+            }
+        }
+    }
+
+    private static void resize(ResizeTask task) throws IOException {
+        File outputDir = task.output.getParentFile();
+        if (!outputDir.exists()) {
+            outputDir.mkdirs();
+        }
+        Thumbnails.of(task.source).scale(task.scale).toFile(task.output);
+    }
+
+    private static Set<String> readManifest(File manifest) {
+        Set<String> paths = new TreeSet<>();
+        if (manifest.isFile()) {
+            try {
+                for (String line : Files.readAllLines(manifest.toPath(), StandardCharsets.UTF_8)) {
+                    if (!line.isEmpty() && !line.startsWith("#")) {
+                        paths.add(line);
+                    }
+                }
+            } catch (IOException e) {
+                e.printStackTrace();
+            }
+        }
+        return paths;
+    }
+
+    private static void writeManifest(File manifest, Set<String> paths) {
+        if (paths.isEmpty()) {
+            manifest.delete();
+            return;
+        }
+        StringBuilder sb = new StringBuilder("# Generated by AssetsRefGenerator, resolution variants it created\n");
+        for (String p : paths) {
+            sb.append(p).append('\n');
+        }
+        try {
+            File dir = manifest.getParentFile();
+            if (!dir.exists()) {
+                dir.mkdirs();
+            }
+            Files.write(manifest.toPath(), sb.toString().getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    private static boolean isSupported(String name) {
+        int index = name.lastIndexOf('.');
+        return index != -1 && SUPPORTED_EXTENSIONS.contains(name.substring(index + 1).toLowerCase(Locale.ROOT));
+    }
+}
@@ -0,0 +1,193 @@
+package com.shenyong.flutter.generator;
+
+import com.shenyong.flutter.analysis.BundleSizeReport;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * 并行为工作区中的多个 Flutter package 生成资源声明和 res.dart，每个 package 使用独立的 {@link AssetsGenerator}，
+ * 输出写在各自的 package 目录下。总耗时约等于最大的 package 的耗时。
+ * <p>
+ * 同一个 package 的生成请求（多次点击生成、移动资源目录后的重新生成、{@link AssetWatcher}）通过 {@link SingleFlight}
+ * 合并，不会同时写同一个 pubspec.yaml 和 res 文件。
+ */
+public class WorkspaceGenerator {
+
+    public interface Listener {
+        /**
+         * 某个 package 生成完成，在工作线程中回调
+         */
+        void onPackageDone(PackageResult result, int done, int total);
+    }
+
+    public static class PackageResult {
+        public String path;
+        /**
+         * 没有扫描到任何资源时为 false
+         */
+        public boolean generated;
+        public GenerationStats stats;
+        /**
+         * 资源包大小报告，没有开启 bundleSizeReport 时为 null
+         */
+        public BundleSizeReport bundleSize;
+        /**
+         * 生成过程中的异常，成功时为 null
+         */
+        public Throwable error;
+    }
+
+    public static class Result {
+        public final List<PackageResult> packages = new ArrayList<>();
+        public long wallNanos;
+
+        /**
+         * @return 合并后的摘要，第一行为总计，之后每个 package 一行
+         */
+        public String toSummary(String basePath) {
+            long sumNanos = 0;
+            int assets = 0;
+            int pubspecChanged = 0;
+            int resChanged = 0;
+            int failed = 0;
+            StringBuilder details = new StringBuilder();
+            for (PackageResult r : packages) {
+                String name = relativize(basePath, r.path);
+                if (r.error != null) {
+                    failed++;
+                    details.append('\n').append(name).append(": failed, ").append(r.error);
+                    continue;
+                }
+                sumNanos += r.stats.totalNanos();
+                assets += r.stats.assetsDeclared();
+                pubspecChanged += r.stats.pubspecChanged ? 1 : 0;
+                resChanged += r.stats.resDartChanged ? 1 : 0;
+                details.append('\n').append(name).append(": ")
+                        .append(r.generated ? r.stats.toSummary() : "no assets found");
+                if (r.bundleSize != null) {
+                    details.append("; ").append(r.bundleSize.toSummary());
+                }
+            }
+            return String.format(Locale.ROOT,
+                    "%d packages, %d assets in %d ms (%d ms summed over packages); "
+                            + "%d pubspec.yaml and %d res files updated, %d failed",
+                    packages.size(), assets, GenerationStats.millis(wallNanos), GenerationStats.millis(sumNanos),
+                    pubspecChanged, resChanged, failed) + details;
+        }
+
+        private static String relativize(String basePath, String path) {
+            if (basePath != null && path.startsWith(basePath)) {
+                String rel = path.substring(basePath.length());
+                rel = rel.startsWith("/") || rel.startsWith("\\") ? rel.substring(1) : rel;
+                return rel.isEmpty() ? "." : rel;
+            }
+            return path;
+        }
+    }
+
+    private static final SingleFlight<String, PackageResult> FLIGHTS = new SingleFlight<>();
+
+    private final GenerateConfig config;
+    private final int parallelism;
+    private Function<String, OutputSink> sinkFactory = path -> OutputSink.DISK;
+
+    /**
+     * @param config      所有 package 共用的生成配置
+     * @param parallelism 最大并行数
+     */
+    public WorkspaceGenerator(GenerateConfig config, int parallelism) {
+        this.config = config;
+        this.parallelism = Math.max(1, parallelism);
+    }
+
+    public WorkspaceGenerator(GenerateConfig config) {
+        this(config, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * @param sinkFactory 为每个 package 创建输出方式，默认直接读写磁盘
+     */
+    public void setOutputSinkFactory(Function<String, OutputSink> sinkFactory) {
+        this.sinkFactory = sinkFactory;
+    }
+
+    /**
+     * @param packagePaths package 目录
+     * @param listener     进度回调，可为 null
+     */
+    public Result generate(List<String> packagePaths, Listener listener) throws InterruptedException {
+        Result result = new Result();
+        long start = System.nanoTime();
+        int total = packagePaths.size();
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(parallelism, Math.max(1, total)),
+                new NamedThreadFactory("workspace"));
+        AtomicInteger done = new AtomicInteger();
+        try {
+            List<Future<PackageResult>> futures = new ArrayList<>();
+            for (String path : packagePaths) {
+                futures.add(executor.submit(() -> {
+                    PackageResult r = generate(path);
+                    if (listener != null) {
+                        listener.onPackageDone(r, done.incrementAndGet(), total);
+                    }
+                    return r;
+                }));
+            }
+            for (Future<PackageResult> future : futures) {
+                try {
+                    result.packages.add(future.get());
+                } catch (ExecutionException e) {
+                    // generatePackage 已捕获生成中的异常，这里只可能是回调抛出的或线程被中断
+                    throw new IllegalStateException(e.getCause());
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        result.wallNanos = System.nanoTime() - start;
+        return result;
+    }
+
+    private PackageResult generate(String path) throws InterruptedException {
+        return generatePackage(path, config, AssetModel.FILES, sinkFactory.apply(path));
+    }
+
+    public static PackageResult generatePackage(String path, GenerateConfig config, AssetModel.Tree<File> tree)
+            throws InterruptedException {
+        return generatePackage(path, config, tree, OutputSink.DISK);
+    }
+
+    /**
+     * 生成单个 package。该 package 正在生成时，等待它结束后再生成一次，期间的其他请求共享这次结果，
+     * 此时使用的是最先排队的请求的配置、目录树和输出方式。
+     * <p>
+     * 缓存的输出在本次生成结束之前写入，排队的下一次生成读到的是本次写入后的内容。
+     *
+     * @param tree 扫描资源时使用的目录树
+     * @param sink 输出文件的读写方式
+     */
+    public static PackageResult generatePackage(String path, GenerateConfig config, AssetModel.Tree<File> tree,
+                                                OutputSink sink) throws InterruptedException {
+        return FLIGHTS.run(new File(path).getAbsolutePath(), () -> {
+            PackageResult r = new PackageResult();
+            r.path = path;
+            try {
+                AssetsGenerator generator = new AssetsGenerator(path, config);
+                generator.setTree(tree);
+                generator.setOutputSink(sink);
+                r.generated = generator.generate();
+                r.stats = generator.getStats();
+                r.bundleSize = generator.getBundleSizeReport();
+            } catch (RuntimeException e) {
+                r.error = e;
+            }
+            return r;
+        });
+    }
+}
@@ -8,7 +8,8 @@ public class FastImageInfo {
     private String mimeType;
 
     public FastImageInfo(File file) throws IOException {
-        try (FileInputStream is = new FileInputStream(file)) {
+        // 只读取文件头，缓冲避免逐字节读取文件
+        try (InputStream is = new BufferedInputStream(new FileInputStream(file), 512)) {
             processStream(is);
         }
     }
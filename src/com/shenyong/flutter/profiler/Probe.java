@@ -0,0 +1,189 @@
+package com.shenyong.flutter.profiler;
+
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 编辑器热点路径的耗时探针。每个探针记录调用次数、总耗时、最大耗时和按 2 的幂分桶的耗时直方图（单位 µs）。
+ * <p>
+ * 用法：
+ * <pre>
+ * long start = Probe.MULTI_RESOLVE.start();
+ * try {
+ *     ...
+ * } finally {
+ *     Probe.MULTI_RESOLVE.stop(start);
+ * }
+ * </pre>
+ * 一次记录只有两次 {@link System#nanoTime()} 和几次无锁累加，可以在正式使用的 IDE 中一直开启。
+ */
+public enum Probe {
+    MULTI_RESOLVE("FlutterAssetReference.multiResolve"),
+    IS_REFERENCE_TO("FlutterAssetReference.isReferenceTo"),
+    DART_LINE_MARKER("DartAssetLineMarkerProvider.collectNavigationMarkers"),
+    YAML_LINE_MARKER("YamlAssetLineMarkerProvider.collectNavigationMarkers"),
+    ASSET_PSI_FILES("AssetUtil.getAssetPsiFiles"),
+    ASSET_FILES_WITHOUT_SUFFIX("AssetUtil.getAssetFileWithoutSuffix"),
+    GENERATE_DOC("FlutterAssetDocumentationProvider.generateDoc"),
+    ASSET_PATH_SNAPSHOT("AssetPathService.getAssets"),
+    UNRESOLVED_ASSET_INSPECTION("UnresolvedAssetInspection.visitElement"),
+    ASSET_COMPLETION("AssetPathCompletionContributor.addCompletions"),
+    ASSET_MODEL("AssetModelService.getModel"),
+    RES_CONSTANT("ResConstantService.getAssetPath");
+
+    /**
+     * 直方图桶数，第 i 个桶（i > 0）记录 [2^(i-1), 2^i) µs 的调用，最后一个桶包含所有更慢的调用
+     */
+    public static final int BUCKETS = 24;
+
+    private static volatile boolean enabled = true;
+
+    private final String displayName;
+    private final LongAdder count = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final AtomicLong maxNanos = new AtomicLong();
+    private final AtomicLongArray histogram = new AtomicLongArray(BUCKETS);
+
+    Probe(String displayName) {
+        this.displayName = displayName;
+    }
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    public static void setEnabled(boolean enabled) {
+        Probe.enabled = enabled;
+    }
+
+    public static void resetAll() {
+        for (Probe probe : values()) {
+            probe.reset();
+        }
+    }
+
+    /**
+     * @return 开始时间，未开启时返回 0
+     */
+    public long start() {
+        return enabled ? System.nanoTime() : 0;
+    }
+
+    /**
+     * @param start {@link #start()} 的返回值
+     */
+    public void stop(long start) {
+        if (start == 0) {
+            return;
+        }
+        long nanos = System.nanoTime() - start;
+        count.increment();
+        totalNanos.add(nanos);
+        long max = maxNanos.get();
+        while (nanos > max && !maxNanos.compareAndSet(max, nanos)) {
+            max = maxNanos.get();
+        }
+        long micros = nanos / 1000;
+        int bucket = micros == 0 ? 0 : Math.min(BUCKETS - 1, 64 - Long.numberOfLeadingZeros(micros));
+        histogram.incrementAndGet(bucket);
+    }
+
+    public void reset() {
+        count.reset();
+        totalNanos.reset();
+        maxNanos.set(0);
+        for (int i = 0; i < BUCKETS; i++) {
+            histogram.set(i, 0);
+        }
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+
+    public Snapshot snapshot() {
+        Snapshot snapshot = new Snapshot();
+        snapshot.probe = this;
+        snapshot.count = count.sum();
+        snapshot.totalNanos = totalNanos.sum();
+        snapshot.maxNanos = maxNanos.get();
+        snapshot.histogram = new long[BUCKETS];
+        for (int i = 0; i < BUCKETS; i++) {
+            snapshot.histogram[i] = histogram.get(i);
+        }
+        return snapshot;
+    }
+
+    /**
+     * 某一时刻探针数据的副本，各字段之间不保证严格一致
+     */
+    public static class Snapshot {
+        public Probe probe;
+        public long count;
+        public long totalNanos;
+        public long maxNanos;
+        public long[] histogram;
+
+        public double meanMicros() {
+            return count == 0 ? 0 : totalNanos / 1000.0 / count;
+        }
+
+        /**
+         * @param percentile 0 ~ 100
+         * @return 对应分位所在桶的上界（µs）
+         */
+        public long percentileMicros(double percentile) {
+            long total = 0;
+            for (long c : histogram) {
+                total += c;
+            }
+            if (total == 0) {
+                return 0;
+            }
+            long threshold = (long) Math.ceil(total * percentile / 100);
+            long seen = 0;
+            for (int i = 0; i < histogram.length; i++) {
+                seen += histogram[i];
+                if (seen >= threshold) {
+                    return 1L << i;
+                }
+            }
+            return 1L << (histogram.length - 1);
+        }
+
+        public String toJson() {
+            StringBuilder sb = new StringBuilder();
+            sb.append("{\"probe\": \"").append(probe.displayName).append('"')
+                    .append(", \"count\": ").append(count)
+                    .append(", \"totalMs\": ").append(String.format(Locale.ROOT, "%.3f", totalNanos / 1e6))
+                    .append(", \"meanUs\": ").append(String.format(Locale.ROOT, "%.1f", meanMicros()))
+                    .append(", \"p50Us\": ").append(percentileMicros(50))
+                    .append(", \"p90Us\": ").append(percentileMicros(90))
+                    .append(", \"p99Us\": ").append(percentileMicros(99))
+                    .append(", \"maxUs\": ").append(maxNanos / 1000)
+                    .append(", \"histogramUs\": {");
+            for (int i = 0; i < histogram.length; i++) {
+                if (i > 0) {
+                    sb.append(", ");
+                }
+                sb.append("\"<").append(1L << i).append("\": ").append(histogram[i]);
+            }
+            return sb.append("}}").toString();
+        }
+    }
+
+    /**
+     * @return 所有探针数据的 JSON，用于导出
+     */
+    public static String exportJson() {
+        StringBuilder sb = new StringBuilder("{\n  \"enabled\": ").append(enabled).append(",\n  \"probes\": [\n");
+        Probe[] probes = values();
+        for (int i = 0; i < probes.length; i++) {
+            sb.append("    ").append(probes[i].snapshot().toJson());
+            sb.append(i < probes.length - 1 ? ",\n" : "\n");
+        }
+        return sb.append("  ]\n}\n").toString();
+    }
+}
@@ -0,0 +1,161 @@
+package com.shenyong.flutter.profiler;
+
+import com.intellij.icons.AllIcons;
+import com.intellij.openapi.Disposable;
+import com.intellij.openapi.actionSystem.*;
+import com.intellij.openapi.fileChooser.FileChooserFactory;
+import com.intellij.openapi.fileChooser.FileSaverDescriptor;
+import com.intellij.openapi.project.DumbAwareAction;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.ui.Messages;
+import com.intellij.openapi.ui.SimpleToolWindowPanel;
+import com.intellij.openapi.vfs.VirtualFileWrapper;
+import com.intellij.ui.ScrollPaneFactory;
+import com.intellij.ui.table.JBTable;
+import org.jetbrains.annotations.NotNull;
+
+import javax.swing.*;
+import javax.swing.table.AbstractTableModel;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Locale;
+
+/**
+ * 热点路径探针数据面板，每秒刷新一次，支持暂停、清零和导出 JSON。
+ */
+public class ProfilerPanel extends SimpleToolWindowPanel implements Disposable {
+
+    private static final String[] COLUMNS = {"Probe", "Calls", "Total ms", "Mean µs", "p50 µs", "p90 µs", "p99 µs", "Max µs"};
+
+    private final Project project;
+    private final ProbeTableModel model = new ProbeTableModel();
+    private final Timer timer = new Timer(1000, e -> refresh());
+
+    public ProfilerPanel(Project project) {
+        super(false, true);
+        this.project = project;
+        JBTable table = new JBTable(model);
+        table.getColumnModel().getColumn(0).setPreferredWidth(320);
+        setContent(ScrollPaneFactory.createScrollPane(table));
+
+        DefaultActionGroup group = new DefaultActionGroup();
+        group.add(new DumbAwareAction("Refresh", "Refresh probe data", AllIcons.Actions.Refresh) {
+            @Override
+            public void actionPerformed(@NotNull AnActionEvent e) {
+                refresh();
+            }
+        });
+        group.add(new ToggleAction("Pause", "Stop recording editor hot paths", AllIcons.Actions.Pause) {
+            @Override
+            public boolean isSelected(@NotNull AnActionEvent e) {
+                return !Probe.isEnabled();
+            }
+
+            @Override
+            public void setSelected(@NotNull AnActionEvent e, boolean state) {
+                Probe.setEnabled(!state);
+            }
+        });
+        group.add(new DumbAwareAction("Reset", "Clear all counters and histograms", AllIcons.Actions.Rollback) {
+            @Override
+            public void actionPerformed(@NotNull AnActionEvent e) {
+                Probe.resetAll();
+                refresh();
+            }
+        });
+        group.add(new DumbAwareAction("Export", "Save probe data as JSON", AllIcons.ToolbarDecorator.Export) {
+            @Override
+            public void actionPerformed(@NotNull AnActionEvent e) {
+                export();
+            }
+        });
+        ActionToolbar toolbar = ActionManager.getInstance().createActionToolbar("AssetHotPaths", group, false);
+        toolbar.setTargetComponent(this);
+        setToolbar(toolbar.getComponent());
+
+        refresh();
+        timer.start();
+    }
+
+    private void refresh() {
+        model.update();
+    }
+
+    private void export() {
+        FileSaverDescriptor descriptor = new FileSaverDescriptor("Export Asset Hot Paths",
+                "Save editor hot path probe data as JSON", "json");
+        VirtualFileWrapper wrapper = FileChooserFactory.getInstance().createSaveFileDialog(descriptor, project)
+                .save(null, "asset-hot-paths.json");
+        if (wrapper == null) {
+            return;
+        }
+        try {
+            Files.write(wrapper.getFile().toPath(), Probe.exportJson().getBytes(StandardCharsets.UTF_8));
+        } catch (IOException ex) {
+            Messages.showErrorDialog(project, "Failed to export: " + ex.getMessage(), "Asset Hot Paths");
+        }
+    }
+
+    @Override
+    public void dispose() {
+        timer.stop();
+    }
+
+    private static class ProbeTableModel extends AbstractTableModel {
+        private Probe.Snapshot[] snapshots = new Probe.Snapshot[0];
+
+        void update() {
+            Probe[] probes = Probe.values();
+            int oldRows = snapshots.length;
+            snapshots = new Probe.Snapshot[probes.length];
+            for (int i = 0; i < probes.length; i++) {
+                snapshots[i] = probes[i].snapshot();
+            }
+            if (oldRows != snapshots.length) {
+                // 行数变化时 rowsUpdated 会让 JTable 访问不存在的行，需要整体刷新
+                fireTableDataChanged();
+            } else if (snapshots.length > 0) {
+                fireTableRowsUpdated(0, snapshots.length - 1);
+            }
+        }
+
+        @Override
+        public int getRowCount() {
+            return snapshots.length;
+        }
+
+        @Override
+        public int getColumnCount() {
+            return COLUMNS.length;
+        }
+
+        @Override
+        public String getColumnName(int column) {
+            return COLUMNS[column];
+        }
+
+        @Override
+        public Object getValueAt(int rowIndex, int columnIndex) {
+            Probe.Snapshot s = snapshots[rowIndex];
+            switch (columnIndex) {
+                case 0:
+                    return s.probe.getDisplayName();
+                case 1:
+                    return s.count;
+                case 2:
+                    return String.format(Locale.ROOT, "%.1f", s.totalNanos / 1e6);
+                case 3:
+                    return String.format(Locale.ROOT, "%.1f", s.meanMicros());
+                case 4:
+                    return s.percentileMicros(50);
+                case 5:
+                    return s.percentileMicros(90);
+                case 6:
+                    return s.percentileMicros(99);
+                default:
+                    return s.maxNanos / 1000;
+            }
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package com.shenyong.flutter.psi;
+
+import com.intellij.codeInsight.AutoPopupController;
+import com.intellij.codeInsight.completion.*;
+import com.intellij.codeInsight.lookup.LookupElement;
+import com.intellij.codeInsight.lookup.LookupElementBuilder;
+import com.intellij.codeInsight.lookup.LookupElementPresentation;
+import com.intellij.codeInsight.lookup.LookupElementRenderer;
+import com.intellij.icons.AllIcons;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.patterns.PlatformPatterns;
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.util.PsiTreeUtil;
+import com.intellij.util.ProcessingContext;
+import com.jetbrains.lang.dart.psi.impl.DartStringLiteralExpressionImpl;
+import com.shenyong.flutter.analysis.AssetPathTrie;
+import com.shenyong.flutter.analysis.ImageInfoCache;
+import com.shenyong.flutter.generator.PubspecUpdater;
+import com.shenyong.flutter.profiler.Probe;
+import com.shenyong.flutter.service.AssetPathService;
+import com.shenyong.flutter.service.AssetTrieService;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.yaml.psi.impl.YAMLPlainTextImpl;
+
+import java.io.File;
+
+/**
+ * 在 Dart 字符串和 pubspec.yaml 的资源声明中按路径分段补全资源路径，如输入 'assets/ic 时提示 icons/ 和 ic_launcher.png。
+ * <p>
+ * 候选项来自 {@link AssetTrieService} 中的前缀树，只查找已输入路径的最后一级，资源数量很多时也只需要几微秒。
+ * 图片尺寸在列表显示时才读取，不阻塞补全。
+ */
+public class AssetPathCompletionContributor extends CompletionContributor {
+
+    /**
+     * 每次最多提示的条数
+     */
+    private static final int MAX_RESULTS = 500;
+
+    public AssetPathCompletionContributor() {
+        extend(CompletionType.BASIC, PlatformPatterns.psiElement(), new CompletionProvider<CompletionParameters>() {
+            @Override
+            protected void addCompletions(@NotNull CompletionParameters parameters, @NotNull ProcessingContext context,
+                                          @NotNull CompletionResultSet result) {
+                long start = Probe.ASSET_COMPLETION.start();
+                try {
+                    addAssetPaths(parameters, result);
+                } finally {
+                    Probe.ASSET_COMPLETION.stop(start);
+                }
+            }
+        });
+    }
+
+    private static void addAssetPaths(CompletionParameters parameters, CompletionResultSet result) {
+        PsiElement literal = findLiteral(parameters.getPosition());
+        if (literal == null) {
+            return;
+        }
+        // 从字符串开头到光标处为已输入的路径
+        String typed = literal.getText().substring(0, parameters.getOffset() - literal.getTextRange().getStartOffset());
+        if (typed.startsWith("'") || typed.startsWith("\"")) {
+            typed = typed.substring(1);
+        }
+        if (!typed.matches("[^\\s$'\"]*")) {
+            return;
+        }
+        VirtualFile packageDir = AssetPathService.findPackageDir(parameters.getOriginalFile().getVirtualFile());
+        if (packageDir == null) {
+            return;
+        }
+        AssetPathTrie trie = AssetTrieService.getInstance(parameters.getPosition().getProject()).getTrie(packageDir);
+        CompletionResultSet segmentResult = result.withPrefixMatcher(typed.substring(typed.lastIndexOf('/') + 1));
+        for (AssetPathTrie.Entry entry : trie.complete(typed, MAX_RESULTS)) {
+            LookupElementBuilder element = LookupElementBuilder.create(entry.name)
+                    .withIcon(entry.directory ? AllIcons.Nodes.Folder : AllIcons.FileTypes.Image);
+            if (entry.directory) {
+                // 选中目录后继续提示下一级
+                element = element.withInsertHandler((context, item) ->
+                        AutoPopupController.getInstance(context.getProject()).scheduleAutoPopup(context.getEditor()));
+            } else {
+                element = element.withExpensiveRenderer(new DimensionRenderer(packageDir, entry.path));
+            }
+            segmentResult.addElement(element);
+        }
+    }
+
+    private static PsiElement findLiteral(PsiElement position) {
+        PsiElement dartString = PsiTreeUtil.getParentOfType(position, DartStringLiteralExpressionImpl.class, false);
+        if (dartString != null) {
+            return dartString;
+        }
+        if (PubspecUpdater.PUBSPEC.equals(position.getContainingFile().getOriginalFile().getName())) {
+            return PsiTreeUtil.getParentOfType(position, YAMLPlainTextImpl.class, false);
+        }
+        return null;
+    }
+
+    /**
+     * 在列表尾部显示图片尺寸，只读取文件头，并按时间戳缓存在 {@link ImageInfoCache} 中
+     */
+    private static class DimensionRenderer extends LookupElementRenderer<LookupElement> {
+
+        private final VirtualFile packageDir;
+        private final String path;
+
+        DimensionRenderer(VirtualFile packageDir, String path) {
+            this.packageDir = packageDir;
+            this.path = path;
+        }
+
+        @Override
+        public void renderElement(LookupElement element, LookupElementPresentation presentation) {
+            presentation.setItemText(element.getLookupString());
+            presentation.setIcon(AllIcons.FileTypes.Image);
+            VirtualFile file = packageDir.findFileByRelativePath(path);
+            if (file == null) {
+                return;
+            }
+            ImageInfoCache.ImageInfo info = ImageInfoCache.getInstance()
+                    .get(new File(file.getPath()), file.getTimeStamp(), file.getLength());
+            if (info != null) {
+                presentation.setTailText("  " + info.width + "×" + info.height, true);
+            }
+        }
+    }
+}
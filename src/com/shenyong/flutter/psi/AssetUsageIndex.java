@@ -0,0 +1,128 @@
+package com.shenyong.flutter.psi;
+
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.vfs.VfsUtilCore;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.search.GlobalSearchScope;
+import com.intellij.util.indexing.*;
+import com.intellij.util.io.EnumeratorStringDescriptor;
+import com.intellij.util.io.KeyDescriptor;
+import com.shenyong.flutter.generator.PubspecUpdater;
+import com.shenyong.flutter.service.AssetModelService;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.*;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Dart 文件和 pubspec.yaml 中资源用法的索引，用于目录重命名、移动时一次查出所有受影响的文件，而不是逐个引用搜索。
+ * <p>
+ * key 有两种：路径形式的字符串所在的每一级目录，如 'assets/icons/home.png' 对应 assets/ 和 assets/icons/；
+ * 以及类的静态成员引用，如 Res.home、ResAssetsIcons.home。
+ * 索引不依赖设置和 pubspec.yaml：资源根目录（包括额外配置的 res 等目录）和生成的类名（包括自定义的文件名）都在查询时确定。
+ */
+public class AssetUsageIndex extends ScalarIndexExtension<String> {
+
+    public static final ID<String, Void> NAME = ID.create("com.shenyong.flutter.AssetUsageIndex");
+
+    /**
+     * Dart 字符串中的路径：引号后至少有一级目录，不含空白和插值
+     */
+    private static final Pattern QUOTED_PATH = Pattern.compile("(?<=['\"])[^'\"\\s/:$]+/[^'\"\\s$]*");
+    /**
+     * pubspec.yaml 中的声明，如 - assets/icons/，可带引号
+     */
+    private static final Pattern DECLARED_PATH = Pattern.compile("(?<=['\"\\s])[^'\"\\s/:$]+/[^'\"\\s$]*");
+    /**
+     * 类的静态成员引用，如 Res.home、ResAssetsIcons.home。是否是生成的资源常量由调用方按生成的文件确定，
+     * 目录移动后改写常量引用时也用这个模式匹配
+     */
+    public static final Pattern CONSTANT_REFERENCE = Pattern.compile("\\b[A-Z]\\w*\\.\\w+");
+
+    @Override
+    public @NotNull ID<String, Void> getName() {
+        return NAME;
+    }
+
+    @Override
+    public @NotNull DataIndexer<String, Void, FileContent> getIndexer() {
+        return inputData -> {
+            CharSequence text = inputData.getContentAsText();
+            Map<String, Void> keys = new HashMap<>();
+            boolean isDart = inputData.getFileName().endsWith(".dart");
+            Matcher matcher = (isDart ? QUOTED_PATH : DECLARED_PATH).matcher(text);
+            while (matcher.find()) {
+                String path = matcher.group();
+                for (int slash = path.indexOf('/'); slash != -1; slash = path.indexOf('/', slash + 1)) {
+                    keys.put(path.substring(0, slash + 1), null);
+                }
+            }
+            if (isDart) {
+                matcher = CONSTANT_REFERENCE.matcher(text);
+                while (matcher.find()) {
+                    keys.put(matcher.group(), null);
+                }
+            }
+            return keys;
+        };
+    }
+
+    @Override
+    public @NotNull KeyDescriptor<String> getKeyDescriptor() {
+        return EnumeratorStringDescriptor.INSTANCE;
+    }
+
+    @Override
+    public int getVersion() {
+        return 2;
+    }
+
+    @Override
+    public FileBasedIndex.@NotNull InputFilter getInputFilter() {
+        return file -> file.getName().endsWith(".dart") || PubspecUpdater.PUBSPEC.equals(file.getName());
+    }
+
+    @Override
+    public boolean dependsOnFileContent() {
+        return true;
+    }
+
+    /**
+     * 需要在 read action 中调用，且索引已就绪
+     *
+     * @param packageDir package 目录
+     * @param dirPath    资源目录相对于 package 的路径，如 assets/icons
+     * @return package 中引用了该目录下资源的文件；目录不在 package 的资源根目录（pubspec.yaml 中声明的和额外配置的）下时为空
+     */
+    public static Set<VirtualFile> findFilesUsingDir(Project project, VirtualFile packageDir, String dirPath) {
+        int slash = dirPath.indexOf('/');
+        String root = slash == -1 ? dirPath : dirPath.substring(0, slash);
+        if (!AssetModelService.getInstance(project).getAssetsDirs(packageDir).contains(root)) {
+            return Collections.emptySet();
+        }
+        Set<VirtualFile> files = new LinkedHashSet<>();
+        for (VirtualFile file : findFiles(project, Collections.singletonList(dirPath + "/"))) {
+            // 其他 package 中同名的目录与这里无关
+            if (VfsUtilCore.isAncestor(packageDir, file, true)) {
+                files.add(file);
+            }
+        }
+        return files;
+    }
+
+    /**
+     * 需要在 read action 中调用，且索引已就绪
+     *
+     * @param keys 目录（以 / 结尾）或常量引用，如 Res.home
+     * @return 包含其中任意一个 key 的文件
+     */
+    public static Set<VirtualFile> findFiles(Project project, Collection<String> keys) {
+        Set<VirtualFile> files = new LinkedHashSet<>();
+        GlobalSearchScope scope = GlobalSearchScope.projectScope(project);
+        for (String key : keys) {
+            files.addAll(FileBasedIndex.getInstance().getContainingFiles(NAME, key, scope));
+        }
+        return files;
+    }
+}
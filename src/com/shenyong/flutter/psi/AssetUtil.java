@@ -8,10 +8,19 @@ import com.intellij.psi.PsiManager;
 import com.intellij.psi.search.FilenameIndex;
 import com.intellij.psi.search.ProjectScope;
 import com.intellij.psi.util.PsiTreeUtil;
+import com.shenyong.flutter.generator.AssetModel;
+import com.shenyong.flutter.profiler.Probe;
+import com.shenyong.flutter.service.AssetModelService;
+import com.shenyong.flutter.service.AssetPathService;
+import com.shenyong.flutter.service.ResConstantService;
+import org.jetbrains.annotations.Nullable;
 import org.jetbrains.yaml.psi.impl.YAMLFileImpl;
 import org.jetbrains.yaml.psi.impl.YAMLPlainTextImpl;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
+import java.util.function.BiFunction;
 
 public class AssetUtil {
     public static VirtualFile[] getAssetVirtualFile(PsiElement psiElement) {
@@ -26,43 +35,147 @@ public class AssetUtil {
         return virtualFiles;
     }
 
-    public static PsiFile[] getAssetPsiFiles(PsiElement psiElement) {
-        String text = psiElement.getText().replaceAll("[\"']", "");
-        String fileName = text;
-        int slashIndex = text.lastIndexOf('/');
-        if (slashIndex != -1) {
-            fileName = text.substring(text.lastIndexOf('/') + 1);
+    /**
+     * 只从所在 package 的 {@link AssetModel} 中查找资源字符串对应的所有变体文件，不回退到文件名索引，供逐个字符串执行的检查使用
+     *
+     * @return 不在 Flutter package 中或模型中没有对应的资源时返回 null
+     */
+    public static @Nullable VirtualFile[] getModelAssetVirtualFiles(PsiElement psiElement) {
+        VirtualFile packageDir = findPackageDir(psiElement);
+        if (packageDir == null) {
+            return null;
         }
-        boolean hasSuffix = fileName.lastIndexOf('.') != -1;
-        Project project = psiElement.getProject();
-        if (hasSuffix) {
-            return FilenameIndex.getFilesByName(project, fileName, ProjectScope.getProjectScope(project));
-        } else {
-            return getAssetFileWithoutSuffix(project, fileName);
+        AssetModel model = AssetModelService.getInstance(psiElement.getProject()).getModel(packageDir);
+        List<VirtualFile> files = new ArrayList<>();
+        for (AssetModel.AssetGroup group : model.resolve(psiElement.getText())) {
+            for (String path : group.getVariantPaths()) {
+                VirtualFile file = packageDir.findFileByRelativePath(path);
+                if (file != null) {
+                    files.add(file);
+                }
+            }
         }
+        return files.isEmpty() ? null : files.toArray(VirtualFile.EMPTY_ARRAY);
     }
 
-    public static PsiFile[] getAssetFileWithoutSuffix(Project project, String nameWithoutSuffix) {
-        PsiFile[] files = FilenameIndex.getFilesByName(project, nameWithoutSuffix + ".png", ProjectScope.getProjectScope(project));
-        if (files.length > 0) {
-            return files;
+    public static PsiFile[] getAssetPsiFiles(PsiElement psiElement) {
+        long start = Probe.ASSET_PSI_FILES.start();
+        try {
+            String text = psiElement.getText().replaceAll("[\"']", "");
+            String fileName = text;
+            int slashIndex = text.lastIndexOf('/');
+            if (slashIndex != -1) {
+                fileName = text.substring(text.lastIndexOf('/') + 1);
+            }
+            PsiFile[] modelFiles = findInModel(psiElement, (packageDir, model) -> model.resolve(text));
+            if (modelFiles != null) {
+                return modelFiles;
+            }
+            boolean hasSuffix = fileName.lastIndexOf('.') != -1;
+            Project project = psiElement.getProject();
+            if (hasSuffix) {
+                return FilenameIndex.getFilesByName(project, fileName, ProjectScope.getProjectScope(project));
+            } else {
+                return getAssetFileWithoutSuffix(project, fileName);
+            }
+        } finally {
+            Probe.ASSET_PSI_FILES.stop(start);
         }
-        files = FilenameIndex.getFilesByName(project, nameWithoutSuffix + ".jpg", ProjectScope.getProjectScope(project));
-        if (files.length > 0) {
-            return files;
+    }
+
+    /**
+     * 通过 {@link ResConstantService} 中生成的常量到资源路径的映射查找，不按常量名猜测文件名，其他 package 的资源在该 package 的目录中查找
+     *
+     * @param reference 常量引用，如 Res.home、ResAssetsIcons.home
+     * @return 常量对应资源的所有变体文件；不是生成的常量时为空
+     */
+    public static PsiFile[] getAssetPsiFilesForConstant(PsiElement psiElement, String reference) {
+        VirtualFile packageDir = findPackageDir(psiElement);
+        if (packageDir == null) {
+            return PsiFile.EMPTY_ARRAY;
         }
-        files = FilenameIndex.getFilesByName(project, nameWithoutSuffix + ".jpeg", ProjectScope.getProjectScope(project));
-        if (files.length > 0) {
-            return files;
+        Project project = psiElement.getProject();
+        PsiManager psiManager = PsiManager.getInstance(project);
+        List<PsiFile> files = new ArrayList<>();
+        for (VirtualFile file : ResConstantService.getInstance(project).getAssetFiles(packageDir, reference)) {
+            PsiFile psiFile = psiManager.findFile(file);
+            if (psiFile != null) {
+                files.add(psiFile);
+            }
+        }
+        return files.toArray(PsiFile.EMPTY_ARRAY);
+    }
+
+    /**
+     * @param reference 常量引用，如 Res.home
+     * @return 是否是所在 package 生成的资源常量
+     */
+    public static boolean isAssetConstant(PsiElement psiElement, String reference) {
+        VirtualFile packageDir = findPackageDir(psiElement);
+        return packageDir != null
+                && ResConstantService.getInstance(psiElement.getProject()).getAssetPath(packageDir, reference) != null;
+    }
+
+    /**
+     * 从所在 package 的 {@link AssetModel} 中查找资源，返回所有变体文件，按像素比从小到大排列
+     *
+     * @return 不在 Flutter package 中或模型中没有对应的资源时返回 null，由调用方按文件名查找
+     */
+    private static @Nullable PsiFile[] findInModel(PsiElement psiElement,
+                                                   BiFunction<VirtualFile, AssetModel, List<AssetModel.AssetGroup>> lookup) {
+        VirtualFile packageDir = findPackageDir(psiElement);
+        if (packageDir == null) {
+            return null;
         }
-        files = FilenameIndex.getFilesByName(project, nameWithoutSuffix + ".webp", ProjectScope.getProjectScope(project));
-        if (files.length > 0) {
-            return files;
+        Project project = psiElement.getProject();
+        List<AssetModel.AssetGroup> groups = lookup.apply(packageDir,
+                AssetModelService.getInstance(project).getModel(packageDir));
+        List<PsiFile> files = new ArrayList<>();
+        PsiManager psiManager = PsiManager.getInstance(project);
+        for (AssetModel.AssetGroup group : groups) {
+            for (String path : group.getVariantPaths()) {
+                VirtualFile file = packageDir.findFileByRelativePath(path);
+                PsiFile psiFile = file != null ? psiManager.findFile(file) : null;
+                if (psiFile != null) {
+                    files.add(psiFile);
+                }
+            }
         }
-        files = FilenameIndex.getFilesByName(project, nameWithoutSuffix + ".bmp", ProjectScope.getProjectScope(project));
-        if (files.length > 0) {
-            return files;
+        return files.isEmpty() ? null : files.toArray(PsiFile.EMPTY_ARRAY);
+    }
+
+    private static @Nullable VirtualFile findPackageDir(PsiElement psiElement) {
+        PsiFile containingFile = psiElement.getContainingFile();
+        return containingFile != null
+                ? AssetPathService.findPackageDir(containingFile.getOriginalFile().getVirtualFile()) : null;
+    }
+
+    public static PsiFile[] getAssetFileWithoutSuffix(Project project, String nameWithoutSuffix) {
+        long start = Probe.ASSET_FILES_WITHOUT_SUFFIX.start();
+        try {
+            PsiFile[] files = FilenameIndex.getFilesByName(project, nameWithoutSuffix + ".png", ProjectScope.getProjectScope(project));
+            if (files.length > 0) {
+                return files;
+            }
+            files = FilenameIndex.getFilesByName(project, nameWithoutSuffix + ".jpg", ProjectScope.getProjectScope(project));
+            if (files.length > 0) {
+                return files;
+            }
+            files = FilenameIndex.getFilesByName(project, nameWithoutSuffix + ".jpeg", ProjectScope.getProjectScope(project));
+            if (files.length > 0) {
+                return files;
+            }
+            files = FilenameIndex.getFilesByName(project, nameWithoutSuffix + ".webp", ProjectScope.getProjectScope(project));
+            if (files.length > 0) {
+                return files;
+            }
+            files = FilenameIndex.getFilesByName(project, nameWithoutSuffix + ".bmp", ProjectScope.getProjectScope(project));
+            if (files.length > 0) {
+                return files;
+            }
+            return new PsiFile[0];
+        } finally {
+            Probe.ASSET_FILES_WITHOUT_SUFFIX.stop(start);
         }
-        return new PsiFile[0];
     }
 }
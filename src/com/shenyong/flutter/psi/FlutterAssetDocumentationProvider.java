@@ -4,8 +4,11 @@ import com.intellij.lang.documentation.AbstractDocumentationProvider;
 import com.intellij.openapi.util.io.FileUtilRt;
 import com.intellij.openapi.vfs.VirtualFile;
 import com.intellij.psi.PsiElement;
+import com.intellij.psi.PsiFile;
 import com.intellij.psi.impl.file.PsiBinaryFileImpl;
-import com.shenyong.flutter.image.FastImageInfo;
+import com.jetbrains.lang.dart.psi.impl.DartReferenceExpressionImpl;
+import com.shenyong.flutter.analysis.ImageInfoCache;
+import com.shenyong.flutter.profiler.Probe;
 import com.shenyong.flutter.psi.dart.DartAssetReferenceContributor;
 import net.coobird.thumbnailator.Thumbnails;
 import org.jetbrains.annotations.NotNull;
@@ -14,9 +17,6 @@ import org.jetbrains.yaml.psi.impl.YAMLPlainTextImpl;
 
 import java.io.File;
 import java.io.IOException;
-import java.util.Arrays;
-import java.util.Comparator;
-import java.util.List;
 
 public class FlutterAssetDocumentationProvider extends AbstractDocumentationProvider {
 
@@ -35,46 +35,43 @@ public class FlutterAssetDocumentationProvider extends AbstractDocumentationProv
 
     @Override
     public @Nullable String generateDoc(@NotNull PsiElement element, @Nullable PsiElement originalElement) {
+        long start = Probe.GENERATE_DOC.start();
+        try {
+            return doGenerateDoc(element, originalElement);
+        } finally {
+            Probe.GENERATE_DOC.stop(start);
+        }
+    }
+
+    private @Nullable String doGenerateDoc(@NotNull PsiElement element, @Nullable PsiElement originalElement) {
         if (originalElement == null) {
             return null;
         }
         String originalText = originalElement.getText();
         boolean isValidYamlEle = element instanceof YAMLPlainTextImpl;
         boolean isValidDartEle = originalText.matches(DartAssetReferenceContributor.ASSET_PATTERN);
-        if (!isValidDartEle && !isValidYamlEle) {
+        PsiElement constantReference = !isValidDartEle && !isValidYamlEle ? findConstantReference(originalElement) : null;
+        if (!isValidDartEle && !isValidYamlEle && constantReference == null) {
             return null;
         }
-        // 可能存在多个资源变体
-        VirtualFile[] assetFiles = AssetUtil.getAssetVirtualFile(originalElement);
+        // 可能存在多个资源变体，来自资源模型时已按像素比从小到大排列
+        VirtualFile[] assetFiles = constantReference != null
+                ? toVirtualFiles(AssetUtil.getAssetPsiFilesForConstant(constantReference, constantReference.getText()))
+                : AssetUtil.getAssetVirtualFile(originalElement);
         if (assetFiles == null || assetFiles.length == 0) {
             return null;
         }
-        // 根据尺寸从小到大显示
-        List<VirtualFile> assetList = Arrays.asList(assetFiles);
-        assetList.sort(new Comparator<VirtualFile>() {
-            @Override
-            public int compare(VirtualFile o1, VirtualFile o2) {
-                try {
-                    FastImageInfo imgInfo1 = new FastImageInfo(new File((o1.getPath())));
-                    FastImageInfo imgInfo2 = new FastImageInfo(new File((o2.getPath())));
-                    return imgInfo1.getWidth() - imgInfo2.getWidth();
-                } catch (IOException e) {
-                    return 0;
-                }
-            }
-        });
         StringBuilder sb = new StringBuilder();
-        for (VirtualFile assetFile: assetList) {
+        for (VirtualFile assetFile: assetFiles) {
             File imgFile = new File(assetFile.getPath());
             String uri = imgFile.toURI().toString();
-            FastImageInfo imageInfo;
-            try {
-                imageInfo = new FastImageInfo(imgFile);
-            } catch (IOException e) {
+            ImageInfoCache.ImageInfo imageInfo = ImageInfoCache.getInstance()
+                    .get(imgFile, assetFile.getTimeStamp(), assetFile.getLength());
+            if (imageInfo == null) {
                 return null;
             }
-            int rawW = imageInfo.getWidth();
-            int rawH = imageInfo.getHeight();
+            int rawW = imageInfo.width;
+            int rawH = imageInfo.height;
             ShowSize size = getShowSize(rawW, rawH);
             sb.append("<div class='definition'><pre>");
             sb.append(getDefinitionStr(assetFile));
@@ -113,6 +110,32 @@ public class FlutterAssetDocumentationProvider extends AbstractDocumentationProv
         return sb.toString();
     }
 
+    /**
+     * 光标在 Res.home 的 home 上时，originalElement 是其中的标识符，向上找到整个引用表达式
+     *
+     * @return 生成的资源常量的引用，不是时返回 null
+     */
+    private static @Nullable PsiElement findConstantReference(PsiElement originalElement) {
+        PsiElement element = originalElement;
+        for (int i = 0; i < 3 && element != null && !(element instanceof PsiFile); i++, element = element.getParent()) {
+            if (element instanceof DartReferenceExpressionImpl) {
+                String text = element.getText();
+                if (text.matches(DartAssetReferenceContributor.CONSTANT_REFERENCE)) {
+                    return AssetUtil.isAssetConstant(element, text) ? element : null;
+                }
+            }
+        }
+        return null;
+    }
+
+    private static VirtualFile[] toVirtualFiles(PsiFile[] psiFiles) {
+        VirtualFile[] virtualFiles = new VirtualFile[psiFiles.length];
+        for (int i = 0; i < psiFiles.length; i++) {
+            virtualFiles[i] = psiFiles[i].getVirtualFile();
+        }
+        return virtualFiles;
+    }
+
     private String getDefinitionStr(VirtualFile assetFile) {
         // 尝试从原始路径中截取asset(s)/开始的部分路径
         String path = assetFile.getPath();
@@ -5,6 +5,7 @@ import com.intellij.psi.*;
 import com.intellij.util.ArrayUtilRt;
 import com.intellij.util.IncorrectOperationException;
 import com.jetbrains.lang.dart.psi.impl.DartStringLiteralExpressionImpl;
+import com.shenyong.flutter.profiler.Probe;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import org.jetbrains.yaml.psi.impl.YAMLPlainTextImpl;
@@ -33,16 +34,21 @@ public class FlutterAssetReference extends PsiReferenceBase<PsiElement> implemen
 
     @Override
     public @NotNull ResolveResult[] multiResolve(boolean incompleteCode) {
-        if (!incompleteCode && !fileName.isEmpty()
-                && (myElement instanceof YAMLPlainTextImpl || myElement instanceof DartStringLiteralExpressionImpl)) {
-            PsiFile[] psiFiles = AssetUtil.getAssetPsiFiles(myElement);
-            ResolveResult[] results = new ResolveResult[psiFiles.length];
-            for (int i = 0; i < psiFiles.length; i++) {
-                results[i] = new FlutterAssetResolveResult(psiFiles[i]);
+        long start = Probe.MULTI_RESOLVE.start();
+        try {
+            if (!incompleteCode && !fileName.isEmpty()
+                    && (myElement instanceof YAMLPlainTextImpl || myElement instanceof DartStringLiteralExpressionImpl)) {
+                PsiFile[] psiFiles = AssetUtil.getAssetPsiFiles(myElement);
+                ResolveResult[] results = new ResolveResult[psiFiles.length];
+                for (int i = 0; i < psiFiles.length; i++) {
+                    results[i] = new FlutterAssetResolveResult(psiFiles[i]);
+                }
+                return results;
             }
-            return results;
+            return new ResolveResult[0];
+        } finally {
+            Probe.MULTI_RESOLVE.stop(start);
         }
-        return new ResolveResult[0];
     }
 
     private static class FlutterAssetResolveResult implements ResolveResult {
@@ -66,15 +72,20 @@ public class FlutterAssetReference extends PsiReferenceBase<PsiElement> implemen
 
     @Override
     public boolean isReferenceTo(@NotNull PsiElement element) {
-        if (!(element instanceof PsiBinaryFile)) {
-            return false;
-        }
-        String pattern = "^" + fileName.toLowerCase() + "$";
-        if (!fileName.contains(".")) {
-            // 当前的引用字符串无后缀
-            pattern = "^" + fileName.toLowerCase() + "(.(jp(e)?g|(9.)?png|webp|bmp))?$";
+        long start = Probe.IS_REFERENCE_TO.start();
+        try {
+            if (!(element instanceof PsiBinaryFile)) {
+                return false;
+            }
+            String pattern = "^" + fileName.toLowerCase() + "$";
+            if (!fileName.contains(".")) {
+                // 当前的引用字符串无后缀
+                pattern = "^" + fileName.toLowerCase() + "(.(jp(e)?g|(9.)?png|webp|bmp))?$";
+            }
+            return ((PsiBinaryFile) element).getVirtualFile().getName().toLowerCase().matches(pattern);
+        } finally {
+            Probe.IS_REFERENCE_TO.stop(start);
         }
-        return ((PsiBinaryFile) element).getVirtualFile().getName().toLowerCase().matches(pattern);
     }
 
     @Override
@@ -0,0 +1,72 @@
+package com.shenyong.flutter.psi;
+
+import com.intellij.codeInspection.LocalInspectionTool;
+import com.intellij.codeInspection.ProblemHighlightType;
+import com.intellij.codeInspection.ProblemsHolder;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.PsiElementVisitor;
+import com.jetbrains.lang.dart.psi.DartFile;
+import com.jetbrains.lang.dart.psi.impl.DartStringLiteralExpressionImpl;
+import com.shenyong.flutter.analysis.ImageBudget;
+import com.shenyong.flutter.analysis.ImageInfoCache;
+import com.shenyong.flutter.generator.PubspecUpdater;
+import com.shenyong.flutter.psi.dart.DartAssetReferenceContributor;
+import com.shenyong.flutter.psi.yaml.YamlAssetReferenceContributor;
+import com.shenyong.flutter.service.AssetSettingService;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.yaml.psi.impl.YAMLPlainTextImpl;
+
+import java.io.File;
+
+/**
+ * 检查 Dart 中的资源字符串和 pubspec.yaml 中的资源声明，图片（包括各倍率变体）的尺寸或文件大小超出预算时给出提示。
+ * <p>
+ * 资源只从所在 package 的资源模型中查找，不是模型中的资源的字符串直接跳过，不查询文件名索引。
+ * 尺寸只读取文件头，并按 VirtualFile 的时间戳缓存在 {@link ImageInfoCache} 中，图片没有修改时不访问磁盘。
+ */
+public class OversizedAssetInspection extends LocalInspectionTool {
+
+    @Override
+    public @NotNull PsiElementVisitor buildVisitor(@NotNull ProblemsHolder holder, boolean isOnTheFly) {
+        boolean isDart = holder.getFile() instanceof DartFile;
+        if (!isDart && !PubspecUpdater.PUBSPEC.equals(holder.getFile().getName())) {
+            return PsiElementVisitor.EMPTY_VISITOR;
+        }
+        AssetSettingService.AssetConfig assetConfig = AssetSettingService.getInstance().getState();
+        ImageBudget budget = assetConfig != null ? assetConfig.toGenerateConfig().imageBudget : new ImageBudget();
+        return new PsiElementVisitor() {
+            @Override
+            public void visitElement(@NotNull PsiElement element) {
+                // 先按类型过滤，只读取字符串节点的文本
+                if (isDart ? !(element instanceof DartStringLiteralExpressionImpl) : !(element instanceof YAMLPlainTextImpl)) {
+                    return;
+                }
+                String text = element.getText();
+                boolean matches = isDart
+                        ? text.matches(DartAssetReferenceContributor.ASSET_PATTERN)
+                        : text.matches(YamlAssetReferenceContributor.ASSET_PATTERN) && !text.endsWith("/");
+                if (matches) {
+                    check(element, budget, holder);
+                }
+            }
+        };
+    }
+
+    private static void check(PsiElement element, ImageBudget budget, ProblemsHolder holder) {
+        VirtualFile[] files = AssetUtil.getModelAssetVirtualFiles(element);
+        if (files == null) {
+            return;
+        }
+        for (VirtualFile file : files) {
+            ImageInfoCache.ImageInfo info = ImageInfoCache.getInstance()
+                    .get(new File(file.getPath()), file.getTimeStamp(), file.getLength());
+            VirtualFile parent = file.getParent();
+            String message = budget.check(info, ImageBudget.ratioOf(parent != null ? parent.getName() : null));
+            if (message != null) {
+                holder.registerProblem(element, "Oversized asset " + file.getName() + ": " + message,
+                        ProblemHighlightType.WEAK_WARNING);
+            }
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.shenyong.flutter.psi;
+
+import com.intellij.codeInspection.LocalInspectionTool;
+import com.intellij.codeInspection.ProblemHighlightType;
+import com.intellij.codeInspection.ProblemsHolder;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.PsiElement;
+import com.intellij.psi.PsiElementVisitor;
+import com.jetbrains.lang.dart.psi.DartFile;
+import com.jetbrains.lang.dart.psi.impl.DartReferenceExpressionImpl;
+import com.jetbrains.lang.dart.psi.impl.DartStringLiteralExpressionImpl;
+import com.shenyong.flutter.profiler.Probe;
+import com.shenyong.flutter.psi.dart.DartAssetReferenceContributor;
+import com.shenyong.flutter.service.AssetPathService;
+import com.shenyong.flutter.service.ResConstantService;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * 检查 Dart 中找不到对应文件的资源字符串和 Res.xxx 引用，如 Image.asset('assets/images/fod01.png')。
+ * <p>
+ * 每次检查一个文件时只从 {@link AssetPathService} 取一次所在 package 的资源集合，之后每个字符串只做哈希查找，
+ * 文件中有几百个资源字符串时也可以在每次输入后运行。Res.xxx 引用按 {@link ResConstantService} 中生成的常量精确查找，
+ * 只检查生成的类，常量不存在或对应的资源已删除时提示重新生成。
+ * 没有后缀的字符串（如 'ic_launcher' 和目录 'assets/icons'）无法与普通字符串区分，不做检查。
+ */
+public class UnresolvedAssetInspection extends LocalInspectionTool {
+
+    @Override
+    public @NotNull PsiElementVisitor buildVisitor(@NotNull ProblemsHolder holder, boolean isOnTheFly) {
+        if (!(holder.getFile() instanceof DartFile)) {
+            return PsiElementVisitor.EMPTY_VISITOR;
+        }
+        VirtualFile packageDir = AssetPathService.findPackageDir(holder.getFile().getOriginalFile().getVirtualFile());
+        if (packageDir == null) {
+            return PsiElementVisitor.EMPTY_VISITOR;
+        }
+        AssetPathService.PackageAssets assets = AssetPathService.getInstance(holder.getProject()).getAssets(packageDir);
+        if (assets.isEmpty()) {
+            return PsiElementVisitor.EMPTY_VISITOR;
+        }
+        ResConstantService constants = ResConstantService.getInstance(holder.getProject());
+        return new PsiElementVisitor() {
+            @Override
+            public void visitElement(@NotNull PsiElement element) {
+                if (element instanceof DartStringLiteralExpressionImpl) {
+                    long start = Probe.UNRESOLVED_ASSET_INSPECTION.start();
+                    try {
+                        checkLiteral(element, assets, holder);
+                    } finally {
+                        Probe.UNRESOLVED_ASSET_INSPECTION.stop(start);
+                    }
+                } else if (element instanceof DartReferenceExpressionImpl) {
+                    long start = Probe.UNRESOLVED_ASSET_INSPECTION.start();
+                    try {
+                        checkResReference(element, packageDir, constants, assets, holder);
+                    } finally {
+                        Probe.UNRESOLVED_ASSET_INSPECTION.stop(start);
+                    }
+                }
+            }
+        };
+    }
+
+    private static void checkLiteral(PsiElement element, AssetPathService.PackageAssets assets, ProblemsHolder holder) {
+        String text = element.getText();
+        if (!text.matches(DartAssetReferenceContributor.ASSET_PATTERN)) {
+            return;
+        }
+        String value = text.replaceAll("[\"']", "");
+        // 没有后缀的是目录（如拼接路径用的 'assets/icons'）或普通字符串，不检查
+        String fileName = value.substring(value.lastIndexOf('/') + 1);
+        if (fileName.lastIndexOf('.') <= 0) {
+            return;
+        }
+        boolean unresolved = value.contains("/") ? !assets.paths.contains(value) : !assets.fileNames.contains(value);
+        if (unresolved) {
+            holder.registerProblem(element, "Asset '" + value + "' not found", ProblemHighlightType.GENERIC_ERROR_OR_WARNING);
+        }
+    }
+
+    private static void checkResReference(PsiElement element, VirtualFile packageDir, ResConstantService constants,
+                                          AssetPathService.PackageAssets assets, ProblemsHolder holder) {
+        String text = element.getText();
+        int dot = text.indexOf('.');
+        if (dot == -1 || text.indexOf('.', dot + 1) != -1
+                || !constants.getClassNames(packageDir).contains(text.substring(0, dot))) {
+            return;
+        }
+        String path = constants.getAssetPath(packageDir, text);
+        // 其他 package 的资源不在本 package 的资源集合中，不检查
+        if (path == null || !path.startsWith("packages/") && !assets.paths.contains(path)) {
+            holder.registerProblem(element, "No asset file for " + text + ", regenerate the assets reference",
+                    ProblemHighlightType.GENERIC_ERROR_OR_WARNING);
+        }
+    }
+}
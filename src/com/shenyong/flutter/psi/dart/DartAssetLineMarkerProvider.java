@@ -4,14 +4,12 @@ import com.intellij.codeInsight.daemon.RelatedItemLineMarkerInfo;
 import com.intellij.codeInsight.daemon.RelatedItemLineMarkerProvider;
 import com.intellij.codeInsight.navigation.NavigationGutterIconBuilder;
 import com.intellij.icons.AllIcons;
-import com.intellij.openapi.project.Project;
 import com.intellij.psi.PsiElement;
 import com.intellij.psi.PsiFile;
 import com.intellij.psi.impl.source.tree.LeafPsiElement;
-import com.intellij.psi.search.FilenameIndex;
-import com.intellij.psi.search.ProjectScope;
 import com.jetbrains.lang.dart.DartTokenTypes;
 import com.jetbrains.lang.dart.psi.impl.DartReferenceExpressionImpl;
+import com.shenyong.flutter.profiler.Probe;
 import com.shenyong.flutter.psi.AssetUtil;
 import org.jetbrains.annotations.NotNull;
 
@@ -20,46 +18,38 @@ import java.util.Collection;
 public class DartAssetLineMarkerProvider extends RelatedItemLineMarkerProvider {
     @Override
     protected void collectNavigationMarkers(@NotNull PsiElement element, @NotNull Collection<? super RelatedItemLineMarkerInfo<?>> result) {
-        if (!isAssetElement(element)) {
-            return;
+        long start = Probe.DART_LINE_MARKER.start();
+        try {
+            if (!isAssetElement(element)) {
+                return;
+            }
+            String dartText = element.getText().replaceAll("[\"']", "");
+            PsiFile[] psiFiles;
+            if (element instanceof DartReferenceExpressionImpl) {
+                psiFiles = AssetUtil.getAssetPsiFilesForConstant(element, dartText);
+            } else {
+                // 包含所有变体
+                psiFiles = AssetUtil.getAssetPsiFiles(element);
+            }
+            if (psiFiles.length == 0) {
+                return;
+            }
+            // TODO: 2021/8/1  根据缩略图生成ICON
+            NavigationGutterIconBuilder<PsiElement> builder = NavigationGutterIconBuilder.create(AllIcons.General.LayoutPreviewOnly)
+                    .setTargets(psiFiles)
+                    .setTooltipText("Navigate to " + dartText);
+            result.add(builder.createLineMarkerInfo(element));
+        } finally {
+            Probe.DART_LINE_MARKER.stop(start);
         }
-        String dartText = element.getText().replaceAll("[\"']", "");
-        int index = dartText.lastIndexOf('/');
-        String fileName = dartText;
-        if (index != -1) {
-            fileName = dartText.substring(index + 1);
-        }
-        boolean hasSuffix = fileName.lastIndexOf('.') != -1;
-
-        if (element instanceof DartReferenceExpressionImpl && dartText.matches("^Res\\.\\w+$")) {
-            fileName = dartText.replace("Res.", "");
-            hasSuffix = false;
-        }
-
-        Project project = element.getProject();
-        PsiFile[] psiFiles;
-        if (hasSuffix) {
-            psiFiles = FilenameIndex.getFilesByName(project, fileName, ProjectScope.getProjectScope(project));
-        } else {
-            // 无后缀处理
-            psiFiles = AssetUtil.getAssetFileWithoutSuffix(project, fileName);
-        }
-        if (psiFiles.length == 0) {
-            return;
-        }
-        // TODO: 2021/8/1  根据缩略图生成ICON
-        NavigationGutterIconBuilder<PsiElement> builder = NavigationGutterIconBuilder.create(AllIcons.General.LayoutPreviewOnly)
-                .setTargets(psiFiles)
-                .setTooltipText("Navigate to " + dartText);
-        result.add(builder.createLineMarkerInfo(element));
     }
 
     private boolean isAssetElement(PsiElement element) {
         String text = element.getText();
-        if (element instanceof DartReferenceExpressionImpl && text.matches("^Res\\.\\w+$")) {
-            // 支持 Res.xxx 显示 gutter icon
+        if (element instanceof DartReferenceExpressionImpl) {
+            // 支持 Res.xxx 以及分片输出的 ResAssetsIcons.xxx 显示 gutter icon，只有生成的资源常量才显示
             // NOTE 2021/8/17: 这个特性支持，违反了运行时警告：Performance warning: LineMarker is supposed to be registered for leaf elements only
-            return true;
+            return text.matches(DartAssetReferenceContributor.CONSTANT_REFERENCE) && AssetUtil.isAssetConstant(element, text);
         }
         // to fix runtime warning: Performance warning: LineMarker is supposed to be registered for leaf elements only
         return element instanceof LeafPsiElement
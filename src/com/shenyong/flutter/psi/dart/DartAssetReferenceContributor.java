@@ -24,6 +24,11 @@ public class DartAssetReferenceContributor extends FlutterAssetReferenceContribu
     // Utils.getImgPath('ic_launcher_news.png')
     // Utils.getImgPath('ic_launcher_news')
     public static final String ASSET_PATTERN = "^[\"']?(asset(s)?(/([-\\w\\u00C0-\\u017F]+|[1-9]\\.\\dx))*/)?[-\\w\\u00C0-\\u017F]+(.(jp(e)?g|(9.)?png|webp|bmp))?[\"']?$";
+    /**
+     * 可能是生成的资源常量的引用，如 Res.xxx、分片输出的 ResAssetsIcons.xxx 或自定义类名的 Assets.xxx，
+     * 是否是资源常量由 {@link com.shenyong.flutter.service.ResConstantService} 确定
+     */
+    public static final String CONSTANT_REFERENCE = "^[A-Z]\\w*\\.\\w+$";
     private static final StringPattern DART_ASSET_STRING = StandardPatterns.string().matches(ASSET_PATTERN);
 
 
@@ -4,12 +4,11 @@ import com.intellij.codeInsight.daemon.RelatedItemLineMarkerInfo;
 import com.intellij.codeInsight.daemon.RelatedItemLineMarkerProvider;
 import com.intellij.codeInsight.navigation.NavigationGutterIconBuilder;
 import com.intellij.icons.AllIcons;
-import com.intellij.openapi.project.Project;
 import com.intellij.psi.PsiElement;
 import com.intellij.psi.PsiFile;
 import com.intellij.psi.impl.source.tree.LeafPsiElement;
-import com.intellij.psi.search.FilenameIndex;
-import com.intellij.psi.search.ProjectScope;
+import com.shenyong.flutter.profiler.Probe;
+import com.shenyong.flutter.psi.AssetUtil;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.Collection;
@@ -17,22 +16,26 @@ import java.util.Collection;
 public class YamlAssetLineMarkerProvider extends RelatedItemLineMarkerProvider {
     @Override
     protected void collectNavigationMarkers(@NotNull PsiElement element, @NotNull Collection<? super RelatedItemLineMarkerInfo<?>> result) {
-        if (!isAssetElement(element)) {
-            return;
+        long start = Probe.YAML_LINE_MARKER.start();
+        try {
+            if (!isAssetElement(element)) {
+                return;
+            }
+            String text = element.getText();
+            // 包含所有变体
+            PsiFile[] psiFiles = AssetUtil.getAssetPsiFiles(element);
+            if (psiFiles.length == 0) {
+                return;
+            }
+            NavigationGutterIconBuilder<PsiElement> builder =
+                    // TODO: 2021/8/1  根据缩略图生成ICON
+                    NavigationGutterIconBuilder.create(AllIcons.General.LayoutPreviewOnly)
+                            .setTargets(psiFiles)
+                            .setTooltipText("Navigate to " + text.replaceAll("\"", ""));
+            result.add(builder.createLineMarkerInfo(element));
+        } finally {
+            Probe.YAML_LINE_MARKER.stop(start);
         }
-        Project project = element.getProject();
-        String text = element.getText();
-        String fileName = text.substring(text.lastIndexOf('/') + 1).replaceAll("\"", "");
-        PsiFile[] psiFiles = FilenameIndex.getFilesByName(project, fileName, ProjectScope.getProjectScope(project));
-        if (psiFiles.length == 0) {
-            return;
-        }
-        NavigationGutterIconBuilder<PsiElement> builder =
-                // TODO: 2021/8/1  根据缩略图生成ICON
-                NavigationGutterIconBuilder.create(AllIcons.General.LayoutPreviewOnly)
-                        .setTargets(psiFiles)
-                        .setTooltipText("Navigate to " + text.replaceAll("\"", ""));
-        result.add(builder.createLineMarkerInfo(element));
     }
 
     private boolean isAssetElement(PsiElement element) {
@@ -0,0 +1,142 @@
+package com.shenyong.flutter.service;
+
+import com.intellij.openapi.Disposable;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.util.ModificationTracker;
+import com.intellij.openapi.vfs.VfsUtilCore;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.util.CachedValue;
+import com.intellij.psi.util.CachedValueProvider;
+import com.intellij.psi.util.CachedValuesManager;
+import com.shenyong.flutter.checker.AssetsChecker;
+import com.shenyong.flutter.generator.AssetModel;
+import com.shenyong.flutter.generator.GenerationStats;
+import com.shenyong.flutter.generator.PubspecUpdater;
+import com.shenyong.flutter.profiler.Probe;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 每个 Flutter package 的 {@link AssetModel} 缓存，跳转、预览和检查从这里取得资源及其变体，不再各自通过文件名索引查找和排序。
+ * <p>
+ * 模型从 VFS 构建，规则与生成 pubspec.yaml 和 res 文件时相同；package 的资源根目录中文件新增、删除、重命名或移动时，
+ * 以及资源根目录变化（pubspec.yaml 或设置修改）时失效。其他目录中的结构变化和文件内容的修改不影响缓存。
+ */
+public class AssetModelService implements Disposable {
+
+    private static final AssetModel.Tree<VirtualFile> VFS = new AssetModel.Tree<VirtualFile>() {
+        @Override
+        public VirtualFile getChild(VirtualFile dir, String name) {
+            return dir.findChild(name);
+        }
+
+        @Override
+        public List<VirtualFile> getChildren(VirtualFile dir) {
+            return dir.isDirectory() ? Arrays.asList(dir.getChildren()) : null;
+        }
+
+        @Override
+        public String getName(VirtualFile file) {
+            return file.getName();
+        }
+
+        @Override
+        public boolean isDirectory(VirtualFile file) {
+            return file.isDirectory();
+        }
+
+        @Override
+        public long getLength(VirtualFile file) {
+            return file.getLength();
+        }
+    };
+
+    private final Project project;
+    private final Map<VirtualFile, CachedValue<AssetModel>> cache = new ConcurrentHashMap<>();
+    private final Map<VirtualFile, CachedValue<List<String>>> rootsCache = new ConcurrentHashMap<>();
+    private final Map<VirtualFile, StructureTracker> trackers = new ConcurrentHashMap<>();
+
+    public AssetModelService(Project project) {
+        this.project = project;
+        StructureTracker.subscribe(project, this, trackers.values());
+    }
+
+    public static AssetModelService getInstance(@NotNull Project project) {
+        return project.getService(AssetModelService.class);
+    }
+
+    /**
+     * @param packageDir {@link AssetPathService#findPackageDir} 返回的 package 目录
+     */
+    public @NotNull AssetModel getModel(@NotNull VirtualFile packageDir) {
+        long start = Probe.ASSET_MODEL.start();
+        try {
+            return cache.computeIfAbsent(packageDir, dir -> CachedValuesManager.getManager(project).createCachedValue(
+                    () -> CachedValueProvider.Result.create(
+                            AssetModel.scan(dir, getAssetsDirs(dir), VFS, new GenerationStats()),
+                            rootsDependencies(dir)), false)).getValue();
+        } finally {
+            Probe.ASSET_MODEL.stop(start);
+        }
+    }
+
+    /**
+     * @return package 的资源根目录，规则见 {@link AssetsChecker#resolveAssetsDirs}
+     */
+    public @NotNull List<String> getAssetsDirs(@NotNull VirtualFile packageDir) {
+        return rootsCache.computeIfAbsent(packageDir, dir -> CachedValuesManager.getManager(project).createCachedValue(
+                () -> {
+                    String content = "";
+                    VirtualFile pubspec = dir.findChild(PubspecUpdater.PUBSPEC);
+                    if (pubspec != null) {
+                        try {
+                            content = VfsUtilCore.loadText(pubspec);
+                        } catch (IOException e) {
+                            e.printStackTrace();
+                        }
+                    }
+                    AssetSettingService.AssetConfig config = AssetSettingService.getInstance().getState();
+                    List<String> roots = new AssetsChecker().resolveAssetsDirs(content,
+                            config != null ? config.extraAssetRoots : null);
+                    List<String> paths = new ArrayList<>();
+                    paths.add(dir.getPath() + "/" + PubspecUpdater.PUBSPEC);
+                    for (String root : roots) {
+                        paths.add(dir.getPath() + "/" + root);
+                    }
+                    trackers.computeIfAbsent(dir, d -> new StructureTracker()).setPaths(paths);
+                    return CachedValueProvider.Result.create(roots, rootsDependencies(dir));
+                }, false)).getValue();
+    }
+
+    /**
+     * @return package 的资源根目录或 pubspec.yaml 本身新增、删除、重命名或移动时计数加一，依赖资源模型的缓存用它代替
+     * {@link com.intellij.openapi.vfs.VirtualFileManager#VFS_STRUCTURE_MODIFICATIONS}
+     */
+    public @NotNull ModificationTracker getStructureTracker(@NotNull VirtualFile packageDir) {
+        return trackers.computeIfAbsent(packageDir, dir -> new StructureTracker());
+    }
+
+    /**
+     * 资源根目录随 pubspec.yaml 的内容和设置变化，资源根目录中的结构变化也会使模型失效
+     */
+    private Object[] rootsDependencies(VirtualFile packageDir) {
+        VirtualFile pubspec = packageDir.findChild(PubspecUpdater.PUBSPEC);
+        ModificationTracker tracker = getStructureTracker(packageDir);
+        return pubspec != null
+                ? new Object[]{tracker, pubspec, AssetSettingService.getInstance()}
+                : new Object[]{tracker, AssetSettingService.getInstance()};
+    }
+
+    @Override
+    public void dispose() {
+        cache.clear();
+        rootsCache.clear();
+        trackers.clear();
+    }
+}
@@ -0,0 +1,95 @@
+package com.shenyong.flutter.service;
+
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.util.ModificationTracker;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.util.CachedValue;
+import com.intellij.psi.util.CachedValueProvider;
+import com.intellij.psi.util.CachedValuesManager;
+import com.shenyong.flutter.generator.AssetModel;
+import com.shenyong.flutter.generator.PubspecUpdater;
+import com.shenyong.flutter.profiler.Probe;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 每个 Flutter package 中所有资源路径的缓存，供编辑器中的检查一次取得整个集合，逐个字符串只做哈希查找，而不是每个字符串查询一次索引。
+ * <p>
+ * 集合来自 {@link AssetModelService} 的资源模型，与模型一样在资源根目录中的文件新增、删除、重命名或移动时，以及 pubspec.yaml 或设置修改时失效，
+ * 其他目录中的结构变化和文件内容的修改不影响缓存。
+ */
+public class AssetPathService {
+
+    public static class PackageAssets {
+        /**
+         * 相对于 package 目录的资源路径，如 assets/icons/home.png。2.0x、3.0x 等变体同时以主资源的路径记录
+         */
+        public final Set<String> paths = new HashSet<>();
+        /**
+         * 资源文件名，如 home.png
+         */
+        public final Set<String> fileNames = new HashSet<>();
+
+        public boolean isEmpty() {
+            return paths.isEmpty();
+        }
+    }
+
+    private final Project project;
+    private final Map<VirtualFile, CachedValue<PackageAssets>> cache = new ConcurrentHashMap<>();
+
+    public AssetPathService(Project project) {
+        this.project = project;
+    }
+
+    public static AssetPathService getInstance(@NotNull Project project) {
+        return project.getService(AssetPathService.class);
+    }
+
+    /**
+     * @return 文件所属 package 的目录，即最近的包含 pubspec.yaml 的上级目录
+     */
+    public static @Nullable VirtualFile findPackageDir(@Nullable VirtualFile file) {
+        VirtualFile dir = file != null ? file.getParent() : null;
+        while (dir != null) {
+            if (dir.findChild(PubspecUpdater.PUBSPEC) != null) {
+                return dir;
+            }
+            dir = dir.getParent();
+        }
+        return null;
+    }
+
+    public @NotNull PackageAssets getAssets(@NotNull VirtualFile packageDir) {
+        long start = Probe.ASSET_PATH_SNAPSHOT.start();
+        try {
+            return cache.computeIfAbsent(packageDir, dir -> CachedValuesManager.getManager(project).createCachedValue(
+                    () -> {
+                        AssetModelService modelService = AssetModelService.getInstance(project);
+                        VirtualFile pubspec = dir.findChild(PubspecUpdater.PUBSPEC);
+                        ModificationTracker tracker = modelService.getStructureTracker(dir);
+                        Object[] dependencies = pubspec != null
+                                ? new Object[]{tracker, pubspec, AssetSettingService.getInstance()}
+                                : new Object[]{tracker, AssetSettingService.getInstance()};
+                        AssetModel model = modelService.getModel(dir);
+                        return CachedValueProvider.Result.create(collect(model), dependencies);
+                    }, false)).getValue();
+        } finally {
+            Probe.ASSET_PATH_SNAPSHOT.stop(start);
+        }
+    }
+
+    private static PackageAssets collect(AssetModel model) {
+        PackageAssets assets = new PackageAssets();
+        for (AssetModel.AssetGroup group : model.getGroups()) {
+            assets.paths.add(group.getPath());
+            assets.fileNames.add(group.fileName);
+        }
+        return assets;
+    }
+}
@@ -4,11 +4,17 @@ import com.intellij.openapi.application.ApplicationManager;
 import com.intellij.openapi.components.PersistentStateComponent;
 import com.intellij.openapi.components.State;
 import com.intellij.openapi.components.Storage;
+import com.intellij.openapi.util.SimpleModificationTracker;
+import com.shenyong.flutter.analysis.ImageBudget;
+import com.shenyong.flutter.generator.GenerateConfig;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.List;
 
+/**
+ * 生成配置，设置修改后计数加一，依赖配置的缓存（如资源根目录）随之失效
+ */
 @State(
         name = "asset_gen_config",
         storages = {
@@ -16,7 +22,7 @@ import java.util.List;
         }
 )
 public
-class AssetSettingService implements PersistentStateComponent<AssetSettingService.AssetConfig> {
+class AssetSettingService extends SimpleModificationTracker implements PersistentStateComponent<AssetSettingService.AssetConfig> {
     public static AssetSettingService getInstance() {
         return ApplicationManager.getApplication().getService(AssetSettingService.class);
     }
@@ -29,12 +35,51 @@ class AssetSettingService implements PersistentStateComponent<AssetSettingServic
     @Override
     public void loadState(@NotNull AssetConfig assetConfig) {
         this.assetConfig = assetConfig;
+        incModificationCount();
     }
 
     public static class AssetConfig {
         public String generatePath;
         public String generateFileName;
         public List<String> excludePath;
+        public List<String> extraAssetRoots;
+        public List<String> atlasDirs;
+        public boolean pubspecDirectoryMode;
+        public boolean shardedOutput;
+        public boolean deferredOutput;
+        public boolean precacheGroups;
+        public boolean gitIndexSource;
+        public boolean gitIncludeUntracked;
+        public boolean bundleSizeReport;
+        public boolean generateVariants;
+        public int maxImageDimension = ImageBudget.DEFAULT_MAX_DIMENSION;
+        public int maxImageKb = ImageBudget.DEFAULT_MAX_KB;
+
+        public GenerateConfig toGenerateConfig() {
+            GenerateConfig config = new GenerateConfig();
+            config.generatePath = generatePath;
+            config.generateFileName = generateFileName;
+            if (excludePath != null) {
+                config.excludePath = excludePath;
+            }
+            if (extraAssetRoots != null) {
+                config.extraAssetRoots = extraAssetRoots;
+            }
+            if (atlasDirs != null) {
+                config.atlasDirs = atlasDirs;
+            }
+            config.pubspecDirectoryMode = pubspecDirectoryMode;
+            config.shardedOutput = shardedOutput;
+            config.deferredOutput = deferredOutput;
+            config.precacheGroups = precacheGroups;
+            config.gitIndexSource = gitIndexSource;
+            config.gitIncludeUntracked = gitIncludeUntracked;
+            config.bundleSizeReport = bundleSizeReport;
+            config.generateVariants = generateVariants;
+            config.imageBudget.maxDimension = maxImageDimension;
+            config.imageBudget.maxKb = maxImageKb;
+            return config;
+        }
     }
 
     private AssetConfig assetConfig = new AssetConfig();
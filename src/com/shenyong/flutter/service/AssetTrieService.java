@@ -0,0 +1,153 @@
+package com.shenyong.flutter.service;
+
+import com.intellij.openapi.Disposable;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.vfs.*;
+import com.intellij.openapi.vfs.newvfs.BulkFileListener;
+import com.intellij.openapi.vfs.newvfs.events.*;
+import com.shenyong.flutter.analysis.AssetPathTrie;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 每个 Flutter package 的资源路径前缀树，供路径补全使用。
+ * <p>
+ * 首次补全时从 VFS 构建，之后根据 VFS 事件增量更新：删除、移动、重命名前从树中去掉原路径，新增、复制、移动、重命名后加入新路径，
+ * 不会因为一个文件的变化重新遍历所有资源。资源根目录（{@link AssetModelService#getAssetsDirs}）变化时重新构建。
+ */
+public class AssetTrieService implements Disposable {
+
+    private static final String MAC_OS_DS_STORE = ".DS_Store";
+
+    private static class PackageTrie {
+        final List<String> assetsDirs;
+        final AssetPathTrie trie = new AssetPathTrie();
+
+        PackageTrie(List<String> assetsDirs) {
+            this.assetsDirs = assetsDirs;
+        }
+    }
+
+    private final Project project;
+    /**
+     * key 为 package 目录的路径
+     */
+    private final Map<String, PackageTrie> tries = new ConcurrentHashMap<>();
+
+    public AssetTrieService(Project project) {
+        this.project = project;
+        project.getMessageBus().connect(this).subscribe(VirtualFileManager.VFS_CHANGES, new BulkFileListener() {
+            @Override
+            public void before(@NotNull List<? extends VFileEvent> events) {
+                for (VFileEvent event : events) {
+                    if (event instanceof VFileDeleteEvent || event instanceof VFileMoveEvent || isRename(event)) {
+                        VirtualFile file = event.getFile();
+                        if (file != null) {
+                            remove(file);
+                        }
+                    }
+                }
+            }
+
+            @Override
+            public void after(@NotNull List<? extends VFileEvent> events) {
+                for (VFileEvent event : events) {
+                    VirtualFile file = null;
+                    if (event instanceof VFileCreateEvent || event instanceof VFileMoveEvent || isRename(event)) {
+                        file = event.getFile();
+                    } else if (event instanceof VFileCopyEvent) {
+                        file = ((VFileCopyEvent) event).findCreatedFile();
+                    }
+                    if (file != null) {
+                        add(file);
+                    }
+                }
+            }
+        });
+    }
+
+    public static AssetTrieService getInstance(@NotNull Project project) {
+        return project.getService(AssetTrieService.class);
+    }
+
+    /**
+     * @param packageDir {@link AssetPathService#findPackageDir} 返回的 package 目录
+     */
+    public @NotNull AssetPathTrie getTrie(@NotNull VirtualFile packageDir) {
+        List<String> assetsDirs = AssetModelService.getInstance(project).getAssetsDirs(packageDir);
+        return tries.compute(packageDir.getPath(), (path, cached) -> {
+            if (cached != null && cached.assetsDirs.equals(assetsDirs)) {
+                return cached;
+            }
+            PackageTrie packageTrie = new PackageTrie(assetsDirs);
+            for (String name : assetsDirs) {
+                VirtualFile dir = packageDir.findChild(name);
+                if (dir != null && dir.isDirectory()) {
+                    addRecursively(dir, name, packageTrie.trie);
+                }
+            }
+            return packageTrie;
+        }).trie;
+    }
+
+    private void add(VirtualFile file) {
+        for (Map.Entry<String, PackageTrie> entry : tries.entrySet()) {
+            String relativePath = toAssetPath(entry.getKey(), entry.getValue().assetsDirs, file.getPath());
+            if (relativePath != null) {
+                addRecursively(file, relativePath, entry.getValue().trie);
+            }
+        }
+    }
+
+    private void remove(VirtualFile file) {
+        for (Map.Entry<String, PackageTrie> entry : tries.entrySet()) {
+            String relativePath = toAssetPath(entry.getKey(), entry.getValue().assetsDirs, file.getPath());
+            if (relativePath == null) {
+                continue;
+            }
+            if (file.isDirectory()) {
+                entry.getValue().trie.removeDirectory(relativePath);
+            } else {
+                entry.getValue().trie.remove(relativePath);
+            }
+        }
+    }
+
+    private static void addRecursively(VirtualFile file, String relativePath, AssetPathTrie trie) {
+        if (!file.isDirectory()) {
+            if (!MAC_OS_DS_STORE.equals(file.getName())) {
+                trie.add(relativePath);
+            }
+            return;
+        }
+        for (VirtualFile child : file.getChildren()) {
+            addRecursively(child, relativePath + "/" + child.getName(), trie);
+        }
+    }
+
+    /**
+     * @return 文件相对于 package 目录的路径，不在资源目录中时返回 null
+     */
+    private static String toAssetPath(String packagePath, List<String> assetsDirs, String filePath) {
+        if (!filePath.startsWith(packagePath + "/")) {
+            return null;
+        }
+        String relativePath = filePath.substring(packagePath.length() + 1);
+        int slash = relativePath.indexOf('/');
+        String root = slash == -1 ? relativePath : relativePath.substring(0, slash);
+        return assetsDirs.contains(root) ? relativePath : null;
+    }
+
+    private static boolean isRename(VFileEvent event) {
+        return event instanceof VFilePropertyChangeEvent
+                && VirtualFile.PROP_NAME.equals(((VFilePropertyChangeEvent) event).getPropertyName());
+    }
+
+    @Override
+    public void dispose() {
+        tries.clear();
+    }
+}
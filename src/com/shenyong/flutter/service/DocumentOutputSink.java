@@ -0,0 +1,164 @@
+package com.shenyong.flutter.service;
+
+import com.intellij.openapi.application.ApplicationManager;
+import com.intellij.openapi.application.ModalityState;
+import com.intellij.openapi.application.ReadAction;
+import com.intellij.openapi.command.WriteCommandAction;
+import com.intellij.openapi.editor.Document;
+import com.intellij.openapi.fileEditor.FileDocumentManager;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.util.text.StringUtil;
+import com.intellij.openapi.vfs.LocalFileSystem;
+import com.intellij.openapi.vfs.VfsUtil;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.shenyong.flutter.generator.OutputSink;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 通过 IDE 的 Document/VFS 写入生成结果。生成过程中只记录写入，{@link #flush()} 时在一个 WriteCommandAction 中统一执行：
+ * 已加载 Document 的文件（如打开的 pubspec.yaml、res.dart）只替换 Document 中变化的部分后保存，编辑器立即看到新的常量，
+ * 光标、折叠和撤销记录保留；其他文件通过 VirtualFile 写入。写入都经过 VFS，不会触发外部修改检测和整个文件的重新加载，
+ * 最后对生成过程中直接写磁盘的文件（如变体图片）做一次批量刷新。
+ * <p>
+ * 每次生成使用一个实例，不支持多个线程同时写入。
+ */
+public class DocumentOutputSink implements OutputSink {
+
+    private static final String COMMAND_NAME = "Update Flutter Assets Reference";
+
+    private final Project project;
+    /**
+     * 文件 -> 写入后的完整内容，null 表示删除
+     */
+    private final Map<File, byte[]> pending = new LinkedHashMap<>();
+    private final Set<File> external = new LinkedHashSet<>();
+
+    public DocumentOutputSink(Project project) {
+        this.project = project;
+    }
+
+    @Override
+    public byte[] read(File file) throws IOException {
+        VirtualFile vf = LocalFileSystem.getInstance().findFileByIoFile(file);
+        if (vf != null) {
+            FileDocumentManager manager = FileDocumentManager.getInstance();
+            Document document = manager.getCachedDocument(vf);
+            if (document != null && manager.isDocumentUnsaved(document)) {
+                return ReadAction.compute(() -> document.getText()).getBytes(StandardCharsets.UTF_8);
+            }
+        }
+        return DISK.read(file);
+    }
+
+    @Override
+    public void write(File file, byte[] content) {
+        pending.put(file, content);
+    }
+
+    @Override
+    public long replace(File file, byte[] content, int start, int end, byte[] replacement) {
+        byte[] result = new byte[content.length - (end - start) + replacement.length];
+        System.arraycopy(content, 0, result, 0, start);
+        System.arraycopy(replacement, 0, result, start, replacement.length);
+        System.arraycopy(content, end, result, start + replacement.length, content.length - end);
+        pending.put(file, result);
+        // 与直接写磁盘时统计的字节数一致
+        return replacement.length == end - start ? replacement.length : replacement.length + content.length - end;
+    }
+
+    @Override
+    public void delete(File file) {
+        pending.put(file, null);
+    }
+
+    @Override
+    public void changedExternally(File file) {
+        external.add(file);
+    }
+
+    @Override
+    public void flush() throws IOException {
+        if (!pending.isEmpty() && !project.isDisposed()) {
+            Map<File, byte[]> writes = new LinkedHashMap<>(pending);
+            pending.clear();
+            IOException[] error = new IOException[1];
+            ApplicationManager.getApplication().invokeAndWait(() -> {
+                if (project.isDisposed()) {
+                    return;
+                }
+                WriteCommandAction.runWriteCommandAction(project, COMMAND_NAME, null, () -> {
+                    try {
+                        for (Map.Entry<File, byte[]> write : writes.entrySet()) {
+                            apply(write.getKey(), write.getValue());
+                        }
+                    } catch (IOException e) {
+                        error[0] = e;
+                    }
+                });
+            }, ModalityState.defaultModalityState());
+            if (error[0] != null) {
+                throw error[0];
+            }
+        }
+        if (!external.isEmpty()) {
+            LocalFileSystem.getInstance().refreshIoFiles(new ArrayList<>(external), true, true, null);
+            external.clear();
+        }
+    }
+
+    private void apply(File file, byte[] content) throws IOException {
+        LocalFileSystem fs = LocalFileSystem.getInstance();
+        if (content == null) {
+            VirtualFile vf = fs.findFileByIoFile(file);
+            if (vf != null) {
+                vf.delete(this);
+            }
+            return;
+        }
+        VirtualFile vf = fs.refreshAndFindFileByIoFile(file);
+        if (vf == null) {
+            VirtualFile directory = VfsUtil.createDirectoryIfMissing(file.getParent());
+            if (directory == null) {
+                throw new IOException("Failed to create directory " + file.getParent());
+            }
+            vf = directory.createChildData(this, file.getName());
+        }
+        FileDocumentManager manager = FileDocumentManager.getInstance();
+        Document document = manager.getCachedDocument(vf);
+        if (document == null) {
+            vf.setBinaryContent(content);
+            return;
+        }
+        replaceChanged(document, StringUtil.convertLineSeparators(new String(content, StandardCharsets.UTF_8)));
+        manager.saveDocument(document);
+    }
+
+    /**
+     * 只替换去掉相同的开头和结尾之后的部分
+     */
+    private static void replaceChanged(Document document, String text) {
+        CharSequence old = document.getImmutableCharSequence();
+        int min = Math.min(old.length(), text.length());
+        int prefix = 0;
+        while (prefix < min && old.charAt(prefix) == text.charAt(prefix)) {
+            prefix++;
+        }
+        int suffix = 0;
+        while (suffix < min - prefix
+                && old.charAt(old.length() - 1 - suffix) == text.charAt(text.length() - 1 - suffix)) {
+            suffix++;
+        }
+        if (prefix == old.length() && prefix == text.length()) {
+            return;
+        }
+        document.replaceString(prefix, old.length() - suffix, text.substring(prefix, text.length() - suffix));
+    }
+}
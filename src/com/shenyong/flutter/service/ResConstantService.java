@@ -0,0 +1,229 @@
+package com.shenyong.flutter.service;
+
+import com.intellij.openapi.Disposable;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.vfs.LocalFileSystem;
+import com.intellij.openapi.vfs.VfsUtilCore;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.psi.util.CachedValue;
+import com.intellij.psi.util.CachedValueProvider;
+import com.intellij.psi.util.CachedValuesManager;
+import com.shenyong.flutter.generator.AssetModel;
+import com.shenyong.flutter.generator.GenerateConfig;
+import com.shenyong.flutter.generator.PackageConfig;
+import com.shenyong.flutter.generator.PubspecUpdater;
+import com.shenyong.flutter.generator.ResDartParser;
+import com.shenyong.flutter.generator.ResDartWriter;
+import com.shenyong.flutter.profiler.Probe;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 每个 Flutter package 中生成的常量引用（如 Res.home、分片输出的 ResAssetsIcons.home）到资源路径的反向索引。
+ * 跳转、gutter 图标和文档预览一次哈希查找得到常量对应的资源，不再按常量名猜测文件名，带目录前缀的重名资源（如 assets_icons_home）
+ * 和自定义的类名都能正确对应。
+ * <p>
+ * 索引由 {@link ResDartParser} 从 VFS 中生成的 res 文件及分片解析，这些文件或 pubspec.yaml 的修改时间戳变化、这些文件本身新增或删除
+ * 以及设置修改时失效，其他文件的新增或删除不影响缓存。其他 package 的资源保留 packages/package_name/ 前缀，在依赖的目录中查找，依赖的位置来自
+ * {@link PackageConfig#FILE}。
+ */
+public class ResConstantService implements Disposable {
+
+    private static final String PACKAGES = "packages/";
+
+    private final Project project;
+    private static class Constants {
+        /**
+         * 常量引用到资源路径
+         */
+        final Map<String, String> paths = new HashMap<>();
+        /**
+         * 声明了资源常量的类，如 Res、ResAssetsIcons
+         */
+        final Set<String> classNames = new HashSet<>();
+    }
+
+    private final Map<VirtualFile, CachedValue<Constants>> cache = new ConcurrentHashMap<>();
+    private final Map<VirtualFile, CachedValue<Map<String, String>>> packageRootsCache = new ConcurrentHashMap<>();
+    /**
+     * 关注 res 文件、分片目录、pubspec.yaml 和 package_config.json 的新增或删除
+     */
+    private final Map<VirtualFile, StructureTracker> trackers = new ConcurrentHashMap<>();
+
+    public ResConstantService(Project project) {
+        this.project = project;
+        StructureTracker.subscribe(project, this, trackers.values());
+    }
+
+    public static ResConstantService getInstance(@NotNull Project project) {
+        return project.getService(ResConstantService.class);
+    }
+
+    /**
+     * @param packageDir {@link AssetPathService#findPackageDir} 返回的 package 目录
+     * @param reference  常量引用，如 Res.home
+     * @return 相对于 package 目录的资源路径，如 assets/icons/home.png；其他 package 的资源为 pubspec.yaml 中的完整声明，
+     * 如 packages/package_name/images/logo.png；不是生成的常量时返回 null
+     */
+    public @Nullable String getAssetPath(@NotNull VirtualFile packageDir, @NotNull String reference) {
+        long start = Probe.RES_CONSTANT.start();
+        try {
+            return getConstants(packageDir).get(reference);
+        } finally {
+            Probe.RES_CONSTANT.stop(start);
+        }
+    }
+
+    /**
+     * @param reference 常量引用，如 Res.home
+     * @return 常量对应资源的所有变体文件，按像素比从小到大排列；其他 package 的资源在该 package 的目录中查找；找不到时为空
+     */
+    public @NotNull List<VirtualFile> getAssetFiles(@NotNull VirtualFile packageDir, @NotNull String reference) {
+        String path = getAssetPath(packageDir, reference);
+        if (path == null) {
+            return Collections.emptyList();
+        }
+        VirtualFile assetPackageDir = packageDir;
+        String[] candidates = {path};
+        if (path.startsWith(PACKAGES)) {
+            int slash = path.indexOf('/', PACKAGES.length());
+            String root = getPackageRoots(packageDir).get(path.substring(PACKAGES.length(), slash));
+            assetPackageDir = root != null ? LocalFileSystem.getInstance().findFileByPath(root) : null;
+            if (assetPackageDir == null) {
+                return Collections.emptyList();
+            }
+            candidates = PackageConfig.getCandidatePaths(path.substring(slash + 1));
+        }
+        List<VirtualFile> files = new ArrayList<>();
+        AssetModel model = AssetModelService.getInstance(project).getModel(assetPackageDir);
+        for (String candidate : candidates) {
+            AssetModel.AssetGroup group = model.getByPath(candidate);
+            List<String> variants = group != null ? group.getVariantPaths() : Collections.singletonList(candidate);
+            for (String variant : variants) {
+                VirtualFile file = assetPackageDir.findFileByRelativePath(variant);
+                if (file != null && !file.isDirectory()) {
+                    files.add(file);
+                }
+            }
+            if (!files.isEmpty()) {
+                break;
+            }
+        }
+        return files;
+    }
+
+    /**
+     * @return 依赖的 package 名到根目录的映射，没有运行过 pub get 时为空
+     */
+    private Map<String, String> getPackageRoots(VirtualFile packageDir) {
+        return packageRootsCache.computeIfAbsent(packageDir, dir -> CachedValuesManager.getManager(project)
+                .createCachedValue(() -> {
+                    VirtualFile configFile = dir.findFileByRelativePath(PackageConfig.FILE);
+                    if (configFile == null) {
+                        return CachedValueProvider.Result.create(Collections.emptyMap(), getTracker(dir));
+                    }
+                    Map<String, String> roots = Collections.emptyMap();
+                    try {
+                        roots = PackageConfig.parse(VfsUtilCore.loadText(configFile), new File(configFile.getPath()));
+                    } catch (IOException e) {
+                        e.printStackTrace();
+                    }
+                    return CachedValueProvider.Result.create(roots, configFile);
+                }, false)).getValue();
+    }
+
+    public @NotNull Map<String, String> getConstants(@NotNull VirtualFile packageDir) {
+        return getCached(packageDir).paths;
+    }
+
+    /**
+     * @return 生成的文件中声明了资源常量的类名，如 Res，分片输出时还有 ResAssetsIcons 等；没有生成过时为空
+     */
+    public @NotNull Set<String> getClassNames(@NotNull VirtualFile packageDir) {
+        return getCached(packageDir).classNames;
+    }
+
+    private Constants getCached(VirtualFile packageDir) {
+        return cache.computeIfAbsent(packageDir, dir -> CachedValuesManager.getManager(project).createCachedValue(
+                () -> {
+                    Constants result = new Constants();
+                    Map<String, String> constants = result.paths;
+                    List<Object> dependencies = new ArrayList<>();
+                    dependencies.add(AssetSettingService.getInstance());
+                    AssetSettingService.AssetConfig config = AssetSettingService.getInstance().getState();
+                    File resFile = ResDartWriter.getResFile(dir.getPath(),
+                            config != null ? config.toGenerateConfig() : new GenerateConfig());
+                    StructureTracker tracker = getTracker(dir);
+                    tracker.setPaths(Arrays.asList(toSystemIndependentPath(resFile),
+                            toSystemIndependentPath(ResDartWriter.getShardDirectory(resFile)),
+                            dir.getPath() + "/" + PubspecUpdater.PUBSPEC, dir.getPath() + "/" + PackageConfig.FILE));
+                    dependencies.add(tracker);
+                    Map<String, String> packageAssets = Collections.emptyMap();
+                    VirtualFile pubspec = dir.findChild(PubspecUpdater.PUBSPEC);
+                    if (pubspec != null) {
+                        dependencies.add(pubspec);
+                        packageAssets = ResDartParser.getPackageAssets(loadText(pubspec));
+                    }
+                    LocalFileSystem fs = LocalFileSystem.getInstance();
+                    parse(fs.findFileByIoFile(resFile), packageAssets, constants, dependencies);
+                    VirtualFile shardDir = fs.findFileByIoFile(ResDartWriter.getShardDirectory(resFile));
+                    if (shardDir != null && shardDir.isDirectory()) {
+                        for (VirtualFile shard : shardDir.getChildren()) {
+                            if ("dart".equals(shard.getExtension())) {
+                                parse(shard, packageAssets, constants, dependencies);
+                            }
+                        }
+                    }
+                    for (String reference : constants.keySet()) {
+                        result.classNames.add(reference.substring(0, reference.indexOf('.')));
+                    }
+                    return CachedValueProvider.Result.create(result, dependencies.toArray());
+                }, false)).getValue();
+    }
+
+    private StructureTracker getTracker(VirtualFile packageDir) {
+        return trackers.computeIfAbsent(packageDir, dir -> new StructureTracker());
+    }
+
+    private static String toSystemIndependentPath(File file) {
+        return file.getAbsolutePath().replace(File.separatorChar, '/');
+    }
+
+    @Override
+    public void dispose() {
+        cache.clear();
+        packageRootsCache.clear();
+        trackers.clear();
+    }
+
+    private static void parse(@Nullable VirtualFile file, Map<String, String> packageAssets,
+                              Map<String, String> constants, List<Object> dependencies) {
+        if (file == null || file.isDirectory()) {
+            return;
+        }
+        // VirtualFile 作为依赖时，修改时间戳变化即失效
+        dependencies.add(file);
+        ResDartParser.parse(loadText(file), packageAssets, constants);
+    }
+
+    private static String loadText(VirtualFile file) {
+        try {
+            return VfsUtilCore.loadText(file);
+        } catch (IOException e) {
+            e.printStackTrace();
+            return "";
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.shenyong.flutter.service;
+
+import com.intellij.openapi.Disposable;
+import com.intellij.openapi.project.Project;
+import com.intellij.openapi.util.SimpleModificationTracker;
+import com.intellij.openapi.vfs.VirtualFile;
+import com.intellij.openapi.vfs.VirtualFileManager;
+import com.intellij.openapi.vfs.newvfs.BulkFileListener;
+import com.intellij.openapi.vfs.newvfs.events.*;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 只在给定的文件或目录下有文件新增、删除、重命名、移动或复制时计数加一，代替全局的
+ * {@link VirtualFileManager#VFS_STRUCTURE_MODIFICATIONS}：工程中其他位置（如 build 输出）的变化不会使缓存失效。
+ * <p>
+ * 与 {@link AssetTrieService} 一样，删除、移动、重命名在变化前按原路径判断，新增、复制、移动、重命名在变化后按新路径判断。
+ */
+class StructureTracker extends SimpleModificationTracker {
+
+    private volatile List<String> paths = Collections.emptyList();
+
+    /**
+     * @param paths 关注的文件或目录的绝对路径，可以还不存在
+     */
+    void setPaths(@NotNull List<String> paths) {
+        this.paths = paths;
+    }
+
+    private void check(String path) {
+        for (String p : paths) {
+            // 关注的路径本身、其中的文件，或者其上级目录整个被删除、移动
+            if (path.equals(p) || path.startsWith(p + "/") || p.startsWith(path + "/")) {
+                incModificationCount();
+                return;
+            }
+        }
+    }
+
+    /**
+     * 订阅 VFS 事件，更新 trackers 中的每个计数器
+     *
+     * @param trackers 可以在之后加入新的计数器，需要是线程安全的集合
+     */
+    static void subscribe(Project project, Disposable parent, Collection<StructureTracker> trackers) {
+        project.getMessageBus().connect(parent).subscribe(VirtualFileManager.VFS_CHANGES, new BulkFileListener() {
+            @Override
+            public void before(@NotNull List<? extends VFileEvent> events) {
+                for (VFileEvent event : events) {
+                    if (event instanceof VFileDeleteEvent || event instanceof VFileMoveEvent || isRename(event)) {
+                        for (StructureTracker tracker : trackers) {
+                            tracker.check(event.getPath());
+                        }
+                    }
+                }
+            }
+
+            @Override
+            public void after(@NotNull List<? extends VFileEvent> events) {
+                for (VFileEvent event : events) {
+                    String path = null;
+                    if (event instanceof VFileCreateEvent) {
+                        path = event.getPath();
+                    } else if (event instanceof VFileMoveEvent) {
+                        path = ((VFileMoveEvent) event).getNewPath();
+                    } else if (isRename(event)) {
+                        path = ((VFilePropertyChangeEvent) event).getNewPath();
+                    } else if (event instanceof VFileCopyEvent) {
+                        VFileCopyEvent copy = (VFileCopyEvent) event;
+                        path = copy.getNewParent().getPath() + "/" + copy.getNewChildName();
+                    }
+                    if (path != null) {
+                        for (StructureTracker tracker : trackers) {
+                            tracker.check(path);
+                        }
+                    }
+                }
+            }
+        });
+    }
+
+    private static boolean isRename(VFileEvent event) {
+        return event instanceof VFilePropertyChangeEvent
+                && VirtualFile.PROP_NAME.equals(((VFilePropertyChangeEvent) event).getPropertyName());
+    }
+}
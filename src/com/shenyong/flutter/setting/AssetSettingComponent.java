@@ -2,10 +2,12 @@ package com.shenyong.flutter.setting;
 
 import com.intellij.openapi.ui.Messages;
 import com.intellij.ui.*;
+import com.intellij.ui.components.JBCheckBox;
 import com.intellij.ui.components.JBLabel;
 import com.intellij.ui.components.JBList;
 import com.intellij.ui.components.JBTextField;
 import com.intellij.util.ui.FormBuilder;
+import com.shenyong.flutter.analysis.ImageBudget;
 import org.jetbrains.annotations.NotNull;
 
 import javax.swing.*;
@@ -19,12 +21,26 @@ public class AssetSettingComponent {
     private final JPanel settingPanel;
     private final JBTextField resFileText = new JBTextField();
     private final JBTextField resPathText = new JBTextField();
+    private final JBTextField extraRootsText = new JBTextField();
+    private final JBTextField atlasDirsText = new JBTextField();
+    private final JBCheckBox directoryModeBox = new JBCheckBox("pubspec.yaml 中按目录声明资源（res 文件仍列出每个文件）");
+    private final JBCheckBox shardedBox = new JBCheckBox("按顶层资源目录分文件生成（资源很多时减少 Dart 分析耗时）");
+    private final JBCheckBox deferredBox = new JBCheckBox("功能目录生成为可延迟加载的独立库（Web 中用 deferred as 导入）");
+    private final JBCheckBox precacheBox = new JBCheckBox("为每个资源目录生成图片预缓存分组（precacheImage）");
+    private final JBCheckBox gitIndexBox = new JBCheckBox("从 git 索引读取已跟踪的资源文件（不遍历未跟踪的构建产物和缓存）");
+    private final JBCheckBox gitUntrackedBox = new JBCheckBox("同时加入未跟踪、未被 .gitignore 忽略的新文件");
+    private final JBCheckBox bundleSizeBox = new JBCheckBox("生成资源包大小报告（预算见 asset_budget.properties）");
+    private final JBCheckBox variantsBox = new JBCheckBox("根据最高倍率图片生成缺失的 1.0x、2.0x 等低倍率图片");
+    private final JBIntSpinner maxDimensionSpinner = new JBIntSpinner(ImageBudget.DEFAULT_MAX_DIMENSION, 16, 16384, 64);
+    private final JBIntSpinner maxKbSpinner = new JBIntSpinner(ImageBudget.DEFAULT_MAX_KB, 1, 102400, 16);
     private final JBList<String> jbList = new JBList<>();
     private DefaultListModel<String> defaultListModel = new DefaultListModel<>();
 
     public AssetSettingComponent() {
         resFileText.getEmptyText().setText("输入资源文件名例如res");
         resPathText.getEmptyText().setText("输入资源路径例如a/b 默认在lib文件夹下创建");
+        extraRootsText.getEmptyText().setText("pubspec.yaml 中还未声明的顶层资源目录，逗号分隔，例如res,fonts");
+        atlasDirsText.getEmptyText().setText("打包为图集的小图标目录，逗号分隔，例如assets/icons");
 
         JComponent excludedPanel = new JPanel(new BorderLayout());
         excludedPanel.add(ToolbarDecorator.createDecorator(jbList)
@@ -56,6 +72,18 @@ public class AssetSettingComponent {
         settingPanel = FormBuilder.createFormBuilder()
                 .addLabeledComponent(new JBLabel("资源文件生成名称: "), resFileText, 1, false)
                 .addLabeledComponent(new JBLabel("资源文件夹路径: "), resPathText, 1, false)
+                .addLabeledComponent(new JBLabel("额外的资源根目录: "), extraRootsText, 1, false)
+                .addComponent(directoryModeBox, 1)
+                .addComponent(shardedBox, 1)
+                .addComponent(deferredBox, 1)
+                .addComponent(precacheBox, 1)
+                .addComponent(gitIndexBox, 1)
+                .addComponent(gitUntrackedBox, 1)
+                .addComponent(bundleSizeBox, 1)
+                .addComponent(variantsBox, 1)
+                .addLabeledComponent(new JBLabel("打包为图集的图标目录: "), atlasDirsText, 1, false)
+                .addLabeledComponent(new JBLabel("图片最大边长（1.0x，像素）: "), maxDimensionSpinner, 1, false)
+                .addLabeledComponent(new JBLabel("图片最大大小（1.0x，KB）: "), maxKbSpinner, 1, false)
                 .addComponent(excludedPanel)
                 .addComponentFillVertically(new JPanel(), 0)
                 .getPanel();
@@ -87,6 +115,110 @@ public class AssetSettingComponent {
         resPathText.setText(newText);
     }
 
+    @NotNull
+    public List<String> getExtraRoots() {
+        return Arrays.stream(extraRootsText.getText().split(","))
+                .map(String::trim)
+                .filter(root -> !root.isEmpty())
+                .collect(Collectors.toList());
+    }
+
+    public void setExtraRoots(@NotNull List<String> roots) {
+        extraRootsText.setText(String.join(", ", roots));
+    }
+
+    @NotNull
+    public List<String> getAtlasDirs() {
+        return Arrays.stream(atlasDirsText.getText().split(","))
+                .map(String::trim)
+                .filter(dir -> !dir.isEmpty())
+                .collect(Collectors.toList());
+    }
+
+    public void setAtlasDirs(@NotNull List<String> dirs) {
+        atlasDirsText.setText(String.join(", ", dirs));
+    }
+
+    public boolean isDirectoryMode() {
+        return directoryModeBox.isSelected();
+    }
+
+    public void setDirectoryMode(boolean directoryMode) {
+        directoryModeBox.setSelected(directoryMode);
+    }
+
+    public boolean isSharded() {
+        return shardedBox.isSelected();
+    }
+
+    public void setSharded(boolean sharded) {
+        shardedBox.setSelected(sharded);
+    }
+
+    public boolean isDeferred() {
+        return deferredBox.isSelected();
+    }
+
+    public void setDeferred(boolean deferred) {
+        deferredBox.setSelected(deferred);
+    }
+
+    public boolean isPrecacheGroups() {
+        return precacheBox.isSelected();
+    }
+
+    public void setPrecacheGroups(boolean precacheGroups) {
+        precacheBox.setSelected(precacheGroups);
+    }
+
+    public boolean isGitIndexSource() {
+        return gitIndexBox.isSelected();
+    }
+
+    public void setGitIndexSource(boolean gitIndexSource) {
+        gitIndexBox.setSelected(gitIndexSource);
+    }
+
+    public boolean isGitIncludeUntracked() {
+        return gitUntrackedBox.isSelected();
+    }
+
+    public void setGitIncludeUntracked(boolean gitIncludeUntracked) {
+        gitUntrackedBox.setSelected(gitIncludeUntracked);
+    }
+
+    public boolean isBundleSizeReport() {
+        return bundleSizeBox.isSelected();
+    }
+
+    public void setBundleSizeReport(boolean bundleSizeReport) {
+        bundleSizeBox.setSelected(bundleSizeReport);
+    }
+
+    public boolean isGenerateVariants() {
+        return variantsBox.isSelected();
+    }
+
+    public void setGenerateVariants(boolean generateVariants) {
+        variantsBox.setSelected(generateVariants);
+    }
+
+    public int getMaxImageDimension() {
+        return maxDimensionSpinner.getNumber();
+    }
+
+    public void setMaxImageDimension(int maxDimension) {
+        maxDimensionSpinner.setNumber(maxDimension);
+    }
+
+    public int getMaxImageKb() {
+        return maxKbSpinner.getNumber();
+    }
+
+    public void setMaxImageKb(int maxKb) {
+        maxKbSpinner.setNumber(maxKb);
+    }
+
     @NotNull
     public List<String> getJBListData() {
         List<Object> asList = Arrays.asList(defaultListModel.toArray());
@@ -28,12 +28,26 @@ public class AssetSettingConfigurable implements Configurable {
         assert config != null;
         boolean modified = !assetSettingsComponent.getFilePathText().equals(config.generatePath);
         modified |= !assetSettingsComponent.getFileNameText().equals(config.generateFileName);
+        modified |= assetSettingsComponent.isDirectoryMode() != config.pubspecDirectoryMode;
+        modified |= assetSettingsComponent.isSharded() != config.shardedOutput;
+        modified |= assetSettingsComponent.isDeferred() != config.deferredOutput;
+        modified |= assetSettingsComponent.isPrecacheGroups() != config.precacheGroups;
+        modified |= assetSettingsComponent.isGitIndexSource() != config.gitIndexSource;
+        modified |= assetSettingsComponent.isGitIncludeUntracked() != config.gitIncludeUntracked;
+        modified |= assetSettingsComponent.isBundleSizeReport() != config.bundleSizeReport;
+        modified |= assetSettingsComponent.isGenerateVariants() != config.generateVariants;
+        modified |= assetSettingsComponent.getMaxImageDimension() != config.maxImageDimension;
+        modified |= assetSettingsComponent.getMaxImageKb() != config.maxImageKb;
         List<String> list = List.of();
         if (config.excludePath != null) {
             list = config.excludePath;
         }
         modified |= list.size() != assetSettingsComponent.getJBListData().size()
                 || !list.containsAll(assetSettingsComponent.getJBListData());
+        List<String> roots = config.extraAssetRoots != null ? config.extraAssetRoots : List.of();
+        modified |= !roots.equals(assetSettingsComponent.getExtraRoots());
+        List<String> atlasDirs = config.atlasDirs != null ? config.atlasDirs : List.of();
+        modified |= !atlasDirs.equals(assetSettingsComponent.getAtlasDirs());
         return modified;
     }
 
@@ -44,6 +58,19 @@ public class AssetSettingConfigurable implements Configurable {
         config.generateFileName = assetSettingsComponent.getFileNameText();
         config.generatePath = assetSettingsComponent.getFilePathText();
         config.excludePath = assetSettingsComponent.getJBListData();
+        config.extraAssetRoots = assetSettingsComponent.getExtraRoots();
+        config.atlasDirs = assetSettingsComponent.getAtlasDirs();
+        config.pubspecDirectoryMode = assetSettingsComponent.isDirectoryMode();
+        config.shardedOutput = assetSettingsComponent.isSharded();
+        config.deferredOutput = assetSettingsComponent.isDeferred();
+        config.precacheGroups = assetSettingsComponent.isPrecacheGroups();
+        config.gitIndexSource = assetSettingsComponent.isGitIndexSource();
+        config.gitIncludeUntracked = assetSettingsComponent.isGitIncludeUntracked();
+        config.bundleSizeReport = assetSettingsComponent.isBundleSizeReport();
+        config.generateVariants = assetSettingsComponent.isGenerateVariants();
+        config.maxImageDimension = assetSettingsComponent.getMaxImageDimension();
+        config.maxImageKb = assetSettingsComponent.getMaxImageKb();
+        AssetSettingService.getInstance().incModificationCount();
     }
 
     @Override
@@ -52,11 +79,23 @@ public class AssetSettingConfigurable implements Configurable {
         assert config != null;
         assetSettingsComponent.setFileNameText(config.generateFileName);
         assetSettingsComponent.setFilePathText(config.generatePath);
+        assetSettingsComponent.setDirectoryMode(config.pubspecDirectoryMode);
+        assetSettingsComponent.setSharded(config.shardedOutput);
+        assetSettingsComponent.setDeferred(config.deferredOutput);
+        assetSettingsComponent.setPrecacheGroups(config.precacheGroups);
+        assetSettingsComponent.setGitIndexSource(config.gitIndexSource);
+        assetSettingsComponent.setGitIncludeUntracked(config.gitIncludeUntracked);
+        assetSettingsComponent.setBundleSizeReport(config.bundleSizeReport);
+        assetSettingsComponent.setGenerateVariants(config.generateVariants);
+        assetSettingsComponent.setMaxImageDimension(config.maxImageDimension);
+        assetSettingsComponent.setMaxImageKb(config.maxImageKb);
         if (config.excludePath != null) {
             assetSettingsComponent.setJBListData(config.excludePath);
         } else {
             assetSettingsComponent.setJBListData(List.of());
         }
+        assetSettingsComponent.setExtraRoots(config.extraAssetRoots != null ? config.extraAssetRoots : List.of());
+        assetSettingsComponent.setAtlasDirs(config.atlasDirs != null ? config.atlasDirs : List.of());
     }
 
     @Override